@@ -0,0 +1,226 @@
+package com.etl.common.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cached field accessors backing {@link ReflectionUtils} on the per-record mapping path.
+ *
+ * <p>Dotted field paths are split once, and each (class, field) pair is resolved once into
+ * {@link MethodHandle} getter/setter pairs adapted to {@code Object} signatures. Subsequent
+ * reads and writes skip {@code getDeclaredField}, {@code setAccessible}, and path splitting
+ * entirely. Field resolution still follows the runtime class of each segment, so behavior stays
+ * identical to the original reflective lookups.</p>
+ */
+public final class FieldAccessors {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private static final ConcurrentMap<String, FieldPath> PATHS = new ConcurrentHashMap<>();
+
+    private static final ClassValue<ConcurrentMap<String, FieldAccessor>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<String, FieldAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final ClassValue<MethodHandle[]> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected MethodHandle[] computeValue(Class<?> type) {
+            return new MethodHandle[1];
+        }
+    };
+
+    private FieldAccessors() {}
+
+    /**
+     * Returns the compiled accessor for a dotted field path such as {@code address.city}.
+     */
+    public static FieldPath path(String fieldPath) {
+        FieldPath path = PATHS.get(fieldPath);
+        if (path == null) {
+            path = PATHS.computeIfAbsent(fieldPath, FieldPath::new);
+        }
+        return path;
+    }
+
+    /**
+     * Creates a new instance through the cached no-arg constructor of the given class.
+     */
+    public static Object newInstance(Class<?> type) throws ReflectiveOperationException {
+        MethodHandle[] slot = CONSTRUCTORS.get(type);
+        MethodHandle constructor = slot[0];
+        if (constructor == null) {
+            Constructor<?> declared = type.getDeclaredConstructor();
+            constructor = LOOKUP.unreflectConstructor(declared).asType(CONSTRUCTOR_TYPE);
+            slot[0] = constructor;
+        }
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectiveOperationException("Constructor of " + type.getName() + " failed", e);
+        }
+    }
+
+    static FieldAccessor accessor(Class<?> type, String fieldName) throws ReflectiveOperationException {
+        ConcurrentMap<String, FieldAccessor> accessors = ACCESSORS.get(type);
+        FieldAccessor accessor = accessors.get(fieldName);
+        if (accessor == null) {
+            Field field = type.getDeclaredField(fieldName);
+            field.setAccessible(true);
+            accessor = new FieldAccessor(type, field, LOOKUP.unreflectGetter(field).asType(GETTER_TYPE));
+            FieldAccessor existing = accessors.putIfAbsent(fieldName, accessor);
+            if (existing != null) {
+                accessor = existing;
+            }
+        }
+        return accessor;
+    }
+
+    /**
+     * Compiled dotted field path with a per-segment inline cache keyed by the last seen owner class.
+     */
+    public static final class FieldPath {
+
+        private final String path;
+        private final String[] segments;
+        private final FieldAccessor[] lastAccessors;
+
+        private FieldPath(String path) {
+            this.path = path;
+            this.segments = path.split("\\.");
+            this.lastAccessors = new FieldAccessor[segments.length];
+        }
+
+        public String path() {
+            return path;
+        }
+
+        /**
+         * Reads the path from a POJO or map-backed record, returning {@code null} as soon as an
+         * intermediate segment is {@code null}.
+         */
+        public Object get(Object root) throws ReflectiveOperationException {
+            if (root instanceof Map<?, ?> map) {
+                return getMapValue(map);
+            }
+            Object current = root;
+            for (int i = 0; i < segments.length; i++) {
+                current = segmentAccessor(i, current.getClass()).get(current);
+                if (current == null) {
+                    break;
+                }
+            }
+            return current;
+        }
+
+        /**
+         * Writes the path, instantiating {@code null} intermediate segments through their declared
+         * field type.
+         */
+        public void set(Object root, Object value) throws ReflectiveOperationException {
+            Object current = root;
+            int last = segments.length - 1;
+            for (int i = 0; i < last; i++) {
+                FieldAccessor accessor = segmentAccessor(i, current.getClass());
+                Object next = accessor.get(current);
+                if (next == null) {
+                    next = newInstance(accessor.fieldType());
+                    accessor.set(current, next);
+                }
+                current = next;
+            }
+            segmentAccessor(last, current.getClass()).set(current, value);
+        }
+
+        private FieldAccessor segmentAccessor(int index, Class<?> owner) throws ReflectiveOperationException {
+            FieldAccessor accessor = lastAccessors[index];
+            if (accessor != null && accessor.owner() == owner) {
+                return accessor;
+            }
+            accessor = accessor(owner, segments[index]);
+            lastAccessors[index] = accessor;
+            return accessor;
+        }
+
+        private Object getMapValue(Map<?, ?> map) {
+            if (map.containsKey(path)) {
+                return map.get(path);
+            }
+            Object current = map;
+            for (String segment : segments) {
+                if (!(current instanceof Map<?, ?> currentMap)) {
+                    return null;
+                }
+                current = currentMap.get(segment);
+                if (current == null) {
+                    return null;
+                }
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Resolved getter/setter pair for one declared field. The setter is bound lazily so read-only
+     * access to final fields keeps working exactly as {@link Field#get(Object)} did.
+     */
+    static final class FieldAccessor {
+
+        private final Class<?> owner;
+        private final Field field;
+        private final MethodHandle getter;
+        private volatile MethodHandle setter;
+
+        private FieldAccessor(Class<?> owner, Field field, MethodHandle getter) {
+            this.owner = owner;
+            this.field = field;
+            this.getter = getter;
+        }
+
+        Class<?> owner() {
+            return owner;
+        }
+
+        Class<?> fieldType() {
+            return field.getType();
+        }
+
+        Object get(Object target) throws ReflectiveOperationException {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ReflectiveOperationException("Failed to read field " + field.getName(), e);
+            }
+        }
+
+        void set(Object target, Object value) throws ReflectiveOperationException {
+            MethodHandle handle = setter;
+            if (handle == null) {
+                handle = LOOKUP.unreflectSetter(field).asType(SETTER_TYPE);
+                setter = handle;
+            }
+            try {
+                handle.invokeExact(target, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ReflectiveOperationException("Failed to write field " + field.getName(), e);
+            }
+        }
+    }
+}
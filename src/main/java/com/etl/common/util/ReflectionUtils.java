@@ -2,10 +2,15 @@ package com.etl.common.util;
 
 import com.etl.common.exception.ReflectionAccessException;
 
-import java.lang.reflect.Field;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Field and instance access helpers for generated models.
+ *
+ * <p>Lookups are delegated to {@link FieldAccessors}, which resolves each field once and reuses
+ * cached method handles, so these helpers are safe to call per record.</p>
+ */
 public final class ReflectionUtils {
 
     private ReflectionUtils() {}
@@ -20,7 +25,7 @@ public final class ReflectionUtils {
             if (clazz.equals(Map.class)) {
                 return (T) new HashMap<String, Object>();
             }
-            return clazz.getDeclaredConstructor().newInstance();
+            return (T) FieldAccessors.newInstance(clazz);
         } catch (Exception e) {
             throw new ReflectionAccessException("Failed to create instance of " + clazz, e);
         }
@@ -32,63 +37,19 @@ public final class ReflectionUtils {
      */
     public static Object getFieldValue(Object obj, String fieldPath) {
         try {
-            if (obj instanceof Map<?, ?> map) {
-                return getMapValue(map, fieldPath);
-            }
-            String[] parts = fieldPath.split("\\.");
-            Object current = obj;
-            for (String part : parts) {
-                Field field = current.getClass().getDeclaredField(part);
-                field.setAccessible(true);
-                current = field.get(current);
-                if (current == null) break;
-            }
-            return current;
+            return FieldAccessors.path(fieldPath).get(obj);
         } catch (Exception e) {
             throw new ReflectionAccessException("Failed to get field value: " + fieldPath, e);
         }
     }
 
-    private static Object getMapValue(Map<?, ?> map, String fieldPath) {
-        if (map.containsKey(fieldPath)) {
-            return map.get(fieldPath);
-        }
-
-        String[] parts = fieldPath.split("\\.");
-        Object current = map;
-        for (String part : parts) {
-            if (!(current instanceof Map<?, ?> currentMap)) {
-                return null;
-            }
-            current = currentMap.get(part);
-            if (current == null) {
-                return null;
-            }
-        }
-        return current;
-    }
-
     /**
      * Set a field value using reflection.
      * Supports nested fields separated by dot: "address.city"
      */
     public static void setFieldValue(Object obj, String fieldPath, Object value) {
         try {
-            String[] parts = fieldPath.split("\\.");
-            Object current = obj;
-            for (int i = 0; i < parts.length - 1; i++) {
-                Field field = current.getClass().getDeclaredField(parts[i]);
-                field.setAccessible(true);
-                Object next = field.get(current);
-                if (next == null) {
-                    next = field.getType().getDeclaredConstructor().newInstance();
-                    field.set(current, next);
-                }
-                current = next;
-            }
-            Field field = current.getClass().getDeclaredField(parts[parts.length - 1]);
-            field.setAccessible(true);
-            field.set(current, value);
+            FieldAccessors.path(fieldPath).set(obj, value);
         } catch (Exception e) {
             throw new ReflectionAccessException("Failed to set field value: " + fieldPath, e);
         }
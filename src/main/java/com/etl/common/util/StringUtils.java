@@ -12,4 +12,24 @@ public class StringUtils {
         }
         return name.substring(0, 1).toUpperCase() + name.substring(1);
     }
+
+    /**
+     * Folds each character to lower case of its upper case, so two strings fold to the same value
+     * exactly when {@link String#equalsIgnoreCase} considers them equal. Lets case-insensitive
+     * lookups hash the folded key once instead of scanning with {@code equalsIgnoreCase}.
+     */
+    public static String foldCase(String value) {
+        char[] folded = null;
+        for (int i = 0; i < value.length(); i++) {
+            char original = value.charAt(i);
+            char foldedChar = Character.toLowerCase(Character.toUpperCase(original));
+            if (foldedChar != original) {
+                if (folded == null) {
+                    folded = value.toCharArray();
+                }
+                folded[i] = foldedChar;
+            }
+        }
+        return folded == null ? value : new String(folded);
+    }
 }
@@ -0,0 +1,85 @@
+package com.etl.common.util;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Shared registry of compiled date-time formatters and zone ids for processor rules and transforms.
+ *
+ * <p>{@link DateTimeFormatter#ofPattern} and {@link ZoneId#of} parse their input on every call, which
+ * showed up as per-record cost on date-heavy files. Formatters and zones are immutable and
+ * thread-safe, so each distinct pattern or zone id is compiled once and shared. The caches are capped
+ * so patterns built from data cannot grow them without bound; beyond the cap, values are compiled per
+ * call.</p>
+ *
+ * <p>{@link #parseOrNull} is the non-throwing parse path: it parses once through the formatter's
+ * {@link java.text.Format} view with a {@link ParsePosition}, which reports malformed text and
+ * unresolvable values such as hour 25 through the position, so no exception reaches the caller.
+ * The JDK may still create and catch a {@code DateTimeException} internally while resolving
+ * values that match the pattern but are out of range.</p>
+ */
+public final class TemporalFormats {
+
+    static final int MAX_CACHED_ENTRIES = 512;
+
+    private static final ConcurrentMap<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, ZoneId> ZONES = new ConcurrentHashMap<>();
+
+    private TemporalFormats() {}
+
+    /**
+     * Returns the compiled formatter for a {@link DateTimeFormatter#ofPattern} pattern.
+     *
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static DateTimeFormatter formatter(String pattern) {
+        DateTimeFormatter formatter = FORMATTERS.get(pattern);
+        if (formatter != null) {
+            return formatter;
+        }
+        formatter = DateTimeFormatter.ofPattern(pattern);
+        if (FORMATTERS.size() < MAX_CACHED_ENTRIES) {
+            DateTimeFormatter existing = FORMATTERS.putIfAbsent(pattern, formatter);
+            return existing == null ? formatter : existing;
+        }
+        return formatter;
+    }
+
+    /**
+     * Returns the zone for a {@link ZoneId#of} id.
+     *
+     * @throws DateTimeException if the zone id is invalid
+     */
+    public static ZoneId zone(String zoneId) {
+        ZoneId zone = ZONES.get(zoneId);
+        if (zone != null) {
+            return zone;
+        }
+        zone = ZoneId.of(zoneId);
+        if (ZONES.size() < MAX_CACHED_ENTRIES) {
+            ZoneId existing = ZONES.putIfAbsent(zoneId, zone);
+            return existing == null ? zone : existing;
+        }
+        return zone;
+    }
+
+    /**
+     * Parses the whole text with the formatter and queries the result, returning {@code null} instead
+     * of throwing when the text does not match or does not resolve to the requested type.
+     */
+    public static <T> T parseOrNull(CharSequence text, DateTimeFormatter formatter, TemporalQuery<T> query) {
+        ParsePosition position = new ParsePosition(0);
+        Object parsed = formatter.toFormat(query).parseObject(text.toString(), position);
+        if (parsed == null || position.getErrorIndex() >= 0 || position.getIndex() != text.length()) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        T result = (T) parsed;
+        return result;
+    }
+}
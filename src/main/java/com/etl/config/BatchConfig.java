@@ -35,26 +35,41 @@ import com.etl.runtime.job.JobStepLinkDescriptor;
 import com.etl.runtime.job.JobStepDescriptor;
 import com.etl.runtime.job.JobStepModelDescriptor;
 import com.etl.runtime.job.JobSubFlowDescriptor;
+import com.etl.runtime.job.JobSubFlowExecutionPlan;
 import com.etl.job.listener.FileIngestionHardeningStepListener;
 import com.etl.runtime.FileIngestionRuntimeSupport;
+import com.etl.runtime.AdaptiveCommitIntervalPolicy;
+import com.etl.runtime.PartitionWorkerStepHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.job.builder.FlowBuilder;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.builder.JobFlowBuilder;
 import org.springframework.batch.core.job.builder.SimpleJobBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.job.flow.support.SimpleFlow;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.builder.FaultTolerantStepBuilder;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.core.step.skip.SkipPolicy;
 import org.springframework.batch.item.*;
+import org.springframework.batch.item.support.AbstractFileItemWriter;
+import org.springframework.batch.item.xml.StaxEventItemWriter;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.retry.RetryCallback;
 import org.springframework.retry.RetryContext;
 import org.springframework.retry.RetryListener;
@@ -71,8 +86,10 @@ import com.etl.config.target.TargetWrapper;
 import com.etl.job.listener.JobCompletionNotificationListener;
 import com.etl.job.listener.StepLoggingContextListener;
 import com.etl.processor.DynamicProcessorFactory;
+import com.etl.reader.DynamicReader;
 import com.etl.reader.DynamicReaderFactory;
 import com.etl.writer.DynamicWriterFactory;
+import com.etl.writer.PartitionedWriter;
 
 /**
  * BatchConfig sets up the Spring Batch job and steps for the ETL engine.
@@ -122,6 +139,23 @@ public class BatchConfig {
      */
     private int chunkThreshold;
 
+    /**
+     * Whether step planning counts every source record or stops once the chunk threshold is exceeded.
+     */
+    private final EtlBatchProperties.RecordCountMode recordCountMode;
+
+    /**
+     * Global chunk commit interval; {@code null} keeps committing every {@link #chunkThreshold} items.
+     */
+    private final Integer configuredCommitInterval;
+    private final EtlBatchProperties.AdaptiveCommitInterval adaptiveCommitInterval;
+
+    /**
+     * Whether independent subflows may run concurrently, and how many at once.
+     */
+    private final EtlJobProperties.ExecutionMode executionMode;
+    private final int maxParallelSubFlows;
+
     /**
      * Constructs the BatchConfig with all required dependencies.
      *
@@ -146,7 +180,8 @@ public class BatchConfig {
                    JobRuntimeDescriptor jobRuntimeDescriptor,
              FileIngestionRuntimeSupport fileIngestionRuntimeSupport,
               DuplicateResolverFactory duplicateResolverFactory,
-              EtlBatchProperties etlBatchProperties) {
+              EtlBatchProperties etlBatchProperties,
+              EtlJobProperties etlJobProperties) {
         this.sourceWrapper = sourceWrapper;
         this.readerFactory = readerFactory;
         this.targetWrapper = targetWrapper;
@@ -162,10 +197,50 @@ public class BatchConfig {
 		this.fileIngestionRuntimeSupport = fileIngestionRuntimeSupport;
     this.duplicateResolverFactory = duplicateResolverFactory;
         this.chunkThreshold = Math.max(1, etlBatchProperties == null ? 10000 : etlBatchProperties.getThreshold());
+        this.recordCountMode = etlBatchProperties == null || etlBatchProperties.getRecordCountMode() == null
+                ? EtlBatchProperties.RecordCountMode.BOUNDED
+                : etlBatchProperties.getRecordCountMode();
+        this.configuredCommitInterval = etlBatchProperties == null ? null : etlBatchProperties.getCommitInterval();
+        this.adaptiveCommitInterval = etlBatchProperties == null || etlBatchProperties.getAdaptiveCommitInterval() == null
+                ? new EtlBatchProperties.AdaptiveCommitInterval()
+                : etlBatchProperties.getAdaptiveCommitInterval();
+        this.executionMode = etlJobProperties == null || etlJobProperties.getExecutionMode() == null
+                ? EtlJobProperties.ExecutionMode.SEQUENTIAL
+                : etlJobProperties.getExecutionMode();
+        this.maxParallelSubFlows = Math.max(1, etlJobProperties == null ? 4 : etlJobProperties.getMaxParallelSubFlows());
 
         logger.info("EtlJobConfiguration initialized.");
     }
 
+    public BatchConfig(SourceWrapper sourceWrapper, DynamicReaderFactory readerFactory,
+                       DynamicWriterFactory writerFactory, JobRepository jobRepository,
+                       PlatformTransactionManager transactionManager,
+                       JobCompletionNotificationListener listener, DynamicProcessorFactory processorFactory,
+                       ProcessorConfig processorConfig, TargetWrapper targetWrapper,
+                       StepLoggingContextListener stepLoggingContextListener,
+                       RunConfigurationMetadata runConfigurationMetadata,
+                       JobRuntimeDescriptor jobRuntimeDescriptor,
+                       FileIngestionRuntimeSupport fileIngestionRuntimeSupport,
+                       DuplicateResolverFactory duplicateResolverFactory,
+                       EtlBatchProperties etlBatchProperties) {
+        this(sourceWrapper,
+                readerFactory,
+                writerFactory,
+                jobRepository,
+                transactionManager,
+                listener,
+                processorFactory,
+                processorConfig,
+                targetWrapper,
+                stepLoggingContextListener,
+                runConfigurationMetadata,
+                jobRuntimeDescriptor,
+                fileIngestionRuntimeSupport,
+                duplicateResolverFactory,
+                etlBatchProperties,
+                new EtlJobProperties());
+    }
+
     public BatchConfig(SourceWrapper sourceWrapper, DynamicReaderFactory readerFactory,
                        DynamicWriterFactory writerFactory, JobRepository jobRepository,
                        PlatformTransactionManager transactionManager,
@@ -222,9 +297,11 @@ public class BatchConfig {
     /**
      * Defines the main ETL job bean.
      *
-     * <p>The runtime executes one flat ordered Spring Batch job per selected scenario.
-     * MainFlow/SubFlow descriptors are emitted for observability, but execution still
-     * follows the explicit step order resolved from {@code job-config.yaml}.</p>
+     * <p>By default the runtime executes one flat ordered Spring Batch job per selected scenario,
+     * following the explicit step order resolved from {@code job-config.yaml}, and MainFlow/SubFlow
+     * descriptors are emitted for observability only. With
+     * {@code etl.job.execution-mode=parallel-subflows} the subflow descriptors also drive execution:
+     * see {@link #parallelSubFlowJob(List)}.</p>
      *
      * @return the configured Job
      * @throws Exception if step creation fails
@@ -237,6 +314,13 @@ public class BatchConfig {
             throw new IllegalStateException("No steps were created. Cannot build Job.");
         }
 
+        if (executionMode == EtlJobProperties.ExecutionMode.PARALLEL_SUBFLOWS) {
+            Job parallelJob = parallelSubFlowJob(steps);
+            if (parallelJob != null) {
+                return parallelJob;
+            }
+        }
+
         SimpleJobBuilder jobBuilder = new JobBuilder("etlJob", jobRepository)
                 .listener(listener)
                 .start(steps.get(0));
@@ -248,6 +332,127 @@ public class BatchConfig {
         return jobBuilder.build();
     }
 
+    /**
+     * Builds a flow job that runs independent subflows concurrently.
+     *
+     * <p>The subflow graph comes from {@link JobSubFlowExecutionPlan}: order-only adjacency is
+     * relaxed, while data handoffs and shared source/target names stay as dependencies. Each plan
+     * stage becomes a Spring Batch split on a bounded executor, and stages run in order. Steps
+     * inside one subflow keep their configured order. A failed subflow fails its stage, so later
+     * stages never start and the job-completion listener reports them as blocked downstream.</p>
+     *
+     * @return the flow job, or {@code null} when the descriptor offers no concurrency and the
+     *         sequential job should be used instead
+     */
+    Job parallelSubFlowJob(List<Step> steps) {
+        if (jobRuntimeDescriptor == null || jobRuntimeDescriptor.subFlows().size() < 2) {
+            logger.info("JOB_PLAN event=execution_mode requestedMode=parallel-subflows mode=sequential reason=single-subflow");
+            return null;
+        }
+        Map<String, Step> stepsByName = new LinkedHashMap<>();
+        for (Step step : steps) {
+            stepsByName.put(step.getName(), step);
+        }
+        List<String> plannedStepNames = jobRuntimeDescriptor.subFlows().stream()
+                .flatMap(subFlow -> subFlow.stepNames().stream())
+                .toList();
+        if (plannedStepNames.size() != stepsByName.size() || !stepsByName.keySet().containsAll(plannedStepNames)) {
+            logger.warn("JOB_PLAN event=execution_mode requestedMode=parallel-subflows mode=sequential reason=subflows-do-not-cover-steps subFlowSteps={} builtSteps={}",
+                    JobHierarchyLoggingSupport.formatList(plannedStepNames),
+                    JobHierarchyLoggingSupport.formatList(List.copyOf(stepsByName.keySet())));
+            return null;
+        }
+
+        JobSubFlowExecutionPlan plan = JobSubFlowExecutionPlan.fromDescriptor(jobRuntimeDescriptor);
+        if (!plan.hasConcurrentStage()) {
+            logger.info("JOB_PLAN event=execution_mode requestedMode=parallel-subflows mode=sequential reason=no-independent-subflows stages={}",
+                    plan.stageCount());
+            return null;
+        }
+
+        logger.info("JOB_PLAN event=execution_mode requestedMode=parallel-subflows mode=parallel-subflows mainFlow={} subFlows={} stages={} widestStage={} maxParallelSubFlows={}",
+                runConfigurationMetadata.mainFlowName(),
+                jobRuntimeDescriptor.subFlows().size(),
+                plan.stageCount(),
+                plan.widestStage(),
+                maxParallelSubFlows);
+        TaskExecutor executor = subFlowTaskExecutor();
+        List<Flow> stageFlows = new ArrayList<>();
+        for (int stage = 0; stage < plan.stageCount(); stage++) {
+            List<Flow> subFlowFlows = new ArrayList<>();
+            for (JobSubFlowDescriptor subFlow : plan.stages().get(stage)) {
+                logger.info("SUBFLOW_PLAN event=parallel_subflow_plan mainFlow={} subFlow={} stage={} stepNames={} dependsOnSubFlows={} relaxedOrderOnlyDependencies={}",
+                        runConfigurationMetadata.mainFlowName(),
+                        subFlow.subFlowName(),
+                        stage,
+                        JobHierarchyLoggingSupport.formatList(subFlow.stepNames()),
+                        JobHierarchyLoggingSupport.formatList(plan.effectiveDependencies(subFlow.subFlowName())),
+                        JobHierarchyLoggingSupport.formatList(plan.relaxedDependencies(subFlow.subFlowName())));
+                FlowBuilder<SimpleFlow> subFlowBuilder = new FlowBuilder<>(subFlow.subFlowName());
+                for (int i = 0; i < subFlow.stepNames().size(); i++) {
+                    Step step = stepsByName.get(subFlow.stepNames().get(i));
+                    if (i == 0) {
+                        subFlowBuilder.start(step);
+                    } else {
+                        subFlowBuilder.next(step);
+                    }
+                }
+                subFlowFlows.add(subFlowBuilder.build());
+            }
+            stageFlows.add(subFlowFlows.size() == 1
+                    ? subFlowFlows.get(0)
+                    : new FlowBuilder<SimpleFlow>("subflow-stage-" + stage)
+                            .split(executor)
+                            .add(subFlowFlows.toArray(new Flow[0]))
+                            .build());
+        }
+
+        JobFlowBuilder jobFlowBuilder = new JobBuilder("etlJob", jobRepository)
+                .listener(listener)
+                .start(stageFlows.get(0));
+        for (int i = 1; i < stageFlows.size(); i++) {
+            jobFlowBuilder.next(stageFlows.get(i));
+        }
+        return jobFlowBuilder.end().build();
+    }
+
+    /**
+     * Bounded executor for concurrent subflows. Logging MDC from the launching thread is copied to
+     * each worker so scenario and run identifiers stay on subflow log lines.
+     */
+    private TaskExecutor subFlowTaskExecutor() {
+        return boundedTaskExecutor("etl-subflow-", maxParallelSubFlows);
+    }
+
+    /**
+     * Bounded executor whose workers inherit the launching thread's logging MDC.
+     */
+    private static TaskExecutor boundedTaskExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskDecorator(task -> {
+            Map<String, String> context = MDC.getCopyOfContextMap();
+            return () -> {
+                Map<String, String> previous = MDC.getCopyOfContextMap();
+                if (context == null) {
+                    MDC.clear();
+                } else {
+                    MDC.setContextMap(context);
+                }
+                try {
+                    task.run();
+                } finally {
+                    if (previous == null) {
+                        MDC.clear();
+                    } else {
+                        MDC.setContextMap(previous);
+                    }
+                }
+            };
+        });
+        return executor;
+    }
+
     /**
      * Builds the list of ETL steps based on the source and target configurations.
      * Each step is either chunk-oriented or tasklet-based, depending on the record count.
@@ -296,11 +501,13 @@ public class BatchConfig {
               ProcessorConfig.EntityMapping mapping = jobStep == null ? requireProcessorMapping(configuredStep) : jobStep.processorMapping();
 
               String stepName = jobStep == null ? configuredStep.getName() : jobStep.stepName();
+              validateAdaptiveCommitInterval(stepName, configuredStep);
               int stepOrder = jobStep == null ? i : jobStep.stepOrder();
               String sourceName = jobStep == null ? configuredStep.getSource() : jobStep.sourceName();
               String targetName = jobStep == null ? configuredStep.getTarget() : jobStep.targetName();
                 JobConfig.SkipPolicyConfig configuredSkipPolicy = configuredStep == null ? null : configuredStep.getSkipPolicy();
                 JobConfig.RetryPolicyConfig configuredRetryPolicy = configuredStep == null ? null : configuredStep.getRetryPolicy();
+                JobConfig.PartitioningConfig configuredPartitioning = configuredStep == null ? null : configuredStep.getPartitioning();
                 JobSubFlowDescriptor stepSubFlow = jobStep == null ? null : JobHierarchyLoggingSupport.subFlowForStep(jobRuntimeDescriptor, stepName);
                 List<JobStepLinkDescriptor> inboundLinks = jobStep == null ? List.of() : JobHierarchyLoggingSupport.inboundLinks(jobRuntimeDescriptor, stepName);
                 logger.info("STEP_PLAN event=step_plan mainFlow={} subFlow={} recoveryPolicy={} stepName={} source={} target={} stepOrder={} stepSubFlowOrder={} dependsOnSubFlows={} consumesHandoffAliases={} producesHandoffAliases={} upstreamSteps={} linkTypes={} linkControlSummary={} stepSummary={}",
@@ -324,7 +531,11 @@ public class BatchConfig {
             int recordCount;
             boolean recordCountUnknown = false;
             try {
-                recordCount = s.getRecordCount();
+                // Planning only needs to know whether the source exceeds the threshold, so bounded
+                // mode lets file sources stop counting instead of pre-reading the whole input.
+                recordCount = recordCountMode == EtlBatchProperties.RecordCountMode.EXACT
+                        ? s.getRecordCount()
+                        : s.getRecordCount(chunkThreshold);
             } catch (Exception e) {
                 logger.warn("Could not count records for source: {}. Defaulting to chunk mode.", s.getSourceName(), e);
                 recordCountUnknown = true;
@@ -336,6 +547,7 @@ public class BatchConfig {
                 recordCount = chunkThreshold + 1;
             }
             useChunk = recordCount > chunkThreshold;
+            String recordCountEvidence = recordCountEvidence(recordCount, recordCountUnknown);
             if (configuredSkipPolicy != null && configuredSkipPolicy.isEnabled() && !useChunk) {
                 logger.info("STEP_READY event=step_mode_override mainFlow={} subFlow={} recoveryPolicy={} stepName={} source={} target={} originalMode=tasklet overriddenMode=chunk reason=skip-policy-requires-fault-tolerant-chunk",
                         runConfigurationMetadata.mainFlowName(),
@@ -357,22 +569,31 @@ public class BatchConfig {
                 useChunk = true;
             }
             DuplicateRule duplicateRule = DuplicateRule.resolveConfiguration(mapping).orElse(null);
+            if (configuredPartitioning != null && configuredPartitioning.isEnabled()) {
+                requirePartitionableStep(stepName, duplicateRule, mapping);
+            }
             DuplicateRule.StorageMode duplicateStorageMode = duplicateRule == null
                     ? DuplicateRule.StorageMode.AUTO
                     : duplicateRule.storageMode();
-            boolean useEmbeddedDbDuplicateResolver = duplicateRule != null && switch (duplicateStorageMode) {
-                case AUTO -> recordCount > chunkThreshold;
-                case MEMORY -> false;
-                case EMBEDDED_DB -> true;
+            DuplicateRule.StorageMode resolvedDuplicateStorageMode = switch (duplicateStorageMode) {
+                case AUTO -> recordCount > chunkThreshold ? DuplicateRule.StorageMode.EMBEDDED_DB : DuplicateRule.StorageMode.MEMORY;
+                case MEMORY, WINNER_ONLY, EMBEDDED_DB, EXTERNAL_SORT -> duplicateStorageMode;
             };
             String orderedDuplicateResolverMode = null;
             String orderedDuplicateResolverReason = null;
             if (duplicateRule != null) {
-                orderedDuplicateResolverMode = useEmbeddedDbDuplicateResolver ? "embeddedDb" : "inMemory";
+                orderedDuplicateResolverMode = switch (resolvedDuplicateStorageMode) {
+                    case EMBEDDED_DB -> "embeddedDb";
+                    case EXTERNAL_SORT -> "externalSort";
+                    case WINNER_ONLY -> "inMemoryWinnerOnly";
+                    case AUTO, MEMORY -> "inMemory";
+                };
                 orderedDuplicateResolverReason = switch (duplicateStorageMode) {
                     case MEMORY -> "configured_storage_mode_memory";
+                    case WINNER_ONLY -> "configured_storage_mode_winnerOnly";
                     case EMBEDDED_DB -> "configured_storage_mode_embeddedDb";
-                    case AUTO -> useEmbeddedDbDuplicateResolver
+                    case EXTERNAL_SORT -> "configured_storage_mode_externalSort";
+                    case AUTO -> resolvedDuplicateStorageMode == DuplicateRule.StorageMode.EMBEDDED_DB
                             ? (recordCountUnknown ? "record_count_unknown_defaults_to_large_input_path" : "record_count_exceeds_chunk_threshold")
                             : "record_count_within_chunk_threshold";
                 };
@@ -402,38 +623,60 @@ public class BatchConfig {
                         duplicateRule.identityModeReason(),
                         orderedDuplicateResolverMode,
                         orderedDuplicateResolverReason,
-                        recordCount,
+                        recordCountEvidence,
                         chunkThreshold);
             }
-            final int resolvedRecordCount = recordCount;
+            final String resolvedRecordCount = recordCountEvidence;
             final String resolvedOrderedDuplicateResolverMode = orderedDuplicateResolverMode;
             final String resolvedOrderedDuplicateResolverReason = orderedDuplicateResolverReason;
 
               ResolvedModelMetadata metadata = jobStep == null
 					? GeneratedModelClassResolver.resolveMetadata(s, t)
           : toResolvedModelMetadata(jobStep.modelDescriptor());
+            FileIngestionHardeningStepListener fileIngestionHardeningStepListener =
+					new FileIngestionHardeningStepListener(s, processorConfig, mapping, fileIngestionRuntimeSupport);
+            if (configuredPartitioning != null && configuredPartitioning.isEnabled()) {
+                Step step = buildPartitionedStep(stepName, s, t, metadata, configuredStep,
+                        jobHierarchyContextListener(jobStep), fileIngestionHardeningStepListener);
+                logger.info("STEP_READY event=step_ready mainFlow={} subFlow={} recoveryPolicy={} stepName={} source={} target={} mode=partitioned gridSize={} recordCount={} threshold={} commitInterval={} commitIntervalMode={}",
+                        runConfigurationMetadata.mainFlowName(),
+                        stepSubFlow == null ? runConfigurationMetadata.subFlowName() : stepSubFlow.subFlowName(),
+                        runConfigurationMetadata.recoveryPolicy() == null ? "" : runConfigurationMetadata.recoveryPolicy().logValue(),
+                        stepName, s.getSourceName(), t.getTargetName(), partitionGridSize(configuredPartitioning), recordCountEvidence, chunkThreshold,
+                        commitInterval(configuredStep), commitIntervalMode(configuredStep));
+                steps.add(step);
+                continue;
+            }
             ItemReader<Object> reader = DynamicBatchUtils.getDynamicReader(readerFactory, s, metadata);
             Class<?> writerClass = metadata.isWrapperRequired() && useChunk
                     ? GeneratedModelClassResolver.resolveTargetProcessingClass(metadata)
                     : GeneratedModelClassResolver.resolveTargetWriteClass(metadata);
-            ItemWriter<Object> writer = DynamicBatchUtils.getDynamicWriter(writerFactory, t, writerClass);
+            // Tasklet steps stream wrapper documents record by record when the target format can,
+            // so neither the records nor the wrapper object graph are held in memory.
+            boolean streamWrapperRecords = metadata.isWrapperRequired() && !useChunk && writerFactory.supportsWrapperStreaming(t);
+            ItemWriter<Object> writer = streamWrapperRecords
+                    ? writerFactory.createWrapperStreamingWriter(t, writerClass, metadata.getWrapperFieldName())
+                    : DynamicBatchUtils.getDynamicWriter(writerFactory, t, writerClass);
+            boolean flushTaskletOutput = !metadata.isWrapperRequired() || streamWrapperRecords;
+            int taskletFlushSize = commitInterval(configuredStep);
+            if (!useChunk && flushTaskletOutput) {
+                disableTransactionalBuffering(writer);
+            }
             ItemProcessor<Object, Object> processor = processorFactory.getProcessor(processorConfig, s, t, metadata);
-            FileIngestionHardeningStepListener fileIngestionHardeningStepListener =
-					new FileIngestionHardeningStepListener(s, processorConfig, mapping, fileIngestionRuntimeSupport);
 
             StepBuilder stepBuilder = new StepBuilder(stepName, jobRepository);
             Step step;
               StepExecutionListener writerStepExecutionListener = asStepExecutionListener(writer);
               StepExecutionListener jobHierarchyContextListener = jobHierarchyContextListener(jobStep);
             if (useChunk) {
-                var chunkStepBuilder = stepBuilder
-                        .chunk(chunkThreshold, transactionManager);
+                var chunkStepBuilder = chunkStepBuilder(stepBuilder, configuredStep);
                   if (jobHierarchyContextListener != null) {
                       chunkStepBuilder.listener(jobHierarchyContextListener);
                 }
                 chunkStepBuilder
                         .listener(stepLoggingContextListener)
 						.listener(fileIngestionHardeningStepListener)
+                        .listener(fileIngestionHardeningStepListener.rejectFlushListener())
                         .reader(reader)
                         .processor(processor)
                         .writer(writer);
@@ -476,11 +719,12 @@ public class BatchConfig {
                 } else {
                     step = chunkStepBuilder.build();
                 }
-                  logger.info("STEP_READY event=step_ready mainFlow={} subFlow={} recoveryPolicy={} stepName={} source={} target={} mode=chunk recordCount={} threshold={}",
+                  logger.info("STEP_READY event=step_ready mainFlow={} subFlow={} recoveryPolicy={} stepName={} source={} target={} mode=chunk recordCount={} threshold={} commitInterval={} commitIntervalMode={}",
                           runConfigurationMetadata.mainFlowName(),
 							stepSubFlow == null ? runConfigurationMetadata.subFlowName() : stepSubFlow.subFlowName(),
                           runConfigurationMetadata.recoveryPolicy() == null ? "" : runConfigurationMetadata.recoveryPolicy().logValue(),
-                          stepName, s.getSourceName(), t.getTargetName(), recordCount, chunkThreshold);
+                          stepName, s.getSourceName(), t.getTargetName(), recordCountEvidence, chunkThreshold,
+                          commitInterval(configuredStep), commitIntervalMode(configuredStep));
             } else {
                 var taskletStepBuilder = stepBuilder;
                   if (jobHierarchyContextListener != null) {
@@ -495,11 +739,10 @@ public class BatchConfig {
                 step = taskletStepBuilder.tasklet((contribution, chunkContext) -> {
                             Object item;
                             List<Object> buffer = new ArrayList<>();
-                            int acceptedCount = 0;
                             boolean rejectHandlingEnabled = processorConfig.getRejectHandling() != null && processorConfig.getRejectHandling().isEnabled();
                             DuplicateResolver duplicateResolver = duplicateRule == null
                                     ? null
-                                    : duplicateResolverFactory.create(duplicateRule, useEmbeddedDbDuplicateResolver);
+                                    : duplicateResolverFactory.create(duplicateRule, resolvedDuplicateStorageMode);
                             recordOrderedDuplicateResolverEvidence(
                                     contribution,
                                     duplicateRule,
@@ -526,6 +769,7 @@ public class BatchConfig {
 									contribution.incrementReadCount();
                                     if (duplicateResolver != null) {
                                         duplicateResolver.accept(item);
+                                        routeDuplicateDiscards(duplicateResolver.drainDiscarded(), contribution, rejectHandlingEnabled);
                                         continue;
                                     }
                                     Object processed = processor.process(item);
@@ -534,44 +778,37 @@ public class BatchConfig {
 										continue;
 									}
                                     buffer.add(processed);
-									acceptedCount++;
+                                    if (flushTaskletOutput && buffer.size() >= taskletFlushSize) {
+                                        writeTaskletBuffer(writer, buffer, contribution);
+                                    }
                                 }
                                 if (duplicateResolver != null) {
                                     DuplicateResolution resolution = duplicateResolver.complete();
-                                    for (DuplicateDiscard discardedRecord : resolution.discardedRecords()) {
-                                        contribution.incrementFilterCount(1);
-                                        if (discardedRecord.invalidOrderingValue() && !rejectHandlingEnabled) {
-                                            throw new IllegalStateException(discardedRecord.issue().message());
-                                        }
-                                        if (rejectHandlingEnabled) {
-                                            boolean recorded = fileIngestionRuntimeSupport.recordRejected(discardedRecord.discardedRecord(), List.of(discardedRecord.issue()));
-                                            if (!recorded) {
-                                                throw new IllegalStateException("Ordered duplicate winner selection rejected a record but reject handling was not initialized for the current step.");
-                                            }
-                                        }
-                                    }
-                                    for (Object retainedRecord : resolution.retainedRecords()) {
+                                    routeDuplicateDiscards(resolution.discarded(), contribution, rejectHandlingEnabled);
+                                    for (Object retainedRecord : resolution.retained()) {
                                         Object processed = processor.process(retainedRecord);
                                         if (processed == null) {
                                             contribution.incrementFilterCount(1);
                                             continue;
                                         }
                                         buffer.add(processed);
-                                        acceptedCount++;
+                                        if (flushTaskletOutput && buffer.size() >= taskletFlushSize) {
+                                            writeTaskletBuffer(writer, buffer, contribution);
+                                        }
                                     }
                                 }
                                 if (!buffer.isEmpty()) {
-                                    if (metadata.isWrapperRequired()) {
+                                    if (!flushTaskletOutput) {
                                         Object wrapper = GeneratedModelClassResolver.createWrapper(metadata, buffer);
                                         logger.debug("Writing XML wrapper {}.{} with {} records",
                                                 metadata.getTargetWriteClassName(),
                                                 metadata.getWrapperFieldName(),
                                                 buffer.size());
                                         writer.write(new Chunk<>(List.of(wrapper)));
+                                        contribution.incrementWriteCount(buffer.size());
                                     } else {
-                                        writer.write(new Chunk<>(buffer));
+                                        writeTaskletBuffer(writer, buffer, contribution);
                                     }
-									contribution.incrementWriteCount(acceptedCount);
                                 }
                             } finally {
                                 if (duplicateResolver != null) {
@@ -591,7 +828,7 @@ public class BatchConfig {
                           runConfigurationMetadata.mainFlowName(),
 							stepSubFlow == null ? runConfigurationMetadata.subFlowName() : stepSubFlow.subFlowName(),
                           runConfigurationMetadata.recoveryPolicy() == null ? "" : runConfigurationMetadata.recoveryPolicy().logValue(),
-                          stepName, s.getSourceName(), t.getTargetName(), recordCount, chunkThreshold);
+                          stepName, s.getSourceName(), t.getTargetName(), recordCountEvidence, chunkThreshold);
             }
             steps.add(step);
         }
@@ -599,6 +836,173 @@ public class BatchConfig {
         return steps;
     }
 
+    /**
+     * Builds a partitioned step: a manager step that splits the source with the reader's
+     * partitioner and runs one chunk-oriented worker per partition on a bounded executor.
+     *
+     * <p>Every worker gets its own reader, processor, and writer, so no stream state is shared
+     * between threads. Source-level listeners such as file-ingestion hardening run once on the
+     * manager step, and a partitioned writer that listens for step completion publishes only after
+     * all partitions have finished.</p>
+     */
+    private Step buildPartitionedStep(String stepName,
+                                      SourceConfig s,
+                                      TargetConfig t,
+                                      ResolvedModelMetadata metadata,
+                                      JobConfig.JobStepConfig configuredStep,
+                                      StepExecutionListener jobHierarchyContextListener,
+                                      FileIngestionHardeningStepListener fileIngestionHardeningStepListener) throws Exception {
+        JobConfig.PartitioningConfig partitioning = configuredStep.getPartitioning();
+        int gridSize = partitionGridSize(partitioning);
+        Partitioner partitioner = readerFactory.createPartitioner(s, partitioning);
+        PartitionedWriter partitionedWriter = writerFactory.createPartitionedWriter(t, GeneratedModelClassResolver.resolveTargetWriteClass(metadata));
+        Class<Object> sourceClass = GeneratedModelClassResolver.resolveSourceClass(metadata);
+
+        PartitionWorkerStepHandler partitionHandler = new PartitionWorkerStepHandler(
+                boundedTaskExecutor("etl-partition-", gridSize),
+                jobRepository,
+                gridSize,
+                partitionStepExecution -> {
+                    ExecutionContext partition = partitionStepExecution.getExecutionContext();
+                    var workerStepBuilder = chunkStepBuilder(
+                            new StepBuilder(partitionStepExecution.getStepName(), jobRepository), configuredStep);
+                    if (jobHierarchyContextListener != null) {
+                        workerStepBuilder.listener(jobHierarchyContextListener);
+                    }
+                    return workerStepBuilder
+                            .listener(stepLoggingContextListener)
+                            .reader(readerFactory.createPartitionReader(s, sourceClass, partition))
+                            .processor(processorFactory.getProcessor(processorConfig, s, t, metadata))
+                            .writer(partitionedWriter.writerForPartition(partition.getInt(DynamicReader.PARTITION_INDEX_KEY)))
+                            .build();
+                });
+
+        StepBuilder managerStepBuilder = new StepBuilder(stepName, jobRepository);
+        if (jobHierarchyContextListener != null) {
+            managerStepBuilder.listener(jobHierarchyContextListener);
+        }
+        managerStepBuilder
+                .listener(stepLoggingContextListener)
+                .listener(fileIngestionHardeningStepListener);
+        if (partitionedWriter instanceof StepExecutionListener partitionedWriterListener) {
+            managerStepBuilder.listener(partitionedWriterListener);
+        }
+        return managerStepBuilder
+                .partitioner(stepName + ":worker", partitioner)
+                .partitionHandler(partitionHandler)
+                .build();
+    }
+
+    /**
+     * Rejects step features whose state is scoped to a single step execution and therefore cannot
+     * be shared across partition workers.
+     */
+    private void requirePartitionableStep(String stepName, DuplicateRule duplicateRule, ProcessorConfig.EntityMapping mapping) {
+        if (duplicateRule != null || hasDuplicateRule(mapping)) {
+            throw new IllegalStateException("Step '" + stepName + "' configures both duplicate detection and partitioning. This first slice does not support combining those modes.");
+        }
+        if (processorConfig.getRejectHandling() != null && processorConfig.getRejectHandling().isEnabled()) {
+            throw new IllegalStateException("Step '" + stepName + "' configures partitioning while reject handling is enabled. This first slice does not support combining those modes.");
+        }
+    }
+
+    private static boolean hasDuplicateRule(ProcessorConfig.EntityMapping mapping) {
+        if (mapping == null || mapping.getFields() == null) {
+            return false;
+        }
+        return mapping.getFields().stream()
+                .filter(field -> field.getRules() != null)
+                .flatMap(field -> field.getRules().stream())
+                .anyMatch(rule -> "duplicate".equalsIgnoreCase(rule.getType()));
+    }
+
+    /**
+     * Writes the buffered tasklet output as one chunk and starts a new buffer. Tasklet steps flush
+     * every commit interval so records do not pile up when the source turns out larger than planned;
+     * see {@link #disableTransactionalBuffering(ItemWriter)} for why the written lines leave memory.
+     */
+    private static void writeTaskletBuffer(ItemWriter<Object> writer,
+                                           List<Object> buffer,
+                                           StepContribution contribution) throws Exception {
+        writer.write(new Chunk<>(buffer));
+        contribution.incrementWriteCount(buffer.size());
+        buffer.clear();
+    }
+
+    /**
+     * Makes a flushing tasklet write straight through to its staging file.
+     *
+     * <p>Spring's file writers hold output in a transaction-aware buffer until the surrounding
+     * transaction commits. A tasklet runs in one transaction, so without this every flushed chunk
+     * would stay in memory until the step ends. The staged writers only publish after the step
+     * completes and discard the staging file on failure, so the transactional buffer adds nothing
+     * here. Must be called before the writer is opened.</p>
+     */
+    static void disableTransactionalBuffering(ItemWriter<?> writer) {
+        if (writer instanceof AbstractFileItemWriter<?> fileWriter) {
+            fileWriter.setTransactional(false);
+        } else if (writer instanceof StaxEventItemWriter<?> staxWriter) {
+            staxWriter.setTransactional(false);
+        }
+    }
+
+    /**
+     * Starts a chunk step with the step's commit interval. With adaptive sizing, the completion
+     * policy also listens to the step and its writes so it can resize later chunks.
+     */
+    private SimpleStepBuilder<Object, Object> chunkStepBuilder(StepBuilder stepBuilder, JobConfig.JobStepConfig configuredStep) {
+        int commitInterval = commitInterval(configuredStep);
+        if (!adaptiveCommitIntervalEnabled(configuredStep)) {
+            return stepBuilder.chunk(commitInterval, transactionManager);
+        }
+        AdaptiveCommitIntervalPolicy commitIntervalPolicy = new AdaptiveCommitIntervalPolicy(commitInterval, adaptiveCommitInterval);
+        SimpleStepBuilder<Object, Object> chunkStepBuilder = stepBuilder.chunk(commitIntervalPolicy, transactionManager);
+        chunkStepBuilder.listener((StepExecutionListener) commitIntervalPolicy);
+        chunkStepBuilder.listener((ItemWriteListener<Object>) commitIntervalPolicy);
+        return chunkStepBuilder;
+    }
+
+    private int commitInterval(JobConfig.JobStepConfig configuredStep) {
+        if (configuredStep != null && configuredStep.getCommitInterval() != null) {
+            return Math.max(1, configuredStep.getCommitInterval());
+        }
+        return configuredCommitInterval == null ? chunkThreshold : Math.max(1, configuredCommitInterval);
+    }
+
+    /**
+     * Rejects adaptive steps whose commit interval lies outside the adaptive bounds before any step
+     * is built, instead of letting the policy adjust the configured value silently.
+     */
+    private void validateAdaptiveCommitInterval(String stepName, JobConfig.JobStepConfig configuredStep) {
+        if (!adaptiveCommitIntervalEnabled(configuredStep)) {
+            return;
+        }
+        try {
+            AdaptiveCommitIntervalPolicy.validate(commitInterval(configuredStep), adaptiveCommitInterval);
+        } catch (IllegalArgumentException e) {
+            throw new ConfigException("JobConfig step '" + stepName + "' enables adaptiveCommitInterval with an invalid configuration: "
+                    + e.getMessage() + " Set steps[].commitInterval or etl.chunk.commit-interval within"
+                    + " etl.chunk.adaptive-commit-interval.min-interval/max-interval.", e);
+        }
+    }
+
+    private boolean adaptiveCommitIntervalEnabled(JobConfig.JobStepConfig configuredStep) {
+        if (configuredStep != null && configuredStep.getAdaptiveCommitInterval() != null) {
+            return configuredStep.getAdaptiveCommitInterval();
+        }
+        return adaptiveCommitInterval.isEnabled();
+    }
+
+    private String commitIntervalMode(JobConfig.JobStepConfig configuredStep) {
+        return adaptiveCommitIntervalEnabled(configuredStep) ? "adaptive" : "fixed";
+    }
+
+    private static int partitionGridSize(JobConfig.PartitioningConfig partitioning) {
+        return partitioning.getGridSize() == null
+                ? JobConfig.PartitioningConfig.DEFAULT_GRID_SIZE
+                : Math.max(1, partitioning.getGridSize());
+    }
+
     private Map<String, SourceConfig> mapSourcesByName(List<? extends SourceConfig> sources) {
         Map<String, SourceConfig> sourceByName = new LinkedHashMap<>();
         for (SourceConfig source : sources) {
@@ -643,6 +1047,15 @@ public class BatchConfig {
         return sourceConfig;
     }
 
+    private String recordCountEvidence(int recordCount, boolean recordCountUnknown) {
+        if (!recordCountUnknown
+                && recordCountMode == EtlBatchProperties.RecordCountMode.BOUNDED
+                && recordCount > chunkThreshold) {
+            return ">" + chunkThreshold;
+        }
+        return String.valueOf(recordCount);
+    }
+
     private StepExecutionListener asStepExecutionListener(ItemWriter<Object> writer) {
         return writer instanceof StepExecutionListener stepExecutionListener ? stepExecutionListener : null;
     }
@@ -664,11 +1077,28 @@ public class BatchConfig {
     };
   }
 
+    private void routeDuplicateDiscards(Iterable<DuplicateDiscard> discards,
+                                        StepContribution contribution,
+                                        boolean rejectHandlingEnabled) {
+        for (DuplicateDiscard discardedRecord : discards) {
+            contribution.incrementFilterCount(1);
+            if (discardedRecord.invalidOrderingValue() && !rejectHandlingEnabled) {
+                throw new IllegalStateException(discardedRecord.issue().message());
+            }
+            if (rejectHandlingEnabled) {
+                boolean recorded = fileIngestionRuntimeSupport.recordRejected(discardedRecord.discardedRecord(), List.of(discardedRecord.issue()));
+                if (!recorded) {
+                    throw new IllegalStateException("Ordered duplicate winner selection rejected a record but reject handling was not initialized for the current step.");
+                }
+            }
+        }
+    }
+
     private void recordOrderedDuplicateResolverEvidence(StepContribution contribution,
                                                         DuplicateRule duplicateRule,
                                                         String resolverMode,
                                                         String resolverReason,
-                                                        int recordCount,
+                                                        String recordCount,
                                                         int threshold,
                                                         String stepName,
                                                         SourceConfig sourceConfig,
@@ -12,6 +12,21 @@ public class EtlBatchProperties {
 
     private int threshold = 10000;
 
+    /**
+     * How step planning counts source records before choosing chunk or tasklet mode.
+     */
+    private RecordCountMode recordCountMode = RecordCountMode.BOUNDED;
+
+    /**
+     * Items per chunk transaction. When unset, chunk steps commit every {@code threshold} items.
+     */
+    private Integer commitInterval;
+
+    /**
+     * Optional runtime sizing of the commit interval from measured write cost.
+     */
+    private AdaptiveCommitInterval adaptiveCommitInterval = new AdaptiveCommitInterval();
+
     public int getThreshold() {
         return threshold;
     }
@@ -19,5 +34,92 @@ public class EtlBatchProperties {
     public void setThreshold(int threshold) {
         this.threshold = threshold;
     }
-}
 
+    public RecordCountMode getRecordCountMode() {
+        return recordCountMode;
+    }
+
+    public void setRecordCountMode(RecordCountMode recordCountMode) {
+        this.recordCountMode = recordCountMode;
+    }
+
+    public Integer getCommitInterval() {
+        return commitInterval;
+    }
+
+    public void setCommitInterval(Integer commitInterval) {
+        this.commitInterval = commitInterval;
+    }
+
+    public AdaptiveCommitInterval getAdaptiveCommitInterval() {
+        return adaptiveCommitInterval;
+    }
+
+    public void setAdaptiveCommitInterval(AdaptiveCommitInterval adaptiveCommitInterval) {
+        this.adaptiveCommitInterval = adaptiveCommitInterval;
+    }
+
+    /**
+     * Record counting strategy used by step planning.
+     */
+    public enum RecordCountMode {
+        /** Count every record so planning logs carry the exact source volume. */
+        EXACT,
+        /** Stop counting once the source is known to exceed the chunk threshold. */
+        BOUNDED
+    }
+
+    /**
+     * Bounds and targets for the adaptive commit interval. The configured commit interval is the
+     * starting point; each chunk is then resized so one write stays near
+     * {@code targetWriteLatencyMs} and roughly below {@code maxChunkBytes} of item data.
+     */
+    public static class AdaptiveCommitInterval {
+
+        private boolean enabled;
+        private int minInterval = 100;
+        private int maxInterval = 50000;
+        private long targetWriteLatencyMs = 1000;
+        private long maxChunkBytes = 32L * 1024 * 1024;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMinInterval() {
+            return minInterval;
+        }
+
+        public void setMinInterval(int minInterval) {
+            this.minInterval = minInterval;
+        }
+
+        public int getMaxInterval() {
+            return maxInterval;
+        }
+
+        public void setMaxInterval(int maxInterval) {
+            this.maxInterval = maxInterval;
+        }
+
+        public long getTargetWriteLatencyMs() {
+            return targetWriteLatencyMs;
+        }
+
+        public void setTargetWriteLatencyMs(long targetWriteLatencyMs) {
+            this.targetWriteLatencyMs = targetWriteLatencyMs;
+        }
+
+        public long getMaxChunkBytes() {
+            return maxChunkBytes;
+        }
+
+        public void setMaxChunkBytes(long maxChunkBytes) {
+            this.maxChunkBytes = maxChunkBytes;
+        }
+    }
+}
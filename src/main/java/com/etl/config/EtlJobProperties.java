@@ -0,0 +1,48 @@
+package com.etl.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Typed binding for how the assembled ETL job executes its subflows.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "etl.job")
+public class EtlJobProperties {
+
+    /**
+     * Whether subflows run one after another or independent subflows run concurrently.
+     */
+    private ExecutionMode executionMode = ExecutionMode.SEQUENTIAL;
+
+    /**
+     * Upper bound on subflows running at the same time in {@link ExecutionMode#PARALLEL_SUBFLOWS}.
+     */
+    private int maxParallelSubFlows = 4;
+
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    public void setExecutionMode(ExecutionMode executionMode) {
+        this.executionMode = executionMode;
+    }
+
+    public int getMaxParallelSubFlows() {
+        return maxParallelSubFlows;
+    }
+
+    public void setMaxParallelSubFlows(int maxParallelSubFlows) {
+        this.maxParallelSubFlows = maxParallelSubFlows;
+    }
+
+    /**
+     * Job execution strategy.
+     */
+    public enum ExecutionMode {
+        /** Run every step in explicit job-config order. */
+        SEQUENTIAL,
+        /** Run independent subflows concurrently, keeping data-handoff and shared-resource dependencies. */
+        PARALLEL_SUBFLOWS
+    }
+}
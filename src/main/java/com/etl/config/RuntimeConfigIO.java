@@ -87,15 +87,24 @@ final class RuntimeConfigIO {
     }
 
     static void normalizeProcessorConfigPaths(ProcessorConfig processorConfig, Path configDirectory) {
-        if (processorConfig == null || processorConfig.getRejectHandling() == null) {
+        if (processorConfig == null) {
             return;
         }
-        processorConfig.getRejectHandling().setOutputPath(
-                resolveScenarioPath(configDirectory, processorConfig.getRejectHandling().getOutputPath())
-        );
-        processorConfig.getRejectHandling().setQuarantinePath(
-                resolveScenarioPath(configDirectory, processorConfig.getRejectHandling().getQuarantinePath())
-        );
+        if (processorConfig.getRejectHandling() != null) {
+            processorConfig.getRejectHandling().setOutputPath(
+                    resolveScenarioPath(configDirectory, processorConfig.getRejectHandling().getOutputPath())
+            );
+            processorConfig.getRejectHandling().setQuarantinePath(
+                    resolveScenarioPath(configDirectory, processorConfig.getRejectHandling().getQuarantinePath())
+            );
+        }
+        if (processorConfig.getReferenceSets() != null) {
+            for (ProcessorConfig.ReferenceSet referenceSet : processorConfig.getReferenceSets().values()) {
+                if (referenceSet != null) {
+                    referenceSet.setFilePath(resolveScenarioPath(configDirectory, referenceSet.getFilePath()));
+                }
+            }
+        }
     }
 
     private static TargetConfig normalizeTargetConfig(TargetConfig targetConfig, Path configDirectory) {
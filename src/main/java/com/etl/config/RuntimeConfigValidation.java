@@ -15,6 +15,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.file.Path;
+import java.util.Map;
 
 /**
  * Validation helper for runtime-loaded processor/target configs.
@@ -63,6 +64,7 @@ final class RuntimeConfigValidation {
             if (config.getMappings() == null || config.getMappings().isEmpty()) {
                 throw new IllegalStateException("No entity mappings found in processor YAML");
             }
+            validateReferenceSets(config);
 
             for (int i = 0; i < config.getMappings().size(); i++) {
                 ProcessorConfig.EntityMapping entityMapping = config.getMappings().get(i);
@@ -91,6 +93,7 @@ final class RuntimeConfigValidation {
                     if (fieldMapping.getTo() == null || fieldMapping.getTo().isEmpty()) {
                         throw new IllegalStateException("FieldMapping missing 'to' in entity " + entityMapping.getSource());
                     }
+                    linkReferenceSets(config, entityMapping, fieldMapping);
                     validateFieldTransforms(entityMapping, fieldMapping, sourceFormat,
                             defaultName(scenarioName), resolvedProcessorConfigPath);
                     validateFieldRules(config, entityMapping, fieldMapping, sourceFormat,
@@ -117,6 +120,87 @@ final class RuntimeConfigValidation {
         }
     }
 
+    private static void validateReferenceSets(ProcessorConfig config) {
+        if (config.getReferenceSets() == null) {
+            return;
+        }
+
+        for (Map.Entry<String, ProcessorConfig.ReferenceSet> entry : config.getReferenceSets().entrySet()) {
+            String name = entry.getKey();
+            ProcessorConfig.ReferenceSet referenceSet = entry.getValue();
+            if (referenceSet == null) {
+                throw new IllegalStateException("ProcessorConfig.referenceSets." + name + " must not be empty.");
+            }
+            referenceSet.setName(name);
+            String prefix = "ProcessorConfig.referenceSets." + name;
+            String sourceType = referenceSet.getSourceType() == null ? "" : referenceSet.getSourceType().trim();
+            if ("relationalQuery".equals(sourceType)) {
+                if (referenceSet.getConnection() == null) {
+                    throw new IllegalStateException(prefix + " with sourceType=relationalQuery requires a 'connection'.");
+                }
+                try {
+                    referenceSet.getConnection().validate();
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalStateException(prefix + ".connection is invalid: " + e.getMessage(), e);
+                }
+                if (referenceSet.getQuery() == null || referenceSet.getQuery().isBlank()) {
+                    throw new IllegalStateException(prefix + " with sourceType=relationalQuery requires a non-blank 'query'.");
+                }
+            } else if ("csv".equals(sourceType)) {
+                if (referenceSet.getFilePath() == null || referenceSet.getFilePath().isBlank()) {
+                    throw new IllegalStateException(prefix + " with sourceType=csv requires a non-blank 'filePath'.");
+                }
+            } else {
+                throw new IllegalStateException(prefix + ".sourceType='" + referenceSet.getSourceType()
+                        + "' is not supported. Supported values are relationalQuery or csv.");
+            }
+            // The loader and cache key compare the stored value, so keep the normalized form.
+            referenceSet.setSourceType(sourceType);
+            if (referenceSet.getStorage() != null
+                    && !"heap".equals(referenceSet.getStorage()) && !"offHeap".equals(referenceSet.getStorage())) {
+                throw new IllegalStateException(prefix + ".storage='" + referenceSet.getStorage()
+                        + "' is not supported. Supported values are heap or offHeap.");
+            }
+            if (referenceSet.getCacheTtlSeconds() != null && referenceSet.getCacheTtlSeconds() < 0) {
+                throw new IllegalStateException(prefix + ".cacheTtlSeconds must be zero or positive.");
+            }
+        }
+    }
+
+    private static void linkReferenceSets(ProcessorConfig config,
+                                          ProcessorConfig.EntityMapping entityMapping,
+                                          ProcessorConfig.FieldMapping fieldMapping) {
+        if (fieldMapping.getTransforms() != null) {
+            for (ProcessorConfig.FieldTransform transform : fieldMapping.getTransforms()) {
+                if (transform != null && transform.getReferenceSet() != null && !transform.getReferenceSet().isBlank()) {
+                    transform.setResolvedReferenceSet(referenceSet(config, entityMapping, fieldMapping, transform.getReferenceSet()));
+                }
+            }
+        }
+        if (fieldMapping.getRules() != null) {
+            for (ProcessorConfig.FieldRule rule : fieldMapping.getRules()) {
+                if (rule != null && rule.getReferenceSet() != null && !rule.getReferenceSet().isBlank()) {
+                    rule.setResolvedReferenceSet(referenceSet(config, entityMapping, fieldMapping, rule.getReferenceSet()));
+                }
+            }
+        }
+    }
+
+    private static ProcessorConfig.ReferenceSet referenceSet(ProcessorConfig config,
+                                                             ProcessorConfig.EntityMapping entityMapping,
+                                                             ProcessorConfig.FieldMapping fieldMapping,
+                                                             String name) {
+        ProcessorConfig.ReferenceSet referenceSet = config.getReferenceSets() == null
+                ? null
+                : config.getReferenceSets().get(name.trim());
+        if (referenceSet == null) {
+            throw new IllegalStateException("FieldMapping for entity " + entityMapping.getSource() + " -> "
+                    + entityMapping.getTarget() + " field '" + fieldMapping.getFrom() + "' references unknown reference set '"
+                    + name.trim() + "'. Declare it under ProcessorConfig.referenceSets.");
+        }
+        return referenceSet;
+    }
+
     private static ModelFormat resolveSourceFormat(ProcessorConfig.EntityMapping entityMapping, SourceWrapper sourceWrapper) {
         if (sourceWrapper == null || sourceWrapper.getSources() == null || sourceWrapper.getSources().isEmpty()) {
             return null;
@@ -117,7 +117,9 @@ final class RuntimePackageDefaults {
                     relationalTargetConfig.getTable(),
                     relationalTargetConfig.getSchema(),
                     relationalTargetConfig.getWriteMode().name(),
-                    relationalTargetConfig.getBatchSize()
+                    relationalTargetConfig.getBatchSize(),
+                    relationalTargetConfig.isTableLock(),
+                    relationalTargetConfig.getKeyColumns()
             );
         }
 
@@ -171,7 +173,9 @@ final class RuntimePackageDefaults {
                     relationalTargetConfig.getTable(),
                     relationalTargetConfig.getSchema(),
                     relationalTargetConfig.getWriteMode().name(),
-                    relationalTargetConfig.getBatchSize()
+                    relationalTargetConfig.getBatchSize(),
+                    relationalTargetConfig.isTableLock(),
+                    relationalTargetConfig.getKeyColumns()
             );
         }
         return targetConfig;
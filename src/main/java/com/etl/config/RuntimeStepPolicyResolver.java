@@ -3,6 +3,7 @@ package com.etl.config;
 import com.etl.config.job.JobConfig;
 import com.etl.config.processor.ProcessorConfig;
 import com.etl.config.source.CsvSourceConfig;
+import com.etl.config.source.RelationalSourceConfig;
 import com.etl.config.source.SourceConfig;
 import com.etl.config.source.SourceWrapper;
 import com.etl.config.target.TargetWrapper;
@@ -18,7 +19,7 @@ import java.util.Optional;
 import java.util.Set;
 
 /**
- * Resolves explicit job steps and normalizes skip/retry policy contracts.
+ * Resolves explicit job steps and normalizes skip/retry policy, partitioning, and commit-interval contracts.
  */
 final class RuntimeStepPolicyResolver {
 
@@ -71,6 +72,17 @@ final class RuntimeStepPolicyResolver {
             if (normalizedSkipPolicy != null && normalizedRetryPolicy != null) {
                 throw new ConfigException("JobConfig step '" + stepName + "' configures both skipPolicy and retryPolicy. This B2 first slice does not support combining those modes.");
             }
+            JobConfig.PartitioningConfig normalizedPartitioning = normalizeAndValidatePartitioning(
+                    configuredStep.getPartitioning(),
+                    stepName,
+                    sourcesByName.get(sourceName)
+            );
+            if (normalizedPartitioning != null && (normalizedSkipPolicy != null || normalizedRetryPolicy != null)) {
+                throw new ConfigException("JobConfig step '" + stepName + "' configures partitioning together with skipPolicy or retryPolicy. This first slice does not support combining those modes.");
+            }
+            if (configuredStep.getCommitInterval() != null && configuredStep.getCommitInterval() < 1) {
+                throw new ConfigException("JobConfig step '" + stepName + "' commitInterval must be a positive integer.");
+            }
 
             JobConfig.JobStepConfig resolvedStep = new JobConfig.JobStepConfig();
             resolvedStep.setName(stepName);
@@ -78,6 +90,9 @@ final class RuntimeStepPolicyResolver {
             resolvedStep.setTarget(targetName);
             resolvedStep.setSkipPolicy(normalizedSkipPolicy);
             resolvedStep.setRetryPolicy(normalizedRetryPolicy);
+            resolvedStep.setPartitioning(normalizedPartitioning);
+            resolvedStep.setCommitInterval(configuredStep.getCommitInterval());
+            resolvedStep.setAdaptiveCommitInterval(configuredStep.getAdaptiveCommitInterval());
             resolvedSteps.add(resolvedStep);
         }
 
@@ -267,6 +282,38 @@ final class RuntimeStepPolicyResolver {
         return normalized;
     }
 
+    private static JobConfig.PartitioningConfig normalizeAndValidatePartitioning(JobConfig.PartitioningConfig partitioning,
+                                                                                  String stepName,
+                                                                                  SourceConfig sourceConfig) {
+        if (partitioning == null || !partitioning.isEnabled()) {
+            return null;
+        }
+
+        Integer gridSize = partitioning.getGridSize() == null
+                ? JobConfig.PartitioningConfig.DEFAULT_GRID_SIZE
+                : partitioning.getGridSize();
+        if (gridSize < 1) {
+            throw new ConfigException("JobConfig step '" + stepName + "' partitioning.gridSize must be a positive integer when partitioning.enabled=true.");
+        }
+
+        String keyColumn = partitioning.getKeyColumn() == null || partitioning.getKeyColumn().isBlank()
+                ? null
+                : partitioning.getKeyColumn().trim();
+        if (sourceConfig instanceof RelationalSourceConfig) {
+            if (keyColumn == null) {
+                throw new ConfigException("JobConfig step '" + stepName + "' partitioning.keyColumn is required for relational sources when partitioning.enabled=true.");
+            }
+        } else if (!(sourceConfig instanceof CsvSourceConfig)) {
+            throw new ConfigException("JobConfig step '" + stepName + "' enables partitioning, but partitioning is currently supported only for CSV and relational sources.");
+        }
+
+        JobConfig.PartitioningConfig normalized = new JobConfig.PartitioningConfig();
+        normalized.setEnabled(true);
+        normalized.setGridSize(gridSize);
+        normalized.setKeyColumn(keyColumn);
+        return normalized;
+    }
+
     private static List<String> normalizeAndValidateRetryCategories(List<String> configuredCategories, String stepName) {
         if (configuredCategories == null || configuredCategories.isEmpty()) {
             return List.of();
@@ -88,6 +88,9 @@ public class JobConfig {
 		private String target;
 		private SkipPolicyConfig skipPolicy;
 		private RetryPolicyConfig retryPolicy;
+		private PartitioningConfig partitioning;
+		private Integer commitInterval;
+		private Boolean adaptiveCommitInterval;
 
 		public String getName() {
 			return name;
@@ -128,6 +131,36 @@ public class JobConfig {
 		public void setRetryPolicy(RetryPolicyConfig retryPolicy) {
 			this.retryPolicy = retryPolicy;
 		}
+
+		public PartitioningConfig getPartitioning() {
+			return partitioning;
+		}
+
+		public void setPartitioning(PartitioningConfig partitioning) {
+			this.partitioning = partitioning;
+		}
+
+		/**
+		 * Items per chunk transaction for this step; overrides {@code etl.chunk.commit-interval}.
+		 */
+		public Integer getCommitInterval() {
+			return commitInterval;
+		}
+
+		public void setCommitInterval(Integer commitInterval) {
+			this.commitInterval = commitInterval;
+		}
+
+		/**
+		 * Per-step override of {@code etl.chunk.adaptive-commit-interval.enabled}; {@code null} inherits it.
+		 */
+		public Boolean getAdaptiveCommitInterval() {
+			return adaptiveCommitInterval;
+		}
+
+		public void setAdaptiveCommitInterval(Boolean adaptiveCommitInterval) {
+			this.adaptiveCommitInterval = adaptiveCommitInterval;
+		}
 	}
 
 	public static class SkipPolicyConfig {
@@ -218,4 +251,47 @@ public class JobConfig {
 			this.retryableExceptions = retryableExceptions;
 		}
 	}
+
+	/**
+	 * Per-step partitioned execution.
+	 *
+	 * <p>When enabled, the step splits its source into {@code gridSize} partitions and runs one
+	 * chunk-oriented worker per partition concurrently. CSV sources split by byte ranges cut at
+	 * record boundaries; relational sources split on the integral {@code keyColumn}.</p>
+	 */
+	public static class PartitioningConfig {
+
+		/**
+		 * Grid size used when partitioning is enabled without an explicit {@code gridSize}.
+		 */
+		public static final int DEFAULT_GRID_SIZE = 4;
+
+		private boolean enabled;
+		private Integer gridSize;
+		private String keyColumn;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Integer getGridSize() {
+			return gridSize;
+		}
+
+		public void setGridSize(Integer gridSize) {
+			this.gridSize = gridSize;
+		}
+
+		public String getKeyColumn() {
+			return keyColumn;
+		}
+
+		public void setKeyColumn(String keyColumn) {
+			this.keyColumn = keyColumn;
+		}
+	}
 }
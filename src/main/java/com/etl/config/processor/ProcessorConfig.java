@@ -1,5 +1,8 @@
 package com.etl.config.processor;
 
+import com.etl.config.relational.RelationalConnectionConfig;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.util.List;
 import java.util.Map;
 
@@ -7,6 +10,7 @@ public class ProcessorConfig {
 
 	private String type;
 	private RejectHandling rejectHandling;
+	private Map<String, ReferenceSet> referenceSets;
 	private List<EntityMapping> mappings;
 
 	public String getType() {
@@ -25,6 +29,14 @@ public class ProcessorConfig {
 		this.rejectHandling = rejectHandling;
 	}
 
+	public Map<String, ReferenceSet> getReferenceSets() {
+		return referenceSets;
+	}
+
+	public void setReferenceSets(Map<String, ReferenceSet> referenceSets) {
+		this.referenceSets = referenceSets;
+	}
+
 	public List<EntityMapping> getMappings() {
 		return mappings;
 	}
@@ -115,6 +127,9 @@ public class ProcessorConfig {
 		private List<ConditionalCase> cases;
 		private Object defaultValue;
 		private Boolean caseSensitive;
+		private String referenceSet;
+		@JsonIgnore
+		private ReferenceSet resolvedReferenceSet;
 
 		public String getType() {
 			return type;
@@ -171,6 +186,28 @@ public class ProcessorConfig {
 		public void setCaseSensitive(Boolean caseSensitive) {
 			this.caseSensitive = caseSensitive;
 		}
+
+		public String getReferenceSet() {
+			return referenceSet;
+		}
+
+		public void setReferenceSet(String referenceSet) {
+			this.referenceSet = referenceSet;
+		}
+
+		/**
+		 * Definition named by {@link #getReferenceSet()}, linked from {@code referenceSets} during
+		 * processor-config validation.
+		 */
+		@JsonIgnore
+		public ReferenceSet getResolvedReferenceSet() {
+			return resolvedReferenceSet;
+		}
+
+		@JsonIgnore
+		public void setResolvedReferenceSet(ReferenceSet resolvedReferenceSet) {
+			this.resolvedReferenceSet = resolvedReferenceSet;
+		}
 	}
 
 	public static class ConditionalCase {
@@ -253,6 +290,9 @@ public class ProcessorConfig {
 		private String duplicateIdentityMode;
 		private List<OrderByField> orderBy;
 		private String storageMode;
+		private String referenceSet;
+		@JsonIgnore
+		private ReferenceSet resolvedReferenceSet;
 
 		public String getType() {
 			return type;
@@ -309,6 +349,135 @@ public class ProcessorConfig {
 		public void setStorageMode(String storageMode) {
 			this.storageMode = storageMode;
 		}
+
+		public String getReferenceSet() {
+			return referenceSet;
+		}
+
+		public void setReferenceSet(String referenceSet) {
+			this.referenceSet = referenceSet;
+		}
+
+		/**
+		 * Definition named by {@link #getReferenceSet()}, linked from {@code referenceSets} during
+		 * processor-config validation.
+		 */
+		@JsonIgnore
+		public ReferenceSet getResolvedReferenceSet() {
+			return resolvedReferenceSet;
+		}
+
+		@JsonIgnore
+		public void setResolvedReferenceSet(ReferenceSet resolvedReferenceSet) {
+			this.resolvedReferenceSet = resolvedReferenceSet;
+		}
+	}
+
+	/**
+	 * Named runtime-loaded reference data declared once under {@code referenceSets} and used by
+	 * {@code referenceSet} rules and {@code referenceLookup} transforms.
+	 */
+	public static class ReferenceSet {
+
+		private String name;
+		private String sourceType;
+		private RelationalConnectionConfig connection;
+		private String query;
+		private String filePath;
+		private String delimiter;
+		private String keyColumn;
+		private String valueColumn;
+		private Boolean caseSensitive;
+		private String storage;
+		private Long cacheTtlSeconds;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getSourceType() {
+			return sourceType;
+		}
+
+		public void setSourceType(String sourceType) {
+			this.sourceType = sourceType;
+		}
+
+		public RelationalConnectionConfig getConnection() {
+			return connection;
+		}
+
+		public void setConnection(RelationalConnectionConfig connection) {
+			this.connection = connection;
+		}
+
+		public String getQuery() {
+			return query;
+		}
+
+		public void setQuery(String query) {
+			this.query = query;
+		}
+
+		public String getFilePath() {
+			return filePath;
+		}
+
+		public void setFilePath(String filePath) {
+			this.filePath = filePath;
+		}
+
+		public String getDelimiter() {
+			return delimiter;
+		}
+
+		public void setDelimiter(String delimiter) {
+			this.delimiter = delimiter;
+		}
+
+		public String getKeyColumn() {
+			return keyColumn;
+		}
+
+		public void setKeyColumn(String keyColumn) {
+			this.keyColumn = keyColumn;
+		}
+
+		public String getValueColumn() {
+			return valueColumn;
+		}
+
+		public void setValueColumn(String valueColumn) {
+			this.valueColumn = valueColumn;
+		}
+
+		public Boolean getCaseSensitive() {
+			return caseSensitive;
+		}
+
+		public void setCaseSensitive(Boolean caseSensitive) {
+			this.caseSensitive = caseSensitive;
+		}
+
+		public String getStorage() {
+			return storage;
+		}
+
+		public void setStorage(String storage) {
+			this.storage = storage;
+		}
+
+		public Long getCacheTtlSeconds() {
+			return cacheTtlSeconds;
+		}
+
+		public void setCacheTtlSeconds(Long cacheTtlSeconds) {
+			this.cacheTtlSeconds = cacheTtlSeconds;
+		}
 	}
 
 	public static class OrderByField {
@@ -13,6 +13,7 @@ public class RelationalConnectionConfig {
     private String username;
     private String password;
     private String driverClassName;
+    private RelationalPoolConfig pool;
 
   public String getVendor() {
     return vendor;
@@ -86,6 +87,14 @@ public class RelationalConnectionConfig {
     this.driverClassName = driverClassName;
   }
 
+  public RelationalPoolConfig getPool() {
+    return pool;
+  }
+
+  public void setPool(RelationalPoolConfig pool) {
+    this.pool = pool;
+  }
+
     public DatabaseVendor getResolvedVendor() {
         return DatabaseVendor.fromString(vendor);
     }
@@ -111,6 +120,10 @@ public class RelationalConnectionConfig {
         rejectPlaceholder("username", username);
         rejectPlaceholder("password", password);
 
+        if (pool != null) {
+            pool.validate();
+        }
+
         if (jdbcUrl != null && !jdbcUrl.isBlank()) {
             return;
         }
@@ -1,7 +1,6 @@
 package com.etl.config.relational;
 
 import com.etl.exception.RelationalException;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
 import javax.sql.DataSource;
 
@@ -13,15 +12,14 @@ public final class RelationalDataSourceFactory {
     private RelationalDataSourceFactory() {
     }
 
+    /**
+     * Returns a data source backed by the shared {@link RelationalDataSourceRegistry} pool for this
+     * connection.
+     */
     public static DataSource buildDataSource(RelationalConnectionConfig connection) {
         try {
             connection.validate();
-            DriverManagerDataSource dataSource = new DriverManagerDataSource();
-            dataSource.setDriverClassName(resolveDriverClassName(connection));
-            dataSource.setUrl(resolveJdbcUrl(connection));
-            dataSource.setUsername(connection.getUsername());
-            dataSource.setPassword(connection.getPassword());
-            return dataSource;
+            return RelationalDataSourceRegistry.shared().dataSource(connection);
         } catch (RelationalException e) {
             throw e;
         } catch (IllegalArgumentException e) {
@@ -0,0 +1,208 @@
+package com.etl.config.relational;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Process-wide registry of pooled JDBC connections for relational sources, targets and reference
+ * sets.
+ *
+ * <p>Pools are keyed by the resolved connection (driver, JDBC URL, username, password) plus its
+ * pool sizing, so every reader, writer, count query and partitioner that points at the same
+ * database shares one bounded pool instead of opening a physical connection per chunk or query.
+ * Callers receive a lightweight handle that borrows from the current pool on each
+ * {@code getConnection()}; the pool itself is created on first borrow.</p>
+ *
+ * <p>Pools live for a run: {@link #jobStarted()} and {@link #jobFinished()} track running jobs, and
+ * when the last one finishes every pool is closed with a final {@code RELATIONAL_POOL} statistics
+ * line. Handles that outlive a run simply open a fresh pool on their next borrow. While a pool is
+ * open, its active, idle and waiting counts are exported through the Hikari pool MBean and
+ * {@link #stats()}.</p>
+ */
+public final class RelationalDataSourceRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(RelationalDataSourceRegistry.class);
+    private static final RelationalDataSourceRegistry SHARED = new RelationalDataSourceRegistry();
+
+    private final Map<PoolKey, HikariDataSource> pools = new ConcurrentHashMap<>();
+    private final AtomicInteger poolSequence = new AtomicInteger();
+    private final AtomicInteger runningJobs = new AtomicInteger();
+
+    RelationalDataSourceRegistry() {
+    }
+
+    public static RelationalDataSourceRegistry shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns a pooled data source handle for the connection. Validation and URL resolution happen
+     * here; no connection is opened until the first borrow.
+     */
+    public DataSource dataSource(RelationalConnectionConfig connection) {
+        return new PooledDataSourceHandle(this, PoolKey.of(connection));
+    }
+
+    public void jobStarted() {
+        runningJobs.incrementAndGet();
+    }
+
+    /**
+     * Closes every pool once no job is running any more.
+     *
+     * @throws IllegalStateException if no job is recorded as running, which means a caller finished a
+     *         job it never started
+     */
+    public void jobFinished() {
+        int previous = runningJobs.getAndUpdate(count -> count > 0 ? count - 1 : count);
+        if (previous == 0) {
+            throw new IllegalStateException("RelationalDataSourceRegistry.jobFinished() called without a matching jobStarted().");
+        }
+        if (previous == 1) {
+            closeAll();
+        }
+    }
+
+    public synchronized void closeAll() {
+        for (Map.Entry<PoolKey, HikariDataSource> entry : pools.entrySet()) {
+            HikariDataSource pool = entry.getValue();
+            PoolStats stats = stats(entry.getKey(), pool);
+            log.info("RELATIONAL_POOL event=pool_closed pool={} vendor={} maxSize={} activeConnections={} idleConnections={} totalConnections={} threadsAwaitingConnection={}",
+                    stats.poolName(), entry.getKey().vendor(), stats.maxSize(), stats.activeConnections(),
+                    stats.idleConnections(), stats.totalConnections(), stats.threadsAwaitingConnection());
+            pool.close();
+        }
+        pools.clear();
+    }
+
+    public List<PoolStats> stats() {
+        List<PoolStats> stats = new ArrayList<>();
+        pools.forEach((key, pool) -> stats.add(stats(key, pool)));
+        return stats;
+    }
+
+    int poolCount() {
+        return pools.size();
+    }
+
+    private HikariDataSource pool(PoolKey key) {
+        HikariDataSource pool = pools.get(key);
+        if (pool != null) {
+            return pool;
+        }
+        synchronized (this) {
+            pool = pools.get(key);
+            if (pool == null) {
+                pool = createPool(key);
+                pools.put(key, pool);
+            }
+            return pool;
+        }
+    }
+
+    private HikariDataSource createPool(PoolKey key) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("etl-" + key.vendor() + "-" + poolSequence.incrementAndGet());
+        config.setDriverClassName(key.driverClassName());
+        config.setJdbcUrl(key.jdbcUrl());
+        config.setUsername(key.username());
+        config.setPassword(key.password());
+        config.setMaximumPoolSize(key.maxSize());
+        config.setMinimumIdle(key.minIdle());
+        config.setConnectionTimeout(key.connectionTimeoutMs());
+        config.setIdleTimeout(key.idleTimeoutMs());
+        config.setRegisterMbeans(true);
+        HikariDataSource pool = new HikariDataSource(config);
+        log.info("RELATIONAL_POOL event=pool_created pool={} vendor={} maxSize={} minIdle={} connectionTimeoutMs={}",
+                config.getPoolName(), key.vendor(), key.maxSize(), key.minIdle(), key.connectionTimeoutMs());
+        return pool;
+    }
+
+    private static PoolStats stats(PoolKey key, HikariDataSource pool) {
+        HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+        return new PoolStats(pool.getPoolName(), key.vendor(), key.maxSize(),
+                bean == null ? 0 : bean.getActiveConnections(),
+                bean == null ? 0 : bean.getIdleConnections(),
+                bean == null ? 0 : bean.getTotalConnections(),
+                bean == null ? 0 : bean.getThreadsAwaitingConnection());
+    }
+
+    /**
+     * Point-in-time view of one open pool.
+     */
+    public record PoolStats(String poolName, String vendor, int maxSize, int activeConnections, int idleConnections,
+                            int totalConnections, int threadsAwaitingConnection) {
+    }
+
+    private record PoolKey(String vendor, String driverClassName, String jdbcUrl, String username, String password,
+                           int maxSize, int minIdle, long connectionTimeoutMs, long idleTimeoutMs) {
+
+        static PoolKey of(RelationalConnectionConfig connection) {
+            String driverClassName = RelationalDataSourceFactory.resolveDriverClassName(connection);
+            String jdbcUrl = RelationalDataSourceFactory.resolveJdbcUrl(connection);
+            RelationalPoolConfig pool = connection.getPool() == null ? new RelationalPoolConfig() : connection.getPool();
+            return new PoolKey(connection.getResolvedVendor().name().toLowerCase(), driverClassName, jdbcUrl,
+                    connection.getUsername(), connection.getPassword(),
+                    pool.getResolvedMaxSize(), pool.getResolvedMinIdle(),
+                    pool.getResolvedConnectionTimeoutMs(), pool.getResolvedIdleTimeoutMs());
+        }
+
+        @Override
+        public String toString() {
+            // Keep credentials out of any accidental logging of the key.
+            return "PoolKey[vendor=" + vendor + ", maxSize=" + maxSize + "]";
+        }
+    }
+
+    /**
+     * Data source handed to readers and writers; resolves the registry's current pool per borrow so
+     * it stays usable after the pools of a finished run are closed.
+     */
+    private static final class PooledDataSourceHandle extends AbstractDataSource {
+
+        private final RelationalDataSourceRegistry registry;
+        private final PoolKey key;
+
+        private PooledDataSourceHandle(RelationalDataSourceRegistry registry, PoolKey key) {
+            this.registry = registry;
+            this.key = key;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            HikariDataSource pool;
+            try {
+                pool = registry.pool(key);
+            } catch (RuntimeException e) {
+                throw new SQLException("Failed to open relational connection pool: " + e.getMessage(), e);
+            }
+            try {
+                return pool.getConnection();
+            } catch (SQLException e) {
+                if (!pool.isClosed()) {
+                    throw e;
+                }
+                // The run that owned this pool finished between lookup and borrow; use the new pool.
+                return registry.pool(key).getConnection();
+            }
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new SQLException("Pooled relational data sources use the configured connection credentials.");
+        }
+    }
+}
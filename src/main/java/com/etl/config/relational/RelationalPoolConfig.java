@@ -0,0 +1,85 @@
+package com.etl.config.relational;
+
+/**
+ * Optional connection-pool sizing for one relational connection, declared as {@code connection.pool}.
+ *
+ * <p>Unset values fall back to the runtime defaults: at most {@value #DEFAULT_MAX_SIZE} connections,
+ * no idle floor, a 30 second borrow timeout and a 10 minute idle timeout.</p>
+ */
+public class RelationalPoolConfig {
+
+    public static final int DEFAULT_MAX_SIZE = 10;
+    public static final int DEFAULT_MIN_IDLE = 0;
+    public static final long DEFAULT_CONNECTION_TIMEOUT_MS = 30_000;
+    public static final long DEFAULT_IDLE_TIMEOUT_MS = 600_000;
+    private static final long MIN_CONNECTION_TIMEOUT_MS = 250;
+
+    private Integer maxSize;
+    private Integer minIdle;
+    private Long connectionTimeoutMs;
+    private Long idleTimeoutMs;
+
+    public Integer getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(Integer maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Integer getMinIdle() {
+        return minIdle;
+    }
+
+    public void setMinIdle(Integer minIdle) {
+        this.minIdle = minIdle;
+    }
+
+    public Long getConnectionTimeoutMs() {
+        return connectionTimeoutMs;
+    }
+
+    public void setConnectionTimeoutMs(Long connectionTimeoutMs) {
+        this.connectionTimeoutMs = connectionTimeoutMs;
+    }
+
+    public Long getIdleTimeoutMs() {
+        return idleTimeoutMs;
+    }
+
+    public void setIdleTimeoutMs(Long idleTimeoutMs) {
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+
+    public int getResolvedMaxSize() {
+        return maxSize == null ? DEFAULT_MAX_SIZE : maxSize;
+    }
+
+    public int getResolvedMinIdle() {
+        return minIdle == null ? DEFAULT_MIN_IDLE : minIdle;
+    }
+
+    public long getResolvedConnectionTimeoutMs() {
+        return connectionTimeoutMs == null ? DEFAULT_CONNECTION_TIMEOUT_MS : connectionTimeoutMs;
+    }
+
+    public long getResolvedIdleTimeoutMs() {
+        return idleTimeoutMs == null ? DEFAULT_IDLE_TIMEOUT_MS : idleTimeoutMs;
+    }
+
+    public void validate() {
+        if (maxSize != null && maxSize <= 0) {
+            throw new IllegalArgumentException("Relational connection pool maxSize must be greater than zero when provided.");
+        }
+        if (minIdle != null && (minIdle < 0 || minIdle > getResolvedMaxSize())) {
+            throw new IllegalArgumentException("Relational connection pool minIdle must be between zero and maxSize when provided.");
+        }
+        if (connectionTimeoutMs != null && connectionTimeoutMs < MIN_CONNECTION_TIMEOUT_MS) {
+            throw new IllegalArgumentException("Relational connection pool connectionTimeoutMs must be at least "
+                    + MIN_CONNECTION_TIMEOUT_MS + " when provided.");
+        }
+        if (idleTimeoutMs != null && idleTimeoutMs < 0) {
+            throw new IllegalArgumentException("Relational connection pool idleTimeoutMs must not be negative when provided.");
+        }
+    }
+}
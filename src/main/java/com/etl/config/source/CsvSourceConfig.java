@@ -8,9 +8,11 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.etl.runtime.FileSourceArtifactSupport;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 
 /**
@@ -22,6 +24,9 @@ import java.util.List;
 public class CsvSourceConfig extends SourceConfig implements FileSourceConfig {
 
 	private static final FileSourceArtifactSupport FILE_SOURCE_ARTIFACT_SUPPORT = new FileSourceArtifactSupport();
+	private static final int LINE_COUNT_BUFFER_SIZE = 1 << 20;
+	private static final String PARSER_MODE_STREAM = "stream";
+	private static final String PARSER_MODE_MAPPED = "mapped";
 
     /** Path to the CSV file. */
     private String filePath;
@@ -218,14 +223,67 @@ public class CsvSourceConfig extends SourceConfig implements FileSourceConfig {
      */
     @Override
     public int getRecordCount() throws IOException {
-        int count = 0;
-		String readableFilePath = FILE_SOURCE_ARTIFACT_SUPPORT.resolveReadablePath(this).toString();
-	        try (BufferedReader br = new BufferedReader(new FileReader(readableFilePath))) {
-            while (br.readLine() != null) {
-                count++;
+        return getRecordCount(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of records in the CSV file (excluding header if present), stopping once
+     * more than {@code limit} records have been seen.
+     *
+     * <p>Lines are counted by scanning raw bytes through a reused direct buffer instead of decoding
+     * every line into a {@code String}. Line terminators follow {@link java.io.BufferedReader#readLine()}
+     * ({@code \n}, {@code \r}, or {@code \r\n}), which holds for the ASCII-compatible encodings the CSV
+     * reader supports. The file is read rather than memory-mapped so no mapping keeps the source
+     * locked on Windows when it is archived after the step.</p>
+     *
+     * @param limit the largest count the caller needs to distinguish
+     * @return the record count, or {@code limit + 1} when the file holds more than {@code limit} records
+     * @throws IOException if file reading fails
+     */
+    @Override
+    public int getRecordCount(int limit) throws IOException {
+        Path readablePath = FILE_SOURCE_ARTIFACT_SUPPORT.resolveReadablePath(this);
+        int headerLines = skipHeader ? 1 : 0;
+        long lineLimit = limit == Integer.MAX_VALUE ? Long.MAX_VALUE : (long) limit + 1 + headerLines;
+        long count = countLines(readablePath, lineLimit);
+        if (count >= lineLimit) {
+            return limit + 1;
+        }
+        return (int) (skipHeader && count > 0 ? count - 1 : count);
+    }
+
+    private static long countLines(Path path, long lineLimit) throws IOException {
+        long lines = 0;
+        boolean previousWasCarriageReturn = false;
+        boolean pendingLine = false;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(LINE_COUNT_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    byte current = buffer.get();
+                    if (current == '\n') {
+                        if (!previousWasCarriageReturn) {
+                            lines++;
+                        }
+                        previousWasCarriageReturn = false;
+                        pendingLine = false;
+                    } else if (current == '\r') {
+                        lines++;
+                        previousWasCarriageReturn = true;
+                        pendingLine = false;
+                    } else {
+                        previousWasCarriageReturn = false;
+                        pendingLine = true;
+                    }
+                }
+                if (lines >= lineLimit) {
+                    return lines;
+                }
+                buffer.clear();
             }
         }
-		return skipHeader && count > 0 ? count - 1 : count;
+        return pendingLine ? lines + 1 : lines;
     }
 
   public Character resolveQuoteCharacter() {
@@ -240,8 +298,45 @@ public class CsvSourceConfig extends SourceConfig implements FileSourceConfig {
     return trimmed.charAt(0);
   }
 
+  /**
+   * Whether this source opted into the memory-mapped parallel parse mode through
+   * {@code parser.mode: mapped}. The default {@code stream} mode reads the file sequentially.
+   */
+  public boolean isMappedParseMode() {
+    if (parser == null || parser.getMode() == null || parser.getMode().isBlank()) {
+      return false;
+    }
+
+    String mode = parser.getMode().trim();
+    if (PARSER_MODE_MAPPED.equalsIgnoreCase(mode)) {
+      return true;
+    }
+    if (PARSER_MODE_STREAM.equalsIgnoreCase(mode)) {
+      return false;
+    }
+    throw new IllegalArgumentException("parser.mode must be 'stream' or 'mapped' when configured.");
+  }
+
+  /**
+   * Number of worker threads for the mapped parse mode; defaults to the available processors.
+   */
+  public int resolveParserParallelism() {
+    if (parser == null || parser.getParallelism() == null) {
+      return Runtime.getRuntime().availableProcessors();
+    }
+    if (parser.getParallelism() < 1) {
+      throw new IllegalArgumentException("parser.parallelism must be greater than zero when configured.");
+    }
+    return parser.getParallelism();
+  }
+
   public void validateParserConfiguration() {
+    boolean mapped = isMappedParseMode();
+    resolveParserParallelism();
     Character quoteCharacter = resolveQuoteCharacter();
+    if (mapped && quoteCharacter != null && quoteCharacter > 0x7F) {
+      throw new IllegalArgumentException("parser.mode 'mapped' requires an ASCII parser.quoteCharacter.");
+    }
     if (quoteCharacter == null) {
       return;
     }
@@ -261,6 +356,24 @@ public class CsvSourceConfig extends SourceConfig implements FileSourceConfig {
   public static class ParserConfig {
 
     private String quoteCharacter;
+    private String mode;
+    private Integer parallelism;
+
+    public String getMode() {
+      return mode;
+    }
+
+    public void setMode(String mode) {
+      this.mode = mode;
+    }
+
+    public Integer getParallelism() {
+      return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+      this.parallelism = parallelism;
+    }
 
     public String getQuoteCharacter() {
       return quoteCharacter;
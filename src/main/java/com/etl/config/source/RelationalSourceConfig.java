@@ -18,6 +18,8 @@ import java.util.List;
  */
 public class RelationalSourceConfig extends SourceConfig {
 
+    public static final int DEFAULT_PAGE_SIZE = 1000;
+
     private RelationalConnectionConfig connection;
     private String table;
     private String schema;
@@ -25,6 +27,8 @@ public class RelationalSourceConfig extends SourceConfig {
     private String countQuery;
     private Integer fetchSize;
     private Integer maxRows;
+    private String sortKey;
+    private Integer pageSize;
 
     public RelationalSourceConfig() {
         super();
@@ -121,6 +125,33 @@ public class RelationalSourceConfig extends SourceConfig {
         this.maxRows = maxRows;
     }
 
+    /**
+     * Unique, ascending key column that switches the reader to keyset pagination.
+     */
+    public String getSortKey() {
+        return sortKey;
+    }
+
+    public void setSortKey(String sortKey) {
+        this.sortKey = sortKey;
+    }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(Integer pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public int getResolvedPageSize() {
+        return pageSize == null ? DEFAULT_PAGE_SIZE : pageSize;
+    }
+
+    public boolean hasSortKey() {
+        return sortKey != null && !sortKey.isBlank();
+    }
+
     @Override
     public ModelFormat getFormat() {
         return ModelFormat.RELATIONAL;
@@ -163,6 +194,15 @@ public class RelationalSourceConfig extends SourceConfig {
         if (maxRows != null && maxRows <= 0) {
             throw new IllegalArgumentException("Relational source maxRows must be greater than zero when provided.");
         }
+        if (pageSize != null && pageSize <= 0) {
+            throw new IllegalArgumentException("Relational source pageSize must be greater than zero when provided.");
+        }
+        if (pageSize != null && !hasSortKey()) {
+            throw new IllegalArgumentException("Relational source pageSize requires sortKey.");
+        }
+        if (hasSortKey() && !sortKey.trim().matches("[A-Za-z_][A-Za-z0-9_]*")) {
+            throw new IllegalArgumentException("Relational source sortKey must be a plain column name.");
+        }
     }
 
     @Override
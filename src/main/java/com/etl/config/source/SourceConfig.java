@@ -138,4 +138,18 @@ public abstract class SourceConfig implements ModelConfig {
      */
     public abstract int getRecordCount() throws Exception;
 
+    /**
+     * Returns the number of records in the source, allowing the count to stop early once it is
+     * known to exceed {@code limit}. Step planning only needs to know whether a source is above the
+     * chunk threshold, so file-backed sources override this to avoid a full pre-read.
+     *
+     * @param limit the largest count the caller needs to distinguish
+     * @return the exact record count when it is at most {@code limit}, otherwise any value greater
+     *         than {@code limit} (or -1 if not supported)
+     * @throws Exception if record counting fails
+     */
+    public int getRecordCount(int limit) throws Exception {
+        return getRecordCount();
+    }
+
 }
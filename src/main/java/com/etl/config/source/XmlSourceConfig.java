@@ -210,12 +210,24 @@ public class XmlSourceConfig extends SourceConfig implements FileSourceConfig {
      */
     @Override
     public int getRecordCount() throws IOException {
+        return getRecordCount(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Counts record elements, stopping the StAX pass once more than {@code limit} have been seen.
+     *
+     * @param limit the largest count the caller needs to distinguish
+     * @return the record count, or {@code limit + 1} when the file holds more than {@code limit} records
+     * @throws IOException if file reading fails
+     */
+    @Override
+    public int getRecordCount(int limit) throws IOException {
         int count = 0;
         XMLInputFactory factory = XMLInputFactory.newInstance();
 		String readableFilePath = FILE_SOURCE_ARTIFACT_SUPPORT.resolveReadablePath(this).toString();
 	        try (FileInputStream fis = new FileInputStream(readableFilePath)) {
             XMLStreamReader reader = factory.createXMLStreamReader(fis);
-            while (reader.hasNext()) {
+            while (reader.hasNext() && count <= limit) {
                 int event = reader.next();
                 if (event == XMLStreamConstants.START_ELEMENT &&
                         recordElement != null &&
@@ -234,6 +246,7 @@ public class XmlSourceConfig extends SourceConfig implements FileSourceConfig {
 
     private String fileNamePattern;
     private String schemaPath;
+    private String schemaMode;
     private String onFailure;
     private String rejectPath;
 
@@ -253,6 +266,23 @@ public class XmlSourceConfig extends SourceConfig implements FileSourceConfig {
       this.schemaPath = schemaPath;
     }
 
+    /**
+     * How {@code schemaPath} is enforced: {@code upfront} (default) validates the whole file during
+     * source validation, {@code streaming} validates while the step reads the file.
+     */
+    public String getSchemaMode() {
+      return schemaMode;
+    }
+
+    public void setSchemaMode(String schemaMode) {
+      this.schemaMode = schemaMode;
+    }
+
+    @JsonIgnore
+    public boolean isStreamingSchemaMode() {
+      return schemaMode != null && "streaming".equalsIgnoreCase(schemaMode.trim());
+    }
+
     public String getOnFailure() {
       return onFailure;
     }
@@ -3,16 +3,15 @@ package com.etl.config.source.validation;
 import com.etl.config.source.SourceConfig;
 import com.etl.config.source.XmlSourceConfig;
 import com.etl.runtime.FileSourceArtifactSupport;
+import com.etl.source.xml.runtime.XmlSchemaSupport;
 import org.springframework.stereotype.Component;
 
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
-import javax.xml.XMLConstants;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
 import org.xml.sax.SAXException;
 import java.io.IOException;
@@ -22,6 +21,15 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.regex.Pattern;
 
+/**
+ * Source-validation SPI implementation for XML file sources.
+ *
+ * <p>With the default {@code validation.schemaMode=upfront}, a configured XSD is checked over the
+ * whole file here and the structural check reads the whole document for well-formedness. With
+ * {@code schemaMode=streaming}, this validator only compiles the XSD and confirms the configured
+ * root and first record element; schema and well-formedness errors are then raised by the step's
+ * own read pass, so the file is parsed once instead of twice.</p>
+ */
 @Component
 public class XmlSourceValidator implements SourceValidator {
 
@@ -46,6 +54,7 @@ public class XmlSourceValidator implements SourceValidator {
 		Path readableFilePath = fileSourceArtifactSupport.resolveReadablePath(xmlSourceConfig);
 		fileSourceArtifactSupport.validateReadableRegularFile(readableFilePath, "XML file");
 		validateRejectConfiguration(xmlSourceConfig.getValidation());
+		validateSchemaMode(xmlSourceConfig.getValidation());
 		validateFileNamePattern(xmlSourceConfig.getValidation(), readableFilePath, xmlSourceConfig);
 		validateSchema(xmlSourceConfig.getValidation(), readableFilePath, xmlSourceConfig);
 		validateXmlStructure(xmlSourceConfig.getValidation(), readableFilePath, expectedRootElement.trim(), expectedRecordElement.trim(), xmlSourceConfig);
@@ -73,6 +82,21 @@ public class XmlSourceValidator implements SourceValidator {
 		}
 	}
 
+	private void validateSchemaMode(XmlSourceConfig.ValidationConfig validation) {
+		if (validation == null || validation.getSchemaMode() == null || validation.getSchemaMode().isBlank()) {
+			return;
+		}
+
+		String schemaMode = normalize(validation.getSchemaMode());
+		if (!"upfront".equalsIgnoreCase(schemaMode) && !"streaming".equalsIgnoreCase(schemaMode)) {
+			throw new IllegalArgumentException("validation.schemaMode must be 'upfront' or 'streaming' but was: " + schemaMode);
+		}
+		if (validation.isStreamingSchemaMode() && "rejectFile".equalsIgnoreCase(normalize(validation.getOnFailure()))) {
+			throw new IllegalArgumentException(
+					"validation.schemaMode=streaming cannot be combined with onFailure=rejectFile; streaming failures fail the step instead.");
+		}
+	}
+
 	private void validateFileNamePattern(XmlSourceConfig.ValidationConfig validation, Path filePath, XmlSourceConfig xmlSourceConfig) {
 		if (validation == null || validation.getFileNamePattern() == null || validation.getFileNamePattern().isBlank()) {
 			return;
@@ -97,11 +121,14 @@ public class XmlSourceValidator implements SourceValidator {
 
 		boolean rootSeen = false;
 		boolean recordSeen = false;
+		// Streaming mode leaves whole-document checks to the read pass, so a prefix up to the first
+		// record is enough here.
+		boolean stopAtFirstRecord = validation != null && validation.isStreamingSchemaMode();
 
 		try (InputStream inputStream = Files.newInputStream(filePath)) {
 			XMLStreamReader reader = factory.createXMLStreamReader(inputStream);
 			try {
-				while (reader.hasNext()) {
+				while (reader.hasNext() && !(stopAtFirstRecord && recordSeen)) {
 					int event = reader.next();
 					if (event != XMLStreamConstants.START_ELEMENT) {
 						continue;
@@ -162,10 +189,19 @@ public class XmlSourceValidator implements SourceValidator {
 			throw new IllegalArgumentException("XML validation schemaPath must be readable: " + schemaPath);
 		}
 
-		SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-		disableExternalSchemaResolution(schemaFactory);
+		if (validation.isStreamingSchemaMode()) {
+			// Compile now so a broken XSD still fails at startup; the document itself is validated
+			// while the step reads it.
+			try {
+				XmlSchemaSupport.loadSchema(schemaPath);
+			} catch (SAXException e) {
+				throw new IllegalArgumentException("XML validation schemaPath is not a valid XSD: " + schemaPath + "; " + e.getMessage(), e);
+			}
+			return;
+		}
+
 		try {
-			Schema schema = schemaFactory.newSchema(schemaPath.toFile());
+			Schema schema = XmlSchemaSupport.loadSchema(schemaPath);
 			Validator validator = schema.newValidator();
 			try (InputStream inputStream = Files.newInputStream(filePath)) {
 				validator.validate(new StreamSource(inputStream));
@@ -178,11 +214,6 @@ public class XmlSourceValidator implements SourceValidator {
 		}
 	}
 
-	private void disableExternalSchemaResolution(SchemaFactory schemaFactory) {
-		setIfSupported(schemaFactory, XMLConstants.ACCESS_EXTERNAL_DTD, "");
-		setIfSupported(schemaFactory, XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
-	}
-
 	private void disableExternalEntityResolution(XMLInputFactory factory) {
 		setIfSupported(factory, XMLInputFactory.SUPPORT_DTD, false);
 		setIfSupported(factory, XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
@@ -196,14 +227,6 @@ public class XmlSourceValidator implements SourceValidator {
 		}
 	}
 
-	private void setIfSupported(SchemaFactory schemaFactory, String propertyName, String value) {
-		try {
-			schemaFactory.setProperty(propertyName, value);
-		} catch (SAXException | IllegalArgumentException ignored) {
-			// Keep compatibility with SchemaFactory implementations that do not expose the property.
-		}
-	}
-
 	private String requireNonBlank(String value, String propertyName) {
 		if (value == null || value.isBlank()) {
 			throw new IllegalArgumentException("XML validation requires a non-blank " + propertyName + ".");
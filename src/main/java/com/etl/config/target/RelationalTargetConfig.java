@@ -7,7 +7,10 @@ import com.etl.enums.ModelFormat;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class RelationalTargetConfig extends TargetConfig {
 
@@ -16,6 +19,8 @@ public class RelationalTargetConfig extends TargetConfig {
     private final String schema;
     private final WriteMode writeMode;
     private final Integer batchSize;
+    private final boolean tableLock;
+    private final List<String> keyColumns;
 
     public RelationalTargetConfig(String targetName,
                                   String packageName,
@@ -25,12 +30,27 @@ public class RelationalTargetConfig extends TargetConfig {
                                   String schema,
                                   String writeMode,
                                   Integer batchSize) {
+        this(targetName, packageName, fields, connection, table, schema, writeMode, batchSize, null, null);
+    }
+
+    public RelationalTargetConfig(String targetName,
+                                  String packageName,
+                                  List<ColumnConfig> fields,
+                                  RelationalConnectionConfig connection,
+                                  String table,
+                                  String schema,
+                                  String writeMode,
+                                  Integer batchSize,
+                                  Boolean tableLock,
+                                  List<String> keyColumns) {
         super(targetName, packageName, fields);
         this.connection = connection;
         this.table = table;
         this.schema = schema;
         this.writeMode = writeMode == null || writeMode.isBlank() ? WriteMode.INSERT : WriteMode.fromString(writeMode);
         this.batchSize = batchSize == null || batchSize <= 0 ? 100 : batchSize;
+        this.tableLock = Boolean.TRUE.equals(tableLock);
+        this.keyColumns = keyColumns == null ? List.of() : List.copyOf(keyColumns);
     }
 
     @JsonCreator
@@ -41,9 +61,11 @@ public class RelationalTargetConfig extends TargetConfig {
             @JsonProperty("table") String table,
             @JsonProperty("schema") String schema,
             @JsonProperty("writeMode") String writeMode,
-            @JsonProperty("batchSize") Integer batchSize
+            @JsonProperty("batchSize") Integer batchSize,
+            @JsonProperty("tableLock") Boolean tableLock,
+            @JsonProperty("keyColumns") List<String> keyColumns
     ) {
-        this(targetName, null, fields, connection, table, schema, writeMode, batchSize);
+        this(targetName, null, fields, connection, table, schema, writeMode, batchSize, tableLock, keyColumns);
     }
 
   public RelationalConnectionConfig getConnection() {
@@ -66,6 +88,20 @@ public class RelationalTargetConfig extends TargetConfig {
     return batchSize;
   }
 
+  /**
+   * Whether {@code BULK} loads take a table lock for the duration of each bulk copy.
+   */
+  public boolean isTableLock() {
+    return tableLock;
+  }
+
+  /**
+   * Columns that identify a target row for {@code UPSERT} and {@code MERGE} writes.
+   */
+  public List<String> getKeyColumns() {
+    return keyColumns;
+  }
+
     @Override
     public ModelFormat getFormat() {
         return ModelFormat.RELATIONAL;
@@ -94,12 +130,31 @@ public class RelationalTargetConfig extends TargetConfig {
         if (getFields() == null || getFields().isEmpty()) {
             throw new IllegalArgumentException("Relational target fields must be provided.");
         }
-        if (writeMode != WriteMode.INSERT) {
-            throw new IllegalArgumentException("Phase 1 relational target support only supports INSERT mode.");
-        }
         if (batchSize == null || batchSize <= 0) {
             throw new IllegalArgumentException("Relational target batchSize must be greater than zero.");
         }
+        if (writeMode.isKeyed()) {
+            validateKeyColumns();
+        } else if (!keyColumns.isEmpty()) {
+            throw new IllegalArgumentException("Relational target keyColumns are only supported for UPSERT and MERGE writeMode.");
+        }
+    }
+
+    private void validateKeyColumns() {
+        if (keyColumns.isEmpty()) {
+            throw new IllegalArgumentException("Relational target keyColumns must be provided for " + writeMode + " writeMode.");
+        }
+        Set<String> fieldNames = getFields().stream().map(FieldDefinition::getName).collect(Collectors.toSet());
+        Set<String> seen = new HashSet<>();
+        for (String keyColumn : keyColumns) {
+            if (keyColumn == null || !fieldNames.contains(keyColumn)) {
+                throw new IllegalArgumentException("Relational target keyColumns entry '" + keyColumn
+                        + "' must match a configured target field name.");
+            }
+            if (!seen.add(keyColumn)) {
+                throw new IllegalArgumentException("Relational target keyColumns entry '" + keyColumn + "' is duplicated.");
+            }
+        }
     }
 }
 
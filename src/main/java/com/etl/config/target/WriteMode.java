@@ -1,7 +1,29 @@
 package com.etl.config.target;
 
 public enum WriteMode {
-    INSERT;
+    INSERT,
+    /**
+     * Streams each chunk through the vendor bulk-load API, or multi-row INSERT batches where the
+     * dialect has none.
+     */
+    BULK,
+    /**
+     * Stages each chunk in a session temp table and applies it with one set-based MERGE keyed on
+     * {@code keyColumns}: matched rows are updated, new rows inserted.
+     */
+    UPSERT,
+    /**
+     * Same staged MERGE as {@link #UPSERT}, but matched rows are only updated when a non-key column
+     * actually changed, so unchanged rows are not rewritten.
+     */
+    MERGE;
+
+    /**
+     * Whether the mode matches target rows on {@code keyColumns}.
+     */
+    public boolean isKeyed() {
+        return this == UPSERT || this == MERGE;
+    }
 
     public static WriteMode fromString(String value) {
         for (WriteMode mode : values()) {
@@ -229,7 +229,9 @@ public class XmlJobScopedGenerationService {
                     relationalTargetConfig.getTable(),
                     relationalTargetConfig.getSchema(),
                     relationalTargetConfig.getWriteMode().name(),
-                    relationalTargetConfig.getBatchSize()
+                    relationalTargetConfig.getBatchSize(),
+                    relationalTargetConfig.isTableLock(),
+                    relationalTargetConfig.getKeyColumns()
             );
         }
 
@@ -3,9 +3,11 @@ package com.etl.job.listener;
 import com.etl.config.processor.ProcessorConfig;
 import com.etl.config.source.SourceConfig;
 import com.etl.runtime.FileIngestionRuntimeSupport;
+import org.springframework.batch.core.ChunkListener;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.lang.NonNull;
 
 /**
@@ -15,6 +17,9 @@ import org.springframework.lang.NonNull;
  * {@link FileIngestionRuntimeSupport}. It is responsible only for lifecycle delegation;
  * reject handling, duplicate tracking, and archive-on-success behavior remain in the
  * shared runtime support component.</p>
+ *
+ * <p>Chunk-oriented steps also register {@link #rejectFlushListener()} so asynchronously written
+ * reject rows are flushed after each chunk.</p>
  */
 public class FileIngestionHardeningStepListener implements StepExecutionListener {
 
@@ -42,4 +47,16 @@ public class FileIngestionHardeningStepListener implements StepExecutionListener
 	public ExitStatus afterStep(@NonNull StepExecution stepExecution) {
 		return fileIngestionRuntimeSupport.completeStep(stepExecution, sourceConfig);
 	}
+
+	/**
+	 * Chunk listener that flushes queued reject rows once each chunk has completed.
+	 */
+	public ChunkListener rejectFlushListener() {
+		return new ChunkListener() {
+			@Override
+			public void afterChunk(@NonNull ChunkContext context) {
+				fileIngestionRuntimeSupport.flushRejects(context.getStepContext().getStepExecution());
+			}
+		};
+	}
 }
@@ -1,5 +1,6 @@
 package com.etl.job.listener;
 
+import com.etl.config.relational.RelationalDataSourceRegistry;
 import com.etl.exception.EtlExceptionDetails;
 import com.etl.logging.RunLoggingContext;
 import com.etl.runtime.job.JobHierarchyLoggingSupport;
@@ -46,6 +47,8 @@ public class JobCompletionNotificationListener implements JobExecutionListener {
 
 	@Override
 	public void beforeJob(JobExecution jobExecution) {
+		// Balanced by jobFinished() in afterJob, which Spring Batch runs even when beforeJob fails.
+		RelationalDataSourceRegistry.shared().jobStarted();
 		// Seed the run-level MDC/logging context once so all later job and step events share the
 		// same scenario, run-correlation, and flow identifiers.
 		JobParameters jobParameters = jobExecution.getJobParameters();
@@ -131,7 +134,12 @@ public class JobCompletionNotificationListener implements JobExecutionListener {
 				logger.info("Job finished with status {} after {} seconds.", jobExecution.getStatus(), durationSeconds == null ? "unknown" : durationSeconds);
 			}
 		} finally {
-			RunLoggingContext.clearJobScope();
+			try {
+				// Relational pools are shared by every step of the run; release them once no job is running.
+				RelationalDataSourceRegistry.shared().jobFinished();
+			} finally {
+				RunLoggingContext.clearJobScope();
+			}
 		}
 
 	}
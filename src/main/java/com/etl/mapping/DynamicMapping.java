@@ -42,7 +42,7 @@ public class DynamicMapping<I, O> implements ItemProcessor<I, O> {
                           ModelFormat sourceFormat) {
         this.mapping = mapping;
         this.targetClass = targetClass;
-        this.mappedFieldValueResolver = new MappedFieldValueResolver(transformEvaluator, sourceFormat);
+        this.mappedFieldValueResolver = new MappedFieldValueResolver(transformEvaluator, sourceFormat, mapping);
     }
 
     @Override
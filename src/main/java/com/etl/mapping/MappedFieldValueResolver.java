@@ -5,8 +5,10 @@ import com.etl.config.processor.ProcessorConfig;
 import com.etl.enums.ModelFormat;
 import com.etl.exception.EtlException;
 import com.etl.exception.TransformationException;
+import com.etl.processor.transform.FieldTransformPlan;
 import com.etl.processor.transform.TransformEvaluator;
 
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -15,19 +17,39 @@ import java.util.Map;
  *
  * <p>The resolver is shared by both plain and validation-aware mapping paths so field extraction,
  * transform execution, and output population all follow the same authored mapping order.</p>
+ *
+ * <p>Source reads and target writes go through {@link ReflectionUtils}, whose field handles are
+ * resolved once per model class by {@link com.etl.common.util.FieldAccessors}, so the per-record
+ * path performs no reflective field lookups.</p>
+ *
+ * <p>When built for a specific entity mapping, the resolver compiles every field's transform chain
+ * once up front and keeps the {@link FieldTransformPlan}s for its own lifetime. Fields it has no
+ * current plan for, such as those of another mapping, are compiled for the call.</p>
  */
 public class MappedFieldValueResolver {
 
 	private final TransformEvaluator transformEvaluator;
 	private final ModelFormat sourceFormat;
+	private final Map<ProcessorConfig.FieldMapping, FieldTransformPlan> transformPlans;
 
 	public MappedFieldValueResolver(TransformEvaluator transformEvaluator) {
 		this(transformEvaluator, null);
 	}
 
 	public MappedFieldValueResolver(TransformEvaluator transformEvaluator, ModelFormat sourceFormat) {
+		this(transformEvaluator, sourceFormat, null);
+	}
+
+	/**
+	 * Creates a resolver that compiles the transform plans of {@code mapping} once, for processors
+	 * that always resolve the same entity mapping.
+	 */
+	public MappedFieldValueResolver(TransformEvaluator transformEvaluator,
+	                                ModelFormat sourceFormat,
+	                                ProcessorConfig.EntityMapping mapping) {
 		this.transformEvaluator = transformEvaluator;
 		this.sourceFormat = sourceFormat;
+		this.transformPlans = compileTransformPlans(mapping);
 	}
 
 	/**
@@ -104,7 +126,14 @@ public class MappedFieldValueResolver {
 	                             Object input,
 	                             Map<String, Object> resolvedValues) {
 		try {
-			return transformEvaluator.apply(value, mapping, fieldMapping, input, resolvedValues, sourceFormat);
+			if (fieldMapping == null || fieldMapping.getTransforms() == null || fieldMapping.getTransforms().isEmpty()) {
+				return value;
+			}
+			FieldTransformPlan plan = transformPlans.get(fieldMapping);
+			if (plan == null || !plan.isCurrentFor(fieldMapping)) {
+				plan = transformEvaluator.compile(fieldMapping, sourceFormat);
+			}
+			return plan.apply(value, mapping, input, resolvedValues);
 		} catch (EtlException e) {
 			throw e;
 		} catch (RuntimeException e) {
@@ -113,6 +142,20 @@ public class MappedFieldValueResolver {
 		}
 	}
 
+	private Map<ProcessorConfig.FieldMapping, FieldTransformPlan> compileTransformPlans(ProcessorConfig.EntityMapping mapping) {
+		if (mapping == null || mapping.getFields() == null) {
+			return Map.of();
+		}
+		// Field mappings do not override equals, so plans are looked up by mapping identity.
+		Map<ProcessorConfig.FieldMapping, FieldTransformPlan> plans = new IdentityHashMap<>();
+		for (ProcessorConfig.FieldMapping fieldMapping : mapping.getFields()) {
+			if (fieldMapping != null && fieldMapping.getTransforms() != null && !fieldMapping.getTransforms().isEmpty()) {
+				plans.put(fieldMapping, transformEvaluator.compile(fieldMapping, sourceFormat));
+			}
+		}
+		return plans;
+	}
+
 	private <O> O createTargetInstance(Class<O> targetClass, ProcessorConfig.EntityMapping mapping) {
 		try {
 			return ReflectionUtils.createInstance(targetClass);
@@ -18,6 +18,7 @@ import org.springframework.lang.NonNull;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Processor mapping adapter that combines transforms, processor validation rules, and optional
@@ -30,12 +31,19 @@ import java.util.Objects;
  * required, then either emits a generated target model, records a reject, or fails the step based
  * on the configured rule behavior.</p>
  *
+ * <p>Rejected records are logged at WARN for the first {@value #REJECT_WARN_HEAD} rejects of each
+ * step execution and then for every {@value #REJECT_WARN_SAMPLE_INTERVAL}th one, with the running
+ * {@code rejectOrdinal}; the rest are logged at DEBUG. Every reject is still written to the reject
+ * file and counted.</p>
+ *
  * @param <I> runtime input type
  * @param <O> generated target output type
  */
 public class ValidationAwareDynamicMapping<I, O> implements ItemProcessor<I, O> {
 
 	private static final Logger logger = LoggerFactory.getLogger(ValidationAwareDynamicMapping.class);
+	static final int REJECT_WARN_HEAD = 10;
+	static final int REJECT_WARN_SAMPLE_INTERVAL = 1000;
 
 	private final ProcessorConfig.EntityMapping mapping;
 	private final Class<O> targetClass;
@@ -44,6 +52,8 @@ public class ValidationAwareDynamicMapping<I, O> implements ItemProcessor<I, O>
 	private final boolean rejectHandlingEnabled;
 	private final ModelFormat sourceFormat;
 	private final MappedFieldValueResolver mappedFieldValueResolver;
+	private final AtomicLong rejectOrdinal = new AtomicLong();
+	private volatile Long rejectLogStepExecutionId;
 
 	public ValidationAwareDynamicMapping(ProcessorConfig.EntityMapping mapping,
 	                                   Class<O> targetClass,
@@ -73,7 +83,7 @@ public class ValidationAwareDynamicMapping<I, O> implements ItemProcessor<I, O>
 		this.fileIngestionRuntimeSupport = fileIngestionRuntimeSupport;
 		this.rejectHandlingEnabled = rejectHandlingEnabled;
 		this.sourceFormat = sourceFormat;
-		this.mappedFieldValueResolver = new MappedFieldValueResolver(transformEvaluator, sourceFormat);
+		this.mappedFieldValueResolver = new MappedFieldValueResolver(transformEvaluator, sourceFormat, mapping);
 	}
 
 	public ValidationAwareDynamicMapping(ProcessorConfig.EntityMapping mapping,
@@ -111,12 +121,7 @@ public class ValidationAwareDynamicMapping<I, O> implements ItemProcessor<I, O>
 				throw new ValidationException(message);
 			}
 
-			logger.warn("PROCESS_VALIDATION event=record_rejected mode=rejectRecord stepName={} source={} target={} issues={} inputType={}",
-					currentStepName(),
-					mapping.getSource(),
-					mapping.getTarget(),
-					issueSummary,
-					inputType);
+			logRejectedRecord(issueSummary, inputType);
 			boolean recorded = fileIngestionRuntimeSupport.recordRejected(input, issues);
 			if (!recorded) {
 				throw new ValidationException("Processor validation rejected a record for mapping '"
@@ -129,6 +134,35 @@ public class ValidationAwareDynamicMapping<I, O> implements ItemProcessor<I, O>
 		return mappedFieldValueResolver.createOutput(targetClass, mapping, resolvedValues);
 	}
 
+	private void logRejectedRecord(String issueSummary, String inputType) {
+		long ordinal = nextRejectOrdinal();
+		boolean sampled = ordinal <= REJECT_WARN_HEAD || ordinal % REJECT_WARN_SAMPLE_INTERVAL == 0;
+		if (!sampled && !logger.isDebugEnabled()) {
+			return;
+		}
+		String format = "PROCESS_VALIDATION event=record_rejected mode=rejectRecord stepName={} source={} target={} issues={} inputType={} rejectOrdinal={}";
+		Object[] arguments = {currentStepName(), mapping.getSource(), mapping.getTarget(), issueSummary, inputType, ordinal};
+		if (sampled) {
+			logger.warn(format, arguments);
+		} else {
+			logger.debug(format, arguments);
+		}
+	}
+
+	private long nextRejectOrdinal() {
+		var context = StepSynchronizationManager.getContext();
+		Long stepExecutionId = context == null ? null : context.getStepExecution().getId();
+		if (!Objects.equals(stepExecutionId, rejectLogStepExecutionId)) {
+			synchronized (rejectOrdinal) {
+				if (!Objects.equals(stepExecutionId, rejectLogStepExecutionId)) {
+					rejectOrdinal.set(0);
+					rejectLogStepExecutionId = stepExecutionId;
+				}
+			}
+		}
+		return rejectOrdinal.incrementAndGet();
+	}
+
 	private List<ValidationIssue> evaluateRules(Object validationInput) {
 		try {
 			return validationRuleEvaluator.evaluate(validationInput, mapping, sourceFormat);
@@ -0,0 +1,57 @@
+package com.etl.processor.reference;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * On-heap reference set stored in the JDK's flat open-addressing immutable map.
+ *
+ * <p>Repeated values are deduplicated while loading, so sets that map many keys onto a few codes
+ * keep one copy of each value string.</p>
+ */
+final class HeapReferenceData implements ReferenceData {
+
+	private static final Object NULL_VALUE = new Object();
+
+	private final Map<String, Object> entries;
+
+	private HeapReferenceData(Map<String, Object> entries) {
+		this.entries = entries;
+	}
+
+	@Override
+	public Object get(String key) {
+		Object value = entries.get(key);
+		if (value == null) {
+			return MISSING;
+		}
+		return value == NULL_VALUE ? null : value;
+	}
+
+	@Override
+	public int size() {
+		return entries.size();
+	}
+
+	@Override
+	public String storage() {
+		return "heap";
+	}
+
+	static Builder builder() {
+		return new Builder() {
+			private final Map<String, Object> entries = new HashMap<>();
+			private final Map<String, String> canonicalValues = new HashMap<>();
+
+			@Override
+			public void add(String key, String value) {
+				entries.putIfAbsent(key, value == null ? NULL_VALUE : canonicalValues.computeIfAbsent(value, unused -> value));
+			}
+
+			@Override
+			public ReferenceData build() {
+				return new HeapReferenceData(Map.copyOf(entries));
+			}
+		};
+	}
+}
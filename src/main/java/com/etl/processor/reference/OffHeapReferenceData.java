@@ -0,0 +1,182 @@
+package com.etl.processor.reference;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Off-heap reference set for multi-million-entry sets that should not sit in the Java heap.
+ *
+ * <p>Entries are packed as UTF-8 into one direct buffer ({@code keyLength, key, valueLength,
+ * value}, with a value length of {@code -1} for entries without a value). A second direct buffer
+ * is a linear-probing open-addressing index whose {@code long} slots hold the key hash in the high
+ * half and the entry offset plus one in the low half, so probes compare hashes before touching
+ * entry bytes. Only absolute buffer reads are used, so concurrent lookups need no locking.</p>
+ */
+final class OffHeapReferenceData implements ReferenceData {
+
+	private static final int NULL_VALUE_LENGTH = -1;
+	private static final int INITIAL_DATA_CAPACITY = 1 << 20;
+	private static final int MAX_BUFFER_CAPACITY = Integer.MAX_VALUE - 8;
+
+	private final ByteBuffer data;
+	private final ByteBuffer index;
+	private final int mask;
+	private final int size;
+
+	private OffHeapReferenceData(ByteBuffer data, ByteBuffer index, int mask, int size) {
+		this.data = data;
+		this.index = index;
+		this.mask = mask;
+		this.size = size;
+	}
+
+	@Override
+	public Object get(String key) {
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		int hash = hash(keyBytes);
+		int slot = spread(hash) & mask;
+		while (true) {
+			long entry = index.getLong(slot * Long.BYTES);
+			if (entry == 0L) {
+				return MISSING;
+			}
+			if ((int) (entry >>> 32) == hash) {
+				int offset = (int) entry - 1;
+				if (keyEquals(offset, keyBytes)) {
+					return readValue(offset + Integer.BYTES + keyBytes.length);
+				}
+			}
+			slot = (slot + 1) & mask;
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public String storage() {
+		return "offHeap";
+	}
+
+	private boolean keyEquals(int offset, byte[] keyBytes) {
+		if (data.getInt(offset) != keyBytes.length) {
+			return false;
+		}
+		int start = offset + Integer.BYTES;
+		for (int i = 0; i < keyBytes.length; i++) {
+			if (data.get(start + i) != keyBytes[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private String readValue(int offset) {
+		int length = data.getInt(offset);
+		if (length == NULL_VALUE_LENGTH) {
+			return null;
+		}
+		byte[] valueBytes = new byte[length];
+		data.get(offset + Integer.BYTES, valueBytes);
+		return new String(valueBytes, StandardCharsets.UTF_8);
+	}
+
+	private static int hash(byte[] bytes) {
+		// Any value works here: empty slots are recognized by a zero low half, and a populated slot
+		// always stores its entry offset plus one there.
+		return Arrays.hashCode(bytes);
+	}
+
+	private static int spread(int hash) {
+		return hash ^ (hash >>> 16);
+	}
+
+	static Builder builder() {
+		return new Builder() {
+			private ByteBuffer data = ByteBuffer.allocateDirect(INITIAL_DATA_CAPACITY);
+			private int[] offsets = new int[1024];
+			private int[] hashes = new int[1024];
+			private int count;
+
+			@Override
+			public void add(String key, String value) {
+				byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+				byte[] valueBytes = value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+				int required = Integer.BYTES * 2 + keyBytes.length + (valueBytes == null ? 0 : valueBytes.length);
+				ensureDataCapacity(required);
+				if (count == offsets.length) {
+					offsets = Arrays.copyOf(offsets, count * 2);
+					hashes = Arrays.copyOf(hashes, count * 2);
+				}
+				offsets[count] = data.position();
+				hashes[count] = hash(keyBytes);
+				count++;
+				data.putInt(keyBytes.length).put(keyBytes);
+				if (valueBytes == null) {
+					data.putInt(NULL_VALUE_LENGTH);
+				} else {
+					data.putInt(valueBytes.length).put(valueBytes);
+				}
+			}
+
+			@Override
+			public ReferenceData build() {
+				long capacity = Long.highestOneBit(Math.max(16L, (long) count * 2 - 1)) << 1;
+				if (capacity * Long.BYTES > MAX_BUFFER_CAPACITY) {
+					throw new IllegalStateException("Reference set has too many entries for off-heap storage: " + count);
+				}
+				int mask = (int) capacity - 1;
+				ByteBuffer packed = ByteBuffer.allocateDirect(Math.max(1, data.position()));
+				packed.put(data.flip()).flip();
+				ByteBuffer index = ByteBuffer.allocateDirect((int) capacity * Long.BYTES);
+				OffHeapReferenceData probe = new OffHeapReferenceData(packed, index, mask, 0);
+				int size = 0;
+				for (int i = 0; i < count; i++) {
+					if (probe.insert(offsets[i], hashes[i])) {
+						size++;
+					}
+				}
+				data = null;
+				return new OffHeapReferenceData(packed, index, mask, size);
+			}
+
+			private void ensureDataCapacity(int required) {
+				if (data.remaining() >= required) {
+					return;
+				}
+				long needed = (long) data.position() + required;
+				if (needed > MAX_BUFFER_CAPACITY) {
+					throw new IllegalStateException("Reference set exceeds the 2 GB off-heap storage limit.");
+				}
+				int grown = (int) Math.min(MAX_BUFFER_CAPACITY, Math.max(needed, (long) data.capacity() * 2));
+				ByteBuffer larger = ByteBuffer.allocateDirect(grown);
+				larger.put(data.flip());
+				data = larger;
+			}
+		};
+	}
+
+	/**
+	 * Adds one packed entry to the index unless an equal key is already indexed (first wins).
+	 */
+	private boolean insert(int offset, int hash) {
+		int keyLength = data.getInt(offset);
+		byte[] keyBytes = new byte[keyLength];
+		data.get(offset + Integer.BYTES, keyBytes);
+		int slot = spread(hash) & mask;
+		while (true) {
+			long entry = index.getLong(slot * Long.BYTES);
+			if (entry == 0L) {
+				index.putLong(slot * Long.BYTES, ((long) hash << 32) | ((offset + 1) & 0xFFFFFFFFL));
+				return true;
+			}
+			if ((int) (entry >>> 32) == hash && keyEquals((int) entry - 1, keyBytes)) {
+				return false;
+			}
+			slot = (slot + 1) & mask;
+		}
+	}
+}
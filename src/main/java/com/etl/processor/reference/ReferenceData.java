@@ -0,0 +1,35 @@
+package com.etl.processor.reference;
+
+/**
+ * Immutable loaded entries of one reference set, keyed by already-normalized key text.
+ */
+interface ReferenceData {
+
+	/**
+	 * Returned by {@link #get(String)} when the key is not in the set.
+	 */
+	Object MISSING = new Object();
+
+	/**
+	 * Returns the value stored for the key, {@code null} when the entry has no value, or
+	 * {@link #MISSING} when the key is absent.
+	 */
+	Object get(String key);
+
+	int size();
+
+	/**
+	 * Storage label used in logs and statistics.
+	 */
+	String storage();
+
+	/**
+	 * Accumulates entries while a reference set loads. The first value added for a key wins.
+	 */
+	interface Builder {
+
+		void add(String key, String value);
+
+		ReferenceData build();
+	}
+}
@@ -0,0 +1,256 @@
+package com.etl.processor.reference;
+
+import com.etl.config.processor.ProcessorConfig;
+import com.etl.config.relational.RelationalConnectionConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Process-wide cache of loaded reference sets shared by {@code referenceSet} rules and
+ * {@code referenceLookup} transforms.
+ *
+ * <p>Each distinct definition (source, connection without password, query or file, columns, case
+ * sensitivity and storage) is loaded once and reused by every rule, transform and run that names
+ * it, so a long-lived worker does not re-read a multi-million-row code table per job. Loaded sets
+ * expire after {@code cacheTtlSeconds} (15 minutes by default, {@code 0} keeps them until evicted),
+ * and at most {@link #MAX_CACHED_SETS} sets are kept, evicting the least recently used one.</p>
+ *
+ * <p>A configured definition object belongs to one run, and the first set resolved for it stays
+ * pinned to it for as long as the definition is reachable. Every record of that run therefore
+ * sees one snapshot, and an expiry never triggers a reload on the record path. The TTL only
+ * decides whether a later run's definition reuses the cached set or loads a fresh one. Concurrent
+ * callers of an unloaded set wait for one load instead of each querying the source.</p>
+ */
+public final class ReferenceSetCache {
+
+	private static final Logger log = LoggerFactory.getLogger(ReferenceSetCache.class);
+	static final int MAX_CACHED_SETS = 16;
+	static final long DEFAULT_TTL_SECONDS = 900;
+	private static final ReferenceSetCache SHARED = new ReferenceSetCache(MAX_CACHED_SETS, System::nanoTime);
+
+	private final int maxSets;
+	private final LongSupplier nanoTime;
+	private final Map<CacheKey, Slot> slots = new LinkedHashMap<>(16, 0.75f, true);
+	// Weak, identity-keyed (ReferenceSet does not override equals) so finished runs release their sets.
+	private final Map<ProcessorConfig.ReferenceSet, LoadedReferenceSet> pinnedSets =
+			Collections.synchronizedMap(new WeakHashMap<>());
+	private final LongAdder loads = new LongAdder();
+	private final LongAdder reuses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	ReferenceSetCache(int maxSets, LongSupplier nanoTime) {
+		this.maxSets = maxSets;
+		this.nanoTime = nanoTime;
+	}
+
+	public static ReferenceSetCache shared() {
+		return SHARED;
+	}
+
+	/**
+	 * Returns the set pinned to this definition. On the definition's first call, reuses the cached
+	 * set for an equal definition unless it has expired, and loads it from source otherwise.
+	 */
+	public LoadedReferenceSet get(ProcessorConfig.ReferenceSet definition) {
+		LoadedReferenceSet pinned = pinnedSets.get(definition);
+		if (pinned != null) {
+			return pinned;
+		}
+		Slot slot = slot(definition);
+		LoadedReferenceSet loaded;
+		synchronized (slot) {
+			loaded = slot.loaded;
+			if (loaded != null && loaded.isCurrent()) {
+				reuses.increment();
+			} else {
+				if (loaded != null) {
+					loaded.retire("expired");
+				}
+				loaded = load(definition);
+				slot.loaded = loaded;
+			}
+		}
+		LoadedReferenceSet raced = pinnedSets.putIfAbsent(definition, loaded);
+		return raced == null ? loaded : raced;
+	}
+
+	/**
+	 * Drops every cached and pinned set so the next lookup reloads from source.
+	 */
+	public synchronized void clear() {
+		slots.values().forEach(slot -> {
+			synchronized (slot) {
+				if (slot.loaded != null) {
+					slot.loaded.retire("cleared");
+				}
+			}
+		});
+		slots.clear();
+		pinnedSets.clear();
+	}
+
+	public Stats stats() {
+		long lookupHits = 0;
+		long lookupMisses = 0;
+		int cachedSets;
+		synchronized (this) {
+			cachedSets = slots.size();
+			for (Slot slot : slots.values()) {
+				LoadedReferenceSet loaded = slot.loaded;
+				if (loaded != null) {
+					lookupHits += loaded.hits.sum();
+					lookupMisses += loaded.misses.sum();
+				}
+			}
+		}
+		return new Stats(cachedSets, loads.sum(), reuses.sum(), evictions.sum(), lookupHits, lookupMisses);
+	}
+
+	private synchronized Slot slot(ProcessorConfig.ReferenceSet definition) {
+		CacheKey key = CacheKey.of(definition);
+		Slot slot = slots.get(key);
+		if (slot != null) {
+			return slot;
+		}
+		slot = new Slot();
+		slots.put(key, slot);
+		Iterator<Slot> eldest = slots.values().iterator();
+		while (slots.size() > maxSets) {
+			Slot evicted = eldest.next();
+			eldest.remove();
+			evictions.increment();
+			LoadedReferenceSet evictedSet = evicted.loaded;
+			if (evictedSet != null) {
+				evictedSet.retire("evicted");
+			}
+		}
+		return slot;
+	}
+
+	private LoadedReferenceSet load(ProcessorConfig.ReferenceSet definition) {
+		long startNanos = System.nanoTime();
+		ReferenceData data = ReferenceSetLoader.load(definition);
+		long ttlSeconds = definition.getCacheTtlSeconds() == null ? DEFAULT_TTL_SECONDS : definition.getCacheTtlSeconds();
+		loads.increment();
+		LoadedReferenceSet loaded = new LoadedReferenceSet(definition.getName(), data,
+				!Boolean.FALSE.equals(definition.getCaseSensitive()), nanoTime,
+				ttlSeconds == 0 ? 0 : nanoTime.getAsLong() + TimeUnit.SECONDS.toNanos(ttlSeconds));
+		log.info("REFERENCE_SET event=reference_set_loaded name={} sourceType={} storage={} entries={} ttlSeconds={} elapsedMs={}",
+				definition.getName(), definition.getSourceType(), data.storage(), data.size(), ttlSeconds,
+				(System.nanoTime() - startNanos) / 1_000_000);
+		return loaded;
+	}
+
+	/**
+	 * Aggregate counters: loads from source, reuses of an already loaded set by another rule,
+	 * transform or run, size evictions, and record lookup hits and misses across cached sets.
+	 */
+	public record Stats(int cachedSets, long loads, long reuses, long evictions, long lookupHits, long lookupMisses) {
+	}
+
+	/**
+	 * One loaded generation of a reference set.
+	 */
+	public static final class LoadedReferenceSet {
+
+		private final String name;
+		private final ReferenceData data;
+		private final boolean caseSensitive;
+		private final LongSupplier nanoTime;
+		private final long expiresAtNanos;
+		private final LongAdder hits = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+		private volatile boolean retired;
+
+		private LoadedReferenceSet(String name, ReferenceData data, boolean caseSensitive, LongSupplier nanoTime, long expiresAtNanos) {
+			this.name = name;
+			this.data = data;
+			this.caseSensitive = caseSensitive;
+			this.nanoTime = nanoTime;
+			this.expiresAtNanos = expiresAtNanos;
+		}
+
+		public boolean contains(Object value) {
+			return lookup(value) != ReferenceData.MISSING;
+		}
+
+		/**
+		 * Returns the value mapped to the key, or {@code fallback} when the key is not in the set.
+		 */
+		public Object translate(Object value, Object fallback) {
+			Object mapped = lookup(value);
+			return mapped == ReferenceData.MISSING ? fallback : mapped;
+		}
+
+		public String name() {
+			return name;
+		}
+
+		public int size() {
+			return data.size();
+		}
+
+		public String storage() {
+			return data.storage();
+		}
+
+		public long hits() {
+			return hits.sum();
+		}
+
+		public long misses() {
+			return misses.sum();
+		}
+
+		private Object lookup(Object value) {
+			Object mapped = value == null
+					? ReferenceData.MISSING
+					: data.get(ReferenceSetLoader.key(String.valueOf(value), caseSensitive));
+			(mapped == ReferenceData.MISSING ? misses : hits).increment();
+			return mapped;
+		}
+
+		boolean isCurrent() {
+			return !retired && (expiresAtNanos == 0 || nanoTime.getAsLong() - expiresAtNanos < 0);
+		}
+
+		private void retire(String reason) {
+			retired = true;
+			log.info("REFERENCE_SET event=reference_set_evicted name={} reason={} entries={} lookupHits={} lookupMisses={}",
+					name, reason, data.size(), hits.sum(), misses.sum());
+		}
+	}
+
+	private static final class Slot {
+		private volatile LoadedReferenceSet loaded;
+	}
+
+	private record CacheKey(String sourceType, String vendor, String jdbcUrl, String host, Integer port, String database,
+	                        String username, String query, String filePath, String delimiter, String keyColumn,
+	                        String valueColumn, boolean caseSensitive, String storage) {
+
+		static CacheKey of(ProcessorConfig.ReferenceSet definition) {
+			RelationalConnectionConfig connection = definition.getConnection();
+			return new CacheKey(definition.getSourceType(),
+					connection == null ? null : connection.getVendor(),
+					connection == null ? null : connection.getJdbcUrl(),
+					connection == null ? null : connection.getHost(),
+					connection == null ? null : connection.getPort(),
+					connection == null ? null : connection.getDatabase(),
+					connection == null ? null : connection.getUsername(),
+					definition.getQuery(), definition.getFilePath(), definition.getDelimiter(),
+					definition.getKeyColumn(), definition.getValueColumn(),
+					!Boolean.FALSE.equals(definition.getCaseSensitive()),
+					definition.getStorage() == null ? ReferenceSetLoader.STORAGE_HEAP : definition.getStorage());
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package com.etl.processor.reference;
+
+import com.etl.common.util.StringUtils;
+import com.etl.config.processor.ProcessorConfig;
+import com.etl.config.relational.RelationalDataSourceFactory;
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streams one reference set definition from its relational query or CSV file into a
+ * {@link ReferenceData} builder.
+ */
+final class ReferenceSetLoader {
+
+	static final String SOURCE_RELATIONAL_QUERY = "relationalQuery";
+	static final String SOURCE_CSV = "csv";
+	static final String STORAGE_HEAP = "heap";
+	static final String STORAGE_OFF_HEAP = "offHeap";
+	private static final int QUERY_FETCH_SIZE = 5_000;
+
+	private ReferenceSetLoader() {
+	}
+
+	static ReferenceData load(ProcessorConfig.ReferenceSet definition) {
+		ReferenceData.Builder builder = STORAGE_OFF_HEAP.equals(definition.getStorage())
+				? OffHeapReferenceData.builder()
+				: HeapReferenceData.builder();
+		boolean caseSensitive = !Boolean.FALSE.equals(definition.getCaseSensitive());
+		if (SOURCE_RELATIONAL_QUERY.equals(definition.getSourceType())) {
+			loadQuery(definition, builder, caseSensitive);
+		} else if (SOURCE_CSV.equals(definition.getSourceType())) {
+			loadCsv(definition, builder, caseSensitive);
+		} else {
+			throw new IllegalStateException("Reference set '" + definition.getName() + "' has unsupported sourceType '"
+					+ definition.getSourceType() + "'. Supported values: relationalQuery, csv.");
+		}
+		return builder.build();
+	}
+
+	static String key(String candidate, boolean caseSensitive) {
+		return caseSensitive ? candidate : StringUtils.foldCase(candidate);
+	}
+
+	private static void loadQuery(ProcessorConfig.ReferenceSet definition, ReferenceData.Builder builder, boolean caseSensitive) {
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(RelationalDataSourceFactory.buildDataSource(definition.getConnection()));
+		jdbcTemplate.setFetchSize(QUERY_FETCH_SIZE);
+		int[] columns = new int[2];
+		jdbcTemplate.query(definition.getQuery(), (ResultSet resultSet) -> {
+			if (columns[0] == 0) {
+				resolveQueryColumns(definition, resultSet.getMetaData(), columns);
+			}
+			String key = resultSet.getString(columns[0]);
+			if (key != null) {
+				builder.add(key(key, caseSensitive), columns[1] > 0 ? resultSet.getString(columns[1]) : null);
+			}
+		});
+	}
+
+	private static void resolveQueryColumns(ProcessorConfig.ReferenceSet definition, ResultSetMetaData metaData, int[] columns)
+			throws SQLException {
+		columns[0] = isBlank(definition.getKeyColumn()) ? 1 : queryColumn(definition, metaData, definition.getKeyColumn());
+		columns[1] = isBlank(definition.getValueColumn()) ? -1 : queryColumn(definition, metaData, definition.getValueColumn());
+	}
+
+	private static int queryColumn(ProcessorConfig.ReferenceSet definition, ResultSetMetaData metaData, String column) throws SQLException {
+		for (int i = 1; i <= metaData.getColumnCount(); i++) {
+			if (column.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+				return i;
+			}
+		}
+		throw new IllegalStateException("Reference set '" + definition.getName() + "' query does not return column '" + column + "'.");
+	}
+
+	private static void loadCsv(ProcessorConfig.ReferenceSet definition, ReferenceData.Builder builder, boolean caseSensitive) {
+		Path path = Path.of(definition.getFilePath());
+		DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer(
+				isBlank(definition.getDelimiter()) ? "," : definition.getDelimiter());
+		tokenizer.setStrict(false);
+		long lineNumber = 1;
+		try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			String headerLine = reader.readLine();
+			if (headerLine == null) {
+				throw new IllegalStateException("Reference set '" + definition.getName() + "' file '" + path
+						+ "' is empty; a header row is required.");
+			}
+			if (!headerLine.isEmpty() && headerLine.charAt(0) == '\uFEFF') {
+				headerLine = headerLine.substring(1);
+			}
+			List<String> header = Arrays.stream(tokenizer.tokenize(headerLine).getValues()).map(String::trim).toList();
+			int keyIndex = isBlank(definition.getKeyColumn()) ? 0 : csvColumn(definition, path, header, definition.getKeyColumn());
+			int valueIndex = isBlank(definition.getValueColumn()) ? -1 : csvColumn(definition, path, header, definition.getValueColumn());
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				if (line.isBlank()) {
+					continue;
+				}
+				String[] values = tokenizer.tokenize(line).getValues();
+				if (values.length <= Math.max(keyIndex, valueIndex)) {
+					throw new IllegalStateException("Reference set '" + definition.getName() + "' file '" + path + "' line "
+							+ lineNumber + " has fewer columns than its header.");
+				}
+				builder.add(key(values[keyIndex], caseSensitive), valueIndex >= 0 ? values[valueIndex] : null);
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Reference set '" + definition.getName() + "' cannot read file '" + path + "'.", e);
+		}
+	}
+
+	private static boolean isBlank(String value) {
+		return value == null || value.isBlank();
+	}
+
+	private static int csvColumn(ProcessorConfig.ReferenceSet definition, Path path, List<String> header, String column) {
+		int index = header.indexOf(column);
+		if (index < 0) {
+			throw new IllegalStateException("Reference set '" + definition.getName() + "' file '" + path
+					+ "' does not declare header column '" + column + "'; found " + header + ".");
+		}
+		return index;
+	}
+}
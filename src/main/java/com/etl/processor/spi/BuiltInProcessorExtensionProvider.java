@@ -3,11 +3,13 @@ package com.etl.processor.spi;
 import com.etl.processor.transform.ConditionalProcessorTransform;
 import com.etl.processor.transform.ExpressionProcessorTransform;
 import com.etl.processor.transform.ProcessorFieldTransform;
+import com.etl.processor.transform.ReferenceLookupProcessorTransform;
 import com.etl.processor.transform.ValueMapProcessorTransform;
 import com.etl.processor.transform.ZoneConvertProcessorTransform;
 import com.etl.processor.validation.DuplicateProcessorValidationRule;
 import com.etl.processor.validation.NotNullProcessorValidationRule;
 import com.etl.processor.validation.ProcessorValidationRule;
+import com.etl.processor.validation.ReferenceSetProcessorValidationRule;
 import com.etl.processor.validation.TimeFormatProcessorValidationRule;
 import com.etl.processor.validation.XmlDuplicateProcessorValidationRule;
 import com.etl.runtime.FileIngestionRuntimeSupport;
@@ -34,6 +36,7 @@ public final class BuiltInProcessorExtensionProvider implements ProcessorExtensi
         return List.of(
                 new NotNullProcessorValidationRule(),
                 new TimeFormatProcessorValidationRule(),
+                new ReferenceSetProcessorValidationRule(),
                 new XmlDuplicateProcessorValidationRule(runtimeSupport),
                 new DuplicateProcessorValidationRule(runtimeSupport)
         );
@@ -45,7 +48,8 @@ public final class BuiltInProcessorExtensionProvider implements ProcessorExtensi
                 new ValueMapProcessorTransform(),
                 new ExpressionProcessorTransform(),
                 new ConditionalProcessorTransform(),
-                new ZoneConvertProcessorTransform()
+                new ZoneConvertProcessorTransform(),
+                new ReferenceLookupProcessorTransform()
         );
     }
 }
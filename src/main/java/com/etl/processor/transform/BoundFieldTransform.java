@@ -0,0 +1,17 @@
+package com.etl.processor.transform;
+
+/**
+ * One transform declaration bound to its implementation with its config already parsed.
+ *
+ * <p>{@link TransformEvaluator} compiles each field's {@code transforms[]} chain into bound steps
+ * once and then runs only these steps per record, so type dispatch and config parsing stay off the
+ * record path.</p>
+ */
+@FunctionalInterface
+public interface BoundFieldTransform {
+
+	/**
+	 * Applies the bound transform to the current field value.
+	 */
+	Object apply(Object value, ProcessorTransformContext context);
+}
@@ -3,39 +3,18 @@ package com.etl.processor.transform;
 import com.etl.config.processor.ProcessorConfig;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.Expression;
-import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.ParseException;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 
 @Component
 public class ConditionalProcessorTransform implements ProcessorFieldTransform {
 
 	private static final Logger log = LoggerFactory.getLogger(ConditionalProcessorTransform.class);
-	private static final int MAX_EXPRESSION_CACHE_SIZE = 1024;
-	private static final int MAX_LOGGED_EXPRESSION_LENGTH = 160;
-	private final ExpressionParser expressionParser = new SpelExpressionParser();
-	private final Map<String, Expression> expressionCache = Collections.synchronizedMap(
-			new LinkedHashMap<>(128, 0.75f, true) {
-				@Override
-				protected boolean removeEldestEntry(Map.Entry<String, Expression> eldest) {
-					boolean shouldEvict = size() > MAX_EXPRESSION_CACHE_SIZE;
-					if (shouldEvict && log.isTraceEnabled()) {
-						log.trace("PROCESSOR_TRANSFORM event=conditional_expression_cache_evict expression={} cacheSize={} maxSize={}",
-								abbreviateExpression(eldest.getKey()), size(), MAX_EXPRESSION_CACHE_SIZE);
-					}
-					return shouldEvict;
-				}
-			}
-	);
+	private final ProcessorExpressionCache expressionCache = new ProcessorExpressionCache("conditional");
 
 	@Override
 	public String getTransformType() {
@@ -59,7 +38,7 @@ public class ConditionalProcessorTransform implements ProcessorFieldTransform {
 						+ entityMapping.getSource() + " -> " + entityMapping.getTarget() + " field '" + displayField(fieldMapping) + "'.");
 			}
 			try {
-				resolveExpression(conditionalCase.getWhen());
+				expressionCache.expression(conditionalCase.getWhen());
 			} catch (ParseException e) {
 				throw new IllegalStateException("FieldMapping transform 'conditional' has invalid SpEL at cases[" + i + "] for entity "
 						+ entityMapping.getSource() + " -> " + entityMapping.getTarget() + " field '" + displayField(fieldMapping)
@@ -82,80 +61,66 @@ public class ConditionalProcessorTransform implements ProcessorFieldTransform {
 
 	@Override
 	public Object apply(Object value, ProcessorConfig.FieldTransform transform, ProcessorTransformContext context) {
-		String fieldName = displayField(context == null ? null : context.fieldMapping());
+		return bind(transform).apply(value, context);
+	}
+
+	@Override
+	public BoundFieldTransform bind(ProcessorConfig.FieldTransform transform) {
 		List<ProcessorConfig.ConditionalCase> conditionalCases = transform.getCases();
-		for (int index = 0; index < conditionalCases.size(); index++) {
-			ProcessorConfig.ConditionalCase conditionalCase = conditionalCases.get(index);
-			if (conditionalCase != null && matches(conditionalCase, value, context)) {
-				if (log.isDebugEnabled()) {
-					log.debug("PROCESSOR_TRANSFORM event=conditional_case_matched field={} caseIndex={} expression={}", fieldName, index,
-							abbreviateExpression(conditionalCase.getWhen()));
+		BoundCase[] boundCases = new BoundCase[conditionalCases.size()];
+		for (int index = 0; index < boundCases.length; index++) {
+			boundCases[index] = bindCase(conditionalCases.get(index));
+		}
+		Object defaultValue = transform.getDefaultValue();
+		return (value, context) -> {
+			for (int index = 0; index < boundCases.length; index++) {
+				BoundCase boundCase = boundCases[index];
+				if (boundCase != null && matches(boundCase, value, context)) {
+					if (log.isDebugEnabled()) {
+						log.debug("PROCESSOR_TRANSFORM event=conditional_case_matched field={} caseIndex={} expression={}",
+								displayField(context == null ? null : context.fieldMapping()), index,
+								ProcessorExpressionCache.abbreviate(boundCase.when()));
+					}
+					return boundCase.then();
 				}
-				return conditionalCase.getThen();
 			}
+			if (log.isDebugEnabled()) {
+				log.debug("PROCESSOR_TRANSFORM event=conditional_default_applied field={} caseCount={} hasDefault={} ",
+						displayField(context == null ? null : context.fieldMapping()), boundCases.length, defaultValue != null);
+			}
+			return defaultValue != null ? defaultValue : value;
+		};
+	}
+
+	private BoundCase bindCase(ProcessorConfig.ConditionalCase conditionalCase) {
+		if (conditionalCase == null) {
+			return null;
 		}
-		if (log.isDebugEnabled()) {
-			log.debug("PROCESSOR_TRANSFORM event=conditional_default_applied field={} caseCount={} hasDefault={} ", fieldName,
-					conditionalCases.size(), transform.getDefaultValue() != null);
+		try {
+			return new BoundCase(conditionalCase.getWhen(), expressionCache.expression(conditionalCase.getWhen()), null,
+					conditionalCase.getThen());
+		} catch (ParseException e) {
+			// Unvalidated configs keep failing on first evaluation, as before binding existed.
+			return new BoundCase(conditionalCase.getWhen(), null, e, conditionalCase.getThen());
 		}
-		return transform.getDefaultValue() != null ? transform.getDefaultValue() : value;
 	}
 
-	private boolean matches(ProcessorConfig.ConditionalCase conditionalCase, Object value, ProcessorTransformContext context) {
+	private boolean matches(BoundCase boundCase, Object value, ProcessorTransformContext context) {
 		try {
-			Expression expression = resolveExpression(conditionalCase.getWhen());
-			Boolean matched = expression.getValue(buildEvaluationContext(value, context), Boolean.class);
+			if (boundCase.parseFailure() != null) {
+				throw boundCase.parseFailure();
+			}
+			Boolean matched = expressionCache.evaluate(boundCase.expression(), value, context, Boolean.class);
 			return Boolean.TRUE.equals(matched);
 		} catch (ParseException | EvaluationException e) {
 			String fieldName = displayField(context == null ? null : context.fieldMapping());
 			log.warn("PROCESSOR_TRANSFORM event=conditional_evaluation_failed field={} expression={} error={}", fieldName,
-					abbreviateExpression(conditionalCase.getWhen()), e.getMessage());
+					ProcessorExpressionCache.abbreviate(boundCase.when()), e.getMessage());
 			throw new ProcessorTransformEvaluationException("Failed to evaluate processor conditional transform for field '"
 					+ fieldName + "': " + e.getMessage(), e);
 		}
 	}
 
-	private Expression resolveExpression(String rawExpression) {
-		String expressionText = rawExpression == null ? "" : rawExpression.trim();
-		synchronized (expressionCache) {
-			Expression cached = expressionCache.get(expressionText);
-			if (cached != null) {
-				if (log.isTraceEnabled()) {
-					log.trace("PROCESSOR_TRANSFORM event=conditional_expression_cache_hit expression={}", abbreviateExpression(expressionText));
-				}
-				return cached;
-			}
-
-			Expression parsedExpression = expressionParser.parseExpression(expressionText);
-			expressionCache.put(expressionText, parsedExpression);
-			if (log.isTraceEnabled()) {
-				log.trace("PROCESSOR_TRANSFORM event=conditional_expression_cache_miss expression={} cacheSize={}",
-						abbreviateExpression(expressionText), expressionCache.size());
-			}
-			return parsedExpression;
-		}
-	}
-
-	private String abbreviateExpression(String expressionText) {
-		if (expressionText == null) {
-			return "";
-		}
-		String trimmed = expressionText.trim();
-		if (trimmed.length() <= MAX_LOGGED_EXPRESSION_LENGTH) {
-			return trimmed;
-		}
-		return trimmed.substring(0, MAX_LOGGED_EXPRESSION_LENGTH - 3) + "...";
-	}
-
-	private StandardEvaluationContext buildEvaluationContext(Object value, ProcessorTransformContext context) {
-		StandardEvaluationContext evaluationContext = new StandardEvaluationContext(context == null ? null : context.input());
-		evaluationContext.setVariable("input", context == null ? null : context.input());
-		evaluationContext.setVariable("source", context == null ? null : context.input());
-		evaluationContext.setVariable("value", value);
-		evaluationContext.setVariable("resolved", context == null || context.resolvedValues() == null ? Map.of() : context.resolvedValues());
-		return evaluationContext;
-	}
-
 	private String displayField(ProcessorConfig.FieldMapping fieldMapping) {
 		if (fieldMapping == null) {
 			return "unknown";
@@ -168,5 +133,7 @@ public class ConditionalProcessorTransform implements ProcessorFieldTransform {
 		}
 		return "unknown";
 	}
-}
 
+	private record BoundCase(String when, Expression expression, ParseException parseFailure, Object then) {
+	}
+}
@@ -1,20 +1,15 @@
 package com.etl.processor.transform;
 
 import com.etl.config.processor.ProcessorConfig;
-import org.springframework.expression.Expression;
-import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.EvaluationException;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ParseException;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
-
 @Component
 public class ExpressionProcessorTransform implements ProcessorFieldTransform {
 
-	private final ExpressionParser expressionParser = new SpelExpressionParser();
+	private final ProcessorExpressionCache expressionCache = new ProcessorExpressionCache("expression");
 
 	@Override
 	public String getTransformType() {
@@ -27,7 +22,7 @@ public class ExpressionProcessorTransform implements ProcessorFieldTransform {
 	                                 ProcessorConfig.FieldTransform transform) {
 		String expression = normalizedExpression(transform);
 		try {
-			expressionParser.parseExpression(expression);
+			expressionCache.expression(expression);
 		} catch (ParseException e) {
 			throw new IllegalStateException("FieldMapping transform 'expression' has invalid SpEL for entity "
 					+ entityMapping.getSource() + " -> " + entityMapping.getTarget() + " field '" + displayField(fieldMapping)
@@ -42,19 +37,32 @@ public class ExpressionProcessorTransform implements ProcessorFieldTransform {
 
 	@Override
 	public Object apply(Object value, ProcessorConfig.FieldTransform transform, ProcessorTransformContext context) {
+		return bind(transform).apply(value, context);
+	}
+
+	@Override
+	public BoundFieldTransform bind(ProcessorConfig.FieldTransform transform) {
 		String expression = normalizedExpression(transform);
+		Expression parsedExpression;
 		try {
-			Expression compiledExpression = expressionParser.parseExpression(expression);
-			StandardEvaluationContext evaluationContext = new StandardEvaluationContext(context == null ? null : context.input());
-			evaluationContext.setVariable("input", context == null ? null : context.input());
-			evaluationContext.setVariable("source", context == null ? null : context.input());
-			evaluationContext.setVariable("value", value);
-			evaluationContext.setVariable("resolved", context == null || context.resolvedValues() == null ? Map.of() : context.resolvedValues());
-			return compiledExpression.getValue(evaluationContext);
-		} catch (ParseException | EvaluationException e) {
-			throw new IllegalStateException("Failed to evaluate processor expression transform for field '"
-					+ displayField(context == null ? null : context.fieldMapping()) + "': " + e.getMessage(), e);
+			parsedExpression = expressionCache.expression(expression);
+		} catch (ParseException e) {
+			return (value, context) -> {
+				throw evaluationFailure(context, e);
+			};
 		}
+		return (value, context) -> {
+			try {
+				return expressionCache.evaluate(parsedExpression, value, context, Object.class);
+			} catch (EvaluationException e) {
+				throw evaluationFailure(context, e);
+			}
+		};
+	}
+
+	private IllegalStateException evaluationFailure(ProcessorTransformContext context, RuntimeException cause) {
+		return new IllegalStateException("Failed to evaluate processor expression transform for field '"
+				+ displayField(context == null ? null : context.fieldMapping()) + "': " + cause.getMessage(), cause);
 	}
 
 	private String normalizedExpression(ProcessorConfig.FieldTransform transform) {
@@ -0,0 +1,57 @@
+package com.etl.processor.transform;
+
+import com.etl.config.processor.ProcessorConfig;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One field mapping's {@code transforms[]} chain compiled into {@linkplain BoundFieldTransform bound
+ * steps} by {@link TransformEvaluator#compile(ProcessorConfig.FieldMapping, com.etl.enums.ModelFormat)}.
+ *
+ * <p>Processors compile their plans once when the step is built and hold them for the step's
+ * lifetime, so nothing is cached globally and a plan is released together with its processor.</p>
+ */
+public final class FieldTransformPlan {
+
+	private static final BoundFieldTransform[] NO_STEPS = new BoundFieldTransform[0];
+
+	private final ProcessorConfig.FieldMapping fieldMapping;
+	private final List<ProcessorConfig.FieldTransform> transforms;
+	private final BoundFieldTransform[] steps;
+
+	FieldTransformPlan(ProcessorConfig.FieldMapping fieldMapping, BoundFieldTransform[] steps) {
+		this.fieldMapping = fieldMapping;
+		this.transforms = fieldMapping == null ? null : fieldMapping.getTransforms();
+		this.steps = steps == null ? NO_STEPS : steps;
+	}
+
+	/**
+	 * Whether this plan was compiled from the field mapping's current {@code transforms} list.
+	 */
+	public boolean isCurrentFor(ProcessorConfig.FieldMapping candidate) {
+		return candidate != null && candidate == fieldMapping && candidate.getTransforms() == transforms;
+	}
+
+	/**
+	 * Runs the bound steps in declared order for one record.
+	 */
+	public Object apply(Object value,
+	                    ProcessorConfig.EntityMapping entityMapping,
+	                    Object input,
+	                    Map<String, Object> resolvedValues) {
+		if (steps.length == 0) {
+			return value;
+		}
+		Map<String, Object> resolvedView = resolvedValues == null || resolvedValues.isEmpty()
+				? Map.of()
+				: Collections.unmodifiableMap(resolvedValues);
+		ProcessorTransformContext context = new ProcessorTransformContext(input, entityMapping, fieldMapping, resolvedView);
+		Object transformedValue = value;
+		for (BoundFieldTransform step : steps) {
+			transformedValue = step.apply(transformedValue, context);
+		}
+		return transformedValue;
+	}
+}
@@ -0,0 +1,119 @@
+package com.etl.processor.transform;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.DataBindingPropertyAccessor;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Parsed and compiled SpEL expressions shared by the {@code expression} and {@code conditional}
+ * transforms.
+ *
+ * <p>Expressions are parsed once, normally while the transform validates its configuration, and
+ * kept in an immutable snapshot that is swapped on insert so lookups on the record path never lock.
+ * The parser runs in {@link SpelCompilerMode#MIXED} mode: expressions are interpreted until SpEL
+ * compiles them to bytecode, and fall back to interpretation if a compiled form stops fitting the
+ * values it sees.</p>
+ *
+ * <p>Evaluation reuses one evaluation context per thread instead of building a new one per record.
+ * Its property access is limited to the read-only data-binding accessor that
+ * {@code SimpleEvaluationContext} uses, so expressions read the record but cannot assign to it;
+ * method calls and {@code T(...)} type references stay available as before.</p>
+ */
+final class ProcessorExpressionCache {
+
+	private static final Logger log = LoggerFactory.getLogger(ProcessorExpressionCache.class);
+	static final int MAX_CACHED_EXPRESSIONS = 1024;
+	private static final int MAX_LOGGED_EXPRESSION_LENGTH = 160;
+	private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser(
+			new SpelParserConfiguration(SpelCompilerMode.MIXED, ProcessorExpressionCache.class.getClassLoader()));
+	private static final ThreadLocal<StandardEvaluationContext> EVALUATION_CONTEXT = ThreadLocal.withInitial(
+			ProcessorExpressionCache::newEvaluationContext);
+
+	private final String transformType;
+	private final AtomicReference<Map<String, Expression>> expressions = new AtomicReference<>(Map.of());
+
+	ProcessorExpressionCache(String transformType) {
+		this.transformType = transformType;
+	}
+
+	/**
+	 * Returns the parsed expression for the given text, parsing and caching it on first use.
+	 * Once the cache is full, new expressions are parsed per call instead of evicting the
+	 * configured ones.
+	 */
+	Expression expression(String rawExpression) {
+		String expressionText = rawExpression == null ? "" : rawExpression.trim();
+		Expression cached = expressions.get().get(expressionText);
+		if (cached != null) {
+			return cached;
+		}
+
+		Expression parsedExpression = EXPRESSION_PARSER.parseExpression(expressionText);
+		Map<String, Expression> updated = expressions.updateAndGet(current -> {
+			if (current.containsKey(expressionText) || current.size() >= MAX_CACHED_EXPRESSIONS) {
+				return current;
+			}
+			Map<String, Expression> copy = new HashMap<>(current);
+			copy.put(expressionText, parsedExpression);
+			return Map.copyOf(copy);
+		});
+		Expression resolved = updated.get(expressionText);
+		if (log.isTraceEnabled()) {
+			log.trace("PROCESSOR_TRANSFORM event=expression_cache_miss transformType={} expression={} cached={} cacheSize={}",
+					transformType, abbreviate(expressionText), resolved != null, updated.size());
+		}
+		return resolved != null ? resolved : parsedExpression;
+	}
+
+	/**
+	 * Evaluates an expression against the current record using this thread's reusable context.
+	 */
+	<T> T evaluate(Expression expression, Object value, ProcessorTransformContext context, Class<T> resultType) {
+		StandardEvaluationContext evaluationContext = EVALUATION_CONTEXT.get();
+		Object input = context == null ? null : context.input();
+		evaluationContext.setVariable("input", input);
+		evaluationContext.setVariable("source", input);
+		evaluationContext.setVariable("value", value);
+		evaluationContext.setVariable("resolved", context == null || context.resolvedValues() == null ? Map.of() : context.resolvedValues());
+		try {
+			return expression.getValue(evaluationContext, input, resultType);
+		} finally {
+			// Drop record references so an idle worker thread does not pin the last record.
+			evaluationContext.setVariable("input", null);
+			evaluationContext.setVariable("source", null);
+			evaluationContext.setVariable("value", null);
+			evaluationContext.setVariable("resolved", null);
+		}
+	}
+
+	private static StandardEvaluationContext newEvaluationContext() {
+		StandardEvaluationContext evaluationContext = new StandardEvaluationContext();
+		evaluationContext.setPropertyAccessors(List.of(DataBindingPropertyAccessor.forReadOnlyAccess()));
+		return evaluationContext;
+	}
+
+	int size() {
+		return expressions.get().size();
+	}
+
+	static String abbreviate(String expressionText) {
+		if (expressionText == null) {
+			return "";
+		}
+		String trimmed = expressionText.trim();
+		if (trimmed.length() <= MAX_LOGGED_EXPRESSION_LENGTH) {
+			return trimmed;
+		}
+		return trimmed.substring(0, MAX_LOGGED_EXPRESSION_LENGTH - 3) + "...";
+	}
+}
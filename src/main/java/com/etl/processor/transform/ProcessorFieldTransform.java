@@ -66,5 +66,17 @@ public interface ProcessorFieldTransform {
 	 * Applies the transform to the current field value.
 	 */
 	Object apply(Object value, ProcessorConfig.FieldTransform transform);
+
+	/**
+	 * Binds one transform declaration for repeated use across records.
+	 *
+	 * <p>Implementations with config worth parsing up front (patterns, zones, lookup tables,
+	 * expressions) should override this and return a step that holds the parsed form. The bound
+	 * step may be reused for the lifetime of the mapping, so it must not depend on later changes to
+	 * {@code transform}. The default simply delegates to the contextual {@code apply} overload.</p>
+	 */
+	default BoundFieldTransform bind(ProcessorConfig.FieldTransform transform) {
+		return (value, context) -> apply(value, transform, context);
+	}
 }
 
@@ -8,8 +8,9 @@ import java.util.Map;
  * Runtime context supplied to processor transforms while one mapping is being resolved.
  *
  * <p>The context exposes the original input record, the active entity/field mapping metadata, and
- * an immutable snapshot of values already resolved earlier in the same mapping pass so transforms
- * can perform context-aware normalization without mutating shared processor state.</p>
+ * a read-only view of values already resolved earlier in the same mapping pass so transforms can
+ * perform context-aware normalization without mutating shared processor state. The view is only
+ * valid while the current field's transforms run; transforms must not retain it.</p>
  */
 public record ProcessorTransformContext(
 		Object input,
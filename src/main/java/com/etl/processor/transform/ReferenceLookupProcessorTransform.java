@@ -0,0 +1,89 @@
+package com.etl.processor.transform;
+
+import com.etl.config.processor.ProcessorConfig;
+import com.etl.processor.reference.ReferenceSetCache;
+import com.etl.processor.reference.ReferenceSetCache.LoadedReferenceSet;
+import org.springframework.stereotype.Component;
+
+/**
+ * Translates field values through a named {@code referenceSets} entry loaded from a relational
+ * query or CSV file.
+ *
+ * <p>The set is loaded on first use and shared through {@link ReferenceSetCache}, so every mapping
+ * and run naming the same definition reuses one copy until it expires; a run keeps the snapshot it
+ * started with. Values without an entry become {@code defaultValue}, or stay unchanged when no
+ * default is configured.</p>
+ */
+@Component
+public class ReferenceLookupProcessorTransform implements ProcessorFieldTransform {
+
+	private final ReferenceSetCache referenceSetCache;
+
+	public ReferenceLookupProcessorTransform() {
+		this(ReferenceSetCache.shared());
+	}
+
+	ReferenceLookupProcessorTransform(ReferenceSetCache referenceSetCache) {
+		this.referenceSetCache = referenceSetCache;
+	}
+
+	@Override
+	public String getTransformType() {
+		return "referenceLookup";
+	}
+
+	@Override
+	public void validateConfiguration(ProcessorConfig.EntityMapping entityMapping,
+	                                 ProcessorConfig.FieldMapping fieldMapping,
+	                                 ProcessorConfig.FieldTransform transform) {
+		if (transform.getReferenceSet() == null || transform.getReferenceSet().isBlank()) {
+			throw new IllegalStateException("FieldMapping transform 'referenceLookup' requires a non-blank 'referenceSet' for entity "
+					+ entityMapping.getSource() + " -> " + entityMapping.getTarget() + " field '" + fieldMapping.getFrom() + "'.");
+		}
+		ProcessorConfig.ReferenceSet definition = transform.getResolvedReferenceSet();
+		if (definition == null) {
+			throw new IllegalStateException("FieldMapping transform 'referenceLookup' references undeclared reference set '"
+					+ transform.getReferenceSet() + "' for entity " + entityMapping.getSource() + " -> " + entityMapping.getTarget()
+					+ " field '" + fieldMapping.getFrom() + "'.");
+		}
+		if (definition.getValueColumn() == null || definition.getValueColumn().isBlank()) {
+			throw new IllegalStateException("FieldMapping transform 'referenceLookup' requires reference set '"
+					+ transform.getReferenceSet() + "' to declare a 'valueColumn' for entity " + entityMapping.getSource()
+					+ " -> " + entityMapping.getTarget() + " field '" + fieldMapping.getFrom() + "'.");
+		}
+	}
+
+	@Override
+	public Object apply(Object value, ProcessorConfig.FieldTransform transform) {
+		return bind(transform).apply(value, null);
+	}
+
+	/**
+	 * Resolves the loaded set on the first record and keeps it for the bound step, so lookups skip
+	 * the cache entirely afterwards.
+	 */
+	@Override
+	public BoundFieldTransform bind(ProcessorConfig.FieldTransform transform) {
+		ProcessorConfig.ReferenceSet definition = transform.getResolvedReferenceSet();
+		if (definition == null) {
+			throw new IllegalStateException("FieldMapping transform 'referenceLookup' references undeclared reference set '"
+					+ transform.getReferenceSet() + "'.");
+		}
+		Object defaultValue = transform.getDefaultValue();
+		return new BoundFieldTransform() {
+
+			private volatile LoadedReferenceSet loaded;
+
+			@Override
+			public Object apply(Object value, ProcessorTransformContext context) {
+				LoadedReferenceSet set = loaded;
+				if (set == null) {
+					// The cache pins one set per definition, so racing first records resolve the same set.
+					set = referenceSetCache.get(definition);
+					loaded = set;
+				}
+				return set.translate(value, defaultValue != null ? defaultValue : value);
+			}
+		};
+	}
+}
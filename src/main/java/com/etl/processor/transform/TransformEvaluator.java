@@ -9,10 +9,8 @@ import org.springframework.stereotype.Component;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Collections;
 import java.util.Set;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 
 /**
  * Evaluates configured processor transforms for one mapped field value.
@@ -22,6 +20,11 @@ import java.util.LinkedHashMap;
  * <p>This class is the active transform SPI dispatcher. It keeps transform registration strict,
  * executes transforms in authored order, and provides a contextual view of already-resolved field
  * values so multi-field normalization stays deterministic within a single record.</p>
+ *
+ * <p>{@link #compile(ProcessorConfig.FieldMapping, ModelFormat)} turns a field's transform chain into
+ * a {@link FieldTransformPlan} of {@linkplain BoundFieldTransform bound steps}. Processors compile
+ * their plans when the step is built and keep them; the {@code apply} overloads compile for the one
+ * call and are meant for callers outside the record path.</p>
  */
 @Component
 public class TransformEvaluator {
@@ -146,16 +149,24 @@ public class TransformEvaluator {
 			return value;
 		}
 
-		Map<String, Object> resolvedSnapshot = resolvedValues == null || resolvedValues.isEmpty()
-				? Map.of()
-				: Collections.unmodifiableMap(new LinkedHashMap<>(resolvedValues));
-		ProcessorTransformContext context = new ProcessorTransformContext(input, entityMapping, fieldMapping, resolvedSnapshot);
-		Object transformedValue = value;
-		for (ProcessorConfig.FieldTransform transform : fieldMapping.getTransforms()) {
-			transformedValue = resolveTransform(transform == null ? null : transform.getType(), sourceFormat)
-					.apply(transformedValue, transform, context);
+		return compile(fieldMapping, sourceFormat).apply(value, entityMapping, input, resolvedValues);
+	}
+
+	/**
+	 * Compiles the field's transform chain into bound steps, resolving each transform type for the
+	 * source format and parsing its config once.
+	 */
+	public FieldTransformPlan compile(ProcessorConfig.FieldMapping fieldMapping, ModelFormat sourceFormat) {
+		List<ProcessorConfig.FieldTransform> transforms = fieldMapping == null ? null : fieldMapping.getTransforms();
+		if (transforms == null || transforms.isEmpty()) {
+			return new FieldTransformPlan(fieldMapping, null);
+		}
+		BoundFieldTransform[] steps = new BoundFieldTransform[transforms.size()];
+		for (int i = 0; i < steps.length; i++) {
+			ProcessorConfig.FieldTransform transform = transforms.get(i);
+			steps[i] = resolveTransform(transform == null ? null : transform.getType(), sourceFormat).bind(transform);
 		}
-		return transformedValue;
+		return new FieldTransformPlan(fieldMapping, steps);
 	}
 
 	/**
@@ -0,0 +1,174 @@
+package com.etl.processor.transform;
+
+import com.etl.common.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable hash lookup table behind one bound {@code valueMap} transform.
+ *
+ * <p>Keys are folded once at bind time with {@link StringUtils#foldCase}, so case-insensitive maps
+ * cost one hash probe per record instead of a scan over every entry. When a key is declared more
+ * than once, the first declaration wins, matching the authored-order scan this replaces.</p>
+ *
+ * <p>The table is stored with {@link Map#copyOf}, whose JDK implementation is a flat
+ * open-addressing array without per-entry node objects. Values loaded from a mappings file are
+ * deduplicated, so large partner code files that translate to a handful of target codes keep one
+ * copy of each target string.</p>
+ */
+final class ValueMapLookup {
+
+	private static final Logger log = LoggerFactory.getLogger(ValueMapLookup.class);
+	private static final Object NULL_VALUE = new Object();
+
+	private final Map<String, Object> table;
+	private final boolean caseSensitive;
+
+	private ValueMapLookup(Map<String, Object> table, boolean caseSensitive) {
+		this.table = table;
+		this.caseSensitive = caseSensitive;
+	}
+
+	/**
+	 * Returns the mapped value, or {@code defaultValue} (falling back to the original value) when
+	 * the value has no mapping.
+	 */
+	Object translate(Object value, Object defaultValue) {
+		Object mapped = value == null ? null : table.get(key(String.valueOf(value), caseSensitive));
+		if (mapped == null) {
+			return defaultValue != null ? defaultValue : value;
+		}
+		return mapped == NULL_VALUE ? null : mapped;
+	}
+
+	int size() {
+		return table.size();
+	}
+
+	static Builder builder(boolean caseSensitive) {
+		return new Builder(caseSensitive);
+	}
+
+	/**
+	 * Reads the header row of a mappings file and returns the indexes of the key and value columns.
+	 */
+	static int[] requireColumns(MappingsFile mappingsFile) {
+		try (BufferedReader reader = Files.newBufferedReader(mappingsFile.path(), StandardCharsets.UTF_8)) {
+			return columnIndexes(mappingsFile, reader.readLine());
+		} catch (IOException e) {
+			throw new IllegalStateException("FieldMapping transform 'valueMap' cannot read transforms[].config.mappingsFile='"
+					+ mappingsFile.path() + "'.", e);
+		}
+	}
+
+	private static int[] columnIndexes(MappingsFile mappingsFile, String headerLine) {
+		if (headerLine == null) {
+			throw new IllegalStateException("FieldMapping transform 'valueMap' mappings file '" + mappingsFile.path()
+					+ "' is empty; a header row with '" + mappingsFile.keyColumn() + "' and '" + mappingsFile.valueColumn()
+					+ "' columns is required.");
+		}
+		List<String> header = Arrays.stream(tokenizer(mappingsFile).tokenize(stripBom(headerLine)).getValues())
+				.map(String::trim)
+				.toList();
+		int keyIndex = header.indexOf(mappingsFile.keyColumn());
+		int valueIndex = header.indexOf(mappingsFile.valueColumn());
+		if (keyIndex < 0 || valueIndex < 0) {
+			throw new IllegalStateException("FieldMapping transform 'valueMap' mappings file '" + mappingsFile.path()
+					+ "' must declare header columns '" + mappingsFile.keyColumn() + "' and '" + mappingsFile.valueColumn()
+					+ "' but found " + header + ".");
+		}
+		return new int[]{keyIndex, valueIndex};
+	}
+
+	private static DelimitedLineTokenizer tokenizer(MappingsFile mappingsFile) {
+		DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer(mappingsFile.delimiter());
+		tokenizer.setStrict(false);
+		return tokenizer;
+	}
+
+	private static String stripBom(String line) {
+		return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+	}
+
+	private static String key(String candidate, boolean caseSensitive) {
+		return caseSensitive ? candidate : StringUtils.foldCase(candidate);
+	}
+
+	/**
+	 * External CSV mappings source declared through {@code transforms[].config.mappingsFile}.
+	 */
+	record MappingsFile(Path path, String keyColumn, String valueColumn, String delimiter) {
+	}
+
+	static final class Builder {
+
+		private final boolean caseSensitive;
+		private final Map<String, Object> entries = new HashMap<>();
+		private final Map<String, String> canonicalValues = new HashMap<>();
+
+		private Builder(boolean caseSensitive) {
+			this.caseSensitive = caseSensitive;
+		}
+
+		Builder put(String key, Object value) {
+			entries.putIfAbsent(key(key, caseSensitive), value == null ? NULL_VALUE : value);
+			return this;
+		}
+
+		Builder putAll(Map<String, Object> mappings) {
+			if (mappings != null) {
+				mappings.forEach(this::put);
+			}
+			return this;
+		}
+
+		Builder load(MappingsFile mappingsFile) {
+			long startNanos = System.nanoTime();
+			int before = entries.size();
+			long rows = 0;
+			long lineNumber = 1;
+			try (BufferedReader reader = Files.newBufferedReader(mappingsFile.path(), StandardCharsets.UTF_8)) {
+				int[] columns = columnIndexes(mappingsFile, reader.readLine());
+				DelimitedLineTokenizer tokenizer = tokenizer(mappingsFile);
+				String line;
+				while ((line = reader.readLine()) != null) {
+					lineNumber++;
+					if (line.isBlank()) {
+						continue;
+					}
+					String[] values = tokenizer.tokenize(line).getValues();
+					if (values.length <= Math.max(columns[0], columns[1])) {
+						throw new IllegalStateException("FieldMapping transform 'valueMap' mappings file '" + mappingsFile.path()
+								+ "' line " + lineNumber + " is missing the '" + mappingsFile.keyColumn() + "' or '"
+								+ mappingsFile.valueColumn() + "' column.");
+					}
+					rows++;
+					String value = values[columns[1]];
+					put(values[columns[0]], canonicalValues.computeIfAbsent(value, unused -> value));
+				}
+			} catch (IOException e) {
+				throw new IllegalStateException("FieldMapping transform 'valueMap' cannot read transforms[].config.mappingsFile='"
+						+ mappingsFile.path() + "'.", e);
+			}
+			log.info("PROCESSOR_TRANSFORM event=value_map_file_loaded path={} rows={} entriesAdded={} distinctValues={} elapsedMs={}",
+					mappingsFile.path(), rows, entries.size() - before, canonicalValues.size(),
+					(System.nanoTime() - startNanos) / 1_000_000);
+			return this;
+		}
+
+		ValueMapLookup build() {
+			return new ValueMapLookup(Map.copyOf(entries), caseSensitive);
+		}
+	}
+}
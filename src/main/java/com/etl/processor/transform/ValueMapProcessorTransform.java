@@ -3,11 +3,33 @@ package com.etl.processor.transform;
 import com.etl.config.processor.ProcessorConfig;
 import org.springframework.stereotype.Component;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Map;
+import java.util.WeakHashMap;
 
+/**
+ * Translates field values through a configured code table.
+ *
+ * <p>Entries come from inline {@code mappings}, from a CSV file named by
+ * {@code config.mappingsFile}, or both; inline entries win over file rows for the same key. The
+ * table is hash-indexed once when the transform is bound, so each record costs one lookup
+ * regardless of map size.</p>
+ *
+ * <p>Callers of the unbound {@link #apply(Object, ProcessorConfig.FieldTransform)} overload share
+ * one bound table per declaration, so a mappings file is not re-read on every call.</p>
+ */
 @Component
 public class ValueMapProcessorTransform implements ProcessorFieldTransform {
 
+	private static final String DEFAULT_KEY_COLUMN = "key";
+	private static final String DEFAULT_VALUE_COLUMN = "value";
+	private static final String DEFAULT_DELIMITER = ",";
+
+	private final Map<ProcessorConfig.FieldTransform, BoundLookup> boundLookups =
+			Collections.synchronizedMap(new WeakHashMap<>());
+
 	@Override
 	public String getTransformType() {
 		return "valueMap";
@@ -17,42 +39,107 @@ public class ValueMapProcessorTransform implements ProcessorFieldTransform {
 	public void validateConfiguration(ProcessorConfig.EntityMapping entityMapping,
 	                                 ProcessorConfig.FieldMapping fieldMapping,
 	                                 ProcessorConfig.FieldTransform transform) {
-		if (transform.getMappings() == null || transform.getMappings().isEmpty()) {
-			throw new IllegalStateException("FieldMapping transform 'valueMap' requires a non-empty 'mappings' object for entity "
+		ValueMapLookup.MappingsFile mappingsFile = mappingsFile(transform);
+		if ((transform.getMappings() == null || transform.getMappings().isEmpty()) && mappingsFile == null) {
+			throw new IllegalStateException("FieldMapping transform 'valueMap' requires a non-empty 'mappings' object or "
+					+ "transforms[].config.mappingsFile for entity "
 					+ entityMapping.getSource() + " -> " + entityMapping.getTarget() + " field '" + fieldMapping.getFrom() + "'.");
 		}
 
-		for (String key : transform.getMappings().keySet()) {
-			if (key == null) {
-				throw new IllegalStateException("FieldMapping transform 'valueMap' does not allow null mapping keys for entity "
-						+ entityMapping.getSource() + " -> " + entityMapping.getTarget() + " field '" + fieldMapping.getFrom() + "'.");
+		if (transform.getMappings() != null) {
+			for (String key : transform.getMappings().keySet()) {
+				if (key == null) {
+					throw new IllegalStateException("FieldMapping transform 'valueMap' does not allow null mapping keys for entity "
+							+ entityMapping.getSource() + " -> " + entityMapping.getTarget() + " field '" + fieldMapping.getFrom() + "'.");
+				}
+			}
+		}
+
+		if (mappingsFile != null) {
+			if (!Files.isReadable(mappingsFile.path())) {
+				throw new IllegalStateException("FieldMapping transform 'valueMap' has unreadable transforms[].config.mappingsFile='"
+						+ mappingsFile.path() + "' for entity " + entityMapping.getSource() + " -> " + entityMapping.getTarget()
+						+ " field '" + fieldMapping.getFrom() + "'.");
 			}
+			ValueMapLookup.requireColumns(mappingsFile);
 		}
 	}
 
+	/**
+	 * Translates through the table bound for this declaration, binding it again only when the
+	 * declaration's mappings, config, or default have been replaced since.
+	 */
 	@Override
 	public Object apply(Object value, ProcessorConfig.FieldTransform transform) {
-		for (Map.Entry<String, Object> entry : transform.getMappings().entrySet()) {
-			if (matches(value, entry.getKey(), isCaseSensitive(transform))) {
-				return entry.getValue();
-			}
+		BoundLookup bound = boundLookups.get(transform);
+		if (bound == null || !bound.isCurrentFor(transform)) {
+			bound = new BoundLookup(transform, bind(transform));
+			boundLookups.put(transform, bound);
 		}
-		return transform.getDefaultValue() != null ? transform.getDefaultValue() : value;
+		return bound.transform().apply(value, null);
 	}
 
-	private boolean matches(Object value, String configuredKey, boolean caseSensitive) {
-		if (value == null) {
-			return configuredKey == null;
+	@Override
+	public BoundFieldTransform bind(ProcessorConfig.FieldTransform transform) {
+		ValueMapLookup.Builder builder = ValueMapLookup.builder(isCaseSensitive(transform)).putAll(transform.getMappings());
+		ValueMapLookup.MappingsFile mappingsFile = mappingsFile(transform);
+		if (mappingsFile != null) {
+			builder.load(mappingsFile);
 		}
-		String candidate = String.valueOf(value);
-		if (caseSensitive) {
-			return candidate.equals(configuredKey);
+		ValueMapLookup lookup = builder.build();
+		Object defaultValue = transform.getDefaultValue();
+		return (value, context) -> lookup.translate(value, defaultValue);
+	}
+
+	private ValueMapLookup.MappingsFile mappingsFile(ProcessorConfig.FieldTransform transform) {
+		Map<String, Object> config = transform.getConfig();
+		String path = configString(config, "mappingsFile");
+		if (path == null) {
+			return null;
 		}
-		return candidate.equalsIgnoreCase(configuredKey);
+		String keyColumn = configString(config, "keyColumn");
+		String valueColumn = configString(config, "valueColumn");
+		Object delimiter = config.get("delimiter");
+		return new ValueMapLookup.MappingsFile(
+				Path.of(path).toAbsolutePath().normalize(),
+				keyColumn == null ? DEFAULT_KEY_COLUMN : keyColumn,
+				valueColumn == null ? DEFAULT_VALUE_COLUMN : valueColumn,
+				delimiter == null || String.valueOf(delimiter).isEmpty() ? DEFAULT_DELIMITER : String.valueOf(delimiter)
+		);
+	}
+
+	private String configString(Map<String, Object> config, String key) {
+		Object raw = config == null ? null : config.get(key);
+		if (raw == null || String.valueOf(raw).isBlank()) {
+			return null;
+		}
+		return String.valueOf(raw).trim();
 	}
 
 	private boolean isCaseSensitive(ProcessorConfig.FieldTransform transform) {
 		return transform.getCaseSensitive() == null || transform.getCaseSensitive();
 	}
-}
 
+	/**
+	 * Bound table plus the declaration parts it was built from; holds no reference to the
+	 * declaration itself so the weak cache key can still be collected.
+	 */
+	private record BoundLookup(Map<String, Object> mappings,
+	                           Map<String, Object> config,
+	                           Boolean caseSensitive,
+	                           Object defaultValue,
+	                           BoundFieldTransform transform) {
+
+		private BoundLookup(ProcessorConfig.FieldTransform declaration, BoundFieldTransform transform) {
+			this(declaration.getMappings(), declaration.getConfig(), declaration.getCaseSensitive(),
+					declaration.getDefaultValue(), transform);
+		}
+
+		private boolean isCurrentFor(ProcessorConfig.FieldTransform declaration) {
+			return declaration.getMappings() == mappings
+					&& declaration.getConfig() == config
+					&& declaration.getCaseSensitive() == caseSensitive
+					&& declaration.getDefaultValue() == defaultValue;
+		}
+	}
+}
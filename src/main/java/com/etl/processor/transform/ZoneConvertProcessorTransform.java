@@ -1,5 +1,6 @@
 package com.etl.processor.transform;
 
+import com.etl.common.util.TemporalFormats;
 import com.etl.config.processor.ProcessorConfig;
 import org.springframework.stereotype.Component;
 
@@ -7,7 +8,6 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.Map;
 
 /**
@@ -44,48 +44,26 @@ public class ZoneConvertProcessorTransform implements ProcessorFieldTransform {
 
 	@Override
 	public Object apply(Object value, ProcessorConfig.FieldTransform transform) {
+		return conversion(transform).convert(value);
+	}
+
+	@Override
+	public BoundFieldTransform bind(ProcessorConfig.FieldTransform transform) {
+		ZoneConversion conversion = conversion(transform);
+		return (value, context) -> conversion.convert(value);
+	}
+
+	private ZoneConversion conversion(ProcessorConfig.FieldTransform transform) {
 		Map<String, Object> config = requiredConfig(transform);
 		String fromZone = requiredConfigString(config, "fromZone");
 		String toZone = requiredConfigString(config, "toZone");
 		String inputPattern = requiredConfigString(config, "inputPattern");
 		String outputPattern = optionalConfigString(config, "outputPattern");
 
-		DateTimeFormatter inputFormatter = DateTimeFormatter.ofPattern(inputPattern);
-		DateTimeFormatter outputFormatter = DateTimeFormatter.ofPattern(outputPattern == null ? inputPattern : outputPattern);
-
-		if (value == null) {
-			return fallbackOrOriginal(value, config, toZone, outputFormatter);
-		}
-
-		String candidate = String.valueOf(value).trim();
-		if (candidate.isEmpty()) {
-			return fallbackOrOriginal(value, config, toZone, outputFormatter);
-		}
-
-		try {
-			LocalDateTime sourceDateTime = LocalDateTime.parse(candidate, inputFormatter);
-			ZonedDateTime sourceZonedDateTime = sourceDateTime.atZone(ZoneId.of(fromZone));
-			ZonedDateTime targetZonedDateTime = sourceZonedDateTime.withZoneSameInstant(ZoneId.of(toZone));
-			return targetZonedDateTime.format(outputFormatter);
-		} catch (DateTimeParseException | IllegalArgumentException e) {
-			return fallbackOrOriginal(value, config, toZone, outputFormatter);
-		}
-	}
-
-	private Object fallbackOrOriginal(Object originalValue,
-	                                 Map<String, Object> config,
-	                                 String toZone,
-	                                 DateTimeFormatter outputFormatter) {
-		Object fallbackValue = config.get("fallbackValue");
-		if (fallbackValue == null) {
-			return originalValue;
-		}
-
-		if (fallbackValue instanceof String fallbackText
-				&& FALLBACK_SYSTEM_TIME.equalsIgnoreCase(fallbackText.trim())) {
-			return ZonedDateTime.now(ZoneId.of(toZone)).format(outputFormatter);
-		}
-		return fallbackValue;
+		DateTimeFormatter inputFormatter = TemporalFormats.formatter(inputPattern);
+		DateTimeFormatter outputFormatter = TemporalFormats.formatter(outputPattern == null ? inputPattern : outputPattern);
+		return new ZoneConversion(TemporalFormats.zone(fromZone), TemporalFormats.zone(toZone), inputFormatter, outputFormatter,
+				config.get("fallbackValue"));
 	}
 
 	private Map<String, Object> requiredConfig(ProcessorConfig.FieldTransform transform) {
@@ -113,7 +91,7 @@ public class ZoneConvertProcessorTransform implements ProcessorFieldTransform {
 
 	private void requireValidZone(String zoneId, String key) {
 		try {
-			ZoneId.of(zoneId);
+			TemporalFormats.zone(zoneId);
 		} catch (Exception ex) {
 			throw new IllegalStateException("FieldMapping transform 'zoneConvert' has invalid transforms[].config." + key + "='" + zoneId + "'.", ex);
 		}
@@ -121,10 +99,49 @@ public class ZoneConvertProcessorTransform implements ProcessorFieldTransform {
 
 	private void requireValidPattern(String pattern, String key) {
 		try {
-			DateTimeFormatter.ofPattern(pattern);
+			TemporalFormats.formatter(pattern);
 		} catch (Exception ex) {
 			throw new IllegalStateException("FieldMapping transform 'zoneConvert' has invalid transforms[].config." + key + "='" + pattern + "'.", ex);
 		}
 	}
-}
 
+	/**
+	 * Parsed zone-conversion config; built once per bound transform instead of once per value, with
+	 * formatters and zones shared through {@link TemporalFormats}.
+	 */
+	private record ZoneConversion(ZoneId fromZone,
+	                              ZoneId toZone,
+	                              DateTimeFormatter inputFormatter,
+	                              DateTimeFormatter outputFormatter,
+	                              Object fallbackValue) {
+
+		Object convert(Object value) {
+			if (value == null) {
+				return fallbackOrOriginal(value);
+			}
+
+			String candidate = String.valueOf(value).trim();
+			if (candidate.isEmpty()) {
+				return fallbackOrOriginal(value);
+			}
+
+			LocalDateTime sourceDateTime = TemporalFormats.parseOrNull(candidate, inputFormatter, LocalDateTime::from);
+			if (sourceDateTime == null) {
+				return fallbackOrOriginal(value);
+			}
+			return sourceDateTime.atZone(fromZone).withZoneSameInstant(toZone).format(outputFormatter);
+		}
+
+		private Object fallbackOrOriginal(Object originalValue) {
+			if (fallbackValue == null) {
+				return originalValue;
+			}
+
+			if (fallbackValue instanceof String fallbackText
+					&& FALLBACK_SYSTEM_TIME.equalsIgnoreCase(fallbackText.trim())) {
+				return ZonedDateTime.now(toZone).format(outputFormatter);
+			}
+			return fallbackValue;
+		}
+	}
+}
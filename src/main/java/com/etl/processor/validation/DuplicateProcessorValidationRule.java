@@ -175,9 +175,11 @@ public class DuplicateProcessorValidationRule implements ProcessorValidationRule
 		return switch (normalized) {
 			case "auto" -> DuplicateRule.StorageMode.AUTO;
 			case "memory" -> DuplicateRule.StorageMode.MEMORY;
+			case "winneronly", "winner_only", "winner-only" -> DuplicateRule.StorageMode.WINNER_ONLY;
 			case "embeddeddb", "embedded_db", "embedded-db" -> DuplicateRule.StorageMode.EMBEDDED_DB;
+			case "externalsort", "external_sort", "external-sort" -> DuplicateRule.StorageMode.EXTERNAL_SORT;
 			default -> throw new IllegalStateException("FieldMapping rule 'duplicate' has invalid storageMode '"
-					+ rule.getStorageMode() + "'. Supported values are auto, memory, or embeddedDb.");
+					+ rule.getStorageMode() + "'. Supported values are auto, memory, winnerOnly, embeddedDb, or externalSort.");
 		};
 	}
 
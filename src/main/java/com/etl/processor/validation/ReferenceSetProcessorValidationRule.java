@@ -0,0 +1,61 @@
+package com.etl.processor.validation;
+
+import com.etl.config.processor.ProcessorConfig;
+import com.etl.processor.reference.ReferenceSetCache;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rejects values that are not keys of a named {@code referenceSets} entry.
+ *
+ * <p>The set is loaded on first use and shared through {@link ReferenceSetCache}, which pins it
+ * to the run's definition so every record of a run checks against one snapshot. Null and blank
+ * values pass so the rule composes with {@code notNull}.</p>
+ */
+@Component
+public class ReferenceSetProcessorValidationRule implements ProcessorValidationRule {
+
+	private final ReferenceSetCache referenceSetCache;
+
+	public ReferenceSetProcessorValidationRule() {
+		this(ReferenceSetCache.shared());
+	}
+
+	ReferenceSetProcessorValidationRule(ReferenceSetCache referenceSetCache) {
+		this.referenceSetCache = referenceSetCache;
+	}
+
+	@Override
+	public String getRuleType() {
+		return "referenceSet";
+	}
+
+	@Override
+	public void validateConfiguration(ProcessorConfig.EntityMapping entityMapping,
+	                                 ProcessorConfig.FieldMapping fieldMapping,
+	                                 ProcessorConfig.FieldRule rule) {
+		if (rule.getReferenceSet() == null || rule.getReferenceSet().isBlank()) {
+			throw new IllegalStateException("FieldMapping rule 'referenceSet' requires a non-blank 'referenceSet' for entity "
+					+ entityMapping.getSource() + " -> " + entityMapping.getTarget() + " field '" + fieldMapping.getFrom() + "'.");
+		}
+		if (rule.getResolvedReferenceSet() == null) {
+			throw new IllegalStateException("FieldMapping rule 'referenceSet' references undeclared reference set '"
+					+ rule.getReferenceSet() + "' for entity " + entityMapping.getSource() + " -> " + entityMapping.getTarget()
+					+ " field '" + fieldMapping.getFrom() + "'.");
+		}
+	}
+
+	@Override
+	public ValidationIssue evaluate(String fieldName, Object value, ProcessorConfig.FieldRule rule) {
+		if (value == null || (value instanceof String stringValue && stringValue.isBlank())) {
+			return null;
+		}
+		if (rule.getResolvedReferenceSet() == null) {
+			throw new IllegalArgumentException("Validation rule 'referenceSet' requires a declared reference set.");
+		}
+
+		if (referenceSetCache.get(rule.getResolvedReferenceSet()).contains(value)) {
+			return null;
+		}
+		return new ValidationIssue(fieldName, getRuleType(), fieldName + " must be one of reference set " + rule.getReferenceSet());
+	}
+}
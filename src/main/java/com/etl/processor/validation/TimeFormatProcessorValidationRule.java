@@ -1,11 +1,10 @@
 package com.etl.processor.validation;
 
+import com.etl.common.util.TemporalFormats;
 import com.etl.config.processor.ProcessorConfig;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 
 @Component
 public class TimeFormatProcessorValidationRule implements ProcessorValidationRule {
@@ -23,6 +22,12 @@ public class TimeFormatProcessorValidationRule implements ProcessorValidationRul
 			throw new IllegalStateException("FieldMapping rule 'timeFormat' requires a non-blank 'pattern' for entity "
 					+ entityMapping.getSource() + " -> " + entityMapping.getTarget() + " field '" + fieldMapping.getFrom() + "'.");
 		}
+		try {
+			TemporalFormats.formatter(rule.getPattern());
+		} catch (IllegalArgumentException e) {
+			throw new IllegalStateException("FieldMapping rule 'timeFormat' has invalid pattern '" + rule.getPattern() + "' for entity "
+					+ entityMapping.getSource() + " -> " + entityMapping.getTarget() + " field '" + fieldMapping.getFrom() + "'.", e);
+		}
 	}
 
 	@Override
@@ -39,12 +44,10 @@ public class TimeFormatProcessorValidationRule implements ProcessorValidationRul
 			throw new IllegalArgumentException("Validation rule 'timeFormat' requires a non-blank pattern.");
 		}
 
-		try {
-			LocalTime.parse(text, DateTimeFormatter.ofPattern(rule.getPattern()));
+		if (TemporalFormats.parseOrNull(text, TemporalFormats.formatter(rule.getPattern()), LocalTime::from) != null) {
 			return null;
-		} catch (DateTimeParseException e) {
-			return new ValidationIssue(fieldName, getRuleType(), fieldName + " must match " + rule.getPattern());
 		}
+		return new ValidationIssue(fieldName, getRuleType(), fieldName + " must match " + rule.getPattern());
 	}
 }
 
@@ -15,8 +15,16 @@ import org.springframework.batch.item.ItemReader;
  *
  * <p>The returned reader may also implement Spring Batch stream lifecycle interfaces
  * when the underlying format needs open/update/close participation.</p>
+ *
+ * <p>Readers that can split their source for partitioned steps implement
+ * {@link PartitionableDynamicReader} instead.</p>
  */
 public interface DynamicReader<T> {
+	/**
+	 * Partition context key holding the zero-based partition index assigned by a partitioner.
+	 */
+	String PARTITION_INDEX_KEY = "partition.index";
+
 	/**
 	 * Stable extension id used for diagnostics and conflict reporting.
 	 */
@@ -39,4 +47,4 @@ public interface DynamicReader<T> {
 	 * Builds the runtime reader for the supplied source config and generated model class.
 	 */
 	ItemReader<T> getReader(SourceConfig config, Class<T> clazz) throws Exception;
-}
\ No newline at end of file
+}
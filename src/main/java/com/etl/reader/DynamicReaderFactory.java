@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.ArrayList;
 
+import com.etl.config.job.JobConfig;
 import com.etl.config.source.SourceConfig;
 import com.etl.enums.ModelFormat;
 import com.etl.extension.ExtensionConflictPolicy;
@@ -12,6 +13,8 @@ import com.etl.exception.FactoryException;
 import com.etl.exception.reader.NoReaderFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.stereotype.Component;
 
@@ -126,6 +129,61 @@ public class DynamicReaderFactory {
 		}
 	}
 
+	/**
+	 * Creates the partitioner for a partitioned step, failing fast when the source format cannot
+	 * be split.
+	 */
+	public Partitioner createPartitioner(SourceConfig config, JobConfig.PartitioningConfig partitioning) {
+		if (config == null) {
+			throw new FactoryException("Source configuration must not be null when creating a partitioner.");
+		}
+		ModelFormat format = config.getFormat();
+		PartitionableDynamicReader<?> reader = partitionableReader(config);
+		try {
+			return reader.getPartitioner(config, partitioning);
+		} catch (EtlException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new FactoryException(
+					"Failed to create partitioner for source '" + defaultName(config.getSourceName())
+							+ "' using format '" + format + "'.",
+					e
+			);
+		}
+	}
+
+	private PartitionableDynamicReader<?> partitionableReader(SourceConfig config) {
+		ModelFormat format = config.getFormat();
+		if (!(getReaderByFormat(format) instanceof PartitionableDynamicReader<?> reader)) {
+			throw new FactoryException("Source '" + defaultName(config.getSourceName())
+					+ "' uses format '" + format + "', which does not support partitioned steps.");
+		}
+		return reader;
+	}
+
+	/**
+	 * Creates the reader for one partition of a partitioned step.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> ItemReader<T> createPartitionReader(SourceConfig config, Class<T> clazz, ExecutionContext partition) throws Exception {
+		if (config == null || clazz == null || partition == null) {
+			throw new FactoryException("Source configuration, target class, and partition context must not be null when creating a partition reader.");
+		}
+		ModelFormat format = config.getFormat();
+		PartitionableDynamicReader<T> reader = (PartitionableDynamicReader<T>) partitionableReader(config);
+		try {
+			return reader.getPartitionReader(config, clazz, partition);
+		} catch (EtlException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new FactoryException(
+					"Failed to create partition reader for source '" + defaultName(config.getSourceName())
+							+ "' using format '" + format + "'.",
+					e
+			);
+		}
+	}
+
 	private String defaultName(String value) {
 		return value == null || value.isBlank() ? "unnamed" : value.trim();
 	}
@@ -0,0 +1,31 @@
+package com.etl.reader;
+
+import com.etl.config.job.JobConfig;
+import com.etl.config.source.SourceConfig;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemReader;
+
+/**
+ * Reader capability for source formats that can be split for a partitioned step.
+ *
+ * <p>{@link DynamicReaderFactory} only builds partitioned steps for readers implementing this
+ * interface; every other format is rejected before any partition work starts.</p>
+ */
+public interface PartitionableDynamicReader<T> extends DynamicReader<T> {
+
+	/**
+	 * Builds the partitioner that splits the supplied source into independent ranges.
+	 *
+	 * <p>Each partition's {@link ExecutionContext} must carry everything
+	 * {@link #getPartitionReader(SourceConfig, Class, ExecutionContext)} needs to read only that
+	 * range.</p>
+	 */
+	Partitioner getPartitioner(SourceConfig config, JobConfig.PartitioningConfig partitioning);
+
+	/**
+	 * Builds a reader limited to one partition produced by
+	 * {@link #getPartitioner(SourceConfig, JobConfig.PartitioningConfig)}.
+	 */
+	ItemReader<T> getPartitionReader(SourceConfig config, Class<T> clazz, ExecutionContext partition) throws Exception;
+}
@@ -0,0 +1,123 @@
+package com.etl.reader.impl;
+
+import com.etl.reader.mapper.DynamicFieldSetMapper;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.item.file.transform.IncorrectTokenCountException;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+
+/**
+ * CSV item reader that maps records straight from {@link CsvRecordTokenizer} buffer offsets.
+ *
+ * <p>It replaces {@code FlatFileItemReader} + {@code DelimitedLineTokenizer} + {@code FieldSet} for
+ * CSV sources: no line {@code String}, token array, or field set is built per record, and the
+ * mapper materializes values only for the columns it binds. Behavior otherwise follows the
+ * reader it replaces: the resource must exist, {@code linesToSkip} header records are skipped,
+ * records starting with {@code #} are treated as comments, every record must have exactly the
+ * configured number of columns, and parse or mapping failures surface as
+ * {@link FlatFileParseException} with the record's line number and text.</p>
+ *
+ * <p>Read counts are saved by the item-counting base class; on restart the already processed
+ * records are skipped by the tokenizer without being mapped.</p>
+ */
+final class CsvCharBufferItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> {
+
+	private static final char COMMENT_PREFIX = '#';
+
+	private final Resource resource;
+	private final Charset charset;
+	private final String delimiter;
+	private final char quote;
+	private final int linesToSkip;
+	private final int columnCount;
+	private final DynamicFieldSetMapper<T> mapper;
+	private Reader source;
+	private CsvRecordTokenizer tokenizer;
+
+	CsvCharBufferItemReader(Resource resource,
+	                        Charset charset,
+	                        String delimiter,
+	                        char quote,
+	                        int linesToSkip,
+	                        int columnCount,
+	                        DynamicFieldSetMapper<T> mapper) {
+		this.resource = resource;
+		this.charset = charset;
+		this.delimiter = delimiter;
+		this.quote = quote;
+		this.linesToSkip = linesToSkip;
+		this.columnCount = columnCount;
+		this.mapper = mapper;
+		setName("CsvCharBufferItemReader");
+	}
+
+	@Override
+	protected void doOpen() throws Exception {
+		if (!resource.exists()) {
+			throw new ItemStreamException("Input resource must exist (reader is in 'strict' mode): " + resource);
+		}
+		source = new InputStreamReader(resource.getInputStream(), charset);
+		tokenizer = new CsvRecordTokenizer(source, delimiter, quote, CsvRecordTokenizer.DEFAULT_BUFFER_SIZE);
+		for (int i = 0; i < linesToSkip && tokenizer.next(); i++) {
+			// header records are skipped without tokenizing into values
+		}
+	}
+
+	@Override
+	protected T doRead() throws Exception {
+		if (!nextDataRecord()) {
+			return null;
+		}
+		if (tokenizer.fieldCount() != columnCount) {
+			throw parseError(new IncorrectTokenCountException(columnCount, tokenizer.fieldCount(), tokenizer.recordText()));
+		}
+		try {
+			return mapper.mapRecord(tokenizer.chars(), tokenizer.starts(), tokenizer.ends());
+		} catch (RuntimeException e) {
+			throw parseError(e);
+		}
+	}
+
+	@Override
+	protected void jumpToItem(int itemIndex) throws Exception {
+		for (int i = 0; i < itemIndex && nextDataRecord(); i++) {
+			// skipped records were processed by the previous execution
+		}
+	}
+
+	@Override
+	protected void doClose() throws Exception {
+		tokenizer = null;
+		if (source != null) {
+			try {
+				source.close();
+			} finally {
+				source = null;
+			}
+		}
+	}
+
+	private boolean nextDataRecord() throws IOException {
+		if (tokenizer == null) {
+			return false;
+		}
+		while (tokenizer.next()) {
+			if (tokenizer.firstChar() != COMMENT_PREFIX) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private FlatFileParseException parseError(Exception cause) {
+		String input = tokenizer.recordText();
+		return new FlatFileParseException("Parsing error at line: " + tokenizer.lineNumber() + " in resource=["
+				+ resource.getDescription() + "], input=[" + input + "]", cause, input, (int) tokenizer.lineNumber());
+	}
+}
@@ -1,21 +1,28 @@
 package com.etl.reader.impl;
 
 import com.etl.config.FieldDefinition;
+import com.etl.config.job.JobConfig;
 import com.etl.config.source.CsvSourceConfig;
 import com.etl.enums.ModelFormat;
 import com.etl.reader.DynamicReader;
+import com.etl.reader.PartitionableDynamicReader;
 import com.etl.config.source.SourceConfig;
 import com.etl.runtime.FileSourceArtifactSupport;
 import com.etl.reader.mapper.DynamicFieldSetMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.batch.item.file.FlatFileItemReader;
-import org.springframework.batch.item.file.mapping.DefaultLineMapper;
 import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
 import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -23,19 +30,29 @@ import java.util.stream.Collectors;
 /**
  * Runtime CSV reader builder for explicit-job source configs.
  *
- * <p>This reader converts the configured CSV contract into a Spring Batch
- * {@link FlatFileItemReader}. It owns delimiter and quote handling, optional header
- * skipping, tokenizer column ordering, and dynamic field mapping from CSV columns
- * into the generated source model class.</p>
+ * <p>This reader converts the configured CSV contract into a {@link CsvCharBufferItemReader},
+ * which tokenizes records into offsets over a reusable character buffer instead of building a
+ * line {@code String} and {@code FieldSet} per row. It owns delimiter and quote handling,
+ * optional header skipping, tokenizer column ordering, and dynamic field mapping from CSV
+ * columns into the generated source model class.</p>
  *
  * <p>The runtime contract is intentionally config-driven: field order comes from
  * {@code source-config.yaml}, not from reflection over the generated class. That keeps
  * CSV parsing aligned with the selected bundle instead of relying on Java property order.</p>
  *
+ * <p>Sources with {@code parser.mode: mapped} use {@link CsvMappedParallelItemReader} instead,
+ * which memory-maps the file and decodes and tokenizes record blocks on a worker pool while the
+ * step still receives rows in file order.</p>
+ *
+ * <p>For partitioned steps the file is split into record-aligned byte ranges by
+ * {@link CsvLineRangePartitioner}; each partition reader parses only its own range with the same
+ * tokenizer and field mapping. Partition readers always use the streaming tokenizer, since the
+ * partitions already parse concurrently.</p>
+ *
  * @param <T> The target object type for each CSV row
  */
 @Component("csv")
-public class CsvDynamicReader<T> implements DynamicReader<T> {
+public class CsvDynamicReader<T> implements PartitionableDynamicReader<T> {
 
 	private static final Logger logger = LoggerFactory.getLogger(CsvDynamicReader.class);
 	private static final FileSourceArtifactSupport FILE_SOURCE_ARTIFACT_SUPPORT = new FileSourceArtifactSupport();
@@ -61,17 +78,44 @@ public class CsvDynamicReader<T> implements DynamicReader<T> {
 		CsvSourceConfig csvConfig = (CsvSourceConfig) config;
 		csvConfig.validateParserConfiguration();
 
-		FlatFileItemReader<T> reader = new FlatFileItemReader<>();
-		reader.setResource(resolveResource(csvConfig));
-		reader.setLinesToSkip(linesToSkip(csvConfig));
-		reader.setLineMapper(buildLineMapper(config, clazz));
-		reader.setStrict(true);
+		ItemStreamReader<T> reader = csvConfig.isMappedParseMode()
+				? buildMappedReader(FILE_SOURCE_ARTIFACT_SUPPORT.resolveReadablePath(csvConfig), linesToSkip(csvConfig), csvConfig, clazz)
+				: buildReader(resolveResource(csvConfig), linesToSkip(csvConfig), csvConfig, clazz);
 
 		// Wrap the concrete reader so CSV parsing failures use the same categorized
 		// runtime failure path as the other active source formats.
 		return new RuntimeCategorizingItemStreamReader<>(reader, csvConfig.getSourceName());
 	}
 
+	@Override
+	public Partitioner getPartitioner(SourceConfig config, JobConfig.PartitioningConfig partitioning) {
+		CsvSourceConfig csvConfig = (CsvSourceConfig) config;
+		csvConfig.validateParserConfiguration();
+		return new CsvLineRangePartitioner(
+				FILE_SOURCE_ARTIFACT_SUPPORT.resolveReadablePath(csvConfig), csvConfig.isSkipHeader(), quoteCharacter(csvConfig));
+	}
+
+	/**
+	 * Builds a reader over one partition range. The header was already excluded by the
+	 * partitioner, so no lines are skipped here.
+	 */
+	@Override
+	public ItemReader<T> getPartitionReader(SourceConfig config, Class<T> clazz, ExecutionContext partition) {
+		if (config == null || clazz == null || partition == null) {
+			throw new IllegalArgumentException("SourceConfig, target class, and partition context must not be null.");
+		}
+
+		CsvSourceConfig csvConfig = (CsvSourceConfig) config;
+		csvConfig.validateParserConfiguration();
+
+		FileByteRangeResource range = new FileByteRangeResource(
+				Path.of(partition.getString(CsvLineRangePartitioner.FILE_PATH_KEY)),
+				partition.getLong(CsvLineRangePartitioner.START_OFFSET_KEY),
+				partition.getLong(CsvLineRangePartitioner.END_OFFSET_KEY));
+		CsvCharBufferItemReader<T> reader = buildReader(range, 0, csvConfig, clazz);
+		return new RuntimeCategorizingItemStreamReader<>(reader, csvConfig.getSourceName());
+	}
+
 	private FileSystemResource resolveResource(CsvSourceConfig csvConfig) {
 		return new FileSystemResource(FILE_SOURCE_ARTIFACT_SUPPORT.resolveReadablePath(csvConfig));
 	}
@@ -82,32 +126,57 @@ public class CsvDynamicReader<T> implements DynamicReader<T> {
 		return csvConfig.isSkipHeader() ? 1 : 0;
 	}
 
-	private DefaultLineMapper<T> buildLineMapper(SourceConfig config, Class<T> clazz) {
-		DefaultLineMapper<T> lineMapper = new DefaultLineMapper<>();
-		lineMapper.setLineTokenizer(buildTokenizer((CsvSourceConfig) config));
+	private CsvCharBufferItemReader<T> buildReader(Resource resource, int linesToSkip, CsvSourceConfig csvConfig, Class<T> clazz) {
+		String[] columnNames = configuredColumnNames(csvConfig);
+		logConfiguredColumnNames(columnNames);
 
-		List<? extends FieldDefinition> fields = config.getFields();
-		// Field mapping stays dynamic so one reader implementation can support many
-		// different generated source model shapes across preserved bundles.
-		lineMapper.setFieldSetMapper(new DynamicFieldSetMapper<>(fields, clazz));
-		return lineMapper;
+		return new CsvCharBufferItemReader<>(
+				resource,
+				Charset.forName(FlatFileItemReader.DEFAULT_CHARSET),
+				delimiter(csvConfig),
+				quoteCharacter(csvConfig),
+				linesToSkip,
+				columnNames.length,
+				fieldMapper(csvConfig, clazz));
 	}
 
-	private DelimitedLineTokenizer buildTokenizer(CsvSourceConfig csvConfig) {
-		// Configure delimiter and quote handling from the selected source config so the
-		// tokenizer matches the file contract instead of assuming default CSV behavior.
-		DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
-		tokenizer.setDelimiter(csvConfig.getDelimiter());
+	private CsvMappedParallelItemReader<T> buildMappedReader(Path path, int linesToSkip, CsvSourceConfig csvConfig, Class<T> clazz) {
+		String[] columnNames = configuredColumnNames(csvConfig);
+		logConfiguredColumnNames(columnNames);
+
+		int parallelism = csvConfig.resolveParserParallelism();
+		logger.info("CSV source '{}' uses mapped parse mode with parallelism={}", csvConfig.getSourceName(), parallelism);
+		return new CsvMappedParallelItemReader<>(
+				path,
+				Charset.forName(FlatFileItemReader.DEFAULT_CHARSET),
+				delimiter(csvConfig),
+				quoteCharacter(csvConfig),
+				linesToSkip,
+				columnNames.length,
+				fieldMapper(csvConfig, clazz),
+				parallelism,
+				CsvMappedParallelItemReader.DEFAULT_BLOCK_BYTES);
+	}
 
+	// Delimiter and quote handling come from the selected source config so the tokenizer
+	// matches the file contract; without an explicit quote character the standard CSV
+	// double quote applies, as it did for the delimited line tokenizer.
+	private String delimiter(CsvSourceConfig csvConfig) {
+		return csvConfig.getDelimiter() == null || csvConfig.getDelimiter().isEmpty()
+				? DelimitedLineTokenizer.DELIMITER_COMMA
+				: csvConfig.getDelimiter();
+	}
+
+	private char quoteCharacter(CsvSourceConfig csvConfig) {
 		Character quoteCharacter = csvConfig.resolveQuoteCharacter();
-		if (quoteCharacter != null) {
-			tokenizer.setQuoteCharacter(quoteCharacter);
-		}
+		return quoteCharacter == null ? DelimitedLineTokenizer.DEFAULT_QUOTE_CHARACTER : quoteCharacter;
+	}
 
-		String[] columnNames = configuredColumnNames(csvConfig);
-		logConfiguredColumnNames(columnNames);
-		tokenizer.setNames(columnNames);
-		return tokenizer;
+	private DynamicFieldSetMapper<T> fieldMapper(CsvSourceConfig csvConfig, Class<T> clazz) {
+		List<? extends FieldDefinition> fields = csvConfig.getFields();
+		// Field mapping stays dynamic so one reader implementation can support many
+		// different generated source model shapes across preserved bundles.
+		return new DynamicFieldSetMapper<>(fields, clazz);
 	}
 
 	private String[] configuredColumnNames(SourceConfig config) {
@@ -0,0 +1,117 @@
+package com.etl.reader.impl;
+
+import com.etl.exception.SourceReadException;
+import com.etl.reader.DynamicReader;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Splits a CSV file into byte ranges that start and end on record boundaries.
+ *
+ * <p>The header line, when configured, is excluded from every range. The remaining bytes are cut
+ * into {@code gridSize} even segments, and {@link CsvRecordBlockSplitter} moves each cut forward to
+ * the first line break that lies outside a quoted field. Quoted values with embedded line breaks
+ * therefore never straddle two ranges, no record is cut in half, and every record lands in exactly
+ * one range. The boundary scan reads the file once, in parallel, before the partitions start.</p>
+ */
+final class CsvLineRangePartitioner implements Partitioner {
+
+	static final String FILE_PATH_KEY = "partition.filePath";
+	static final String START_OFFSET_KEY = "partition.startOffset";
+	static final String END_OFFSET_KEY = "partition.endOffset";
+
+	private static final int SCAN_BUFFER_SIZE = 8192;
+
+	private final Path filePath;
+	private final boolean skipHeader;
+	private final char quote;
+
+	CsvLineRangePartitioner(Path filePath, boolean skipHeader, char quote) {
+		if (quote > 0x7F) {
+			throw new IllegalArgumentException("CSV partitioning requires an ASCII parser.quoteCharacter.");
+		}
+		this.filePath = filePath;
+		this.skipHeader = skipHeader;
+		this.quote = quote;
+	}
+
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		List<long[]> ranges;
+		try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+			ranges = ranges(channel, Math.max(1, gridSize));
+		} catch (IOException e) {
+			throw new SourceReadException("Failed to partition CSV source '" + filePath + "'.", e);
+		}
+
+		Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+		for (int i = 0; i < ranges.size(); i++) {
+			ExecutionContext context = new ExecutionContext();
+			context.putInt(DynamicReader.PARTITION_INDEX_KEY, i);
+			context.putString(FILE_PATH_KEY, filePath.toString());
+			context.putLong(START_OFFSET_KEY, ranges.get(i)[0]);
+			context.putLong(END_OFFSET_KEY, ranges.get(i)[1]);
+			partitions.put("partition" + i, context);
+		}
+		return partitions;
+	}
+
+	private List<long[]> ranges(FileChannel channel, int gridSize) throws IOException {
+		long size = channel.size();
+		long dataStart = skipHeader ? nextLineStart(channel, 0L, size) : 0L;
+		long span = size - dataStart;
+		List<long[]> ranges = new ArrayList<>();
+		if (span <= 0) {
+			ranges.add(new long[]{dataStart, size});
+			return ranges;
+		}
+
+		long segmentBytes = span / gridSize + (span % gridSize == 0 ? 0 : 1);
+		ExecutorService executor = Executors.newFixedThreadPool(
+				Math.min(gridSize, Runtime.getRuntime().availableProcessors()), task -> {
+					Thread thread = new Thread(task, "etl-csv-partition-scan");
+					thread.setDaemon(true);
+					return thread;
+				});
+		try {
+			for (CsvRecordBlockSplitter.Block block
+					: CsvRecordBlockSplitter.split(channel, dataStart, size, (byte) quote, segmentBytes, executor)) {
+				ranges.add(new long[]{block.from(), block.to()});
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		return ranges;
+	}
+
+	private long nextLineStart(FileChannel channel, long offset, long size) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+		long position = offset;
+		while (position < size) {
+			buffer.clear();
+			int read = channel.read(buffer, position);
+			if (read <= 0) {
+				break;
+			}
+			for (int i = 0; i < read; i++) {
+				if (buffer.get(i) == '\n') {
+					return position + i + 1;
+				}
+			}
+			position += read;
+		}
+		return size;
+	}
+}
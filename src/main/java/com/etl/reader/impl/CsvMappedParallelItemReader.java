@@ -0,0 +1,365 @@
+package com.etl.reader.impl;
+
+import com.etl.reader.mapper.DynamicFieldSetMapper;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.item.file.transform.IncorrectTokenCountException;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CSV item reader that decodes and tokenizes the file on a worker pool through memory mappings.
+ *
+ * <p>On open, {@link CsvRecordBlockSplitter} scans the file in parallel and cuts it into blocks of
+ * whole records. Workers then map one block each, decode it into a {@code char[]}, and run
+ * {@link CsvRecordTokenizer} over it, keeping only field offsets. The step thread consumes the
+ * parsed blocks strictly in file order and maps each record with
+ * {@link DynamicFieldSetMapper#mapRecord(CharSequence, int[], int[])}, so items, errors, and
+ * restart counts appear exactly as with {@link CsvCharBufferItemReader}. At most two blocks per
+ * worker are parsed ahead of the step, and only while the file bytes of the blocks held in memory
+ * stay within {@code maxBufferedBytes}, so the decoded {@code char[]} blocks stay bounded no matter
+ * how many workers run. One block is always allowed, so a block larger than the budget still
+ * parses.</p>
+ *
+ * <p>The block split assumes quote characters only enclose fields; see
+ * {@link CsvRecordBlockSplitter}. Mappings are released by the garbage collector rather than on
+ * close, which on Windows can briefly keep the file locked after the step.</p>
+ */
+final class CsvMappedParallelItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> {
+
+	static final int DEFAULT_BLOCK_BYTES = 8 * 1024 * 1024;
+	static final long DEFAULT_MAX_BUFFERED_BYTES = 64L * 1024 * 1024;
+
+	private static final char COMMENT_PREFIX = '#';
+	private static final AtomicInteger READER_SEQUENCE = new AtomicInteger();
+
+	private final Path path;
+	private final Charset charset;
+	private final String delimiter;
+	private final char quote;
+	private final int linesToSkip;
+	private final int columnCount;
+	private final DynamicFieldSetMapper<T> mapper;
+	private final int parallelism;
+	private final int blockBytes;
+	private final long maxBufferedBytes;
+	private final int[] fieldStarts;
+	private final int[] fieldEnds;
+	private final Deque<PendingBlock> pending = new ArrayDeque<>();
+	private FileChannel channel;
+	private ExecutorService executor;
+	private List<CsvRecordBlockSplitter.Block> blocks;
+	private int nextBlock;
+	private long bufferedBytes;
+	private ParsedBlock current;
+	private long currentBytes;
+	private int record;
+
+	CsvMappedParallelItemReader(Path path,
+	                            Charset charset,
+	                            String delimiter,
+	                            char quote,
+	                            int linesToSkip,
+	                            int columnCount,
+	                            DynamicFieldSetMapper<T> mapper,
+	                            int parallelism,
+	                            int blockBytes) {
+		this(path, charset, delimiter, quote, linesToSkip, columnCount, mapper, parallelism, blockBytes,
+				DEFAULT_MAX_BUFFERED_BYTES);
+	}
+
+	CsvMappedParallelItemReader(Path path,
+	                            Charset charset,
+	                            String delimiter,
+	                            char quote,
+	                            int linesToSkip,
+	                            int columnCount,
+	                            DynamicFieldSetMapper<T> mapper,
+	                            int parallelism,
+	                            int blockBytes,
+	                            long maxBufferedBytes) {
+		if (parallelism < 1 || blockBytes < 1 || maxBufferedBytes < 1) {
+			throw new IllegalArgumentException("parallelism, blockBytes and maxBufferedBytes must be greater than zero.");
+		}
+		this.path = path;
+		this.charset = charset;
+		this.delimiter = delimiter;
+		this.quote = quote;
+		this.linesToSkip = linesToSkip;
+		this.columnCount = columnCount;
+		this.mapper = mapper;
+		this.parallelism = parallelism;
+		this.blockBytes = blockBytes;
+		this.maxBufferedBytes = maxBufferedBytes;
+		this.fieldStarts = new int[columnCount];
+		this.fieldEnds = new int[columnCount];
+		setName("CsvMappedParallelItemReader");
+	}
+
+	@Override
+	protected void doOpen() throws Exception {
+		if (!Files.isRegularFile(path)) {
+			throw new ItemStreamException("Input resource must exist (reader is in 'strict' mode): " + description());
+		}
+		channel = FileChannel.open(path, StandardOpenOption.READ);
+		String threadPrefix = "etl-csv-parse-" + READER_SEQUENCE.incrementAndGet() + "-";
+		AtomicInteger threadSequence = new AtomicInteger();
+		executor = Executors.newFixedThreadPool(parallelism, task -> {
+			Thread thread = new Thread(task, threadPrefix + threadSequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		blocks = CsvRecordBlockSplitter.split(channel, 0L, channel.size(), (byte) quote, blockBytes, executor);
+		nextBlock = 0;
+		bufferedBytes = 0L;
+		submitBlocks();
+		for (int i = 0; i < linesToSkip && nextRecord(); i++) {
+			// header records are skipped without mapping
+		}
+	}
+
+	@Override
+	protected T doRead() throws Exception {
+		if (!nextDataRecord()) {
+			return null;
+		}
+		int first = current.fieldIndex[record];
+		int fieldCount = current.fieldIndex[record + 1] - first;
+		if (fieldCount != columnCount) {
+			throw parseError(new IncorrectTokenCountException(columnCount, fieldCount, current.recordText(record)));
+		}
+		System.arraycopy(current.starts, first, fieldStarts, 0, fieldCount);
+		System.arraycopy(current.ends, first, fieldEnds, 0, fieldCount);
+		try {
+			return mapper.mapRecord(current.view, fieldStarts, fieldEnds);
+		} catch (RuntimeException e) {
+			throw parseError(e);
+		}
+	}
+
+	@Override
+	protected void jumpToItem(int itemIndex) throws Exception {
+		for (int i = 0; i < itemIndex && nextDataRecord(); i++) {
+			// skipped records were processed by the previous execution
+		}
+	}
+
+	@Override
+	protected void doClose() throws Exception {
+		for (PendingBlock block : pending) {
+			block.parsed().cancel(true);
+		}
+		pending.clear();
+		current = null;
+		currentBytes = 0L;
+		bufferedBytes = 0L;
+		blocks = null;
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+		if (channel != null) {
+			try {
+				channel.close();
+			} finally {
+				channel = null;
+			}
+		}
+	}
+
+	private boolean nextDataRecord() throws Exception {
+		while (nextRecord()) {
+			if (current.firstChar(record) != COMMENT_PREFIX) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean nextRecord() throws Exception {
+		if (current != null && record + 1 < current.recordCount) {
+			record++;
+			return true;
+		}
+		throwBlockFailure();
+		releaseCurrentBlock();
+		while (!pending.isEmpty()) {
+			PendingBlock next = pending.poll();
+			current = await(next.parsed());
+			currentBytes = next.bytes();
+			record = 0;
+			submitBlocks();
+			if (current.recordCount > 0) {
+				return true;
+			}
+			throwBlockFailure();
+			releaseCurrentBlock();
+		}
+		return false;
+	}
+
+	/**
+	 * Drops the consumed block from the byte budget and lets the workers parse further ahead.
+	 */
+	private void releaseCurrentBlock() {
+		current = null;
+		bufferedBytes -= currentBytes;
+		currentBytes = 0L;
+		submitBlocks();
+	}
+
+	/**
+	 * Surfaces a tokenizer failure once, after the records parsed before it, so a skip policy can
+	 * continue with the next block.
+	 */
+	private void throwBlockFailure() {
+		if (current != null && current.failure != null) {
+			FlatFileParseException failure = current.failure;
+			current.failure = null;
+			throw failure;
+		}
+	}
+
+	/**
+	 * Keeps up to two blocks per worker parsing ahead, as long as the blocks held in memory stay
+	 * within the byte budget. The current block counts towards the budget until the step moves on.
+	 */
+	private void submitBlocks() {
+		while (blocks != null && nextBlock < blocks.size() && pending.size() < 2 * parallelism) {
+			CsvRecordBlockSplitter.Block block = blocks.get(nextBlock);
+			long bytes = block.to() - block.from();
+			if (bufferedBytes > 0L && bufferedBytes + bytes > maxBufferedBytes) {
+				return;
+			}
+			bufferedBytes += bytes;
+			nextBlock++;
+			pending.add(new PendingBlock(bytes, executor.submit(() -> parse(block))));
+		}
+	}
+
+	private ParsedBlock await(Future<ParsedBlock> future) throws Exception {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ItemStreamException("Interrupted while waiting for parsed CSV block from " + description(), e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private ParsedBlock parse(CsvRecordBlockSplitter.Block block) throws IOException {
+		long length = block.to() - block.from();
+		if (length > Integer.MAX_VALUE - 8) {
+			throw new IOException("CSV record block at byte " + block.from() + " in " + description()
+					+ " exceeds the mapped parse limit; a quoted field likely never closes.");
+		}
+		MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, block.from(), length);
+		CharBuffer decoded = charset.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE)
+				.decode(bytes);
+		ParsedBlock parsed = new ParsedBlock(decoded.array(), decoded.limit());
+		CsvRecordTokenizer tokenizer = new CsvRecordTokenizer(parsed.chars, parsed.length, delimiter, quote, block.linesBefore());
+		try {
+			while (tokenizer.next()) {
+				parsed.add(tokenizer);
+			}
+		} catch (FlatFileParseException e) {
+			parsed.failure = e;
+		}
+		return parsed;
+	}
+
+	private FlatFileParseException parseError(Exception cause) {
+		String input = current.recordText(record);
+		long lineNumber = current.lineNumbers[record];
+		return new FlatFileParseException("Parsing error at line: " + lineNumber + " in resource=["
+				+ description() + "], input=[" + input + "]", cause, input, (int) lineNumber);
+	}
+
+	private String description() {
+		return new FileSystemResource(path).getDescription();
+	}
+
+	private record PendingBlock(long bytes, Future<ParsedBlock> parsed) {
+	}
+
+	/**
+	 * Decoded block plus flattened field offsets for every record in it.
+	 */
+	private static final class ParsedBlock {
+
+		private final char[] chars;
+		private final int length;
+		private final CharSequence view;
+		private int recordCount;
+		private int[] fieldIndex = new int[65];
+		private int[] recordStarts = new int[64];
+		private int[] recordEnds = new int[64];
+		private long[] lineNumbers = new long[64];
+		private int[] starts = new int[256];
+		private int[] ends = new int[256];
+		private FlatFileParseException failure;
+
+		private ParsedBlock(char[] chars, int length) {
+			this.chars = chars;
+			this.length = length;
+			this.view = CharBuffer.wrap(chars, 0, length);
+		}
+
+		private void add(CsvRecordTokenizer tokenizer) {
+			if (recordCount == recordStarts.length) {
+				int capacity = recordCount * 2;
+				fieldIndex = Arrays.copyOf(fieldIndex, capacity + 1);
+				recordStarts = Arrays.copyOf(recordStarts, capacity);
+				recordEnds = Arrays.copyOf(recordEnds, capacity);
+				lineNumbers = Arrays.copyOf(lineNumbers, capacity);
+			}
+			int first = fieldIndex[recordCount];
+			int fieldCount = tokenizer.fieldCount();
+			if (first + fieldCount > starts.length) {
+				int capacity = Math.max(starts.length * 2, first + fieldCount);
+				starts = Arrays.copyOf(starts, capacity);
+				ends = Arrays.copyOf(ends, capacity);
+			}
+			System.arraycopy(tokenizer.starts(), 0, starts, first, fieldCount);
+			System.arraycopy(tokenizer.ends(), 0, ends, first, fieldCount);
+			recordStarts[recordCount] = tokenizer.recordStart();
+			recordEnds[recordCount] = tokenizer.recordEnd();
+			lineNumbers[recordCount] = tokenizer.lineNumber();
+			recordCount++;
+			fieldIndex[recordCount] = first + fieldCount;
+		}
+
+		private int firstChar(int record) {
+			return recordEnds[record] > recordStarts[record] ? chars[recordStarts[record]] : -1;
+		}
+
+		private String recordText(int record) {
+			return new String(chars, recordStarts[record], recordEnds[record] - recordStarts[record]);
+		}
+	}
+}
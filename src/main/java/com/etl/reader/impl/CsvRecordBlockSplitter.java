@@ -0,0 +1,138 @@
+package com.etl.reader.impl;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Splits a byte range of a CSV file into blocks of whole records, scanning the range in parallel.
+ *
+ * <p>The range is cut into fixed-size segments and every segment is scanned on the executor through
+ * a read-only memory mapping. A segment cannot know on its own whether it starts inside a quoted
+ * field, so each scan records two candidates: the first line break after an even number of quote
+ * bytes in the segment and the first one after an odd number. A sequential pass over the small
+ * per-segment results then derives the real quote parity at each segment start and picks the
+ * matching candidate, which is a record boundary outside quotes. Doubled quotes keep the parity
+ * unchanged, so this holds for RFC 4180 input where quote characters only enclose fields.</p>
+ *
+ * <p>Line breaks are {@code \n} and a {@code \r} not followed by {@code \n}, the same as the
+ * tokenizer. The scan works on raw bytes, which is safe for UTF-8 and other ASCII-compatible
+ * charsets because quote and line-break bytes never occur inside multi-byte sequences. Segments
+ * also count line breaks so each block knows the file line number it starts on. Segments may be
+ * larger than one mapping; each is scanned through bounded mapping windows.</p>
+ */
+final class CsvRecordBlockSplitter {
+
+	private static final int SCAN_WINDOW_BYTES = 64 * 1024 * 1024;
+
+	private CsvRecordBlockSplitter() {
+	}
+
+	/**
+	 * Byte range {@code [from, to)} holding whole records, preceded by {@code linesBefore} lines.
+	 */
+	record Block(long from, long to, long linesBefore) {
+	}
+
+	/**
+	 * Returns the blocks covering {@code [start, end)} in file order. {@code start} must be a record
+	 * boundary outside quotes.
+	 */
+	static List<Block> split(FileChannel channel, long start, long end, byte quote, long segmentBytes, ExecutorService executor)
+			throws IOException {
+		List<Future<SegmentScan>> scans = new ArrayList<>();
+		for (long from = start; from < end; from += segmentBytes) {
+			long segmentStart = from;
+			long segmentEnd = Math.min(end, from + segmentBytes);
+			scans.add(executor.submit(() -> scan(channel, segmentStart, segmentEnd, end, quote)));
+		}
+
+		List<Block> blocks = new ArrayList<>();
+		long blockStart = start;
+		long blockLines = 0L;
+		long linesBeforeSegment = 0L;
+		boolean oddQuotesBeforeSegment = false;
+		for (int i = 0; i < scans.size(); i++) {
+			SegmentScan scan = await(scans.get(i));
+			if (i > 0) {
+				long boundary = oddQuotesBeforeSegment ? scan.oddBoundary : scan.evenBoundary;
+				if (boundary > blockStart && boundary < end) {
+					blocks.add(new Block(blockStart, boundary, blockLines));
+					blockStart = boundary;
+					blockLines = linesBeforeSegment + (oddQuotesBeforeSegment ? scan.oddBoundaryLines : scan.evenBoundaryLines);
+				}
+			}
+			linesBeforeSegment += scan.lineBreaks;
+			oddQuotesBeforeSegment ^= scan.oddQuotes;
+		}
+		if (blockStart < end) {
+			blocks.add(new Block(blockStart, end, blockLines));
+		}
+		return blocks;
+	}
+
+	private static SegmentScan scan(FileChannel channel, long from, long to, long end, byte quote) throws IOException {
+		SegmentScan scan = new SegmentScan();
+		boolean odd = false;
+		long lineBreaks = 0L;
+		for (long windowStart = from; windowStart < to; windowStart += SCAN_WINDOW_BYTES) {
+			long windowEnd = Math.min(to, windowStart + SCAN_WINDOW_BYTES);
+			// One extra byte tells whether a trailing \r is followed by \n in the next window.
+			long mappedEnd = Math.min(end, windowEnd + 1);
+			MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, mappedEnd - windowStart);
+			int length = (int) (windowEnd - windowStart);
+			for (int i = 0; i < length; i++) {
+				byte current = bytes.get(i);
+				if (current == quote) {
+					odd = !odd;
+					continue;
+				}
+				boolean lineBreak = current == '\n'
+						|| (current == '\r' && (i + 1 == bytes.limit() || bytes.get(i + 1) != '\n'));
+				if (!lineBreak) {
+					continue;
+				}
+				lineBreaks++;
+				if (odd && scan.oddBoundary < 0) {
+					scan.oddBoundary = windowStart + i + 1;
+					scan.oddBoundaryLines = lineBreaks;
+				} else if (!odd && scan.evenBoundary < 0) {
+					scan.evenBoundary = windowStart + i + 1;
+					scan.evenBoundaryLines = lineBreaks;
+				}
+			}
+		}
+		scan.oddQuotes = odd;
+		scan.lineBreaks = lineBreaks;
+		return scan;
+	}
+
+	private static SegmentScan await(Future<SegmentScan> scan) throws IOException {
+		try {
+			return scan.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while scanning CSV record boundaries.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException io) {
+				throw io;
+			}
+			throw new IOException("Failed scanning CSV record boundaries.", e.getCause());
+		}
+	}
+
+	private static final class SegmentScan {
+
+		private long evenBoundary = -1L;
+		private long evenBoundaryLines;
+		private long oddBoundary = -1L;
+		private long oddBoundaryLines;
+		private boolean oddQuotes;
+		private long lineBreaks;
+	}
+}
@@ -0,0 +1,379 @@
+package com.etl.reader.impl;
+
+import org.springframework.batch.item.file.FlatFileParseException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Allocation-free CSV record scanner over one reusable {@code char[]} buffer.
+ *
+ * <p>Each call to {@link #next()} finds the next record and records every field as a
+ * {@code [start, end)} offset pair into the buffer, exposed through {@link #chars()}. No
+ * {@code String} is created per line or per token; callers materialize only the fields they
+ * need. The buffer is refilled from the source {@link Reader}, compacted so the current record
+ * always starts at a stable offset, and doubled only when a single record outgrows it.</p>
+ *
+ * <p>Quoting follows RFC 4180: a field that starts with the quote character (optionally after
+ * spaces or tabs) may contain delimiters and line breaks, and a doubled quote stands for one quote.
+ * Escaped quotes are collapsed in place, so quoted fields are plain offset ranges as well. A closing
+ * quote followed by anything other than blanks, a delimiter, or a line break turns the field back
+ * into raw text, which matches how {@code DelimitedLineTokenizer} treats such values. Records end
+ * at {@code \n}, {@code \r\n}, or {@code \r} outside quotes, and delimiters may be longer than one
+ * character.</p>
+ */
+final class CsvRecordTokenizer {
+
+	static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+	private static final int FIELD_START = 0;
+	private static final int UNQUOTED = 1;
+	private static final int QUOTED = 2;
+	private static final int QUOTE_SEEN = 3;
+	private static final int AFTER_QUOTE = 4;
+
+	private final Reader source;
+	private final char[] delimiter;
+	private final char quote;
+	private final BufferChars chars = new BufferChars();
+	private char[] buffer;
+	private int position;
+	private int limit;
+	private boolean endOfInput;
+	private boolean skipLineFeed;
+	private int recordStart;
+	private int recordEnd;
+	private int lastShift;
+	private int[] starts = new int[16];
+	private int[] ends = new int[16];
+	private int fieldCount;
+	private long lineNumber;
+	private long recordLineNumber;
+
+	CsvRecordTokenizer(Reader source, String delimiter, char quote, int bufferSize) {
+		if (delimiter == null || delimiter.isEmpty()) {
+			throw new IllegalArgumentException("CSV delimiter must not be empty.");
+		}
+		this.source = source;
+		this.delimiter = delimiter.toCharArray();
+		this.quote = quote;
+		this.buffer = new char[Math.max(bufferSize, 2 * this.delimiter.length)];
+	}
+
+	/**
+	 * Tokenizes an already decoded block; the tokenizer never reads past {@code length}.
+	 * {@code linesBefore} is the number of physical lines that precede the block in its file, so
+	 * reported line numbers stay file-relative.
+	 */
+	CsvRecordTokenizer(char[] block, int length, String delimiter, char quote, long linesBefore) {
+		if (delimiter == null || delimiter.isEmpty()) {
+			throw new IllegalArgumentException("CSV delimiter must not be empty.");
+		}
+		this.source = null;
+		this.delimiter = delimiter.toCharArray();
+		this.quote = quote;
+		this.buffer = block;
+		this.limit = length;
+		this.endOfInput = true;
+		this.lineNumber = linesBefore;
+	}
+
+	/**
+	 * Advances to the next record.
+	 *
+	 * @return {@code false} once the input is exhausted
+	 * @throws FlatFileParseException when the input ends inside a quoted field
+	 */
+	boolean next() throws IOException {
+		fieldCount = 0;
+		recordStart = position;
+		if (skipLineFeed) {
+			if (!ensureAvailable()) {
+				return false;
+			}
+			skipLineFeed = false;
+			if (buffer[position] == '\n') {
+				position++;
+				recordStart = position;
+			}
+		}
+		if (!ensureAvailable()) {
+			return false;
+		}
+		recordLineNumber = ++lineNumber;
+
+		int state = FIELD_START;
+		int fieldStart = position;
+		int contentStart = position;
+		int contentEnd = position;
+		boolean escapedQuotes = false;
+		while (true) {
+			if (position == limit) {
+				boolean more = fill();
+				fieldStart -= lastShift;
+				contentStart -= lastShift;
+				contentEnd -= lastShift;
+				if (!more) {
+					if (state == QUOTED) {
+						recordEnd = position;
+						throw new FlatFileParseException("Unterminated quoted field starting at line " + recordLineNumber,
+								recordText(), (int) recordLineNumber);
+					}
+					endRecordField(state, fieldStart, contentStart, contentEnd, escapedQuotes);
+					recordEnd = position;
+					return true;
+				}
+				continue;
+			}
+			char c = buffer[position];
+			if (state == QUOTED) {
+				if (c == quote) {
+					contentEnd = position;
+					state = QUOTE_SEEN;
+				} else if (c == '\n') {
+					lineNumber++;
+				}
+				position++;
+				continue;
+			}
+			if (state == QUOTE_SEEN) {
+				if (c == quote) {
+					escapedQuotes = true;
+					state = QUOTED;
+					position++;
+					continue;
+				}
+				state = AFTER_QUOTE;
+			}
+			if (c == '\n' || c == '\r') {
+				endRecordField(state, fieldStart, contentStart, contentEnd, escapedQuotes);
+				recordEnd = position;
+				position++;
+				if (c == '\r') {
+					skipLineFeed = true;
+				}
+				return true;
+			}
+			if (c == delimiter[0]) {
+				boolean matched = matchesDelimiter();
+				fieldStart -= lastShift;
+				contentStart -= lastShift;
+				contentEnd -= lastShift;
+				if (!matched) {
+					if (state == FIELD_START || state == AFTER_QUOTE) {
+						state = UNQUOTED;
+						escapedQuotes = false;
+					}
+					position++;
+					continue;
+				}
+				endRecordField(state, fieldStart, contentStart, contentEnd, escapedQuotes);
+				position += delimiter.length;
+				state = FIELD_START;
+				fieldStart = position;
+				contentStart = position;
+				contentEnd = position;
+				escapedQuotes = false;
+				continue;
+			}
+			if (state == FIELD_START) {
+				if (c == quote) {
+					state = QUOTED;
+					contentStart = position + 1;
+				} else if (c != ' ' && c != '\t') {
+					state = UNQUOTED;
+				}
+			} else if (state == AFTER_QUOTE && c != ' ' && c != '\t') {
+				state = UNQUOTED;
+				escapedQuotes = false;
+			}
+			position++;
+		}
+	}
+
+	/**
+	 * Number of fields in the current record.
+	 */
+	int fieldCount() {
+		return fieldCount;
+	}
+
+	/**
+	 * Field start offsets into {@link #chars()}; only the first {@link #fieldCount()} are valid.
+	 */
+	int[] starts() {
+		return starts;
+	}
+
+	/**
+	 * Field end offsets into {@link #chars()}; only the first {@link #fieldCount()} are valid.
+	 */
+	int[] ends() {
+		return ends;
+	}
+
+	/**
+	 * Live view of the buffer; valid until the next call to {@link #next()}.
+	 */
+	CharSequence chars() {
+		return chars;
+	}
+
+	/**
+	 * Physical line number on which the current record starts, counting from 1.
+	 */
+	long lineNumber() {
+		return recordLineNumber;
+	}
+
+	/**
+	 * First character of the current record, or {@code -1} for an empty record.
+	 */
+	int firstChar() {
+		return recordEnd > recordStart ? buffer[recordStart] : -1;
+	}
+
+	/**
+	 * Offset of the current record's first character in {@link #chars()}.
+	 */
+	int recordStart() {
+		return recordStart;
+	}
+
+	/**
+	 * Offset just past the current record's last character, excluding the line break.
+	 */
+	int recordEnd() {
+		return recordEnd;
+	}
+
+	/**
+	 * The current record as text, for error reporting only. Escaped quotes have already been
+	 * collapsed at this point.
+	 */
+	String recordText() {
+		return new String(buffer, recordStart, Math.max(0, recordEnd - recordStart));
+	}
+
+	private void endRecordField(int state, int fieldStart, int contentStart, int contentEnd, boolean escapedQuotes) {
+		int start;
+		int end;
+		if (state == QUOTE_SEEN || state == AFTER_QUOTE) {
+			start = contentStart;
+			end = escapedQuotes ? collapseEscapedQuotes(contentStart, contentEnd) : contentEnd;
+		} else {
+			start = fieldStart;
+			end = position;
+		}
+		if (fieldCount == starts.length) {
+			starts = Arrays.copyOf(starts, fieldCount * 2);
+			ends = Arrays.copyOf(ends, fieldCount * 2);
+		}
+		starts[fieldCount] = start;
+		ends[fieldCount] = end;
+		fieldCount++;
+	}
+
+	private int collapseEscapedQuotes(int start, int end) {
+		int write = start;
+		for (int read = start; read < end; read++) {
+			char c = buffer[read];
+			buffer[write++] = c;
+			if (c == quote) {
+				read++;
+			}
+		}
+		return write;
+	}
+
+	private boolean matchesDelimiter() throws IOException {
+		lastShift = 0;
+		if (delimiter.length == 1) {
+			return true;
+		}
+		int shift = 0;
+		while (limit - position < delimiter.length) {
+			boolean more = fill();
+			shift += lastShift;
+			if (!more) {
+				break;
+			}
+		}
+		lastShift = shift;
+		if (limit - position < delimiter.length) {
+			return false;
+		}
+		for (int i = 1; i < delimiter.length; i++) {
+			if (buffer[position + i] != delimiter[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean ensureAvailable() throws IOException {
+		while (position == limit) {
+			if (!fill()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Reads more input behind {@code limit}, first moving the current record to the front of the
+	 * buffer and doubling the buffer when the record already fills it. {@link #lastShift} reports
+	 * how far existing offsets moved left.
+	 */
+	private boolean fill() throws IOException {
+		lastShift = 0;
+		if (endOfInput) {
+			return false;
+		}
+		if (recordStart > 0) {
+			int shift = recordStart;
+			System.arraycopy(buffer, shift, buffer, 0, limit - shift);
+			limit -= shift;
+			position -= shift;
+			recordStart = 0;
+			for (int i = 0; i < fieldCount; i++) {
+				starts[i] -= shift;
+				ends[i] -= shift;
+			}
+			lastShift = shift;
+		} else if (limit == buffer.length) {
+			buffer = Arrays.copyOf(buffer, buffer.length * 2);
+		}
+		int read = source.read(buffer, limit, buffer.length - limit);
+		if (read < 0) {
+			endOfInput = true;
+			return false;
+		}
+		limit += read;
+		return true;
+	}
+
+	private final class BufferChars implements CharSequence {
+
+		@Override
+		public int length() {
+			return limit;
+		}
+
+		@Override
+		public char charAt(int index) {
+			return buffer[index];
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return new String(buffer, start, end - start);
+		}
+
+		@Override
+		public String toString() {
+			return new String(buffer, 0, limit);
+		}
+	}
+}
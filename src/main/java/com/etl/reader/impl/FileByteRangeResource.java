@@ -0,0 +1,97 @@
+package com.etl.reader.impl;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.lang.NonNull;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only resource exposing the bytes {@code [startOffset, endOffset)} of a file.
+ *
+ * <p>Used by partitioned CSV reads so a {@link CsvCharBufferItemReader} can consume one
+ * record-aligned range without knowing about partitioning.</p>
+ */
+final class FileByteRangeResource extends AbstractResource {
+
+	private final Path path;
+	private final long startOffset;
+	private final long endOffset;
+
+	FileByteRangeResource(Path path, long startOffset, long endOffset) {
+		this.path = path;
+		this.startOffset = startOffset;
+		this.endOffset = endOffset;
+	}
+
+	@Override
+	public boolean exists() {
+		return Files.exists(path);
+	}
+
+	@Override
+	@NonNull
+	public String getDescription() {
+		return "file range [" + path + ", bytes " + startOffset + "-" + endOffset + "]";
+	}
+
+	@Override
+	@NonNull
+	public InputStream getInputStream() throws IOException {
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		channel.position(startOffset);
+		return new BoundedInputStream(Channels.newInputStream(channel), Math.max(0L, endOffset - startOffset));
+	}
+
+	private static final class BoundedInputStream extends FilterInputStream {
+
+		private long remaining;
+
+		private BoundedInputStream(InputStream in, long limit) {
+			super(in);
+			this.remaining = limit;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int value = super.read();
+			if (value >= 0) {
+				remaining--;
+			}
+			return value;
+		}
+
+		@Override
+		public int read(@NonNull byte[] buffer, int offset, int length) throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int read = super.read(buffer, offset, (int) Math.min(length, remaining));
+			if (read > 0) {
+				remaining -= read;
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(Math.min(n, remaining));
+			remaining -= skipped;
+			return skipped;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return (int) Math.min(super.available(), remaining);
+		}
+	}
+}
@@ -1,21 +1,30 @@
 package com.etl.reader.impl;
 
-import com.etl.common.util.ReflectionUtils;
 import com.etl.config.FieldDefinition;
+import com.etl.config.job.JobConfig;
 import com.etl.config.relational.RelationalDataSourceFactory;
 import com.etl.config.source.RelationalSourceConfig;
 import com.etl.config.source.SourceConfig;
 import com.etl.exception.RelationalException;
 import com.etl.enums.ModelFormat;
-import com.etl.reader.DynamicReader;
+import com.etl.reader.PartitionableDynamicReader;
 import com.etl.relational.dialect.DatabaseDialect;
 import com.etl.relational.dialect.DatabaseDialectResolver;
+import com.etl.relational.jdbc.RelationalRowMapper;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.support.AbstractSqlPagingQueryProvider;
+import org.springframework.jdbc.core.PreparedStatementSetter;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 
-import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -31,9 +40,25 @@ import java.util.stream.Collectors;
  *   <li>an explicit SQL query provided by config</li>
  *   <li>a generated {@code SELECT} statement based on configured fields, schema, and table</li>
  * </ul>
+ *
+ * <p>For partitioned steps, {@link RelationalKeyRangePartitioner} splits the source on an
+ * integral key column and each partition reader reads its range in key order through a
+ * {@code BETWEEN} predicate on that key; rows with a {@code NULL} key are read by one extra
+ * partition through an {@code IS NULL} predicate.
+ * Explicit queries are wrapped as a derived table so the predicate applies to the query result.</p>
+ *
+ * <p>When the source configures a {@code sortKey}, both styles read through a keyset-paged
+ * {@link JdbcPagingItemReader} instead of one long-lived cursor, which makes the read restartable
+ * mid-step; partitioned steps then page through each partition's key range the same way. The
+ * {@code NULL}-key partition still reads through a cursor, because its rows have no key to page
+ * on. A {@code NULL} sort key cannot be paged past either, so a paged read fails on the first such
+ * row instead of silently stopping.</p>
  */
 @Component("relational")
-public class RelationalDynamicReader<T> implements DynamicReader<T> {
+public class RelationalDynamicReader<T> implements PartitionableDynamicReader<T> {
+
+    private static final String MIN_KEY_PARAMETER = "minKey";
+    private static final String MAX_KEY_PARAMETER = "maxKey";
 
     @Override
     public ModelFormat getFormat() {
@@ -54,19 +79,19 @@ public class RelationalDynamicReader<T> implements DynamicReader<T> {
             // table naming stay vendor-correct for generated fallback SQL.
             DatabaseDialect dialect = DatabaseDialectResolver.resolve(relationalConfig.getConnection().getResolvedVendor());
 
-            JdbcCursorItemReader<T> reader = new JdbcCursorItemReader<>();
-            reader.setDataSource(RelationalDataSourceFactory.buildDataSource(relationalConfig.getConnection()));
-            reader.setSql(resolveReadSql(relationalConfig, dialect));
-            reader.setVerifyCursorPosition(false);
-            if (relationalConfig.getFetchSize() != null && relationalConfig.getFetchSize() > 0) {
-                reader.setFetchSize(relationalConfig.getFetchSize());
+            if (relationalConfig.hasSortKey()) {
+                JdbcPagingItemReader<T> reader = buildPagingReader(relationalConfig, clazz, dialect, null);
+                if (relationalConfig.getMaxRows() != null && relationalConfig.getMaxRows() > 0) {
+                    reader.setMaxItemCount(relationalConfig.getMaxRows());
+                }
+                reader.afterPropertiesSet();
+                return new RuntimeCategorizingItemStreamReader<>(reader, relationalConfig.getSourceName());
             }
+
+            JdbcCursorItemReader<T> reader = buildCursorReader(relationalConfig, clazz, resolveReadSql(relationalConfig, dialect));
             if (relationalConfig.getMaxRows() != null && relationalConfig.getMaxRows() > 0) {
                 reader.setMaxRows(relationalConfig.getMaxRows());
             }
-            // Row mapping stays config-driven: each configured field name is treated as
-            // the JDBC column label and the generated model property name.
-            reader.setRowMapper(buildRowMapper(relationalConfig, clazz));
             reader.afterPropertiesSet();
             return new RuntimeCategorizingItemStreamReader<>(reader, relationalConfig.getSourceName());
         } catch (RelationalException e) {
@@ -79,6 +104,182 @@ public class RelationalDynamicReader<T> implements DynamicReader<T> {
         }
     }
 
+    @Override
+    public Partitioner getPartitioner(SourceConfig config, JobConfig.PartitioningConfig partitioning) {
+        RelationalSourceConfig relationalConfig = validatedPartitionSource(config, partitioning);
+        DatabaseDialect dialect = DatabaseDialectResolver.resolve(relationalConfig.getConnection().getResolvedVendor());
+        String key = dialect.quoteIdentifier(partitioning.getKeyColumn());
+        return new RelationalKeyRangePartitioner(
+                RelationalDataSourceFactory.buildDataSource(relationalConfig.getConnection()),
+                partitioning.getKeyColumn().trim(),
+                "SELECT MIN(" + key + "), MAX(" + key + "), COUNT(*) - COUNT(" + key + ") FROM "
+                        + partitionSource(relationalConfig, dialect));
+    }
+
+    /**
+     * Builds a cursor reader limited to one key range produced by
+     * {@link RelationalKeyRangePartitioner}.
+     */
+    @Override
+    public ItemReader<T> getPartitionReader(SourceConfig config, Class<T> clazz, ExecutionContext partition) {
+        try {
+            if (config == null || clazz == null || partition == null) {
+                throw new RelationalException("SourceConfig, target class, and partition context must not be null.");
+            }
+            RelationalSourceConfig relationalConfig = (RelationalSourceConfig) config;
+            relationalConfig.validate();
+            String keyColumn = partition.getString(RelationalKeyRangePartitioner.KEY_COLUMN);
+            long minKey = partition.getLong(RelationalKeyRangePartitioner.MIN_KEY);
+            long maxKey = partition.getLong(RelationalKeyRangePartitioner.MAX_KEY);
+            boolean nullKeys = Boolean.parseBoolean(partition.getString(RelationalKeyRangePartitioner.NULL_KEYS, "false"));
+
+            DatabaseDialect dialect = DatabaseDialectResolver.resolve(relationalConfig.getConnection().getResolvedVendor());
+            if (relationalConfig.hasSortKey() && !nullKeys) {
+                JdbcPagingItemReader<T> reader = buildPagingReader(relationalConfig, clazz, dialect, keyColumn);
+                reader.setParameterValues(Map.of(MIN_KEY_PARAMETER, minKey, MAX_KEY_PARAMETER, maxKey));
+                reader.afterPropertiesSet();
+                return new RuntimeCategorizingItemStreamReader<>(reader, relationalConfig.getSourceName());
+            }
+
+            String selectColumns = relationalConfig.hasQuery()
+                    ? "*"
+                    : relationalConfig.getFields().stream()
+                    .map(FieldDefinition::getName)
+                    .map(dialect::quoteIdentifier)
+                    .collect(Collectors.joining(", "));
+            String quotedKey = dialect.quoteIdentifier(keyColumn);
+            String sql = "SELECT " + selectColumns
+                    + " FROM " + partitionSource(relationalConfig, dialect)
+                    + " WHERE " + quotedKey + (nullKeys ? " IS NULL" : " BETWEEN ? AND ?")
+                    + " ORDER BY " + quotedKey;
+
+            JdbcCursorItemReader<T> reader = buildCursorReader(relationalConfig, clazz, sql);
+            if (!nullKeys) {
+                PreparedStatementSetter rangeSetter = ps -> {
+                    ps.setLong(1, minKey);
+                    ps.setLong(2, maxKey);
+                };
+                reader.setPreparedStatementSetter(rangeSetter);
+            }
+            reader.afterPropertiesSet();
+            return new RuntimeCategorizingItemStreamReader<>(reader, relationalConfig.getSourceName());
+        } catch (RelationalException e) {
+            throw e;
+        } catch (IllegalArgumentException e) {
+            throw new RelationalException("Invalid relational source configuration: " + e.getMessage(), e);
+        } catch (Exception e) {
+            throw new RelationalException("Failed to initialize partitioned relational reader for source '"
+                    + (config == null ? "unnamed" : config.getSourceName()) + "'.", e);
+        }
+    }
+
+    private RelationalSourceConfig validatedPartitionSource(SourceConfig config, JobConfig.PartitioningConfig partitioning) {
+        RelationalSourceConfig relationalConfig = (RelationalSourceConfig) config;
+        try {
+            relationalConfig.validate();
+        } catch (IllegalArgumentException e) {
+            throw new RelationalException("Invalid relational source configuration: " + e.getMessage(), e);
+        }
+        if (partitioning == null || partitioning.getKeyColumn() == null || partitioning.getKeyColumn().isBlank()) {
+            throw new RelationalException("Relational source '" + relationalConfig.getSourceName()
+                    + "' requires partitioning.keyColumn for partitioned reads.");
+        }
+        if (relationalConfig.getMaxRows() != null) {
+            throw new RelationalException("Relational source '" + relationalConfig.getSourceName()
+                    + "' configures maxRows, which cannot be applied across partitions.");
+        }
+        return relationalConfig;
+    }
+
+    /**
+     * Table reference or derived table the partition predicates apply to.
+     */
+    private String partitionSource(RelationalSourceConfig config, DatabaseDialect dialect) {
+        if (config.hasQuery()) {
+            return "(" + config.getQuery() + ") partition_source";
+        }
+        return dialect.qualifyTableName(config.getEffectiveSchema(), config.getTable());
+    }
+
+    /**
+     * Builds a keyset-paged reader ordered by the configured sort key, optionally limited to one
+     * partition key range.
+     *
+     * <p>Each page is a fresh {@code WHERE sortKey > :lastKey ORDER BY sortKey} query limited by the
+     * dialect's paging provider, so no cursor stays open between chunks. The reader saves the last
+     * key it returned in the step {@link ExecutionContext}, and a restarted step resumes after that
+     * key instead of re-reading from the start.</p>
+     *
+     * <p>The next page is built from the last row's key, so a row with a {@code NULL} sort key would
+     * turn it into {@code > NULL} and end the read early. Such a row fails the read instead.</p>
+     */
+    private JdbcPagingItemReader<T> buildPagingReader(RelationalSourceConfig config,
+                                                      Class<T> clazz,
+                                                      DatabaseDialect dialect,
+                                                      String rangeKeyColumn) {
+        AbstractSqlPagingQueryProvider queryProvider = dialect.newPagingQueryProvider();
+        queryProvider.setSelectClause(config.hasQuery() ? "*" : pagingSelectClause(config, dialect));
+        queryProvider.setFromClause(config.hasQuery()
+                ? "(" + config.getQuery() + ") paging_source"
+                : dialect.qualifyTableName(config.getEffectiveSchema(), config.getTable()));
+        if (rangeKeyColumn != null) {
+            queryProvider.setWhereClause(dialect.quoteIdentifier(rangeKeyColumn)
+                    + " BETWEEN :" + MIN_KEY_PARAMETER + " AND :" + MAX_KEY_PARAMETER);
+        }
+        // The sort key doubles as the result-set label the reader saves for restart, so it stays unquoted.
+        String sortKey = config.getSortKey().trim();
+        queryProvider.setSortKeys(Map.of(sortKey, Order.ASCENDING));
+
+        JdbcPagingItemReader<T> reader = new JdbcPagingItemReader<>();
+        reader.setName(config.getSourceName() + ".keyset");
+        reader.setDataSource(RelationalDataSourceFactory.buildDataSource(config.getConnection()));
+        reader.setQueryProvider(queryProvider);
+        reader.setPageSize(config.getResolvedPageSize());
+        if (config.getFetchSize() != null && config.getFetchSize() > 0) {
+            reader.setFetchSize(config.getFetchSize());
+        }
+        RowMapper<T> rowMapper = buildRowMapper(config, clazz);
+        reader.setRowMapper((resultSet, rowNum) -> {
+            if (resultSet.getObject(sortKey) == null) {
+                throw new RelationalException("Relational source '" + config.getSourceName() + "' returned a row with a NULL sortKey '"
+                        + sortKey + "'. Keyset pagination requires a unique, NOT NULL sortKey.");
+            }
+            return rowMapper.mapRow(resultSet, rowNum);
+        });
+        return reader;
+    }
+
+    /**
+     * Selects the configured fields plus the sort key when it is not one of them, since the paging
+     * reader reads the last key back from each page to build the next one.
+     */
+    private String pagingSelectClause(RelationalSourceConfig config, DatabaseDialect dialect) {
+        List<String> columns = config.getFields().stream()
+                .map(FieldDefinition::getName)
+                .collect(Collectors.toCollection(ArrayList::new));
+        String sortKey = config.getSortKey().trim();
+        if (columns.stream().noneMatch(sortKey::equalsIgnoreCase)) {
+            columns.add(sortKey);
+        }
+        return columns.stream()
+                .map(dialect::quoteIdentifier)
+                .collect(Collectors.joining(", "));
+    }
+
+    private JdbcCursorItemReader<T> buildCursorReader(RelationalSourceConfig config, Class<T> clazz, String sql) {
+        JdbcCursorItemReader<T> reader = new JdbcCursorItemReader<>();
+        reader.setDataSource(RelationalDataSourceFactory.buildDataSource(config.getConnection()));
+        reader.setSql(sql);
+        reader.setVerifyCursorPosition(false);
+        if (config.getFetchSize() != null && config.getFetchSize() > 0) {
+            reader.setFetchSize(config.getFetchSize());
+        }
+        // Row mapping stays config-driven: each configured field name is treated as
+        // the JDBC column label and the generated model property name.
+        reader.setRowMapper(buildRowMapper(config, clazz));
+        return reader;
+    }
+
     /**
      * Resolves the SQL statement used by the cursor reader.
      *
@@ -101,20 +302,13 @@ public class RelationalDynamicReader<T> implements DynamicReader<T> {
     }
 
     /**
-     * Builds a reflection-based row mapper for the generated source model class.
+     * Builds the positional row mapper for the generated source model class.
      *
      * <p>The mapping contract assumes relational field names already describe both the
      * selected column labels and the generated Java property names.</p>
      */
     private RowMapper<T> buildRowMapper(RelationalSourceConfig config, Class<T> clazz) {
-        return (ResultSet rs, int rowNum) -> {
-            T instance = ReflectionUtils.createInstance(clazz);
-            for (FieldDefinition field : config.getFields()) {
-                Object value = rs.getObject(field.getName());
-                ReflectionUtils.setFieldValue(instance, field.getName(), value);
-            }
-            return instance;
-        };
+        return new RelationalRowMapper<>(config.getFields(), clazz);
     }
 }
 
@@ -0,0 +1,111 @@
+package com.etl.reader.impl;
+
+import com.etl.exception.RelationalException;
+import com.etl.reader.DynamicReader;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Splits a relational source into contiguous ranges of an integral key column.
+ *
+ * <p>The partitioner reads {@code MIN}, {@code MAX}, and the number of {@code NULL} keys once and
+ * divides the closed interval evenly. Ranges are inclusive on both ends and never overlap, so every
+ * row with a non-null key is read by exactly one partition. Rows whose key is {@code NULL} match no
+ * range, so when any exist they get one extra partition flagged with {@link #NULL_KEYS} that reads
+ * them through an {@code IS NULL} predicate.</p>
+ */
+final class RelationalKeyRangePartitioner implements Partitioner {
+
+    static final String KEY_COLUMN = "partition.keyColumn";
+    static final String MIN_KEY = "partition.minKey";
+    static final String MAX_KEY = "partition.maxKey";
+    static final String NULL_KEYS = "partition.nullKeys";
+
+    private final DataSource dataSource;
+    private final String keyColumn;
+    private final String rangeSql;
+
+    /**
+     * @param rangeSql query returning a single row with the minimum key, the maximum key, and the
+     *                 number of rows whose key is {@code NULL}, in that order
+     */
+    RelationalKeyRangePartitioner(DataSource dataSource, String keyColumn, String rangeSql) {
+        this.dataSource = dataSource;
+        this.keyColumn = keyColumn;
+        this.rangeSql = rangeSql;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        KeyStatistics statistics;
+        try {
+            statistics = new JdbcTemplate(dataSource).queryForObject(rangeSql, (rs, rowNum) -> {
+                long min = rs.getLong(1);
+                boolean empty = rs.wasNull();
+                return new KeyStatistics(empty, min, rs.getLong(2), rs.getLong(3));
+            });
+        } catch (DataAccessException e) {
+            throw new RelationalException("Failed to resolve partition key range using '" + rangeSql
+                    + "'. The partition key column must be an integral numeric column.", e);
+        }
+
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        if (statistics == null || statistics.noKeys()) {
+            if (statistics != null && statistics.nullKeys() > 0) {
+                partitions.put("partition0", nullKeyContext(0));
+            } else {
+                // Empty source: a single empty range keeps the step shape identical to a non-empty run.
+                partitions.put("partition0", context(0, 0L, -1L));
+            }
+            return partitions;
+        }
+
+        long min = statistics.min();
+        long max = statistics.max();
+        int grid = Math.max(1, gridSize);
+        long span = max - min + 1;
+        if (span <= 0) {
+            span = Long.MAX_VALUE;
+        }
+        long width = span <= grid ? 1 : span / grid + (span % grid == 0 ? 0 : 1);
+        long lower = min;
+        int index = 0;
+        while (lower <= max) {
+            long upper = max - lower < width ? max : lower + width - 1;
+            partitions.put("partition" + index, context(index, lower, upper));
+            index++;
+            if (upper == max) {
+                break;
+            }
+            lower = upper + 1;
+        }
+        if (statistics.nullKeys() > 0) {
+            partitions.put("partition" + index, nullKeyContext(index));
+        }
+        return partitions;
+    }
+
+    private ExecutionContext nullKeyContext(int index) {
+        ExecutionContext context = context(index, 0L, -1L);
+        context.putString(NULL_KEYS, "true");
+        return context;
+    }
+
+    private ExecutionContext context(int index, long minKey, long maxKey) {
+        ExecutionContext context = new ExecutionContext();
+        context.putInt(DynamicReader.PARTITION_INDEX_KEY, index);
+        context.putString(KEY_COLUMN, keyColumn);
+        context.putLong(MIN_KEY, minKey);
+        context.putLong(MAX_KEY, maxKey);
+        return context;
+    }
+
+    private record KeyStatistics(boolean noKeys, long min, long max, long nullKeys) {
+    }
+}
@@ -5,7 +5,9 @@ import com.etl.config.source.SourceConfig;
 import com.etl.config.source.XmlSourceConfig;
 import com.etl.enums.ModelFormat;
 import com.etl.reader.DynamicReader;
+import com.etl.source.xml.runtime.SchemaValidatingXmlInputFactory;
 import com.etl.source.xml.runtime.XmlFlatteningResult;
+import com.etl.source.xml.runtime.XmlSchemaSupport;
 import com.etl.source.xml.runtime.XmlSourceRuntimeContext;
 import com.etl.source.xml.strategy.DirectXmlSourceStrategy;
 import com.etl.source.xml.strategy.JobSpecificXmlStrategyResolver;
@@ -17,6 +19,7 @@ import com.etl.source.xml.strategy.XmlSourceStrategySelector;
 import com.etl.runtime.FileSourceArtifactSupport;
 import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.Unmarshaller;
+import jakarta.xml.bind.ValidationEvent;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemStreamReader;
@@ -27,7 +30,11 @@ import org.springframework.lang.NonNull;
 import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.util.xml.StaxUtils;
+import org.xml.sax.SAXException;
 
+import javax.xml.validation.Schema;
+import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Iterator;
@@ -51,6 +58,11 @@ import java.util.List;
  * chooses the direct-vs-flattened read path, applies the shared reader failure wrapper, and passes
  * flattening work to the active XML strategy layer. That keeps bundle config, generated classes,
  * and flattening behavior aligned without spreading XML-specific conditionals across the runtime.</p>
+ *
+ * <p>When {@code validation.schemaMode=streaming} is configured, the XSD is enforced by the same
+ * parse that produces records instead of a separate validation pass: fragment readers validate
+ * through {@link SchemaValidatingXmlInputFactory}, and root unmarshalling validates through the
+ * JAXB unmarshaller schema.</p>
  */
 @Component("xml")
 public class XmlDynamicReader<T> implements DynamicReader<T> {
@@ -194,6 +206,12 @@ public class XmlDynamicReader<T> implements DynamicReader<T> {
 		fragmentReader.setResource(new FileSystemResource(FILE_SOURCE_ARTIFACT_SUPPORT.resolveReadablePath(xmlConfig)));
 		fragmentReader.setFragmentRootElementName(xmlConfig.getRecordElement());
 		fragmentReader.setUnmarshaller(unmarshaller);
+		Schema schema = streamingSchema(xmlConfig);
+		if (schema != null) {
+			// Schema errors surface from read(), so the step fails before staged output is published.
+			fragmentReader.setXmlInputFactory(new SchemaValidatingXmlInputFactory(
+					StaxUtils.createDefensiveInputFactory(), schema, "schemaPath=" + XmlSchemaSupport.streamingSchemaPath(xmlConfig)));
+		}
 		fragmentReader.afterPropertiesSet();
 		return fragmentReader;
 	}
@@ -212,12 +230,33 @@ public class XmlDynamicReader<T> implements DynamicReader<T> {
 		try {
 			JAXBContext context = JAXBContext.newInstance(rootClass);
 			Unmarshaller unmarshaller = context.createUnmarshaller();
+			Schema schema = streamingSchema(xmlConfig);
+			if (schema != null) {
+				unmarshaller.setSchema(schema);
+				unmarshaller.setEventHandler(event -> event.getSeverity() == ValidationEvent.WARNING);
+			}
 			return unmarshaller.unmarshal(new FileSystemResource(FILE_SOURCE_ARTIFACT_SUPPORT.resolveReadablePath(xmlConfig)).getFile());
 		} finally {
 			Thread.currentThread().setContextClassLoader(previous);
 		}
 	}
 
+	/**
+	 * Loads the XSD enforced during the read pass, or returns {@code null} when the source validates
+	 * its schema up front (or not at all).
+	 */
+	private Schema streamingSchema(XmlSourceConfig xmlConfig) {
+		Path schemaPath = XmlSchemaSupport.streamingSchemaPath(xmlConfig);
+		if (schemaPath == null) {
+			return null;
+		}
+		try {
+			return XmlSchemaSupport.loadSchema(schemaPath);
+		} catch (SAXException e) {
+			throw new IllegalArgumentException("Unable to load XML validation schemaPath=" + schemaPath + ": " + e.getMessage(), e);
+		}
+	}
+
 	/**
 	 * Simple in-memory reader over rows that were fully flattened before step execution begins.
 	 */
@@ -1,6 +1,6 @@
 package com.etl.reader.mapper;
 
-import com.etl.common.util.TypeConversionUtils;
+import com.etl.common.exception.TypeConversionException;
 import com.etl.config.FieldDefinition;
 import com.etl.exception.RuntimeEtlException;
 import org.slf4j.Logger;
@@ -11,40 +11,131 @@ import org.springframework.lang.NonNull;
 
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 
+/**
+ * Maps tokenized CSV rows into the generated source model class.
+ *
+ * <p>All per-class work happens once at construction: the no-arg constructor and every
+ * configured setter are resolved into {@link MethodHandle}s, and each column is bound to a
+ * type-specific converter chosen from the setter parameter type. Primitive setters are invoked
+ * through exact primitive signatures so integral values are parsed straight from the token
+ * without boxing or an intermediate trimmed copy.</p>
+ *
+ * <p>Column positions are resolved from the first row's field-set names, so one mapper instance is
+ * expected to serve one tokenizer layout, which is how {@code CsvDynamicReader} wires it.</p>
+ *
+ * <p>{@link #mapRecord(CharSequence, int[], int[])} maps a record that a buffer tokenizer has
+ * already split into field offsets, in configured column order. Integral and boolean columns are
+ * parsed straight from the buffer; every other column materializes exactly one trimmed
+ * {@code String}.</p>
+ */
 public class DynamicFieldSetMapper<T> implements FieldSetMapper<T> {
-	
+
 	private static final Logger logger = LoggerFactory.getLogger(DynamicFieldSetMapper.class);
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
 
 	private final List<FieldBinding> fieldBindings;
 	private final Class<T> clazz;
+	private final MethodHandle constructor;
+	private volatile int[] columnIndexes;
 
 	public DynamicFieldSetMapper(List<? extends FieldDefinition> columns, Class<T> clazz) {
 		this.clazz = clazz;
 		this.fieldBindings = resolveFieldBindings(columns, clazz);
+		this.constructor = resolveConstructor(clazz);
 	}
 
 	@Override
 	public @NonNull T mapFieldSet(@NonNull FieldSet fieldSet) {
 		try {
-			T instance = clazz.getDeclaredConstructor().newInstance();
-			for (FieldBinding fieldBinding : fieldBindings) {
-				Object value = TypeConversionUtils.convertValue(
-						fieldSet.readString(fieldBinding.name()),
-						fieldBinding.propertyType());
-				logger.debug("Setting field: {} | Type: {} | Value: {}", fieldBinding.name(), fieldBinding.type(), value);
-				fieldBinding.setter().invoke(instance, value);
+			int[] indexes = resolveColumnIndexes(fieldSet);
+			@SuppressWarnings("unchecked")
+			T instance = (T) (Object) constructor.invokeExact();
+			boolean debugEnabled = logger.isDebugEnabled();
+			for (int i = 0; i < indexes.length; i++) {
+				FieldBinding fieldBinding = fieldBindings.get(i);
+				String token = fieldSet.readRawString(indexes[i]);
+				if (debugEnabled) {
+					logger.debug("Setting field: {} | Type: {} | Value: {}", fieldBinding.name(), fieldBinding.type(), token);
+				}
+				fieldBinding.writer().write(instance, token);
 			}
 			return instance;
-		} catch (Exception e) {
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
+			logger.error("READER_MAPPING_FAILURE category=runtime targetClass={} message={}", clazz.getName(), e.getMessage(), e);
+			throw new RuntimeEtlException("Failed to map input record to class '" + clazz.getName() + "'.", e);
+		}
+	}
+
+	/**
+	 * Maps one tokenized record whose field {@code i} occupies {@code chars[starts[i], ends[i])}.
+	 * The arrays hold one entry per configured column, in configured order.
+	 */
+	public @NonNull T mapRecord(@NonNull CharSequence chars, int[] starts, int[] ends) {
+		try {
+			@SuppressWarnings("unchecked")
+			T instance = (T) (Object) constructor.invokeExact();
+			boolean debugEnabled = logger.isDebugEnabled();
+			for (int i = 0; i < fieldBindings.size(); i++) {
+				FieldBinding fieldBinding = fieldBindings.get(i);
+				if (debugEnabled) {
+					logger.debug("Setting field: {} | Type: {} | Value: {}", fieldBinding.name(), fieldBinding.type(), chars.subSequence(starts[i], ends[i]));
+				}
+				fieldBinding.rangeWriter().write(instance, chars, starts[i], ends[i]);
+			}
+			return instance;
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
 			logger.error("READER_MAPPING_FAILURE category=runtime targetClass={} message={}", clazz.getName(), e.getMessage(), e);
 			throw new RuntimeEtlException("Failed to map input record to class '" + clazz.getName() + "'.", e);
 		}
 	}
 
+	private int[] resolveColumnIndexes(FieldSet fieldSet) {
+		int[] indexes = columnIndexes;
+		if (indexes != null) {
+			return indexes;
+		}
+		indexes = new int[fieldBindings.size()];
+		List<String> names = fieldSet.hasNames() ? Arrays.asList(fieldSet.getNames()) : List.of();
+		for (int i = 0; i < indexes.length; i++) {
+			if (names.isEmpty()) {
+				indexes[i] = i;
+				continue;
+			}
+			int index = names.indexOf(fieldBindings.get(i).name());
+			if (index < 0) {
+				throw new IllegalArgumentException("Cannot access field '" + fieldBindings.get(i).name()
+						+ "' from " + names);
+			}
+			indexes[i] = index;
+		}
+		columnIndexes = indexes;
+		return indexes;
+	}
+
+	private static MethodHandle resolveConstructor(Class<?> clazz) {
+		try {
+			return LOOKUP.unreflectConstructor(clazz.getDeclaredConstructor())
+					.asType(MethodType.methodType(Object.class));
+		} catch (Exception e) {
+			throw new RuntimeEtlException("Failed to initialize field mappings for class '" + clazz.getName() + "'.", e);
+		}
+	}
+
 	private static List<FieldBinding> resolveFieldBindings(List<? extends FieldDefinition> columns, Class<?> clazz) {
 		try {
 			List<FieldBinding> bindings = new ArrayList<>();
@@ -62,7 +153,10 @@ public class DynamicFieldSetMapper<T> implements FieldSetMapper<T> {
 							"Configured field '" + column.getName() + "' is not writable on class '" + clazz.getName() + "'."
 					);
 				}
-				bindings.add(new FieldBinding(column.getName(), column.getType(), propertyDescriptor.getPropertyType(), setter));
+				MethodHandle setterHandle = LOOKUP.unreflect(setter);
+				ColumnWriter writer = ColumnWriter.forSetter(setterHandle, propertyDescriptor.getPropertyType());
+				bindings.add(new FieldBinding(column.getName(), column.getType(), writer,
+						RangeWriter.forSetter(setterHandle, propertyDescriptor.getPropertyType(), writer)));
 			}
 			return List.copyOf(bindings);
 		} catch (RuntimeEtlException e) {
@@ -81,7 +175,266 @@ public class DynamicFieldSetMapper<T> implements FieldSetMapper<T> {
 		return null;
 	}
 
-	private record FieldBinding(String name, String type, Class<?> propertyType, Method setter) {
+	private record FieldBinding(String name, String type, ColumnWriter writer, RangeWriter rangeWriter) {
+	}
+
+	/**
+	 * Converts one raw token and writes it through a prebound setter. Conversion semantics match
+	 * {@code TypeConversionUtils.convertValue}: tokens are trimmed, blank tokens become {@code null},
+	 * and parse failures surface as {@link TypeConversionException}.
+	 */
+	@FunctionalInterface
+	private interface ColumnWriter {
+
+		void write(Object target, String token) throws Throwable;
+
+		static ColumnWriter forSetter(MethodHandle setter, Class<?> propertyType) {
+			if (propertyType == int.class) {
+				MethodHandle exact = setter.asType(MethodType.methodType(void.class, Object.class, int.class));
+				return (target, token) -> {
+					exact.invokeExact(target, parseInt(token, propertyType));
+				};
+			}
+			if (propertyType == long.class) {
+				MethodHandle exact = setter.asType(MethodType.methodType(void.class, Object.class, long.class));
+				return (target, token) -> {
+					exact.invokeExact(target, parseLong(token, propertyType));
+				};
+			}
+			if (propertyType == double.class) {
+				MethodHandle exact = setter.asType(MethodType.methodType(void.class, Object.class, double.class));
+				return (target, token) -> {
+					exact.invokeExact(target, parseDouble(requireValue(token, propertyType), propertyType));
+				};
+			}
+			if (propertyType == boolean.class) {
+				MethodHandle exact = setter.asType(MethodType.methodType(void.class, Object.class, boolean.class));
+				return (target, token) -> {
+					exact.invokeExact(target, Boolean.parseBoolean(requireValue(token, propertyType)));
+				};
+			}
+
+			MethodHandle generic = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+			TokenConverter converter = TokenConverter.forType(propertyType);
+			return (target, token) -> {
+				generic.invokeExact(target, converter.convert(token));
+			};
+		}
+
+		private static String requireValue(String token, Class<?> propertyType) {
+			String value = trimToNull(token);
+			if (value == null) {
+				throw new TypeConversionException("Failed converting blank value to " + propertyType);
+			}
+			return value;
+		}
+
+		private static int parseInt(String token, Class<?> propertyType) {
+			return parseInt(token, 0, token == null ? 0 : token.length(), propertyType);
+		}
+
+		private static long parseLong(String token, Class<?> propertyType) {
+			return parseLong(token, 0, token == null ? 0 : token.length(), propertyType);
+		}
+
+		static int parseInt(CharSequence token, int start, int end, Class<?> propertyType) {
+			int from = trimmedStart(token, start, end, propertyType);
+			try {
+				return Integer.parseInt(token, from, trimmedEnd(token, from, end), 10);
+			} catch (NumberFormatException e) {
+				throw new TypeConversionException("Failed converting '" + token.subSequence(start, end) + "' to " + propertyType, e);
+			}
+		}
+
+		static long parseLong(CharSequence token, int start, int end, Class<?> propertyType) {
+			int from = trimmedStart(token, start, end, propertyType);
+			try {
+				return Long.parseLong(token, from, trimmedEnd(token, from, end), 10);
+			} catch (NumberFormatException e) {
+				throw new TypeConversionException("Failed converting '" + token.subSequence(start, end) + "' to " + propertyType, e);
+			}
+		}
+
+		private static double parseDouble(String value, Class<?> propertyType) {
+			try {
+				return Double.parseDouble(value);
+			} catch (NumberFormatException e) {
+				throw new TypeConversionException("Failed converting '" + value + "' to " + propertyType, e);
+			}
+		}
+
+		private static int trimmedStart(CharSequence token, int start, int end, Class<?> propertyType) {
+			int from = start;
+			while (from < end && token.charAt(from) <= ' ') {
+				from++;
+			}
+			if (from == end) {
+				throw new TypeConversionException("Failed converting blank value to " + propertyType);
+			}
+			return from;
+		}
+
+		private static int trimmedEnd(CharSequence token, int start, int end) {
+			int to = end;
+			while (to > start && token.charAt(to - 1) <= ' ') {
+				to--;
+			}
+			return to;
+		}
+	}
+
+	/**
+	 * Buffer-range counterpart of {@link ColumnWriter}, with the same conversion semantics.
+	 * Columns without a dedicated range parser materialize the trimmed range once and reuse the
+	 * token writer.
+	 */
+	@FunctionalInterface
+	private interface RangeWriter {
+
+		void write(Object target, CharSequence chars, int start, int end) throws Throwable;
+
+		static RangeWriter forSetter(MethodHandle setter, Class<?> propertyType, ColumnWriter tokenWriter) {
+			if (propertyType == int.class) {
+				MethodHandle exact = setter.asType(MethodType.methodType(void.class, Object.class, int.class));
+				return (target, chars, start, end) -> {
+					exact.invokeExact(target, ColumnWriter.parseInt(chars, start, end, propertyType));
+				};
+			}
+			if (propertyType == long.class) {
+				MethodHandle exact = setter.asType(MethodType.methodType(void.class, Object.class, long.class));
+				return (target, chars, start, end) -> {
+					exact.invokeExact(target, ColumnWriter.parseLong(chars, start, end, propertyType));
+				};
+			}
+			if (propertyType == Integer.class) {
+				MethodHandle generic = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+				return (target, chars, start, end) -> {
+					int from = trimmedStart(chars, start, end);
+					int to = trimmedEnd(chars, from, end);
+					generic.invokeExact(target, from == to ? null : (Object) ColumnWriter.parseInt(chars, from, to, propertyType));
+				};
+			}
+			if (propertyType == Long.class) {
+				MethodHandle generic = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+				return (target, chars, start, end) -> {
+					int from = trimmedStart(chars, start, end);
+					int to = trimmedEnd(chars, from, end);
+					generic.invokeExact(target, from == to ? null : (Object) ColumnWriter.parseLong(chars, from, to, propertyType));
+				};
+			}
+			if (propertyType == boolean.class) {
+				MethodHandle exact = setter.asType(MethodType.methodType(void.class, Object.class, boolean.class));
+				return (target, chars, start, end) -> {
+					int from = trimmedStart(chars, start, end);
+					int to = trimmedEnd(chars, from, end);
+					if (from == to) {
+						throw new TypeConversionException("Failed converting blank value to " + propertyType);
+					}
+					exact.invokeExact(target, isTrue(chars, from, to));
+				};
+			}
+			if (propertyType == Boolean.class) {
+				MethodHandle generic = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+				return (target, chars, start, end) -> {
+					int from = trimmedStart(chars, start, end);
+					int to = trimmedEnd(chars, from, end);
+					generic.invokeExact(target, from == to ? null : (Object) Boolean.valueOf(isTrue(chars, from, to)));
+				};
+			}
+			return (target, chars, start, end) -> tokenWriter.write(target, trimmedText(chars, start, end));
+		}
+
+		/**
+		 * Same result as {@link Boolean#parseBoolean(String)} on the range, without copying it.
+		 */
+		private static boolean isTrue(CharSequence chars, int start, int end) {
+			if (end - start != 4) {
+				return false;
+			}
+			String expected = "true";
+			for (int i = 0; i < 4; i++) {
+				if (Character.toLowerCase(chars.charAt(start + i)) != expected.charAt(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private static String trimmedText(CharSequence chars, int start, int end) {
+			int from = trimmedStart(chars, start, end);
+			int to = trimmedEnd(chars, from, end);
+			return from == to ? null : chars.subSequence(from, to).toString();
+		}
+
+		private static int trimmedStart(CharSequence chars, int start, int end) {
+			int from = start;
+			while (from < end && chars.charAt(from) <= ' ') {
+				from++;
+			}
+			return from;
+		}
+
+		private static int trimmedEnd(CharSequence chars, int start, int end) {
+			int to = end;
+			while (to > start && chars.charAt(to - 1) <= ' ') {
+				to--;
+			}
+			return to;
+		}
+	}
+
+	/**
+	 * Boxed/object conversion chosen once per column from the setter parameter type.
+	 */
+	@FunctionalInterface
+	private interface TokenConverter {
+
+		Object convert(String token);
+
+		static TokenConverter forType(Class<?> propertyType) {
+			if (propertyType == Integer.class) {
+				return parsing(propertyType, Integer::valueOf);
+			}
+			if (propertyType == Long.class) {
+				return parsing(propertyType, Long::valueOf);
+			}
+			if (propertyType == Double.class) {
+				return parsing(propertyType, Double::valueOf);
+			}
+			if (propertyType == Float.class || propertyType == float.class) {
+				return parsing(propertyType, Float::valueOf);
+			}
+			if (propertyType == Boolean.class) {
+				return parsing(propertyType, Boolean::valueOf);
+			}
+			if (propertyType == LocalDate.class) {
+				return parsing(propertyType, value -> LocalDate.parse(value, DateTimeFormatter.ISO_DATE));
+			}
+			// String, Object, CharSequence and any future custom type receive the trimmed token.
+			return DynamicFieldSetMapper::trimToNull;
+		}
+
+		private static TokenConverter parsing(Class<?> propertyType, Function<String, Object> parser) {
+			return token -> {
+				String value = trimToNull(token);
+				if (value == null) {
+					return null;
+				}
+				try {
+					return parser.apply(value);
+				} catch (RuntimeException e) {
+					throw new TypeConversionException("Failed converting '" + value + "' to " + propertyType, e);
+				}
+			};
+		}
+	}
+
+	private static String trimToNull(String token) {
+		if (token == null) {
+			return null;
+		}
+		String value = token.trim();
+		return value.isEmpty() ? null : value;
 	}
 
 }
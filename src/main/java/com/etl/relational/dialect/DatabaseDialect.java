@@ -1,6 +1,10 @@
 package com.etl.relational.dialect;
 
 import com.etl.config.target.RelationalTargetConfig;
+import org.springframework.batch.item.database.support.AbstractSqlPagingQueryProvider;
+
+import java.util.List;
+import java.util.stream.Collectors;
 
 public interface DatabaseDialect {
     String qualifyTableName(RelationalTargetConfig config);
@@ -13,5 +17,93 @@ public interface DatabaseDialect {
     }
 
     String quoteIdentifier(String identifier);
-}
 
+    /**
+     * New vendor query provider for keyset-paged reads ({@code WHERE key > ? ORDER BY key} limited
+     * to one page).
+     */
+    AbstractSqlPagingQueryProvider newPagingQueryProvider();
+
+    /**
+     * Whether {@code BULK} writes can stream rows through the vendor bulk-load API.
+     */
+    default boolean supportsBulkCopy() {
+        return false;
+    }
+
+    /**
+     * Most rows one multi-row {@code INSERT ... VALUES (...), (...)} statement may carry for the given
+     * column count; {@code BULK} writes fall back to statements of this size.
+     */
+    default int maxRowsPerInsert(int columnCount) {
+        return 1000;
+    }
+
+    /**
+     * Name of the session temp table that stages {@code UPSERT}/{@code MERGE} rows for one target
+     * table and column list.
+     */
+    default String stagingTableName(String qualifiedTable, List<String> columns) {
+        String table = qualifiedTable.replaceAll("[^A-Za-z0-9_]", "_");
+        if (table.length() > 40) {
+            table = table.substring(table.length() - 40);
+        }
+        return "etl_stage_" + table + "_" + Integer.toHexString((qualifiedTable + columns).hashCode());
+    }
+
+    /**
+     * Statement that creates the staging table with the target's column types, unless this session
+     * already has it. It runs inside the writer's local transaction for the chunk.
+     */
+    String createStagingTableSql(String stagingTable, String qualifiedTable, List<String> columns);
+
+    /**
+     * Statement that empties the staging table once its rows have been merged.
+     */
+    default String clearStagingTableSql(String stagingTable) {
+        return "DELETE FROM " + stagingTable;
+    }
+
+    /**
+     * Set-based MERGE that applies every staged row to the target in one statement: rows matching
+     * on {@code keyColumns} are updated, the rest inserted. With {@code onlyChanged}, matched rows
+     * are updated only when a non-key column differs.
+     */
+    default String mergeSql(String qualifiedTable,
+                            String stagingTable,
+                            List<String> columns,
+                            List<String> keyColumns,
+                            boolean onlyChanged) {
+        List<String> valueColumns = columns.stream().filter(column -> !keyColumns.contains(column)).toList();
+        StringBuilder sql = new StringBuilder("MERGE INTO ").append(qualifiedTable).append(" t USING ")
+                .append(stagingTable).append(" s ON ")
+                .append(keyColumns.stream()
+                        .map(column -> "t." + quoteIdentifier(column) + " = s." + quoteIdentifier(column))
+                        .collect(Collectors.joining(" AND ")));
+        if (!valueColumns.isEmpty()) {
+            sql.append(" WHEN MATCHED");
+            if (onlyChanged) {
+                sql.append(" AND ").append(changedRowCondition(valueColumns));
+            }
+            sql.append(" THEN UPDATE SET ").append(valueColumns.stream()
+                    .map(column -> quoteIdentifier(column) + " = s." + quoteIdentifier(column))
+                    .collect(Collectors.joining(", ")));
+        }
+        return sql.append(" WHEN NOT MATCHED THEN INSERT (")
+                .append(columns.stream().map(this::quoteIdentifier).collect(Collectors.joining(", ")))
+                .append(") VALUES (")
+                .append(columns.stream().map(column -> "s." + quoteIdentifier(column)).collect(Collectors.joining(", ")))
+                .append(")")
+                .toString();
+    }
+
+    /**
+     * Null-safe condition, over target alias {@code t} and staged alias {@code s}, that is true when
+     * any of the given columns differ.
+     */
+    default String changedRowCondition(List<String> valueColumns) {
+        return valueColumns.stream()
+                .map(column -> "t." + quoteIdentifier(column) + " IS DISTINCT FROM s." + quoteIdentifier(column))
+                .collect(Collectors.joining(" OR ", "(", ")"));
+    }
+}
@@ -1,6 +1,11 @@
 package com.etl.relational.dialect;
 
 import com.etl.config.target.RelationalTargetConfig;
+import org.springframework.batch.item.database.support.AbstractSqlPagingQueryProvider;
+import org.springframework.batch.item.database.support.H2PagingQueryProvider;
+
+import java.util.List;
+import java.util.stream.Collectors;
 
 public class H2Dialect implements DatabaseDialect {
 
@@ -13,5 +18,16 @@ public class H2Dialect implements DatabaseDialect {
     public String quoteIdentifier(String identifier) {
         return identifier;
     }
-}
 
+    @Override
+    public AbstractSqlPagingQueryProvider newPagingQueryProvider() {
+        return new H2PagingQueryProvider();
+    }
+
+    @Override
+    public String createStagingTableSql(String stagingTable, String qualifiedTable, List<String> columns) {
+        return "CREATE LOCAL TEMPORARY TABLE IF NOT EXISTS " + stagingTable + " TRANSACTIONAL AS SELECT "
+                + columns.stream().map(this::quoteIdentifier).collect(Collectors.joining(", "))
+                + " FROM " + qualifiedTable + " WITH NO DATA";
+    }
+}
@@ -1,9 +1,18 @@
 package com.etl.relational.dialect;
 
 import com.etl.config.target.RelationalTargetConfig;
+import org.springframework.batch.item.database.support.AbstractSqlPagingQueryProvider;
+import org.springframework.batch.item.database.support.SqlServerPagingQueryProvider;
+
+import java.util.List;
+import java.util.stream.Collectors;
 
 public class SqlServerDialect implements DatabaseDialect {
 
+    // SQL Server caps one statement at 2100 parameters and one VALUES list at 1000 rows.
+    private static final int MAX_PARAMETERS = 2100;
+    private static final int MAX_VALUES_ROWS = 1000;
+
     @Override
     public String qualifyTableName(RelationalTargetConfig config) {
         return DatabaseDialect.super.qualifyTableName(config.getEffectiveSchema(), config.getTable());
@@ -13,5 +22,54 @@ public class SqlServerDialect implements DatabaseDialect {
     public String quoteIdentifier(String identifier) {
         return "[" + identifier + "]";
     }
-}
 
+    @Override
+    public AbstractSqlPagingQueryProvider newPagingQueryProvider() {
+        return new SqlServerPagingQueryProvider();
+    }
+
+    @Override
+    public boolean supportsBulkCopy() {
+        return true;
+    }
+
+    @Override
+    public int maxRowsPerInsert(int columnCount) {
+        return Math.max(1, Math.min(MAX_VALUES_ROWS, (MAX_PARAMETERS - 1) / Math.max(1, columnCount)));
+    }
+
+    @Override
+    public String stagingTableName(String qualifiedTable, List<String> columns) {
+        return "#" + DatabaseDialect.super.stagingTableName(qualifiedTable, columns);
+    }
+
+    @Override
+    public String createStagingTableSql(String stagingTable, String qualifiedTable, List<String> columns) {
+        return "IF OBJECT_ID('tempdb.." + stagingTable + "') IS NULL SELECT TOP 0 "
+                + columns.stream().map(this::quoteIdentifier).collect(Collectors.joining(", "))
+                + " INTO " + stagingTable + " FROM " + qualifiedTable;
+    }
+
+    @Override
+    public String mergeSql(String qualifiedTable,
+                           String stagingTable,
+                           List<String> columns,
+                           List<String> keyColumns,
+                           boolean onlyChanged) {
+        // SQL Server requires MERGE to be terminated by a semicolon.
+        return DatabaseDialect.super.mergeSql(qualifiedTable, stagingTable, columns, keyColumns, onlyChanged) + ";";
+    }
+
+    /**
+     * {@code IS DISTINCT FROM} needs SQL Server 2022, so the null-safe comparison uses the
+     * {@code EXISTS ... EXCEPT} idiom instead.
+     */
+    @Override
+    public String changedRowCondition(List<String> valueColumns) {
+        return "EXISTS (SELECT "
+                + valueColumns.stream().map(column -> "s." + quoteIdentifier(column)).collect(Collectors.joining(", "))
+                + " EXCEPT SELECT "
+                + valueColumns.stream().map(column -> "t." + quoteIdentifier(column)).collect(Collectors.joining(", "))
+                + ")";
+    }
+}
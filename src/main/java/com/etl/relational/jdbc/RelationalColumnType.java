@@ -0,0 +1,185 @@
+package com.etl.relational.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+
+/**
+ * Typed JDBC access for one configured relational field type.
+ *
+ * <p>Types are resolved from {@code FieldDefinition.getType()} with the same names the model
+ * generator maps to Java types, so reads use {@code getInt}/{@code getLong}-style calls that return
+ * the generated field's boxed type instead of whatever {@code getObject} picks for the column. Binds
+ * use the matching typed setter when the value already has that Java type and fall back to
+ * {@code setObject} otherwise. Unknown types keep the untyped {@code getObject}/{@code setObject}
+ * behavior.</p>
+ */
+public enum RelationalColumnType {
+
+    INTEGER(Types.INTEGER) {
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            int value = rs.getInt(index);
+            return rs.wasNull() ? null : value;
+        }
+
+        @Override
+        void bindValue(PreparedStatement ps, int index, Object value) throws SQLException {
+            if (value instanceof Integer integer) {
+                ps.setInt(index, integer);
+            } else {
+                ps.setObject(index, value);
+            }
+        }
+    },
+    LONG(Types.BIGINT) {
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            long value = rs.getLong(index);
+            return rs.wasNull() ? null : value;
+        }
+
+        @Override
+        void bindValue(PreparedStatement ps, int index, Object value) throws SQLException {
+            if (value instanceof Long longValue) {
+                ps.setLong(index, longValue);
+            } else {
+                ps.setObject(index, value);
+            }
+        }
+    },
+    DOUBLE(Types.DOUBLE) {
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            double value = rs.getDouble(index);
+            return rs.wasNull() ? null : value;
+        }
+
+        @Override
+        void bindValue(PreparedStatement ps, int index, Object value) throws SQLException {
+            if (value instanceof Double doubleValue) {
+                ps.setDouble(index, doubleValue);
+            } else {
+                ps.setObject(index, value);
+            }
+        }
+    },
+    FLOAT(Types.REAL) {
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            float value = rs.getFloat(index);
+            return rs.wasNull() ? null : value;
+        }
+
+        @Override
+        void bindValue(PreparedStatement ps, int index, Object value) throws SQLException {
+            if (value instanceof Float floatValue) {
+                ps.setFloat(index, floatValue);
+            } else {
+                ps.setObject(index, value);
+            }
+        }
+    },
+    BOOLEAN(Types.BOOLEAN) {
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            boolean value = rs.getBoolean(index);
+            return rs.wasNull() ? null : value;
+        }
+
+        @Override
+        void bindValue(PreparedStatement ps, int index, Object value) throws SQLException {
+            if (value instanceof Boolean booleanValue) {
+                ps.setBoolean(index, booleanValue);
+            } else {
+                ps.setObject(index, value);
+            }
+        }
+    },
+    STRING(Types.VARCHAR) {
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            return rs.getString(index);
+        }
+
+        @Override
+        void bindValue(PreparedStatement ps, int index, Object value) throws SQLException {
+            if (value instanceof String string) {
+                ps.setString(index, string);
+            } else {
+                ps.setObject(index, value);
+            }
+        }
+    },
+    LOCAL_DATE(Types.DATE) {
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            return rs.getObject(index, LocalDate.class);
+        }
+
+        @Override
+        void bindValue(PreparedStatement ps, int index, Object value) throws SQLException {
+            if (value instanceof LocalDate) {
+                ps.setObject(index, value, Types.DATE);
+            } else {
+                ps.setObject(index, value);
+            }
+        }
+    },
+    OBJECT(Types.NULL) {
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            return rs.getObject(index);
+        }
+
+        @Override
+        void bindValue(PreparedStatement ps, int index, Object value) throws SQLException {
+            ps.setObject(index, value);
+        }
+    };
+
+    private final int sqlType;
+
+    RelationalColumnType(int sqlType) {
+        this.sqlType = sqlType;
+    }
+
+    /**
+     * Resolves the access type for a configured field type such as {@code int} or {@code LocalDate}.
+     */
+    public static RelationalColumnType of(String configuredType) {
+        String normalized = configuredType == null ? "" : configuredType.trim().toLowerCase();
+        return switch (normalized) {
+            case "int", "integer", "java.lang.integer" -> INTEGER;
+            case "long", "java.lang.long" -> LONG;
+            case "double", "java.lang.double" -> DOUBLE;
+            case "float", "java.lang.float" -> FLOAT;
+            case "boolean", "java.lang.boolean" -> BOOLEAN;
+            case "string", "java.lang.string" -> STRING;
+            case "localdate", "java.time.localdate" -> LOCAL_DATE;
+            default -> OBJECT;
+        };
+    }
+
+    /**
+     * Reads the column at {@code index}, returning {@code null} for SQL {@code NULL}.
+     */
+    public abstract Object read(ResultSet rs, int index) throws SQLException;
+
+    /**
+     * Binds {@code value} to parameter {@code index}.
+     */
+    public void bind(PreparedStatement ps, int index, Object value) throws SQLException {
+        if (value != null) {
+            bindValue(ps, index, value);
+        } else if (this == OBJECT) {
+            ps.setObject(index, null);
+        } else {
+            ps.setNull(index, sqlType);
+        }
+    }
+
+    abstract void bindValue(PreparedStatement ps, int index, Object value) throws SQLException;
+}
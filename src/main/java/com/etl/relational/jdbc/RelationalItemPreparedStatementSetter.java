@@ -0,0 +1,49 @@
+package com.etl.relational.jdbc;
+
+import com.etl.common.exception.ReflectionAccessException;
+import com.etl.common.util.FieldAccessors;
+import com.etl.config.FieldDefinition;
+import org.springframework.batch.item.database.ItemPreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Positional parameter setter compiled once per relational target config.
+ *
+ * <p>Parameter {@code i + 1} is bound from field {@code i}, read through the cached
+ * {@link FieldAccessors} path and set with the typed setter of the field's configured type, so
+ * statements use plain {@code ?} placeholders and no per-row parameter map is built.</p>
+ */
+public final class RelationalItemPreparedStatementSetter implements ItemPreparedStatementSetter<Object> {
+
+    private final String[] names;
+    private final FieldAccessors.FieldPath[] paths;
+    private final RelationalColumnType[] types;
+
+    public RelationalItemPreparedStatementSetter(List<? extends FieldDefinition> fields) {
+        this.names = new String[fields.size()];
+        this.paths = new FieldAccessors.FieldPath[fields.size()];
+        this.types = new RelationalColumnType[fields.size()];
+        for (int i = 0; i < names.length; i++) {
+            FieldDefinition field = fields.get(i);
+            names[i] = field.getName();
+            paths[i] = FieldAccessors.path(field.getName());
+            types[i] = RelationalColumnType.of(field.getType());
+        }
+    }
+
+    @Override
+    public void setValues(Object item, PreparedStatement ps) throws SQLException {
+        for (int i = 0; i < paths.length; i++) {
+            Object value;
+            try {
+                value = paths[i].get(item);
+            } catch (ReflectiveOperationException e) {
+                throw new ReflectionAccessException("Failed to get field value: " + names[i], e);
+            }
+            types[i].bind(ps, i + 1, value);
+        }
+    }
+}
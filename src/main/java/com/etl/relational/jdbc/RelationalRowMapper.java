@@ -0,0 +1,69 @@
+package com.etl.relational.jdbc;
+
+import com.etl.common.exception.ReflectionAccessException;
+import com.etl.common.util.FieldAccessors;
+import com.etl.common.util.ReflectionUtils;
+import com.etl.config.FieldDefinition;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Positional row mapper compiled once per relational source config.
+ *
+ * <p>Configured field names are the column labels and generated property names. Their column
+ * indexes are looked up once per result set, so each row is read by index with the typed getter of
+ * the field's configured type and written through the cached {@link FieldAccessors} path instead of
+ * label lookups and reflective setters.</p>
+ */
+public final class RelationalRowMapper<T> implements RowMapper<T> {
+
+    private final Class<T> type;
+    private final String[] labels;
+    private final FieldAccessors.FieldPath[] paths;
+    private final RelationalColumnType[] types;
+    private ResultSet indexedResultSet;
+    private int[] columnIndexes;
+
+    public RelationalRowMapper(List<? extends FieldDefinition> fields, Class<T> type) {
+        this.type = type;
+        this.labels = new String[fields.size()];
+        this.paths = new FieldAccessors.FieldPath[fields.size()];
+        this.types = new RelationalColumnType[fields.size()];
+        for (int i = 0; i < labels.length; i++) {
+            FieldDefinition field = fields.get(i);
+            labels[i] = field.getName();
+            paths[i] = FieldAccessors.path(field.getName());
+            types[i] = RelationalColumnType.of(field.getType());
+        }
+    }
+
+    @Override
+    public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+        int[] indexes = columnIndexes(rs);
+        T instance = ReflectionUtils.createInstance(type);
+        for (int i = 0; i < indexes.length; i++) {
+            Object value = types[i].read(rs, indexes[i]);
+            try {
+                paths[i].set(instance, value);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                throw new ReflectionAccessException("Failed to set field value: " + labels[i], e);
+            }
+        }
+        return instance;
+    }
+
+    private int[] columnIndexes(ResultSet rs) throws SQLException {
+        if (rs != indexedResultSet) {
+            int[] indexes = new int[labels.length];
+            for (int i = 0; i < labels.length; i++) {
+                indexes[i] = rs.findColumn(labels[i]);
+            }
+            columnIndexes = indexes;
+            indexedResultSet = rs;
+        }
+        return columnIndexes;
+    }
+}
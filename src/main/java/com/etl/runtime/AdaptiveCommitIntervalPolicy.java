@@ -0,0 +1,242 @@
+package com.etl.runtime;
+
+import com.etl.config.EtlBatchProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
+import org.springframework.lang.NonNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chunk completion policy that resizes the commit interval from measured write cost.
+ *
+ * <p>The step starts at its configured commit interval, which must lie within the configured
+ * min/max bounds. After every chunk write the policy derives the per-item write latency and a
+ * sampled per-item byte estimate, then sizes the next chunk so one write stays near the target
+ * latency and below the byte budget. Growth is capped at doubling per chunk while shrinking takes
+ * effect immediately, and the result is always kept within the bounds. This keeps relational
+ * targets away from long transactions while letting cheap local file writes commit in larger
+ * batches.</p>
+ *
+ * <p>The current interval is recorded in the step execution context under
+ * {@link #COMMIT_INTERVAL_KEY} and summarized in a {@code STEP_EVENT} log line when the step ends.
+ * One instance serves one step; it is registered both as the chunk completion policy and as a
+ * step and write listener.</p>
+ */
+public class AdaptiveCommitIntervalPolicy extends SimpleCompletionPolicy
+		implements ItemWriteListener<Object>, StepExecutionListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(AdaptiveCommitIntervalPolicy.class);
+
+	public static final String COMMIT_INTERVAL_KEY = "etl.commitInterval";
+	public static final String COMMIT_INTERVAL_ADJUSTMENTS_KEY = "etl.commitInterval.adjustments";
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	/**
+	 * Getters for every instance field of the item class and its superclasses, each bound to the
+	 * class that declares the field. Fields that cannot be made accessible, such as JDK internals,
+	 * are left out of the estimate.
+	 */
+	private static final ClassValue<List<MethodHandle>> ITEM_FIELDS = new ClassValue<>() {
+		@Override
+		protected List<MethodHandle> computeValue(Class<?> type) {
+			List<MethodHandle> getters = new ArrayList<>();
+			for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+				for (Field field : current.getDeclaredFields()) {
+					if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic() || !field.trySetAccessible()) {
+						continue;
+					}
+					try {
+						getters.add(LOOKUP.unreflectGetter(field).asType(GETTER_TYPE));
+					} catch (IllegalAccessException e) {
+						logger.debug("Skipping field {}.{} in item size estimate: {}", current.getName(), field.getName(), e.getMessage());
+					}
+				}
+			}
+			return List.copyOf(getters);
+		}
+	};
+
+	private final int initialInterval;
+	private final int minInterval;
+	private final int maxInterval;
+	private final long targetWriteLatencyNanos;
+	private final long maxChunkBytes;
+
+	private StepExecution stepExecution;
+	private int currentInterval;
+	private int smallestInterval;
+	private int largestInterval;
+	private int adjustments;
+	private long writeStartNanos;
+
+	public AdaptiveCommitIntervalPolicy(int initialInterval, EtlBatchProperties.AdaptiveCommitInterval settings) {
+		validate(initialInterval, settings);
+		this.minInterval = settings.getMinInterval();
+		this.maxInterval = settings.getMaxInterval();
+		this.targetWriteLatencyNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, settings.getTargetWriteLatencyMs()));
+		this.maxChunkBytes = Math.max(1L, settings.getMaxChunkBytes());
+		this.initialInterval = initialInterval;
+		reset();
+	}
+
+	/**
+	 * Checks that the adaptive bounds are usable and that the configured commit interval lies within
+	 * them, so an out-of-range interval fails configuration instead of being silently adjusted.
+	 */
+	public static void validate(int initialInterval, EtlBatchProperties.AdaptiveCommitInterval settings) {
+		int min = settings.getMinInterval();
+		int max = settings.getMaxInterval();
+		if (min < 1 || max < min) {
+			throw new IllegalArgumentException("Adaptive commit interval bounds must satisfy 1 <= min-interval <= max-interval"
+					+ " (min-interval=" + min + ", max-interval=" + max + ").");
+		}
+		if (initialInterval < min || initialInterval > max) {
+			throw new IllegalArgumentException("Commit interval " + initialInterval
+					+ " is outside the adaptive commit interval bounds [" + min + ", " + max + "].");
+		}
+	}
+
+	public int getCurrentInterval() {
+		return currentInterval;
+	}
+
+	@Override
+	public void beforeStep(@NonNull StepExecution stepExecution) {
+		this.stepExecution = stepExecution;
+		reset();
+		recordInterval();
+	}
+
+	@Override
+	public void beforeWrite(@NonNull Chunk<?> items) {
+		writeStartNanos = System.nanoTime();
+	}
+
+	@Override
+	public void afterWrite(@NonNull Chunk<?> items) {
+		if (items.isEmpty() || writeStartNanos == 0L) {
+			return;
+		}
+		long elapsedNanos = System.nanoTime() - writeStartNanos;
+		writeStartNanos = 0L;
+		int next = nextInterval(items.size(), elapsedNanos, estimateItemBytes(items.getItems().get(0)));
+		if (next != currentInterval) {
+			currentInterval = next;
+			smallestInterval = Math.min(smallestInterval, next);
+			largestInterval = Math.max(largestInterval, next);
+			adjustments++;
+			setChunkSize(next);
+			recordInterval();
+		}
+	}
+
+	@Override
+	public void onWriteError(@NonNull Exception exception, @NonNull Chunk<?> items) {
+		writeStartNanos = 0L;
+	}
+
+	@Override
+	public ExitStatus afterStep(@NonNull StepExecution stepExecution) {
+		logger.info("STEP_EVENT event=commit_interval_summary stepName={} initialInterval={} finalInterval={} smallestInterval={} largestInterval={} adjustments={} minInterval={} maxInterval={}",
+				stepExecution.getStepName(),
+				initialInterval,
+				currentInterval,
+				smallestInterval,
+				largestInterval,
+				adjustments,
+				minInterval,
+				maxInterval);
+		return null;
+	}
+
+	/**
+	 * Computes the interval for the next chunk from the last write.
+	 */
+	int nextInterval(int writtenItems, long elapsedNanos, long itemBytes) {
+		long perItemNanos = Math.max(1L, elapsedNanos / Math.max(1, writtenItems));
+		long latencyTarget = targetWriteLatencyNanos / perItemNanos;
+		long byteTarget = itemBytes > 0 ? maxChunkBytes / itemBytes : Long.MAX_VALUE;
+		long target = Math.min(latencyTarget, byteTarget);
+		target = Math.min(target, (long) currentInterval * 2);
+		return clamp(target);
+	}
+
+	/**
+	 * Rough serialized width of one item: character length of its text fields and the rendered
+	 * length of every other field. Only the first item of a chunk is sampled.
+	 */
+	static long estimateItemBytes(Object item) {
+		if (item == null) {
+			return 0L;
+		}
+		if (item instanceof CharSequence text) {
+			return text.length();
+		}
+		if (item instanceof Map<?, ?> map) {
+			long bytes = 0L;
+			for (Object value : map.values()) {
+				bytes += valueBytes(value);
+			}
+			return bytes;
+		}
+		long bytes = 0L;
+		for (MethodHandle getter : ITEM_FIELDS.get(item.getClass())) {
+			bytes += valueBytes(read(getter, item));
+		}
+		return bytes;
+	}
+
+	private static Object read(MethodHandle getter, Object item) {
+		try {
+			return (Object) getter.invokeExact(item);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException("Field read failed while estimating item size for " + item.getClass().getName(), e);
+		}
+	}
+
+	private static long valueBytes(Object value) {
+		if (value instanceof CharSequence text) {
+			return text.length() + 1L;
+		}
+		return value == null ? 1L : String.valueOf(value).length() + 1L;
+	}
+
+	private void reset() {
+		currentInterval = initialInterval;
+		smallestInterval = initialInterval;
+		largestInterval = initialInterval;
+		adjustments = 0;
+		writeStartNanos = 0L;
+		setChunkSize(initialInterval);
+	}
+
+	private void recordInterval() {
+		if (stepExecution != null) {
+			stepExecution.getExecutionContext().putInt(COMMIT_INTERVAL_KEY, currentInterval);
+			stepExecution.getExecutionContext().putInt(COMMIT_INTERVAL_ADJUSTMENTS_KEY, adjustments);
+		}
+	}
+
+	private int clamp(long interval) {
+		return (int) Math.max(minInterval, Math.min(maxInterval, interval));
+	}
+}
@@ -0,0 +1,271 @@
+package com.etl.runtime;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Step-scoped reject CSV writer that moves file I/O off the processing threads.
+ *
+ * <p>Callers hand over fully formatted rows through a bounded array ring buffer; one dedicated
+ * daemon thread drains it in batches into a buffered file writer. Producers block only when the
+ * buffer is full, so a slow disk applies back-pressure instead of growing the heap, and concurrent
+ * producers no longer serialize on a per-row monitor.</p>
+ *
+ * <p>The file and the writer thread are created on the first row, so steps without rejects leave no
+ * reject file behind. {@link #flush()} waits until every row submitted before it is on disk and is
+ * called at chunk boundaries; {@link #close()} does the same and then closes the file. A write
+ * failure on the writer thread is rethrown to the next caller of {@link #submit(String)},
+ * {@link #flush()}, or {@link #close()}.</p>
+ *
+ * <p>Any other exception or error that stops the writer thread is recorded as the failure too, and
+ * the thread releases every flush still waiting on it. Callers blocked on a full buffer or on a
+ * flush recheck the thread while they wait, so they fail instead of hanging once it is gone.</p>
+ */
+final class AsyncRejectWriter {
+
+	static final int DEFAULT_CAPACITY = 4096;
+	private static final int DRAIN_BATCH_SIZE = 512;
+	private static final long LIVENESS_CHECK_MILLIS = 100L;
+
+	private final Path path;
+	private final String header;
+	private final BlockingQueue<Object> queue;
+	private final String threadName;
+	private volatile Thread writerThread;
+	private volatile IOException failure;
+	private BufferedWriter writer;
+
+	AsyncRejectWriter(Path path, String header, int capacity, String threadName) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be greater than zero.");
+		}
+		this.path = path;
+		this.header = header;
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.threadName = threadName;
+	}
+
+	/**
+	 * Queues one formatted row, blocking while the ring buffer is full.
+	 */
+	void submit(String row) throws IOException {
+		rethrowFailure();
+		ensureStarted();
+		try {
+			enqueue(row);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while queueing reject row for " + path);
+		}
+	}
+
+	/**
+	 * Waits until every previously submitted row has been written and the file buffer flushed.
+	 */
+	void flush() throws IOException {
+		awaitBarrier(false);
+	}
+
+	/**
+	 * Writes any queued rows, closes the file, and stops the writer thread.
+	 */
+	void close() throws IOException {
+		awaitBarrier(true);
+		Thread thread = writerThread;
+		if (thread != null) {
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while closing reject output " + path);
+			}
+		}
+		rethrowFailure();
+	}
+
+	private void awaitBarrier(boolean closing) throws IOException {
+		Thread thread = writerThread;
+		if (thread == null || !thread.isAlive()) {
+			rethrowFailure();
+			return;
+		}
+		Barrier barrier = new Barrier(closing);
+		try {
+			enqueue(barrier);
+			while (!barrier.done.await(LIVENESS_CHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+				if (!thread.isAlive()) {
+					// The thread may have stopped after releasing the queued barriers but before this one arrived.
+					break;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while flushing reject output " + path);
+		}
+		rethrowFailure();
+	}
+
+	/**
+	 * Queues an entry, waiting while the buffer is full but failing once the writer thread has stopped
+	 * and can no longer make room.
+	 */
+	private void enqueue(Object entry) throws IOException, InterruptedException {
+		while (!queue.offer(entry, LIVENESS_CHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+			Thread thread = writerThread;
+			if (thread == null || !thread.isAlive()) {
+				rethrowFailure();
+				throw new IOException("Reject writer thread is no longer running for " + path);
+			}
+		}
+	}
+
+	private void ensureStarted() {
+		if (writerThread != null) {
+			return;
+		}
+		synchronized (this) {
+			if (writerThread == null) {
+				Thread thread = new Thread(this::drain, threadName);
+				thread.setDaemon(true);
+				thread.start();
+				writerThread = thread;
+			}
+		}
+	}
+
+	private void drain() {
+		List<Object> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+		try {
+			drainUntilClosed(batch);
+		} catch (Throwable t) {
+			if (failure == null) {
+				failure = new IOException("Reject writer thread failed for " + path, t);
+			}
+			closeQuietly();
+		} finally {
+			releaseBarriers(batch);
+			List<Object> remaining = new ArrayList<>();
+			queue.drainTo(remaining);
+			releaseBarriers(remaining);
+		}
+	}
+
+	private void drainUntilClosed(List<Object> batch) {
+		while (true) {
+			try {
+				batch.add(queue.take());
+			} catch (InterruptedException e) {
+				failure = new InterruptedIOException("Reject writer thread was interrupted for " + path);
+				closeQuietly();
+				return;
+			}
+			queue.drainTo(batch, DRAIN_BATCH_SIZE - 1);
+			for (Object entry : batch) {
+				if (entry instanceof Barrier barrier) {
+					if (barrier.closing) {
+						closeWriter();
+						barrier.done.countDown();
+						batch.clear();
+						return;
+					}
+					flushWriter();
+					barrier.done.countDown();
+				} else {
+					writeRow((String) entry);
+				}
+			}
+			batch.clear();
+		}
+	}
+
+	private static void releaseBarriers(List<Object> entries) {
+		for (Object entry : entries) {
+			if (entry instanceof Barrier barrier) {
+				barrier.done.countDown();
+			}
+		}
+	}
+
+	private void writeRow(String row) {
+		if (failure != null) {
+			// Keep draining so producers are never left blocked on a full buffer.
+			return;
+		}
+		try {
+			if (writer == null) {
+				Path parent = path.getParent();
+				if (parent != null) {
+					Files.createDirectories(parent);
+				}
+				writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+				writer.write(header);
+				writer.newLine();
+			}
+			writer.write(row);
+			writer.newLine();
+		} catch (IOException e) {
+			failure = e;
+		}
+	}
+
+	private void flushWriter() {
+		if (failure != null || writer == null) {
+			return;
+		}
+		try {
+			writer.flush();
+		} catch (IOException e) {
+			failure = e;
+		}
+	}
+
+	private void closeWriter() {
+		if (writer == null) {
+			return;
+		}
+		try {
+			writer.close();
+		} catch (IOException e) {
+			if (failure == null) {
+				failure = e;
+			}
+		}
+	}
+
+	private void closeQuietly() {
+		try {
+			if (writer != null) {
+				writer.close();
+			}
+		} catch (IOException ignored) {
+			// the interruption or thread failure is already recorded
+		}
+	}
+
+	private void rethrowFailure() throws IOException {
+		IOException current = failure;
+		if (current != null) {
+			throw current;
+		}
+	}
+
+	private static final class Barrier {
+
+		private final boolean closing;
+		private final CountDownLatch done = new CountDownLatch(1);
+
+		private Barrier(boolean closing) {
+			this.closing = closing;
+		}
+	}
+}
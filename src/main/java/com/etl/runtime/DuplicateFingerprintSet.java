@@ -0,0 +1,191 @@
+package com.etl.runtime;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keep-first duplicate seen-set that stores 128-bit fingerprints of normalized key values instead
+ * of the key strings themselves.
+ *
+ * <p>Each key is hashed with MurmurHash3 (x64, 128-bit) over its UTF-16 code units and stored in
+ * primitive open-addressing {@code long} tables, roughly 32 bytes per tracked key instead of a
+ * {@code String} plus a hash-set node. Two distinct keys only collide when all 128 bits match: at ten
+ * million tracked keys that chance is below 10<sup>-22</sup>, so keys are not kept for an exact
+ * re-check.</p>
+ *
+ * <p>The table is split into segments by fingerprint bits, each guarded by its own monitor, so
+ * multi-threaded steps contend only when they touch the same segment. The tracked-key limit is
+ * enforced exactly across segments.</p>
+ */
+final class DuplicateFingerprintSet {
+
+	enum AddResult {
+		ADDED,
+		PRESENT,
+		LIMIT_REACHED
+	}
+
+	private static final int SEGMENT_COUNT = 16;
+	private static final int INITIAL_SEGMENT_CAPACITY = 64;
+	private static final long C1 = 0x87c37b91114253d5L;
+	private static final long C2 = 0x4cf5ad432745937fL;
+
+	private final Segment[] segments = new Segment[SEGMENT_COUNT];
+	private final AtomicInteger size = new AtomicInteger();
+	private final int maxSize;
+
+	DuplicateFingerprintSet(int maxSize) {
+		this.maxSize = maxSize;
+		for (int i = 0; i < SEGMENT_COUNT; i++) {
+			segments[i] = new Segment();
+		}
+	}
+
+	/**
+	 * Records the key unless it was already seen, or unless recording it would exceed the limit.
+	 */
+	AddResult add(CharSequence key) {
+		long[] fingerprint = fingerprint(key);
+		long high = fingerprint[0];
+		long low = fingerprint[1];
+		if (high == 0 && low == 0) {
+			// (0, 0) marks empty slots.
+			low = 1;
+		}
+		return segments[(int) (high >>> 60)].add(high, low);
+	}
+
+	int size() {
+		return size.get();
+	}
+
+	/**
+	 * Approximate heap held by the fingerprint tables.
+	 */
+	long tableBytes() {
+		long bytes = 0;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				bytes += 16L * segment.highs.length;
+			}
+		}
+		return bytes;
+	}
+
+	private final class Segment {
+
+		private long[] highs = new long[INITIAL_SEGMENT_CAPACITY];
+		private long[] lows = new long[INITIAL_SEGMENT_CAPACITY];
+		private int count;
+
+		synchronized AddResult add(long high, long low) {
+			int mask = highs.length - 1;
+			int slot = (int) low & mask;
+			while (highs[slot] != 0 || lows[slot] != 0) {
+				if (highs[slot] == high && lows[slot] == low) {
+					return AddResult.PRESENT;
+				}
+				slot = (slot + 1) & mask;
+			}
+			if (size.incrementAndGet() > maxSize) {
+				size.decrementAndGet();
+				return AddResult.LIMIT_REACHED;
+			}
+			highs[slot] = high;
+			lows[slot] = low;
+			if (++count * 4 > highs.length * 3) {
+				grow();
+			}
+			return AddResult.ADDED;
+		}
+
+		private void grow() {
+			long[] oldHighs = highs;
+			long[] oldLows = lows;
+			highs = new long[oldHighs.length * 2];
+			lows = new long[oldLows.length * 2];
+			int mask = highs.length - 1;
+			for (int i = 0; i < oldHighs.length; i++) {
+				if (oldHighs[i] == 0 && oldLows[i] == 0) {
+					continue;
+				}
+				int slot = (int) oldLows[i] & mask;
+				while (highs[slot] != 0 || lows[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				highs[slot] = oldHighs[i];
+				lows[slot] = oldLows[i];
+			}
+		}
+	}
+
+	/**
+	 * MurmurHash3 x64 128-bit over the UTF-16 code units of {@code key}, seed 0.
+	 */
+	static long[] fingerprint(CharSequence key) {
+		int length = key.length();
+		long h1 = 0;
+		long h2 = 0;
+		int index = 0;
+		for (; index + 8 <= length; index += 8) {
+			long k1 = chars(key, index);
+			long k2 = chars(key, index + 4);
+			h1 ^= mixK1(k1);
+			h1 = Long.rotateLeft(h1, 27) + h2;
+			h1 = h1 * 5 + 0x52dce729;
+			h2 ^= mixK2(k2);
+			h2 = Long.rotateLeft(h2, 31) + h1;
+			h2 = h2 * 5 + 0x38495ab5;
+		}
+		long k1 = 0;
+		long k2 = 0;
+		for (int i = 0; index + i < length; i++) {
+			long unit = key.charAt(index + i);
+			if (i < 4) {
+				k1 |= unit << (16 * i);
+			} else {
+				k2 |= unit << (16 * (i - 4));
+			}
+		}
+		h1 ^= mixK1(k1);
+		h2 ^= mixK2(k2);
+
+		long byteLength = 2L * length;
+		h1 ^= byteLength;
+		h2 ^= byteLength;
+		h1 += h2;
+		h2 += h1;
+		h1 = fmix(h1);
+		h2 = fmix(h2);
+		h1 += h2;
+		h2 += h1;
+		return new long[]{h1, h2};
+	}
+
+	private static long chars(CharSequence key, int index) {
+		return key.charAt(index)
+				| (long) key.charAt(index + 1) << 16
+				| (long) key.charAt(index + 2) << 32
+				| (long) key.charAt(index + 3) << 48;
+	}
+
+	private static long mixK1(long k1) {
+		k1 *= C1;
+		k1 = Long.rotateLeft(k1, 31);
+		return k1 * C2;
+	}
+
+	private static long mixK2(long k2) {
+		k2 *= C2;
+		k2 = Long.rotateLeft(k2, 33);
+		return k2 * C1;
+	}
+
+	private static long fmix(long k) {
+		k ^= k >>> 33;
+		k *= 0xff51afd7ed558ccdL;
+		k ^= k >>> 33;
+		k *= 0xc4ceb9fe1a85ec53L;
+		k ^= k >>> 33;
+		return k;
+	}
+}
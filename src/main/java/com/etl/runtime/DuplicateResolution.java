@@ -1,22 +1,89 @@
 package com.etl.runtime;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
- * Immutable result of ordered duplicate winner selection for one processor mapping.
+ * Result of ordered duplicate winner selection for one processor mapping.
  *
  * <p>{@code retainedRecords} keeps the records that should continue through the write path in
  * their final stable output order. {@code discardedRecords} carries the loser records and their
  * duplicate validation evidence so reject/archive handling and logging can report what happened.</p>
+ *
+ * <p>Resolvers that keep candidates in memory return materialized lists. Disk-backed resolvers
+ * may instead return {@linkplain #streaming(Iterable, Iterable) streamed} results whose records are
+ * read back lazily while the resolver is still open; runtime callers iterate {@link #retained()}
+ * and {@link #discarded()} so either shape is consumed without materializing the full result.</p>
  */
-public record DuplicateResolution(
-		List<Object> retainedRecords,
-		List<DuplicateDiscard> discardedRecords
-) {
-	public DuplicateResolution {
-		retainedRecords = retainedRecords == null ? List.of() : List.copyOf(retainedRecords);
-		discardedRecords = discardedRecords == null ? List.of() : List.copyOf(discardedRecords);
+public final class DuplicateResolution {
+
+	private final Iterable<Object> retained;
+	private final Iterable<DuplicateDiscard> discarded;
+	private final boolean materialized;
+
+	public DuplicateResolution(List<Object> retainedRecords, List<DuplicateDiscard> discardedRecords) {
+		this.retained = retainedRecords == null ? List.of() : List.copyOf(retainedRecords);
+		this.discarded = discardedRecords == null ? List.of() : List.copyOf(discardedRecords);
+		this.materialized = true;
+	}
+
+	private DuplicateResolution(Iterable<Object> retained, Iterable<DuplicateDiscard> discarded) {
+		this.retained = Objects.requireNonNull(retained, "retained");
+		this.discarded = Objects.requireNonNull(discarded, "discarded");
+		this.materialized = false;
 	}
-}
 
+	/**
+	 * Wraps lazily produced records. The iterables are only valid until the producing resolver is
+	 * closed.
+	 */
+	public static DuplicateResolution streaming(Iterable<Object> retained, Iterable<DuplicateDiscard> discarded) {
+		return new DuplicateResolution(retained, discarded);
+	}
 
+	/**
+	 * Retained records in final output order, without materializing a streamed result.
+	 */
+	public Iterable<Object> retained() {
+		return retained;
+	}
+
+	/**
+	 * Discarded records and their duplicate evidence, without materializing a streamed result.
+	 */
+	public Iterable<DuplicateDiscard> discarded() {
+		return discarded;
+	}
+
+	/**
+	 * Retained records as a list; streamed results are read fully into memory.
+	 */
+	public List<Object> retainedRecords() {
+		return asList(retained);
+	}
+
+	/**
+	 * Discarded records as a list; streamed results are read fully into memory.
+	 */
+	public List<DuplicateDiscard> discardedRecords() {
+		return asList(discarded);
+	}
+
+	/**
+	 * List-backed copy that stays valid after the producing resolver is closed.
+	 */
+	public DuplicateResolution materialize() {
+		return materialized ? this : new DuplicateResolution(retainedRecords(), discardedRecords());
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> List<T> asList(Iterable<T> records) {
+		if (materialized) {
+			return (List<T>) records;
+		}
+		List<T> copy = new ArrayList<>();
+		records.forEach(copy::add);
+		return List.copyOf(copy);
+	}
+}
@@ -1,5 +1,7 @@
 package com.etl.runtime;
 
+import java.util.List;
+
 /**
  * Consumes one step's candidate records for ordered duplicate winner selection.
  *
@@ -17,6 +19,15 @@ public interface DuplicateResolver extends AutoCloseable {
 	 */
 	void accept(Object input);
 
+	/**
+	 * Returns and forgets the discards already decided since the previous call, so callers can
+	 * route them to the reject path while input is still being read. Discards handed out here are
+	 * not repeated by {@link #complete()}; resolvers that only decide at completion return none.
+	 */
+	default List<DuplicateDiscard> drainDiscarded() {
+		return List.of();
+	}
+
 	/**
 	 * Finalizes winner selection and returns the records that should continue to write plus the
 	 * discarded duplicate evidence that should be surfaced through the processor validation path.
@@ -6,18 +6,27 @@ import org.springframework.stereotype.Component;
  * Creates the ordered-duplicate resolver implementation chosen for the current step.
  *
  * <p>The factory is used only for winner-selection duplicate handling, where the runtime must
- * retain multiple candidates per duplicate key until a final winner is chosen. It selects either
- * the in-memory resolver or the embedded-database resolver based on the caller's volume-based
- * decision.</p>
+ * retain multiple candidates per duplicate key until a final winner is chosen. It selects the
+ * in-memory (buffered or winner-only), embedded-database, or external-sort resolver based on the caller's resolved storage
+ * mode.</p>
  */
 @Component
 public class DuplicateResolverFactory {
 
 	public DuplicateResolver create(DuplicateRule rule, boolean useEmbeddedDb) {
-		if (useEmbeddedDb) {
-			return new EmbeddedDbDuplicateResolver(rule);
-		}
-		return new InMemoryDuplicateResolver(rule);
+		return create(rule, useEmbeddedDb ? DuplicateRule.StorageMode.EMBEDDED_DB : DuplicateRule.StorageMode.MEMORY);
+	}
+
+	/**
+	 * Creates the resolver for an already resolved storage mode; {@code AUTO} falls back to memory.
+	 */
+	public DuplicateResolver create(DuplicateRule rule, DuplicateRule.StorageMode storageMode) {
+		return switch (storageMode == null ? DuplicateRule.StorageMode.AUTO : storageMode) {
+			case WINNER_ONLY -> new InMemoryDuplicateResolver(rule, true);
+			case EMBEDDED_DB -> new EmbeddedDbDuplicateResolver(rule);
+			case EXTERNAL_SORT -> new ExternalSortDuplicateResolver(rule);
+			case AUTO, MEMORY -> new InMemoryDuplicateResolver(rule);
+		};
 	}
 }
 
@@ -69,7 +69,9 @@ public record DuplicateRule(
 	public enum StorageMode {
 		AUTO,
 		MEMORY,
-		EMBEDDED_DB
+		WINNER_ONLY,
+		EMBEDDED_DB,
+		EXTERNAL_SORT
 	}
 }
 
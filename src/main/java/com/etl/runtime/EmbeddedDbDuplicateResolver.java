@@ -1,11 +1,13 @@
 package com.etl.runtime;
 
 import com.etl.exception.RuntimeEtlException;
+import com.etl.processor.validation.DuplicateProcessorValidationRule;
 import com.etl.processor.validation.ValidationIssue;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.core.type.TypeReference;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
@@ -14,12 +16,15 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,9 +37,13 @@ import org.slf4j.LoggerFactory;
  * invalid records with non-comparable order values. Winner selection is performed only after the
  * full stream has been staged.</p>
  *
- * <p>The resolver stores payloads as JSON in a temporary database, resolves one winning record
- * per duplicate key according to the configured order selectors and arrival-order tie-breaks,
- * and then best-effort cleans up the temporary database files on close.</p>
+ * <p>Records are staged through one reused insert statement in JDBC batches, each committed in
+ * its own transaction. Normalized order values are stored in typed sort columns so H2 can rank
+ * every duplicate group with {@code ROW_NUMBER() OVER (PARTITION BY key_value ...)} once the
+ * {@code key_value} index is built; Java never re-sorts a group. The resolution is
+ * {@linkplain DuplicateResolution#streaming(Iterable, Iterable) streamed}: retained records and
+ * discards are read through forward-only cursors while the caller iterates, and the temporary
+ * database files are best-effort cleaned up on close.</p>
  */
 public final class EmbeddedDbDuplicateResolver implements DuplicateResolver {
 
@@ -43,9 +52,16 @@ public final class EmbeddedDbDuplicateResolver implements DuplicateResolver {
 	private static final TypeReference<LinkedHashMap<String, Object>> STRING_OBJECT_MAP = new TypeReference<>() {
 	};
 
+	static final int INSERT_BATCH_SIZE = 1_000;
+	private static final int CURSOR_FETCH_SIZE = 1_000;
+	// A larger page cache than H2's 16 MiB default keeps the post-load key_value index build in memory.
+	private static final int CACHE_SIZE_KB = 64 * 1024;
 	private static final String CLASSIFICATION_RANKED = "RANKED";
 	private static final String CLASSIFICATION_PASS_THROUGH = "PASS_THROUGH";
 	private static final String CLASSIFICATION_INVALID = "INVALID";
+	/**
+	 * Staging table DDL; {@code %s} receives the typed sort columns of every configured order selector.
+	 */
 	private static final String CREATE_STAGED_DUPLICATES_TABLE = """
 			CREATE TABLE staged_duplicates (
 				arrival_sequence BIGINT PRIMARY KEY,
@@ -54,36 +70,31 @@ public final class EmbeddedDbDuplicateResolver implements DuplicateResolver {
 				payload_class VARCHAR(500) NOT NULL,
 				payload_json VARCHAR(1000000) NOT NULL,
 				issue_message VARCHAR(2000),
-				invalid_ordering BOOLEAN NOT NULL
+				invalid_ordering BOOLEAN NOT NULL%s
 			)
 			""";
-	private static final String INSERT_STAGED_DUPLICATE =
-			"INSERT INTO staged_duplicates (arrival_sequence, classification, key_value, payload_class, payload_json, issue_message, invalid_ordering) VALUES (?, ?, ?, ?, ?, ?, ?)";
+	private static final String CREATE_KEY_VALUE_INDEX =
+			"CREATE INDEX staged_duplicates_key_value ON staged_duplicates (key_value)";
 	private static final String SELECT_INVALID_RECORDS =
 			"SELECT payload_class, payload_json, issue_message, invalid_ordering FROM staged_duplicates WHERE classification = ? ORDER BY arrival_sequence";
-	private static final String SELECT_RANKED_RECORDS_BY_FIRST_ARRIVAL = """
-			SELECT staged.arrival_sequence, staged.key_value, staged.payload_class, staged.payload_json
-			FROM staged_duplicates staged
-			JOIN (
-				SELECT key_value, MIN(arrival_sequence) AS first_arrival_sequence
-				FROM staged_duplicates
-				WHERE classification = ?
-				GROUP BY key_value
-			) ranked_groups ON ranked_groups.key_value = staged.key_value
-			WHERE staged.classification = ?
-			ORDER BY ranked_groups.first_arrival_sequence, staged.arrival_sequence
-			""";
-	private static final String SELECT_ORDERED_RECORDS_BY_CLASSIFICATION =
-			"SELECT arrival_sequence, payload_class, payload_json FROM staged_duplicates WHERE classification = ? ORDER BY arrival_sequence";
+	private static final String COUNT_RANKED_GROUPS =
+			"SELECT COUNT(DISTINCT key_value) FROM staged_duplicates WHERE classification = ?";
 	private static final String H2_FILE_SUFFIX = ".mv.db";
 	private static final String H2_TRACE_SUFFIX = ".trace.db";
 	private static final String H2_LOCK_SUFFIX = ".lock.db";
 
 	private final DuplicateRule rule;
 	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private final Map<String, Class<?>> payloadClasses = new ConcurrentHashMap<>();
 	private final Path databaseDirectory;
 	private final Path databaseBasePath;
 	private final Connection connection;
+	private final PreparedStatement insertStatement;
+	private final String selectRetainedRecords;
+	private final String selectDuplicateLosers;
+	private final String duplicateLoserMessage;
+	private final List<AutoCloseable> openCursors = new ArrayList<>();
+	private int pendingBatchSize;
 	private long stagedRankedCount;
 	private long stagedPassThroughCount;
 	private long stagedInvalidCount;
@@ -91,6 +102,11 @@ public final class EmbeddedDbDuplicateResolver implements DuplicateResolver {
 
 	public EmbeddedDbDuplicateResolver(DuplicateRule rule) {
 		this.rule = Objects.requireNonNull(rule, "rule");
+		this.selectRetainedRecords = selectRetainedRecords(rule.orderSelectors());
+		this.selectDuplicateLosers = selectDuplicateLosers(rule.orderSelectors());
+		this.duplicateLoserMessage = rule.anchorField() + " duplicate key " + rule.keyFields()
+				+ " was discarded because another record already wins by order "
+				+ DuplicateSupport.describeOrderSelectors(rule.orderSelectors()) + ".";
 		Path tempDirectory = null;
 		Path tempDatabaseBasePath = null;
 		Connection tempConnection = null;
@@ -102,7 +118,11 @@ public final class EmbeddedDbDuplicateResolver implements DuplicateResolver {
 			this.databaseBasePath = tempDatabaseBasePath;
 			this.connection = tempConnection;
 			initializeSchema();
-			logger.info("DUPLICATE_RESOLVER event=resolver_open resolverMode=embeddedDb storageEngine=h2 databaseBasePath={}", this.databaseBasePath.toAbsolutePath());
+			this.connection.setAutoCommit(false);
+			this.insertStatement = connection.prepareStatement(insertSql(rule.orderSelectors().size()));
+			logger.info("DUPLICATE_RESOLVER event=resolver_open resolverMode=embeddedDb storageEngine=h2 databaseBasePath={} insertBatchSize={}",
+					this.databaseBasePath.toAbsolutePath(),
+					INSERT_BATCH_SIZE);
 		} catch (IOException | SQLException exception) {
 			closeQuietly(tempConnection);
 			cleanupDatabaseFiles(tempDirectory, tempDatabaseBasePath);
@@ -116,7 +136,7 @@ public final class EmbeddedDbDuplicateResolver implements DuplicateResolver {
 		List<Object> keyValues = DuplicateSupport.resolveKeyValues(input, rule.keyFields(), rule.identityMode());
 		if (DuplicateSupport.hasIncompleteKey(keyValues)) {
 			stagedPassThroughCount++;
-			insertRecord(arrivalSequence, CLASSIFICATION_PASS_THROUGH, null, input, null, false);
+			insertRecord(arrivalSequence, CLASSIFICATION_PASS_THROUGH, null, null, input, null, false);
 			return;
 		}
 
@@ -127,6 +147,7 @@ public final class EmbeddedDbDuplicateResolver implements DuplicateResolver {
 					arrivalSequence,
 					CLASSIFICATION_INVALID,
 					null,
+					null,
 					input,
 					rule.anchorField() + " requires a comparable value in the configured order fields "
 							+ DuplicateSupport.describeOrderSelectors(rule.orderSelectors()) + ".",
@@ -136,30 +157,35 @@ public final class EmbeddedDbDuplicateResolver implements DuplicateResolver {
 		}
 
 		stagedRankedCount++;
-		insertRecord(arrivalSequence, CLASSIFICATION_RANKED, DuplicateSupport.buildKey(keyValues), input, null, false);
+		insertRecord(arrivalSequence, CLASSIFICATION_RANKED, DuplicateSupport.buildKey(keyValues), sortValues, input, null, false);
 	}
 
 	@Override
 	public DuplicateResolution complete() {
-		List<DuplicateDiscard> discardedRecords = new ArrayList<>();
-		List<OrderedRecord> retainedRecords = new ArrayList<>();
-		retainedRecords.addAll(loadPassThroughRecords());
-		discardedRecords.addAll(loadInvalidRecords());
-		RankedResolution rankedResolution = resolveRankedGroups(discardedRecords);
-		retainedRecords.addAll(rankedResolution.retained());
-		retainedRecords.sort(Comparator.comparingLong(OrderedRecord::sequence));
-		List<Object> retained = retainedRecords.stream().map(OrderedRecord::record).toList();
+		long rankedGroupCount;
+		try {
+			flushBatch();
+			try (Statement statement = connection.createStatement()) {
+				statement.execute(CREATE_KEY_VALUE_INDEX);
+			}
+			connection.commit();
+			rankedGroupCount = countRankedGroups();
+		} catch (SQLException exception) {
+			throw new RuntimeEtlException("Failed to finish staging ordered duplicate records in embedded database.", exception);
+		}
+		long retainedCount = stagedPassThroughCount + rankedGroupCount;
+		long discardedCount = stagedInvalidCount + stagedRankedCount - rankedGroupCount;
 		logger.info("DUPLICATE_RESOLVER event=resolver_summary resolverMode=embeddedDb storageEngine=h2 anchorField={} acceptedCount={} stagedRankedCount={} stagedPassThroughCount={} stagedInvalidCount={} rankedGroupCount={} retainedCount={} discardedCount={} databaseBasePath={}",
 				rule.anchorField(),
 				stagedRankedCount + stagedPassThroughCount + stagedInvalidCount,
 				stagedRankedCount,
 				stagedPassThroughCount,
 				stagedInvalidCount,
-				rankedResolution.groupCount(),
-				retained.size(),
-				discardedRecords.size(),
+				rankedGroupCount,
+				retainedCount,
+				discardedCount,
 				databaseBasePath.toAbsolutePath());
-		return new DuplicateResolution(retained, discardedRecords);
+		return DuplicateResolution.streaming(this::streamRetainedRecords, this::streamDiscardedRecords);
 	}
 
 	@Override
@@ -168,6 +194,11 @@ public final class EmbeddedDbDuplicateResolver implements DuplicateResolver {
 		Path h2TraceFile = Path.of(databaseBasePath + H2_TRACE_SUFFIX);
 		Path h2LockFile = Path.of(databaseBasePath + H2_LOCK_SUFFIX);
 		boolean hadDataFile = Files.exists(h2DataFile);
+		for (AutoCloseable cursor : openCursors) {
+			closeQuietly(cursor);
+		}
+		openCursors.clear();
+		closeQuietly(insertStatement);
 		shutdownDatabase();
 		closeQuietly(connection);
 		cleanupDatabaseFiles(databaseDirectory, databaseBasePath);
@@ -182,7 +213,7 @@ public final class EmbeddedDbDuplicateResolver implements DuplicateResolver {
 
 	private static String toJdbcUrl(Path databaseBasePath) {
 		return "jdbc:h2:file:" + databaseBasePath.toAbsolutePath().toString().replace('\\', '/')
-				+ ";DB_CLOSE_DELAY=0;DB_CLOSE_ON_EXIT=FALSE;AUTO_SERVER=FALSE";
+				+ ";DB_CLOSE_DELAY=0;DB_CLOSE_ON_EXIT=FALSE;AUTO_SERVER=FALSE;CACHE_SIZE=" + CACHE_SIZE_KB;
 	}
 
 	private void shutdownDatabase() {
@@ -198,13 +229,13 @@ public final class EmbeddedDbDuplicateResolver implements DuplicateResolver {
 		}
 	}
 
-	private static void closeQuietly(Connection connection) {
-		if (connection == null) {
+	private static void closeQuietly(AutoCloseable closeable) {
+		if (closeable == null) {
 			return;
 		}
 		try {
-			connection.close();
-		} catch (SQLException ignored) {
+			closeable.close();
+		} catch (Exception ignored) {
 			// best effort cleanup
 		}
 	}
@@ -229,159 +260,223 @@ public final class EmbeddedDbDuplicateResolver implements DuplicateResolver {
 	}
 
 	private void initializeSchema() throws SQLException {
+		StringBuilder sortColumns = new StringBuilder();
+		for (int i = 0; i < rule.orderSelectors().size(); i++) {
+			sortColumns.append(",\n\tsort_kind_").append(i).append(" TINYINT")
+					.append(",\n\tsort_numeric_").append(i).append(" DECFLOAT")
+					.append(",\n\tsort_temporal_").append(i).append(" BIGINT")
+					.append(",\n\tsort_boolean_").append(i).append(" BOOLEAN")
+					.append(",\n\tsort_text_").append(i).append(" VARCHAR(1000000)");
+		}
 		try (Statement statement = connection.createStatement()) {
-			statement.execute(CREATE_STAGED_DUPLICATES_TABLE);
+			statement.execute(CREATE_STAGED_DUPLICATES_TABLE.formatted(sortColumns));
 		}
 	}
 
+	private static String insertSql(int selectorCount) {
+		StringBuilder columns = new StringBuilder(
+				"arrival_sequence, classification, key_value, payload_class, payload_json, issue_message, invalid_ordering");
+		StringBuilder values = new StringBuilder("?, ?, ?, ?, ?, ?, ?");
+		for (int i = 0; i < selectorCount; i++) {
+			columns.append(", sort_kind_").append(i)
+					.append(", sort_numeric_").append(i)
+					.append(", sort_temporal_").append(i)
+					.append(", sort_boolean_").append(i)
+					.append(", sort_text_").append(i);
+			values.append(", ?, ?, ?, ?, ?");
+		}
+		return "INSERT INTO staged_duplicates (" + columns + ") VALUES (" + values + ")";
+	}
+
+	/**
+	 * Window ordering that mirrors {@link DuplicateSupport#compare}: each selector compares the
+	 * value kind first and then the typed value, honoring its direction; the earliest arrival wins ties.
+	 */
+	private static String groupOrdering(List<DuplicateProcessorValidationRule.OrderSelector> orderSelectors) {
+		StringBuilder ordering = new StringBuilder();
+		for (int i = 0; i < orderSelectors.size(); i++) {
+			String direction = orderSelectors.get(i).descending() ? " DESC" : " ASC";
+			for (String column : List.of("sort_kind_", "sort_numeric_", "sort_temporal_", "sort_boolean_", "sort_text_")) {
+				ordering.append(column).append(i).append(direction).append(", ");
+			}
+		}
+		return ordering.append("arrival_sequence ASC").toString();
+	}
+
+	private static String selectRetainedRecords(List<DuplicateProcessorValidationRule.OrderSelector> orderSelectors) {
+		return """
+				SELECT arrival_sequence, payload_class, payload_json FROM (
+					SELECT arrival_sequence, payload_class, payload_json,
+						ROW_NUMBER() OVER (PARTITION BY key_value ORDER BY %s) AS group_rank
+					FROM staged_duplicates
+					WHERE classification = ?
+				) ranked
+				WHERE group_rank = 1
+				UNION ALL
+				SELECT arrival_sequence, payload_class, payload_json FROM staged_duplicates WHERE classification = ?
+				ORDER BY arrival_sequence
+				""".formatted(groupOrdering(orderSelectors));
+	}
+
+	private static String selectDuplicateLosers(List<DuplicateProcessorValidationRule.OrderSelector> orderSelectors) {
+		return """
+				SELECT payload_class, payload_json FROM (
+					SELECT payload_class, payload_json,
+						ROW_NUMBER() OVER (PARTITION BY key_value ORDER BY %s) AS group_rank,
+						MIN(arrival_sequence) OVER (PARTITION BY key_value) AS first_arrival_sequence
+					FROM staged_duplicates
+					WHERE classification = ?
+				) ranked
+				WHERE group_rank > 1
+				ORDER BY first_arrival_sequence, group_rank
+				""".formatted(groupOrdering(orderSelectors));
+	}
+
 	private void insertRecord(long arrivalSequence,
 	                         String classification,
 	                         String keyValue,
+	                         List<DuplicateSupport.SortCriterionValue> sortValues,
 	                         Object payload,
 	                         String issueMessage,
 	                         boolean invalidOrderingValue) {
 		Object serializablePayload = normalizePayloadForStaging(payload);
 		String payloadClassName = serializablePayload instanceof Map<?, ?> ? Map.class.getName() : serializablePayload.getClass().getName();
-		try (PreparedStatement statement = connection.prepareStatement(
-				INSERT_STAGED_DUPLICATE)
-		) {
-			statement.setLong(1, arrivalSequence);
-			statement.setString(2, classification);
-			statement.setString(3, keyValue);
-			statement.setString(4, payloadClassName);
-			statement.setString(5, objectMapper.writeValueAsString(serializablePayload));
-			statement.setString(6, issueMessage);
-			statement.setBoolean(7, invalidOrderingValue);
-			statement.executeUpdate();
+		try {
+			insertStatement.setLong(1, arrivalSequence);
+			insertStatement.setString(2, classification);
+			insertStatement.setString(3, keyValue);
+			insertStatement.setString(4, payloadClassName);
+			insertStatement.setString(5, objectMapper.writeValueAsString(serializablePayload));
+			insertStatement.setString(6, issueMessage);
+			insertStatement.setBoolean(7, invalidOrderingValue);
+			int parameterIndex = 8;
+			for (int i = 0; i < rule.orderSelectors().size(); i++) {
+				bindSortValue(parameterIndex, sortValues == null ? null : sortValues.get(i));
+				parameterIndex += 5;
+			}
+			insertStatement.addBatch();
+			if (++pendingBatchSize >= INSERT_BATCH_SIZE) {
+				flushBatch();
+			}
 		} catch (SQLException | IOException exception) {
 			throw new RuntimeEtlException("Failed to stage ordered duplicate record in embedded database.", exception);
 		}
 	}
 
-	private Object normalizePayloadForStaging(Object payload) {
-		if (payload instanceof Map<?, ?> mapPayload) {
-			return new LinkedHashMap<>(mapPayload);
+	private void bindSortValue(int parameterIndex, DuplicateSupport.SortCriterionValue sortValue) throws SQLException {
+		DuplicateSupport.SortValueKind kind = sortValue == null ? null : sortValue.kind();
+		if (kind == null) {
+			insertStatement.setNull(parameterIndex, Types.TINYINT);
+		} else {
+			insertStatement.setByte(parameterIndex, (byte) kind.ordinal());
+		}
+		if (kind == DuplicateSupport.SortValueKind.NUMERIC) {
+			insertStatement.setBigDecimal(parameterIndex + 1, (BigDecimal) sortValue.value());
+		} else {
+			insertStatement.setNull(parameterIndex + 1, Types.DECIMAL);
+		}
+		if (kind == DuplicateSupport.SortValueKind.TEMPORAL) {
+			insertStatement.setLong(parameterIndex + 2, (Long) sortValue.value());
+		} else {
+			insertStatement.setNull(parameterIndex + 2, Types.BIGINT);
+		}
+		if (kind == DuplicateSupport.SortValueKind.BOOLEAN) {
+			insertStatement.setBoolean(parameterIndex + 3, (Boolean) sortValue.value());
+		} else {
+			insertStatement.setNull(parameterIndex + 3, Types.BOOLEAN);
+		}
+		if (kind == DuplicateSupport.SortValueKind.TEXT) {
+			insertStatement.setString(parameterIndex + 4, (String) sortValue.value());
+		} else {
+			insertStatement.setNull(parameterIndex + 4, Types.VARCHAR);
 		}
-		return payload;
 	}
 
-	private List<OrderedRecord> loadPassThroughRecords() {
-		return loadOrderedRecordsByClassification(CLASSIFICATION_PASS_THROUGH);
+	private void flushBatch() throws SQLException {
+		if (pendingBatchSize == 0) {
+			return;
+		}
+		insertStatement.executeBatch();
+		connection.commit();
+		pendingBatchSize = 0;
 	}
 
-	private List<DuplicateDiscard> loadInvalidRecords() {
-		List<DuplicateDiscard> discards = new ArrayList<>();
-		try (PreparedStatement statement = connection.prepareStatement(
-				SELECT_INVALID_RECORDS)) {
-			statement.setString(1, CLASSIFICATION_INVALID);
-			try (ResultSet resultSet = statement.executeQuery()) {
-				while (resultSet.next()) {
-					Object record = deserializePayload(resultSet.getString("payload_class"), resultSet.getString("payload_json"));
-					discards.add(new DuplicateDiscard(
-							record,
-							new ValidationIssue(rule.anchorField(), "duplicate", resultSet.getString("issue_message")),
-							resultSet.getBoolean("invalid_ordering")
-					));
-				}
-			}
-		} catch (SQLException exception) {
-			throw new RuntimeEtlException("Failed to load invalid ordered duplicate records.", exception);
+	private Object normalizePayloadForStaging(Object payload) {
+		if (payload instanceof Map<?, ?> mapPayload) {
+			return new LinkedHashMap<>(mapPayload);
 		}
-		return discards;
+		return payload;
 	}
 
-	private RankedResolution resolveRankedGroups(List<DuplicateDiscard> discardedRecords) {
-		List<OrderedRecord> retained = new ArrayList<>();
-		List<DbCandidate> currentGroup = new ArrayList<>();
-		String currentKey = null;
-		int groupCount = 0;
-		try (PreparedStatement statement = connection.prepareStatement(
-				SELECT_RANKED_RECORDS_BY_FIRST_ARRIVAL)) {
+	private long countRankedGroups() throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(COUNT_RANKED_GROUPS)) {
 			statement.setString(1, CLASSIFICATION_RANKED);
-			statement.setString(2, CLASSIFICATION_RANKED);
 			try (ResultSet resultSet = statement.executeQuery()) {
-				while (resultSet.next()) {
-					String rowKey = resultSet.getString("key_value");
-					if (currentKey != null && !currentKey.equals(rowKey)) {
-						groupCount++;
-						retained.addAll(resolveGroup(currentGroup, discardedRecords));
-						currentGroup.clear();
-					}
-					currentKey = rowKey;
-					Object record = deserializePayload(resultSet.getString("payload_class"), resultSet.getString("payload_json"));
-					List<DuplicateSupport.SortCriterionValue> sortValues = DuplicateSupport.normalizeSortValues(record, rule.orderSelectors());
-					if (sortValues == null) {
-						discardedRecords.add(new DuplicateDiscard(
-								record,
-								new ValidationIssue(rule.anchorField(), "duplicate", rule.anchorField()
-										+ " requires a comparable value in the configured order fields "
-										+ DuplicateSupport.describeOrderSelectors(rule.orderSelectors()) + "."),
-								true
-						));
-						continue;
-					}
-					currentGroup.add(new DbCandidate(record, sortValues, resultSet.getLong("arrival_sequence")));
-				}
+				return resultSet.next() ? resultSet.getLong(1) : 0L;
 			}
-		} catch (SQLException exception) {
-			throw new RuntimeEtlException("Failed to resolve ranked duplicate groups from embedded database.", exception);
 		}
-		if (!currentGroup.isEmpty()) {
-			groupCount++;
-			retained.addAll(resolveGroup(currentGroup, discardedRecords));
-		}
-		return new RankedResolution(retained, groupCount);
 	}
 
-	private List<OrderedRecord> resolveGroup(List<DbCandidate> group, List<DuplicateDiscard> discardedRecords) {
-		group.sort(this::compareCandidates);
-		List<OrderedRecord> retained = new ArrayList<>();
-		DbCandidate winner = group.get(0);
-		retained.add(new OrderedRecord(winner.record(), winner.arrivalSequence()));
-		for (int i = 1; i < group.size(); i++) {
-			DbCandidate discarded = group.get(i);
-			discardedRecords.add(new DuplicateDiscard(
-					discarded.record(),
-					new ValidationIssue(
-							rule.anchorField(),
-							"duplicate",
-							rule.anchorField() + " duplicate key " + rule.keyFields()
-									+ " was discarded because another record already wins by order "
-									+ DuplicateSupport.describeOrderSelectors(rule.orderSelectors()) + "."
-					),
-					false
-			));
-		}
-		return retained;
+	private Iterator<Object> streamRetainedRecords() {
+		return openCursor(selectRetainedRecords,
+				List.of(CLASSIFICATION_RANKED, CLASSIFICATION_PASS_THROUGH),
+				resultSet -> deserializePayload(resultSet.getString("payload_class"), resultSet.getString("payload_json")));
 	}
 
-	private int compareCandidates(DbCandidate left, DbCandidate right) {
-		return -DuplicateSupport.compare(
-				left.sortValues(),
-				right.sortValues(),
-				rule.orderSelectors(),
-				left.arrivalSequence(),
-				right.arrivalSequence()
-		);
-	}
+	/**
+	 * Invalid-ordering records in arrival order, then duplicate losers grouped by first arrival of
+	 * their key and ranked within the group, matching the in-memory resolver.
+	 */
+	private Iterator<DuplicateDiscard> streamDiscardedRecords() {
+		Iterator<DuplicateDiscard> invalidRecords = openCursor(SELECT_INVALID_RECORDS,
+				List.of(CLASSIFICATION_INVALID),
+				resultSet -> new DuplicateDiscard(
+						deserializePayload(resultSet.getString("payload_class"), resultSet.getString("payload_json")),
+						new ValidationIssue(rule.anchorField(), "duplicate", resultSet.getString("issue_message")),
+						resultSet.getBoolean("invalid_ordering")
+				));
+		return new Iterator<>() {
+			private Iterator<DuplicateDiscard> losers;
+
+			@Override
+			public boolean hasNext() {
+				if (invalidRecords.hasNext()) {
+					return true;
+				}
+				if (losers == null) {
+					losers = openCursor(selectDuplicateLosers,
+							List.of(CLASSIFICATION_RANKED),
+							resultSet -> new DuplicateDiscard(
+									deserializePayload(resultSet.getString("payload_class"), resultSet.getString("payload_json")),
+									new ValidationIssue(rule.anchorField(), "duplicate", duplicateLoserMessage),
+									false
+							));
+				}
+				return losers.hasNext();
+			}
 
-	private List<OrderedRecord> loadOrderedRecordsByClassification(String classification) {
-		List<OrderedRecord> records = new ArrayList<>();
-		try (PreparedStatement statement = connection.prepareStatement(
-				SELECT_ORDERED_RECORDS_BY_CLASSIFICATION)) {
-			statement.setString(1, classification);
-			try (ResultSet resultSet = statement.executeQuery()) {
-				while (resultSet.next()) {
-					records.add(new OrderedRecord(
-							deserializePayload(resultSet.getString("payload_class"), resultSet.getString("payload_json")),
-							resultSet.getLong("arrival_sequence")
-					));
+			@Override
+			public DuplicateDiscard next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
 				}
+				return invalidRecords.hasNext() ? invalidRecords.next() : losers.next();
 			}
+		};
+	}
+
+	private <T> Iterator<T> openCursor(String sql, List<String> parameters, RowMapper<T> rowMapper) {
+		try {
+			PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+			openCursors.add(statement);
+			statement.setFetchSize(CURSOR_FETCH_SIZE);
+			for (int i = 0; i < parameters.size(); i++) {
+				statement.setString(i + 1, parameters.get(i));
+			}
+			return new CursorIterator<>(statement, statement.executeQuery(), rowMapper);
 		} catch (SQLException exception) {
-			throw new RuntimeEtlException("Failed to load staged ordered duplicate records.", exception);
+			throw new RuntimeEtlException("Failed to open ordered duplicate result cursor in embedded database.", exception);
 		}
-		return records;
 	}
 
 	private Object deserializePayload(String className, String payloadJson) {
@@ -389,7 +484,11 @@ public final class EmbeddedDbDuplicateResolver implements DuplicateResolver {
 			if (Map.class.getName().equals(className)) {
 				return objectMapper.readValue(payloadJson, STRING_OBJECT_MAP);
 			}
-			Class<?> payloadClass = Class.forName(className);
+			Class<?> payloadClass = payloadClasses.get(className);
+			if (payloadClass == null) {
+				payloadClass = Class.forName(className);
+				payloadClasses.put(className, payloadClass);
+			}
 			return objectMapper.readValue(payloadJson, payloadClass);
 		} catch (IOException | ClassNotFoundException exception) {
 			throw new RuntimeEtlException("Failed to deserialize staged ordered duplicate payload.", exception);
@@ -400,14 +499,53 @@ public final class EmbeddedDbDuplicateResolver implements DuplicateResolver {
 		return ++sequence;
 	}
 
-	private record OrderedRecord(Object record, long sequence) {
+	@FunctionalInterface
+	private interface RowMapper<T> {
+		T map(ResultSet resultSet) throws SQLException;
 	}
 
-	private record DbCandidate(Object record, List<DuplicateSupport.SortCriterionValue> sortValues, long arrivalSequence) {
-	}
+	/**
+	 * Forward-only cursor that closes its statement once the last row has been read.
+	 */
+	private static final class CursorIterator<T> implements Iterator<T> {
 
-	private record RankedResolution(List<OrderedRecord> retained, int groupCount) {
-	}
-}
+		private final PreparedStatement statement;
+		private final ResultSet resultSet;
+		private final RowMapper<T> rowMapper;
+		private Boolean hasNext;
 
+		private CursorIterator(PreparedStatement statement, ResultSet resultSet, RowMapper<T> rowMapper) {
+			this.statement = statement;
+			this.resultSet = resultSet;
+			this.rowMapper = rowMapper;
+		}
 
+		@Override
+		public boolean hasNext() {
+			if (hasNext == null) {
+				try {
+					hasNext = resultSet.next();
+				} catch (SQLException exception) {
+					throw new RuntimeEtlException("Failed to read ordered duplicate result cursor.", exception);
+				}
+				if (!hasNext) {
+					closeQuietly(statement);
+				}
+			}
+			return hasNext;
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			hasNext = null;
+			try {
+				return rowMapper.map(resultSet);
+			} catch (SQLException exception) {
+				throw new RuntimeEtlException("Failed to read ordered duplicate result cursor.", exception);
+			}
+		}
+	}
+}
@@ -0,0 +1,635 @@
+package com.etl.runtime;
+
+import com.etl.exception.RuntimeEtlException;
+import com.etl.processor.validation.ValidationIssue;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Resolves ordered duplicate winner-selection with a disk-spilling external merge sort.
+ *
+ * <p>This resolver targets winner-selection inputs that are too large for the in-memory resolver
+ * and too slow to stage row-at-a-time through the embedded database. Ranked candidates are
+ * buffered up to a fixed run size, sorted by duplicate key and then by the configured order
+ * selectors with arrival-order tie-breaks, and spilled to temporary run files in a compact binary
+ * format: classification, arrival sequence, key, normalized sort values, and the payload as JSON
+ * bytes. {@link #complete()} k-way merges the runs so the first entry of every key is its winner;
+ * losers are appended to a discard spill file while winners and pass-through records go through a
+ * second external sort by arrival sequence to restore stable output order.</p>
+ *
+ * <p>The returned resolution is {@linkplain DuplicateResolution#streaming(Iterable, Iterable)
+ * streamed}: retained records and discards are read back from disk while the caller iterates, and
+ * every spill file is removed on {@link #close()}. Discards are reported with invalid ordering
+ * values first in arrival order, followed by duplicate losers in key order.</p>
+ */
+public final class ExternalSortDuplicateResolver implements DuplicateResolver {
+
+	private static final Logger logger = LoggerFactory.getLogger(ExternalSortDuplicateResolver.class);
+
+	static final int DEFAULT_RUN_SIZE = 100_000;
+	static final int MAX_MERGE_FAN_IN = 64;
+
+	private static final TypeReference<LinkedHashMap<String, Object>> STRING_OBJECT_MAP = new TypeReference<>() {
+	};
+	private static final int STREAM_BUFFER_BYTES = 64 * 1024;
+	private static final byte CLASSIFICATION_RANKED = 1;
+	private static final byte CLASSIFICATION_PASS_THROUGH = 2;
+	private static final byte CLASSIFICATION_INVALID = 3;
+	private static final byte CLASSIFICATION_LOSER = 4;
+	private static final DuplicateSupport.SortValueKind[] SORT_VALUE_KINDS = DuplicateSupport.SortValueKind.values();
+
+	private final DuplicateRule rule;
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private final Map<String, Class<?>> payloadClasses = new ConcurrentHashMap<>();
+	private final Path spillDirectory;
+	private final SortedRuns rankedRuns;
+	private final SortedRuns retainedRuns;
+	private final Path discardFile;
+	private final List<Closeable> openReaders = new ArrayList<>();
+	private final String invalidOrderingMessage;
+	private final String duplicateLoserMessage;
+	private DataOutputStream discardOutput;
+	private int spillFileCount;
+	private long stagedRankedCount;
+	private long stagedPassThroughCount;
+	private long stagedInvalidCount;
+	private long sequence;
+
+	public ExternalSortDuplicateResolver(DuplicateRule rule) {
+		this(rule, DEFAULT_RUN_SIZE);
+	}
+
+	public ExternalSortDuplicateResolver(DuplicateRule rule, int runSize) {
+		this.rule = Objects.requireNonNull(rule, "rule");
+		if (runSize < 1) {
+			throw new IllegalArgumentException("runSize must be >= 1");
+		}
+		try {
+			this.spillDirectory = Files.createTempDirectory("ordered-duplicate-sort-");
+		} catch (IOException exception) {
+			throw new RuntimeEtlException("Failed to initialize external-sort duplicate resolver.", exception);
+		}
+		this.rankedRuns = new SortedRuns("ranked", runSize, this::compareRanked);
+		this.retainedRuns = new SortedRuns("retained", runSize, Comparator.comparingLong(SpillEntry::sequence));
+		this.discardFile = spillDirectory.resolve("discarded.bin");
+		String orderSelectors = DuplicateSupport.describeOrderSelectors(rule.orderSelectors());
+		this.invalidOrderingMessage = rule.anchorField() + " requires a comparable value in the configured order fields "
+				+ orderSelectors + ".";
+		this.duplicateLoserMessage = rule.anchorField() + " duplicate key " + rule.keyFields()
+				+ " was discarded because another record already wins by order " + orderSelectors + ".";
+		logger.info("DUPLICATE_RESOLVER event=resolver_open resolverMode=externalSort storageEngine=sorted-runs runSize={} spillDirectory={}",
+				runSize,
+				spillDirectory.toAbsolutePath());
+	}
+
+	@Override
+	public void accept(Object input) {
+		long arrivalSequence = nextSequence();
+		List<Object> keyValues = DuplicateSupport.resolveKeyValues(input, rule.keyFields(), rule.identityMode());
+		if (DuplicateSupport.hasIncompleteKey(keyValues)) {
+			stagedPassThroughCount++;
+			retainedRuns.add(toEntry(CLASSIFICATION_PASS_THROUGH, arrivalSequence, null, null, input));
+			return;
+		}
+
+		List<DuplicateSupport.SortCriterionValue> sortValues = DuplicateSupport.normalizeSortValues(input, rule.orderSelectors());
+		if (sortValues == null) {
+			stagedInvalidCount++;
+			writeDiscard(toEntry(CLASSIFICATION_INVALID, arrivalSequence, null, null, input));
+			return;
+		}
+
+		stagedRankedCount++;
+		rankedRuns.add(toEntry(CLASSIFICATION_RANKED, arrivalSequence, DuplicateSupport.buildKey(keyValues), sortValues, input));
+	}
+
+	@Override
+	public DuplicateResolution complete() {
+		long rankedGroupCount = 0;
+		long loserCount = 0;
+		String currentKey = null;
+		try (MergeIterator merged = rankedRuns.merge()) {
+			while (merged.hasNext()) {
+				SpillEntry entry = merged.next();
+				if (!entry.key().equals(currentKey)) {
+					currentKey = entry.key();
+					rankedGroupCount++;
+					retainedRuns.add(entry);
+				} else {
+					loserCount++;
+					writeDiscard(entry.withClassification(CLASSIFICATION_LOSER));
+				}
+			}
+		}
+		rankedRuns.discard();
+		closeDiscardOutput();
+		long retainedCount = stagedPassThroughCount + rankedGroupCount;
+		logger.info("DUPLICATE_RESOLVER event=resolver_summary resolverMode=externalSort storageEngine=sorted-runs anchorField={} acceptedCount={} stagedRankedCount={} stagedPassThroughCount={} stagedInvalidCount={} rankedGroupCount={} retainedCount={} discardedCount={} spillFileCount={} spillDirectory={}",
+				rule.anchorField(),
+				stagedRankedCount + stagedPassThroughCount + stagedInvalidCount,
+				stagedRankedCount,
+				stagedPassThroughCount,
+				stagedInvalidCount,
+				rankedGroupCount,
+				retainedCount,
+				stagedInvalidCount + loserCount,
+				spillFileCount,
+				spillDirectory.toAbsolutePath());
+		return DuplicateResolution.streaming(
+				() -> new DecodingIterator<>(track(retainedRuns.merge()), this::decodePayload),
+				() -> new DecodingIterator<>(track(new FileEntryIterator(discardFile)), this::toDiscard)
+		);
+	}
+
+	@Override
+	public void close() {
+		for (Closeable reader : openReaders) {
+			closeQuietly(reader);
+		}
+		openReaders.clear();
+		closeQuietly(discardOutput);
+		discardOutput = null;
+		deleteRecursivelyQuietly(spillDirectory);
+		logger.info("DUPLICATE_RESOLVER event=resolver_close resolverMode=externalSort storageEngine=sorted-runs spillDirectory={} directoryExistsAfterClose={}",
+				spillDirectory.toAbsolutePath(),
+				Files.exists(spillDirectory));
+	}
+
+	private int compareRanked(SpillEntry left, SpillEntry right) {
+		int keyComparison = left.key().compareTo(right.key());
+		if (keyComparison != 0) {
+			return keyComparison;
+		}
+		return -DuplicateSupport.compare(
+				left.sortValues(),
+				right.sortValues(),
+				rule.orderSelectors(),
+				left.sequence(),
+				right.sequence()
+		);
+	}
+
+	private SpillEntry toEntry(byte classification,
+	                           long arrivalSequence,
+	                           String key,
+	                           List<DuplicateSupport.SortCriterionValue> sortValues,
+	                           Object payload) {
+		Object serializablePayload = payload instanceof Map<?, ?> mapPayload ? new LinkedHashMap<>(mapPayload) : payload;
+		String payloadClassName = serializablePayload instanceof Map<?, ?> ? Map.class.getName() : serializablePayload.getClass().getName();
+		try {
+			return new SpillEntry(classification, arrivalSequence, key, sortValues, payloadClassName,
+					objectMapper.writeValueAsBytes(serializablePayload));
+		} catch (IOException exception) {
+			throw new RuntimeEtlException("Failed to stage ordered duplicate record for external sort.", exception);
+		}
+	}
+
+	private Object decodePayload(SpillEntry entry) {
+		try {
+			if (Map.class.getName().equals(entry.payloadClass())) {
+				return objectMapper.readValue(entry.payload(), STRING_OBJECT_MAP);
+			}
+			Class<?> payloadClass = payloadClasses.get(entry.payloadClass());
+			if (payloadClass == null) {
+				payloadClass = Class.forName(entry.payloadClass());
+				payloadClasses.put(entry.payloadClass(), payloadClass);
+			}
+			return objectMapper.readValue(entry.payload(), payloadClass);
+		} catch (IOException | ClassNotFoundException exception) {
+			throw new RuntimeEtlException("Failed to deserialize staged ordered duplicate payload.", exception);
+		}
+	}
+
+	private DuplicateDiscard toDiscard(SpillEntry entry) {
+		boolean invalidOrdering = entry.classification() == CLASSIFICATION_INVALID;
+		return new DuplicateDiscard(
+				decodePayload(entry),
+				new ValidationIssue(rule.anchorField(), "duplicate", invalidOrdering ? invalidOrderingMessage : duplicateLoserMessage),
+				invalidOrdering
+		);
+	}
+
+	private void writeDiscard(SpillEntry entry) {
+		try {
+			if (discardOutput == null) {
+				discardOutput = openOutput(discardFile);
+			}
+			writeEntry(discardOutput, entry);
+		} catch (IOException exception) {
+			throw new RuntimeEtlException("Failed to spill discarded duplicate record.", exception);
+		}
+	}
+
+	private void closeDiscardOutput() {
+		try {
+			if (discardOutput == null) {
+				Files.deleteIfExists(discardFile);
+				Files.createFile(discardFile);
+			} else {
+				discardOutput.close();
+			}
+		} catch (IOException exception) {
+			throw new RuntimeEtlException("Failed to finish discarded duplicate spill file.", exception);
+		} finally {
+			discardOutput = null;
+		}
+	}
+
+	private <T extends Iterator<SpillEntry> & Closeable> T track(T reader) {
+		openReaders.add(reader);
+		return reader;
+	}
+
+	private long nextSequence() {
+		return ++sequence;
+	}
+
+	private static DataOutputStream openOutput(Path path) throws IOException {
+		return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), STREAM_BUFFER_BYTES));
+	}
+
+	private static void writeEntry(DataOutputStream output, SpillEntry entry) throws IOException {
+		output.writeByte(entry.classification());
+		output.writeLong(entry.sequence());
+		writeNullableString(output, entry.key());
+		if (entry.sortValues() == null) {
+			output.writeInt(-1);
+		} else {
+			output.writeInt(entry.sortValues().size());
+			for (DuplicateSupport.SortCriterionValue sortValue : entry.sortValues()) {
+				output.writeByte(sortValue.kind().ordinal());
+				switch (sortValue.kind()) {
+					case NUMERIC -> writeString(output, ((BigDecimal) sortValue.value()).toString());
+					case TEMPORAL -> output.writeLong((Long) sortValue.value());
+					case BOOLEAN -> output.writeBoolean((Boolean) sortValue.value());
+					case TEXT -> writeString(output, (String) sortValue.value());
+				}
+			}
+		}
+		writeString(output, entry.payloadClass());
+		output.writeInt(entry.payload().length);
+		output.write(entry.payload());
+	}
+
+	/**
+	 * Reads the next entry, or returns {@code null} at a clean end of file.
+	 */
+	private static SpillEntry readEntry(DataInputStream input) throws IOException {
+		int classification = input.read();
+		if (classification < 0) {
+			return null;
+		}
+		long arrivalSequence = input.readLong();
+		String key = readNullableString(input);
+		int sortValueCount = input.readInt();
+		List<DuplicateSupport.SortCriterionValue> sortValues = null;
+		if (sortValueCount >= 0) {
+			sortValues = new ArrayList<>(sortValueCount);
+			for (int i = 0; i < sortValueCount; i++) {
+				DuplicateSupport.SortValueKind kind = SORT_VALUE_KINDS[input.readByte()];
+				sortValues.add(switch (kind) {
+					case NUMERIC -> DuplicateSupport.SortCriterionValue.numeric(new BigDecimal(readString(input)));
+					case TEMPORAL -> DuplicateSupport.SortCriterionValue.temporal(input.readLong());
+					case BOOLEAN -> DuplicateSupport.SortCriterionValue.booleanValue(input.readBoolean());
+					case TEXT -> DuplicateSupport.SortCriterionValue.text(readString(input));
+				});
+			}
+		}
+		String payloadClass = readString(input);
+		byte[] payload = new byte[input.readInt()];
+		input.readFully(payload);
+		return new SpillEntry((byte) classification, arrivalSequence, key, sortValues, payloadClass, payload);
+	}
+
+	private static void writeNullableString(DataOutputStream output, String value) throws IOException {
+		output.writeBoolean(value != null);
+		if (value != null) {
+			writeString(output, value);
+		}
+	}
+
+	private static String readNullableString(DataInputStream input) throws IOException {
+		return input.readBoolean() ? readString(input) : null;
+	}
+
+	private static void writeString(DataOutputStream output, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		byte[] bytes = new byte[input.readInt()];
+		input.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void closeQuietly(Closeable closeable) {
+		if (closeable == null) {
+			return;
+		}
+		try {
+			closeable.close();
+		} catch (IOException ignored) {
+			// best effort cleanup
+		}
+	}
+
+	private static void deleteRecursivelyQuietly(Path directory) {
+		if (!Files.exists(directory)) {
+			return;
+		}
+		try (Stream<Path> paths = Files.walk(directory)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+				try {
+					Files.deleteIfExists(path);
+				} catch (IOException ignored) {
+					// best effort cleanup
+				}
+			});
+		} catch (IOException ignored) {
+			// best effort cleanup
+		}
+	}
+
+	/**
+	 * Sorted runs for one ordering. Entries are buffered up to the run size and spilled as sorted
+	 * run files; a result that never filled a run stays in memory.
+	 */
+	private final class SortedRuns {
+
+		private final String name;
+		private final int runSize;
+		private final Comparator<SpillEntry> comparator;
+		private final List<Path> runs = new ArrayList<>();
+		private List<SpillEntry> buffer = new ArrayList<>();
+		private boolean finished;
+
+		private SortedRuns(String name, int runSize, Comparator<SpillEntry> comparator) {
+			this.name = name;
+			this.runSize = runSize;
+			this.comparator = comparator;
+		}
+
+		void add(SpillEntry entry) {
+			buffer.add(entry);
+			if (buffer.size() >= runSize) {
+				spillBuffer();
+			}
+		}
+
+		/**
+		 * Opens a merged view over every run. Runs beyond the merge fan-in are first merged into
+		 * larger runs so the number of simultaneously open files stays bounded.
+		 */
+		MergeIterator merge() {
+			if (!finished) {
+				finished = true;
+				buffer.sort(comparator);
+				if (!runs.isEmpty() && !buffer.isEmpty()) {
+					spillBuffer();
+				}
+				while (runs.size() > MAX_MERGE_FAN_IN) {
+					List<Path> merged = new ArrayList<>();
+					for (int from = 0; from < runs.size(); from += MAX_MERGE_FAN_IN) {
+						List<Path> group = runs.subList(from, Math.min(runs.size(), from + MAX_MERGE_FAN_IN));
+						merged.add(mergeIntoRun(group));
+					}
+					runs.clear();
+					runs.addAll(merged);
+				}
+			}
+			return runs.isEmpty() ? new MergeIterator(buffer.iterator()) : new MergeIterator(runs, comparator);
+		}
+
+		void discard() {
+			buffer = List.of();
+			for (Path run : runs) {
+				try {
+					Files.deleteIfExists(run);
+				} catch (IOException ignored) {
+					// best effort cleanup
+				}
+			}
+			runs.clear();
+		}
+
+		private void spillBuffer() {
+			buffer.sort(comparator);
+			Path run = nextRunPath();
+			try (DataOutputStream output = openOutput(run)) {
+				for (SpillEntry entry : buffer) {
+					writeEntry(output, entry);
+				}
+			} catch (IOException exception) {
+				throw new RuntimeEtlException("Failed to spill sorted duplicate run '" + run + "'.", exception);
+			}
+			runs.add(run);
+			buffer = new ArrayList<>();
+		}
+
+		private Path mergeIntoRun(List<Path> group) {
+			Path run = nextRunPath();
+			try (MergeIterator merged = new MergeIterator(group, comparator);
+			     DataOutputStream output = openOutput(run)) {
+				while (merged.hasNext()) {
+					writeEntry(output, merged.next());
+				}
+				for (Path input : group) {
+					Files.deleteIfExists(input);
+				}
+			} catch (IOException exception) {
+				throw new RuntimeEtlException("Failed to merge sorted duplicate runs into '" + run + "'.", exception);
+			}
+			return run;
+		}
+
+		private Path nextRunPath() {
+			spillFileCount++;
+			return spillDirectory.resolve(name + "-run-" + spillFileCount + ".bin");
+		}
+	}
+
+	/**
+	 * K-way merge over sorted run files, or a plain iterator over an in-memory sorted buffer.
+	 */
+	private static final class MergeIterator implements Iterator<SpillEntry>, Closeable {
+
+		private final List<DataInputStream> inputs = new ArrayList<>();
+		private final PriorityQueue<RunHead> heads;
+		private final Iterator<SpillEntry> inMemory;
+
+		private MergeIterator(Iterator<SpillEntry> inMemory) {
+			this.inMemory = inMemory;
+			this.heads = null;
+		}
+
+		private MergeIterator(List<Path> runs, Comparator<SpillEntry> comparator) {
+			this.inMemory = null;
+			this.heads = new PriorityQueue<>(Math.max(1, runs.size()), (left, right) -> comparator.compare(left.entry(), right.entry()));
+			try {
+				for (Path run : runs) {
+					DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(run), STREAM_BUFFER_BYTES));
+					inputs.add(input);
+					advance(input);
+				}
+			} catch (IOException exception) {
+				close();
+				throw new RuntimeEtlException("Failed to open sorted duplicate runs.", exception);
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return inMemory != null ? inMemory.hasNext() : !heads.isEmpty();
+		}
+
+		@Override
+		public SpillEntry next() {
+			if (inMemory != null) {
+				return inMemory.next();
+			}
+			RunHead head = heads.poll();
+			if (head == null) {
+				throw new NoSuchElementException();
+			}
+			try {
+				advance(head.input());
+			} catch (IOException exception) {
+				throw new UncheckedIOException(exception);
+			}
+			if (heads.isEmpty()) {
+				close();
+			}
+			return head.entry();
+		}
+
+		@Override
+		public void close() {
+			for (DataInputStream input : inputs) {
+				closeQuietly(input);
+			}
+			inputs.clear();
+		}
+
+		private void advance(DataInputStream input) throws IOException {
+			SpillEntry entry = readEntry(input);
+			if (entry != null) {
+				heads.add(new RunHead(entry, input));
+			}
+		}
+	}
+
+	/**
+	 * Sequential reader over one spill file.
+	 */
+	private static final class FileEntryIterator implements Iterator<SpillEntry>, Closeable {
+
+		private final DataInputStream input;
+		private SpillEntry next;
+
+		private FileEntryIterator(Path file) {
+			try {
+				this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), STREAM_BUFFER_BYTES));
+				this.next = readEntry(input);
+			} catch (IOException exception) {
+				throw new RuntimeEtlException("Failed to open duplicate spill file '" + file + "'.", exception);
+			}
+			if (next == null) {
+				close();
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		@Override
+		public SpillEntry next() {
+			if (next == null) {
+				throw new NoSuchElementException();
+			}
+			SpillEntry current = next;
+			try {
+				next = readEntry(input);
+			} catch (EOFException exception) {
+				throw new RuntimeEtlException("Duplicate spill file ended inside a record.", exception);
+			} catch (IOException exception) {
+				throw new UncheckedIOException(exception);
+			}
+			if (next == null) {
+				close();
+			}
+			return current;
+		}
+
+		@Override
+		public void close() {
+			closeQuietly(input);
+		}
+	}
+
+	private static final class DecodingIterator<T> implements Iterator<T> {
+
+		private final Iterator<SpillEntry> entries;
+		private final Function<SpillEntry, T> decoder;
+
+		private DecodingIterator(Iterator<SpillEntry> entries, Function<SpillEntry, T> decoder) {
+			this.entries = entries;
+			this.decoder = decoder;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return entries.hasNext();
+		}
+
+		@Override
+		public T next() {
+			return decoder.apply(entries.next());
+		}
+	}
+
+	private record SpillEntry(byte classification,
+	                          long sequence,
+	                          String key,
+	                          List<DuplicateSupport.SortCriterionValue> sortValues,
+	                          String payloadClass,
+	                          byte[] payload) {
+
+		SpillEntry withClassification(byte newClassification) {
+			return new SpillEntry(newClassification, sequence, key, sortValues, payloadClass, payload);
+		}
+	}
+
+	private record RunHead(SpillEntry entry, DataInputStream input) {
+	}
+}
@@ -1,7 +1,8 @@
 package com.etl.runtime;
 
 import com.etl.common.util.ZipFileUtility;
-import com.etl.common.util.ReflectionUtils;
+import com.etl.common.exception.ReflectionAccessException;
+import com.etl.common.util.FieldAccessors;
 import com.etl.config.source.FileArchiveConfig;
 import com.etl.config.source.FileSourceConfig;
 import com.etl.config.processor.ProcessorConfig;
@@ -15,9 +16,7 @@ import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.scope.context.StepSynchronizationManager;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -30,7 +29,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -67,7 +65,7 @@ public class FileIngestionRuntimeSupport {
 
 	private final Map<Long, RejectFileState> rejectStateByStepExecutionId = new ConcurrentHashMap<>();
 	private final Map<Long, AtomicInteger> rejectedCountByStepExecutionId = new ConcurrentHashMap<>();
-	private final Map<Long, Map<String, Set<String>>> duplicateValuesByStepExecutionId = new ConcurrentHashMap<>();
+	private final Map<Long, Map<String, DuplicateFingerprintSet>> duplicateValuesByStepExecutionId = new ConcurrentHashMap<>();
 	private final FileSourceArtifactSupport fileSourceArtifactSupport;
 	private final Clock clock;
 	private final int maxDuplicateTrackingValuesPerKey;
@@ -127,7 +125,8 @@ public class FileIngestionRuntimeSupport {
 						quarantinePublishedPath,
 						entityMapping,
 						rejectHandling.isIncludeReasonColumns(),
-						rejectHandling.isPackageAsZip()
+						rejectHandling.isPackageAsZip(),
+						stepExecution.getStepName()
 				)
 		);
 	}
@@ -135,9 +134,10 @@ public class FileIngestionRuntimeSupport {
 	/**
 	 * Records one rejected item for the current step when reject handling is enabled.
 	 *
-	 * <p>The method writes the rejected row to the active reject file, increments the step-level
-	 * rejected count, and returns {@code true}. When no step context or reject-file state exists,
-	 * it returns {@code false} so the caller can continue without treating that as an error.</p>
+	 * <p>The method formats the rejected row, queues it for the step's reject writer thread,
+	 * increments the step-level rejected count, and returns {@code true}. When no step context or
+	 * reject-file state exists, it returns {@code false} so the caller can continue without
+	 * treating that as an error.</p>
 	 */
 	public boolean recordRejected(Object input, List<ValidationIssue> issues) {
 		StepExecution stepExecution = currentStepExecution();
@@ -162,6 +162,25 @@ public class FileIngestionRuntimeSupport {
 		}
 	}
 
+	/**
+	 * Waits until every reject queued so far for the step is written to the reject file.
+	 *
+	 * <p>Called at chunk boundaries so reject output stays aligned with committed chunks while the
+	 * rows themselves are written asynchronously. Steps without reject output are a no-op.</p>
+	 */
+	public void flushRejects(StepExecution stepExecution) {
+		Long stepExecutionId = requireStepExecutionId(stepExecution, "flushRejects");
+		RejectFileState rejectFileState = rejectStateByStepExecutionId.get(stepExecutionId);
+		if (rejectFileState == null) {
+			return;
+		}
+		try {
+			rejectFileState.flush();
+		} catch (IOException e) {
+			throw new RuntimeEtlException("Failed to write reject output for step '" + stepExecution.getStepName() + "'.", e);
+		}
+	}
+
 	/**
 	 * Completes file-ingestion support for one step.
 	 *
@@ -215,6 +234,9 @@ public class FileIngestionRuntimeSupport {
 	 * <p>This is the lightweight duplicate path used when processor rules request duplicate
 	 * checking without ordered winner selection. Ordered winner selection uses the dedicated
 	 * duplicate resolver implementations instead.</p>
+	 *
+	 * <p>Seen keys are tracked as 128-bit fingerprints in a {@link DuplicateFingerprintSet}, so
+	 * the per-key heap cost stays flat regardless of key length.</p>
 	 */
 	public boolean isDuplicateValues(String keyName, List<?> values) {
 		StepExecution stepExecution = currentStepExecution();
@@ -228,20 +250,20 @@ public class FileIngestionRuntimeSupport {
 			return false;
 		}
 
-		Map<String, Set<String>> duplicateValuesByField = duplicateValuesByStepExecutionId.computeIfAbsent(
+		Map<String, DuplicateFingerprintSet> duplicateValuesByField = duplicateValuesByStepExecutionId.computeIfAbsent(
 				stepExecutionId,
 				ignored -> new ConcurrentHashMap<>()
 		);
-		Set<String> seenValues = duplicateValuesByField.computeIfAbsent(keyName, ignored -> ConcurrentHashMap.newKeySet());
-		if (!seenValues.add(normalizedValue)) {
-			return true;
-		}
-		if (seenValues.size() > maxDuplicateTrackingValuesPerKey) {
-			seenValues.remove(normalizedValue);
-			throw new RuntimeEtlException("Duplicate tracking limit exceeded for step '" + stepExecution.getStepName()
-					+ "' key '" + keyName + "' (max " + maxDuplicateTrackingValuesPerKey + ").");
-		}
-		return false;
+		DuplicateFingerprintSet seenValues = duplicateValuesByField.computeIfAbsent(
+				keyName,
+				ignored -> new DuplicateFingerprintSet(maxDuplicateTrackingValuesPerKey)
+		);
+		return switch (seenValues.add(normalizedValue)) {
+			case PRESENT -> true;
+			case ADDED -> false;
+			case LIMIT_REACHED -> throw new RuntimeEtlException("Duplicate tracking limit exceeded for step '"
+					+ stepExecution.getStepName() + "' key '" + keyName + "' (max " + maxDuplicateTrackingValuesPerKey + ").");
+		};
 	}
 
 	private void archiveSourceIfConfigured(StepExecution stepExecution, FileSourceConfig fileSourceConfig) {
@@ -474,52 +496,55 @@ public class FileIngestionRuntimeSupport {
 		/**
 		 * Per-step reject-file writer state.
 		 *
-		 * <p>This helper lazily opens the reject output, writes one header row, and then appends one
-		 * CSV row per rejected item using the active entity mapping as the output column contract.</p>
+		 * <p>Column extractors for the active entity mapping are resolved once here. Each rejected
+		 * item is formatted into one CSV row on the calling thread and handed to an
+		 * {@link AsyncRejectWriter}, which writes the header and rows on its own thread.</p>
 		 */
 
 		private final Path rejectPath;
 		private final Path publishedRejectPath;
 		private final Path quarantinePublishedPath;
-		private final ProcessorConfig.EntityMapping entityMapping;
 		private final boolean includeReasonColumns;
 		private final boolean packageAsZip;
-		private BufferedWriter writer;
-		private boolean headerWritten;
+		private final String[] sourceFields;
+		private final FieldAccessors.FieldPath[] sourcePaths;
+		private final AsyncRejectWriter writer;
 
 		private RejectFileState(Path rejectPath,
 		                       Path publishedRejectPath,
 		                       Path quarantinePublishedPath,
 		                       ProcessorConfig.EntityMapping entityMapping,
 		                       boolean includeReasonColumns,
-		                       boolean packageAsZip) {
+		                       boolean packageAsZip,
+		                       String stepName) {
 			this.rejectPath = rejectPath;
 			this.publishedRejectPath = publishedRejectPath;
 			this.quarantinePublishedPath = quarantinePublishedPath;
-			this.entityMapping = entityMapping;
 			this.includeReasonColumns = includeReasonColumns;
 			this.packageAsZip = packageAsZip;
+			List<ProcessorConfig.FieldMapping> fields = entityMapping.getFields();
+			this.sourceFields = new String[fields.size()];
+			this.sourcePaths = new FieldAccessors.FieldPath[fields.size()];
+			for (int i = 0; i < sourceFields.length; i++) {
+				sourceFields[i] = fields.get(i).getFrom();
+				sourcePaths[i] = FieldAccessors.path(sourceFields[i]);
+			}
+			this.writer = new AsyncRejectWriter(
+					rejectPath,
+					buildHeader(entityMapping),
+					AsyncRejectWriter.DEFAULT_CAPACITY,
+					"etl-reject-writer-" + stepName);
 		}
 
-		private synchronized void write(Object input, List<ValidationIssue> issues) throws IOException {
-			if (writer == null) {
-				Path parent = rejectPath.getParent();
-				if (parent != null) {
-					Files.createDirectories(parent);
-				}
-				writer = Files.newBufferedWriter(rejectPath, StandardCharsets.UTF_8);
-			}
-			if (!headerWritten) {
-				writer.write(buildHeader());
-				writer.newLine();
-				headerWritten = true;
-			}
+		private void write(Object input, List<ValidationIssue> issues) throws IOException {
+			writer.submit(buildRow(input, issues));
+		}
 
-			writer.write(buildRow(input, issues));
-			writer.newLine();
+		private void flush() throws IOException {
+			writer.flush();
 		}
 
-		private String buildHeader() {
+		private String buildHeader(ProcessorConfig.EntityMapping entityMapping) {
 			List<String> columns = new ArrayList<>();
 			for (ProcessorConfig.FieldMapping fieldMapping : entityMapping.getFields()) {
 				columns.add(fieldMapping.getTo());
@@ -533,17 +558,25 @@ public class FileIngestionRuntimeSupport {
 		}
 
 		private String buildRow(Object input, List<ValidationIssue> issues) {
-			List<String> columns = new ArrayList<>();
-			for (ProcessorConfig.FieldMapping fieldMapping : entityMapping.getFields()) {
-				Object value = ReflectionUtils.getFieldValue(input, fieldMapping.getFrom());
-				columns.add(escape(value));
+			StringBuilder row = new StringBuilder(16 * (sourcePaths.length + 3));
+			for (int i = 0; i < sourcePaths.length; i++) {
+				if (i > 0) {
+					row.append(',');
+				}
+				Object value;
+				try {
+					value = sourcePaths[i].get(input);
+				} catch (Exception e) {
+					throw new ReflectionAccessException("Failed to get field value: " + sourceFields[i], e);
+				}
+				row.append(escape(value));
 			}
 			if (includeReasonColumns) {
-				columns.add(escape(joinIssues(issues, ValidationIssue::field)));
-				columns.add(escape(joinIssues(issues, ValidationIssue::rule)));
-				columns.add(escape(joinIssues(issues, ValidationIssue::message)));
+				row.append(',').append(escape(joinIssues(issues, ValidationIssue::field)));
+				row.append(',').append(escape(joinIssues(issues, ValidationIssue::rule)));
+				row.append(',').append(escape(joinIssues(issues, ValidationIssue::message)));
 			}
-			return String.join(",", columns);
+			return row.toString();
 		}
 
 		private String joinIssues(List<ValidationIssue> issues,
@@ -565,11 +598,8 @@ public class FileIngestionRuntimeSupport {
 			return text;
 		}
 
-		private synchronized void close() throws IOException {
-			if (writer != null) {
-				writer.flush();
-				writer.close();
-			}
+		private void close() throws IOException {
+			writer.close();
 		}
 
 		private synchronized void packageAsZipIfConfigured() throws IOException {
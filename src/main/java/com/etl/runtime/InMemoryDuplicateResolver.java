@@ -4,6 +4,7 @@ import com.etl.processor.validation.ValidationIssue;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,20 +24,37 @@ import org.slf4j.LoggerFactory;
  * <p>Records with incomplete duplicate keys are passed through without duplicate comparison,
  * while records with non-comparable order values are discarded with a duplicate validation
  * issue.</p>
+ *
+ * <p>In winner-only mode ({@code storageMode: winnerOnly}) the resolver keeps just the current
+ * winner per duplicate key. Each incoming candidate is compared with that winner as it arrives and
+ * the loser is handed out through {@link #drainDiscarded()} straight away, so memory follows the
+ * number of distinct keys instead of the number of rows and {@link #complete()} has nothing left to
+ * rank. Winners and losers are the same as in the buffered mode; only the loser order differs,
+ * following displacement order rather than rank within each key.</p>
  */
 public final class InMemoryDuplicateResolver implements DuplicateResolver {
 
 	private static final Logger logger = LoggerFactory.getLogger(InMemoryDuplicateResolver.class);
 
 	private final DuplicateRule rule;
+	private final boolean winnerOnly;
 	private final Map<String, List<Candidate>> candidatesByKey = new LinkedHashMap<>();
+	private final Map<String, Candidate> winnersByKey = new HashMap<>();
 	private final List<OrderedRecord> passThroughRecords = new ArrayList<>();
-	private final List<DuplicateDiscard> discardedRecords = new ArrayList<>();
+	private List<DuplicateDiscard> discardedRecords = new ArrayList<>();
 	private long acceptedRecordCount;
+	private long rankedCandidateCount;
+	private long invalidOrderingDiscardCount;
+	private long discardedRecordCount;
 	private long sequence;
 
 	public InMemoryDuplicateResolver(DuplicateRule rule) {
+		this(rule, false);
+	}
+
+	public InMemoryDuplicateResolver(DuplicateRule rule, boolean winnerOnly) {
 		this.rule = Objects.requireNonNull(rule, "rule");
+		this.winnerOnly = winnerOnly;
 	}
 
 	@Override
@@ -50,7 +68,8 @@ public final class InMemoryDuplicateResolver implements DuplicateResolver {
 
 		List<DuplicateSupport.SortCriterionValue> sortValues = DuplicateSupport.normalizeSortValues(input, rule.orderSelectors());
 		if (sortValues == null) {
-			discardedRecords.add(new DuplicateDiscard(
+			invalidOrderingDiscardCount++;
+			discard(new DuplicateDiscard(
 					input,
 					new ValidationIssue(
 							rule.anchorField(),
@@ -63,39 +82,59 @@ public final class InMemoryDuplicateResolver implements DuplicateResolver {
 			return;
 		}
 
+		rankedCandidateCount++;
 		Candidate incoming = new Candidate(input, sortValues, nextSequence());
 		String key = DuplicateSupport.buildKey(keyValues);
-		candidatesByKey.computeIfAbsent(key, ignored -> new ArrayList<>()).add(incoming);
+		if (!winnerOnly) {
+			candidatesByKey.computeIfAbsent(key, ignored -> new ArrayList<>()).add(incoming);
+			return;
+		}
+		Candidate currentWinner = winnersByKey.putIfAbsent(key, incoming);
+		if (currentWinner == null) {
+			return;
+		}
+		if (compareCandidates(incoming, currentWinner) < 0) {
+			winnersByKey.put(key, incoming);
+			discard(duplicateLoser(currentWinner));
+		} else {
+			discard(duplicateLoser(incoming));
+		}
+	}
+
+	@Override
+	public List<DuplicateDiscard> drainDiscarded() {
+		if (!winnerOnly || discardedRecords.isEmpty()) {
+			return List.of();
+		}
+		List<DuplicateDiscard> drained = discardedRecords;
+		discardedRecords = new ArrayList<>();
+		return drained;
 	}
 
 	@Override
 	public DuplicateResolution complete() {
 		List<OrderedRecord> retainedRecords = new ArrayList<>(passThroughRecords);
-		int rankedGroupCount = candidatesByKey.size();
-		int rankedCandidateCount = candidatesByKey.values().stream().mapToInt(List::size).sum();
-		for (List<Candidate> candidates : candidatesByKey.values()) {
-			candidates.sort(this::compareCandidates);
-			Candidate winner = candidates.get(0);
-			retainedRecords.add(new OrderedRecord(winner.record(), winner.sequence()));
-			for (int i = 1; i < candidates.size(); i++) {
-				Candidate discarded = candidates.get(i);
-				discardedRecords.add(new DuplicateDiscard(
-						discarded.record(),
-						new ValidationIssue(
-								rule.anchorField(),
-								"duplicate",
-								rule.anchorField() + " duplicate key " + rule.keyFields()
-										+ " was discarded because another record already wins by order "
-										+ DuplicateSupport.describeOrderSelectors(rule.orderSelectors()) + "."
-						),
-						false
-				));
+		int rankedGroupCount;
+		if (winnerOnly) {
+			rankedGroupCount = winnersByKey.size();
+			for (Candidate winner : winnersByKey.values()) {
+				retainedRecords.add(new OrderedRecord(winner.record(), winner.sequence()));
+			}
+		} else {
+			rankedGroupCount = candidatesByKey.size();
+			for (List<Candidate> candidates : candidatesByKey.values()) {
+				candidates.sort(this::compareCandidates);
+				Candidate winner = candidates.get(0);
+				retainedRecords.add(new OrderedRecord(winner.record(), winner.sequence()));
+				for (int i = 1; i < candidates.size(); i++) {
+					discard(duplicateLoser(candidates.get(i)));
+				}
 			}
 		}
 		retainedRecords.sort(Comparator.comparingLong(OrderedRecord::sequence));
-		long invalidOrderingDiscardCount = discardedRecords.stream().filter(DuplicateDiscard::invalidOrderingValue).count();
 		List<Object> retained = retainedRecords.stream().map(OrderedRecord::record).toList();
-		logger.info("DUPLICATE_RESOLVER event=resolver_summary resolverMode=inMemory storageEngine=java-collections anchorField={} acceptedCount={} stagedRankedCount={} stagedPassThroughCount={} stagedInvalidCount={} rankedGroupCount={} retainedCount={} discardedCount={}",
+		logger.info("DUPLICATE_RESOLVER event=resolver_summary resolverMode={} storageEngine=java-collections anchorField={} acceptedCount={} stagedRankedCount={} stagedPassThroughCount={} stagedInvalidCount={} rankedGroupCount={} retainedCount={} discardedCount={}",
+				winnerOnly ? "inMemoryWinnerOnly" : "inMemory",
 				rule.anchorField(),
 				acceptedRecordCount,
 				rankedCandidateCount,
@@ -103,10 +142,29 @@ public final class InMemoryDuplicateResolver implements DuplicateResolver {
 				invalidOrderingDiscardCount,
 				rankedGroupCount,
 				retained.size(),
-				discardedRecords.size());
+				discardedRecordCount);
 		return new DuplicateResolution(retained, discardedRecords);
 	}
 
+	private void discard(DuplicateDiscard discard) {
+		discardedRecordCount++;
+		discardedRecords.add(discard);
+	}
+
+	private DuplicateDiscard duplicateLoser(Candidate loser) {
+		return new DuplicateDiscard(
+				loser.record(),
+				new ValidationIssue(
+						rule.anchorField(),
+						"duplicate",
+						rule.anchorField() + " duplicate key " + rule.keyFields()
+								+ " was discarded because another record already wins by order "
+								+ DuplicateSupport.describeOrderSelectors(rule.orderSelectors()) + "."
+				),
+				false
+		);
+	}
+
 	private int compareCandidates(Candidate incoming, Candidate currentWinner) {
 		return -DuplicateSupport.compare(
 				incoming.sortValues(),
@@ -0,0 +1,108 @@
+package com.etl.runtime;
+
+import com.etl.reader.DynamicReader;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.partition.support.AbstractPartitionHandler;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Partition handler that builds a dedicated worker step for every partition.
+ *
+ * <p>Spring Batch's {@code TaskExecutorPartitionHandler} runs one shared worker step for all
+ * partitions, which relies on step-scoped readers and writers. The runtime builds readers, writers,
+ * and processors directly from config instead, so this handler asks a {@link WorkerStepFactory} for
+ * a fresh step per partition. Each worker then owns its own stream state and never shares a reader
+ * or writer with another thread.</p>
+ *
+ * <p>A worker that cannot be built is recorded as a failed partition so the manager step fails
+ * with the usual aggregated status instead of an unrelated executor error.</p>
+ */
+public class PartitionWorkerStepHandler extends AbstractPartitionHandler {
+
+	private final TaskExecutor taskExecutor;
+	private final JobRepository jobRepository;
+	private final WorkerStepFactory workerStepFactory;
+
+	public PartitionWorkerStepHandler(TaskExecutor taskExecutor,
+	                                  JobRepository jobRepository,
+	                                  int gridSize,
+	                                  WorkerStepFactory workerStepFactory) {
+		this.taskExecutor = taskExecutor;
+		this.jobRepository = jobRepository;
+		this.workerStepFactory = workerStepFactory;
+		setGridSize(gridSize);
+	}
+
+	/**
+	 * Whether the execution belongs to a partition worker rather than to a configured step. The
+	 * manager step already aggregates worker counts, so run-level rollups skip worker executions.
+	 */
+	public static boolean isPartitionWorker(StepExecution stepExecution) {
+		return stepExecution != null && stepExecution.getExecutionContext().containsKey(DynamicReader.PARTITION_INDEX_KEY);
+	}
+
+	@Override
+	protected Set<StepExecution> doHandle(StepExecution managerStepExecution,
+	                                      Set<StepExecution> partitionStepExecutions) throws Exception {
+		Set<StepExecution> result = new HashSet<>();
+		List<FutureTask<StepExecution>> tasks = new ArrayList<>();
+		for (StepExecution partitionStepExecution : partitionStepExecutions) {
+			FutureTask<StepExecution> task = new FutureTask<>(() -> runPartition(partitionStepExecution));
+			try {
+				taskExecutor.execute(task);
+				tasks.add(task);
+			} catch (TaskRejectedException e) {
+				markFailed(partitionStepExecution, e);
+				result.add(partitionStepExecution);
+			}
+		}
+		for (FutureTask<StepExecution> task : tasks) {
+			result.add(task.get());
+		}
+		return result;
+	}
+
+	private StepExecution runPartition(StepExecution partitionStepExecution) {
+		Step workerStep;
+		try {
+			workerStep = workerStepFactory.create(partitionStepExecution);
+		} catch (Exception e) {
+			markFailed(partitionStepExecution, e);
+			jobRepository.update(partitionStepExecution);
+			return partitionStepExecution;
+		}
+		try {
+			workerStep.execute(partitionStepExecution);
+		} catch (Exception e) {
+			// AbstractStep records its own failures; anything thrown here escaped that handling.
+			markFailed(partitionStepExecution, e);
+			jobRepository.update(partitionStepExecution);
+		}
+		return partitionStepExecution;
+	}
+
+	private static void markFailed(StepExecution partitionStepExecution, Throwable failure) {
+		partitionStepExecution.setStatus(BatchStatus.FAILED);
+		partitionStepExecution.setExitStatus(ExitStatus.FAILED.addExitDescription(failure));
+		partitionStepExecution.addFailureException(failure);
+	}
+
+	/**
+	 * Builds the worker step that processes one partition.
+	 */
+	@FunctionalInterface
+	public interface WorkerStepFactory {
+		Step create(StepExecution partitionStepExecution) throws Exception;
+	}
+}
@@ -1,6 +1,7 @@
 package com.etl.runtime.job;
 
 import com.etl.runtime.FileIngestionRuntimeSupport;
+import com.etl.runtime.PartitionWorkerStepHandler;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.item.ExecutionContext;
@@ -113,7 +114,7 @@ public record JobRunCountRollup(
 	private static JobRunCountRollup fallback(Collection<StepExecution> stepExecutions) {
 		List<StepExecution> ordered = new ArrayList<>();
 		for (StepExecution stepExecution : stepExecutions == null ? List.<StepExecution>of() : stepExecutions) {
-			if (stepExecution != null) {
+			if (stepExecution != null && !PartitionWorkerStepHandler.isPartitionWorker(stepExecution)) {
 				ordered.add(stepExecution);
 			}
 		}
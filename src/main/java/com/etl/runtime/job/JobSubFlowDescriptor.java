@@ -8,7 +8,8 @@ import java.util.stream.Collectors;
  *
  * <p>Subflows are an observability construct layered on top of the shipped flat ordered step
  * plan. They group one or more steps together and record dependency/handoff information so logs
- * can describe blocking, readiness, and cross-step data flow more clearly.</p>
+ * can describe blocking, readiness, and cross-step data flow more clearly. When the runtime runs
+ * in parallel-subflow mode, {@link JobSubFlowExecutionPlan} also uses them to schedule execution.</p>
  */
 public record JobSubFlowDescriptor(
 String subFlowName,
@@ -0,0 +1,213 @@
+package com.etl.runtime.job;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dependency graph between subflows used when the runtime executes independent subflows
+ * concurrently.
+ *
+ * <p>The descriptor assembler chains every subflow to its predecessor so that sequential logs stay
+ * readable. For concurrent execution that chain is relaxed: a dependency is dropped only when every
+ * step link backing it is {@link JobStepLinkType#ORDER_ONLY}. {@link JobStepLinkType#DATA_HANDOFF}
+ * links and dependencies with no backing link are kept. Order-only dependencies are then re-added
+ * for shared named resources, so that a later subflow still waits when it reads an earlier target,
+ * writes an earlier target, or writes an earlier source.</p>
+ *
+ * <p>Subflows are grouped into stages by longest dependency path. Every dependency of a stage-N
+ * subflow sits in a stage below N, so running stages in order and the subflows inside one stage
+ * concurrently keeps all retained edges intact.</p>
+ */
+public final class JobSubFlowExecutionPlan {
+
+	private final List<List<JobSubFlowDescriptor>> stages;
+	private final Map<String, List<String>> effectiveDependencies;
+	private final Map<String, List<String>> relaxedDependencies;
+
+	private JobSubFlowExecutionPlan(List<List<JobSubFlowDescriptor>> stages,
+	                                Map<String, List<String>> effectiveDependencies,
+	                                Map<String, List<String>> relaxedDependencies) {
+		this.stages = stages;
+		this.effectiveDependencies = effectiveDependencies;
+		this.relaxedDependencies = relaxedDependencies;
+	}
+
+	/**
+	 * Builds the concurrent execution plan for the supplied runtime descriptor.
+	 *
+	 * @throws IllegalStateException when a subflow depends on an unknown subflow or the dependencies form a cycle
+	 */
+	public static JobSubFlowExecutionPlan fromDescriptor(JobRuntimeDescriptor descriptor) {
+		List<JobSubFlowDescriptor> subFlows = descriptor.subFlows().stream()
+				.sorted((left, right) -> Integer.compare(left.subFlowOrder(), right.subFlowOrder()))
+				.toList();
+		Map<String, JobSubFlowDescriptor> subFlowsByName = new LinkedHashMap<>();
+		for (JobSubFlowDescriptor subFlow : subFlows) {
+			subFlowsByName.put(subFlow.subFlowName(), subFlow);
+		}
+
+		Map<String, List<String>> effective = new LinkedHashMap<>();
+		Map<String, List<String>> relaxed = new LinkedHashMap<>();
+		for (int i = 0; i < subFlows.size(); i++) {
+			JobSubFlowDescriptor subFlow = subFlows.get(i);
+			Set<String> kept = new LinkedHashSet<>();
+			Set<String> dropped = new LinkedHashSet<>();
+			for (String dependencyName : subFlow.dependsOnSubFlowNames()) {
+				JobSubFlowDescriptor dependency = subFlowsByName.get(dependencyName);
+				if (dependency == null) {
+					throw new IllegalStateException("Subflow '" + subFlow.subFlowName()
+							+ "' depends on unknown subflow '" + dependencyName + "'.");
+				}
+				if (isOrderOnly(descriptor, dependency, subFlow)) {
+					dropped.add(dependencyName);
+				} else {
+					kept.add(dependencyName);
+				}
+			}
+			for (int j = 0; j < i; j++) {
+				JobSubFlowDescriptor earlier = subFlows.get(j);
+				if (sharesResource(descriptor, earlier, subFlow)) {
+					kept.add(earlier.subFlowName());
+				}
+			}
+			dropped.removeAll(kept);
+			effective.put(subFlow.subFlowName(), List.copyOf(kept));
+			relaxed.put(subFlow.subFlowName(), List.copyOf(dropped));
+		}
+
+		return new JobSubFlowExecutionPlan(buildStages(subFlows, effective), effective, relaxed);
+	}
+
+	/**
+	 * Subflows grouped into stages that must run in order; subflows within one stage are independent.
+	 */
+	public List<List<JobSubFlowDescriptor>> stages() {
+		return stages;
+	}
+
+	public int stageCount() {
+		return stages.size();
+	}
+
+	public int widestStage() {
+		return stages.stream().mapToInt(List::size).max().orElse(0);
+	}
+
+	public boolean hasConcurrentStage() {
+		return widestStage() > 1;
+	}
+
+	public List<String> effectiveDependencies(String subFlowName) {
+		return effectiveDependencies.getOrDefault(subFlowName, List.of());
+	}
+
+	public List<String> relaxedDependencies(String subFlowName) {
+		return relaxedDependencies.getOrDefault(subFlowName, List.of());
+	}
+
+	public int stageOf(String subFlowName) {
+		for (int i = 0; i < stages.size(); i++) {
+			for (JobSubFlowDescriptor subFlow : stages.get(i)) {
+				if (subFlow.subFlowName().equals(subFlowName)) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	private static boolean isOrderOnly(JobRuntimeDescriptor descriptor,
+	                                   JobSubFlowDescriptor upstream,
+	                                   JobSubFlowDescriptor downstream) {
+		boolean linked = false;
+		for (JobStepLinkDescriptor link : descriptor.stepLinks()) {
+			if (upstream.stepNames().contains(link.fromStepName()) && downstream.stepNames().contains(link.toStepName())) {
+				if (link.linkType() != JobStepLinkType.ORDER_ONLY) {
+					return false;
+				}
+				linked = true;
+			}
+		}
+		return linked;
+	}
+
+	private static boolean sharesResource(JobRuntimeDescriptor descriptor,
+	                                      JobSubFlowDescriptor earlier,
+	                                      JobSubFlowDescriptor later) {
+		Set<String> earlierSources = new LinkedHashSet<>();
+		Set<String> earlierTargets = new LinkedHashSet<>();
+		collectResources(descriptor, earlier, earlierSources, earlierTargets);
+		Set<String> laterSources = new LinkedHashSet<>();
+		Set<String> laterTargets = new LinkedHashSet<>();
+		collectResources(descriptor, later, laterSources, laterTargets);
+		for (String source : laterSources) {
+			if (earlierTargets.contains(source)) {
+				return true;
+			}
+		}
+		for (String target : laterTargets) {
+			if (earlierTargets.contains(target) || earlierSources.contains(target)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void collectResources(JobRuntimeDescriptor descriptor,
+	                                     JobSubFlowDescriptor subFlow,
+	                                     Set<String> sources,
+	                                     Set<String> targets) {
+		for (String stepName : subFlow.stepNames()) {
+			JobStepDescriptor step = descriptor.stepsByName().get(stepName);
+			if (step != null) {
+				sources.add(step.sourceName());
+				targets.add(step.targetName());
+			}
+		}
+	}
+
+	private static List<List<JobSubFlowDescriptor>> buildStages(List<JobSubFlowDescriptor> subFlows,
+	                                                            Map<String, List<String>> dependencies) {
+		Map<String, Integer> stageBySubFlow = new LinkedHashMap<>();
+		List<JobSubFlowDescriptor> pending = new ArrayList<>(subFlows);
+		while (!pending.isEmpty()) {
+			boolean progressed = false;
+			for (var iterator = pending.iterator(); iterator.hasNext(); ) {
+				JobSubFlowDescriptor subFlow = iterator.next();
+				int stage = 0;
+				boolean resolved = true;
+				for (String dependencyName : dependencies.get(subFlow.subFlowName())) {
+					Integer dependencyStage = stageBySubFlow.get(dependencyName);
+					if (dependencyStage == null) {
+						resolved = false;
+						break;
+					}
+					stage = Math.max(stage, dependencyStage + 1);
+				}
+				if (resolved) {
+					stageBySubFlow.put(subFlow.subFlowName(), stage);
+					iterator.remove();
+					progressed = true;
+				}
+			}
+			if (!progressed) {
+				throw new IllegalStateException("Subflow dependencies form a cycle: "
+						+ pending.stream().map(JobSubFlowDescriptor::subFlowName).toList());
+			}
+		}
+
+		List<List<JobSubFlowDescriptor>> stages = new ArrayList<>();
+		for (JobSubFlowDescriptor subFlow : subFlows) {
+			int stage = stageBySubFlow.get(subFlow.subFlowName());
+			while (stages.size() <= stage) {
+				stages.add(new ArrayList<>());
+			}
+			stages.get(stage).add(subFlow);
+		}
+		return stages.stream().map(List::copyOf).toList();
+	}
+}
@@ -0,0 +1,365 @@
+package com.etl.source.xml.runtime;
+
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.helpers.AttributesImpl;
+
+import javax.xml.stream.EventFilter;
+import javax.xml.stream.Location;
+import javax.xml.stream.StreamFilter;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLReporter;
+import javax.xml.stream.XMLResolver;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.Characters;
+import javax.xml.stream.events.EndElement;
+import javax.xml.stream.events.Namespace;
+import javax.xml.stream.events.ProcessingInstruction;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import javax.xml.stream.util.EventReaderDelegate;
+import javax.xml.stream.util.XMLEventAllocator;
+import javax.xml.transform.Source;
+import javax.xml.validation.Schema;
+import javax.xml.validation.ValidatorHandler;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.Iterator;
+
+/**
+ * {@link XMLInputFactory} whose event readers validate the document against an XSD while it is
+ * being consumed.
+ *
+ * <p>Every event handed out by {@code nextEvent()} is replayed into a schema
+ * {@link ValidatorHandler}, so the same single StAX parse that feeds
+ * {@code StaxEventItemReader} fragments also drives XSD validation. There is no separate
+ * validation pass over the file. The first schema error surfaces as an
+ * {@link XMLStreamException} from the read that consumed the offending event; checks that can only
+ * complete at the end of the document run when {@code END_DOCUMENT} is consumed, which the fragment
+ * reader always does before reporting end of input. A step reading through this factory therefore
+ * fails before it can complete, and staged file output is never published for an invalid
+ * document.</p>
+ *
+ * <p>Only event readers are validated; stream readers and all factory properties are delegated
+ * unchanged.</p>
+ */
+public class SchemaValidatingXmlInputFactory extends XMLInputFactory {
+
+    private final XMLInputFactory delegate;
+    private final Schema schema;
+    private final String schemaDescription;
+
+    public SchemaValidatingXmlInputFactory(XMLInputFactory delegate, Schema schema, String schemaDescription) {
+        this.delegate = delegate;
+        this.schema = schema;
+        this.schemaDescription = schemaDescription;
+    }
+
+    @Override
+    public XMLEventReader createXMLEventReader(Reader reader) throws XMLStreamException {
+        return validating(delegate.createXMLEventReader(reader));
+    }
+
+    @Override
+    public XMLEventReader createXMLEventReader(String systemId, Reader reader) throws XMLStreamException {
+        return validating(delegate.createXMLEventReader(systemId, reader));
+    }
+
+    @Override
+    public XMLEventReader createXMLEventReader(XMLStreamReader reader) throws XMLStreamException {
+        return validating(delegate.createXMLEventReader(reader));
+    }
+
+    @Override
+    public XMLEventReader createXMLEventReader(Source source) throws XMLStreamException {
+        return validating(delegate.createXMLEventReader(source));
+    }
+
+    @Override
+    public XMLEventReader createXMLEventReader(InputStream stream) throws XMLStreamException {
+        return validating(delegate.createXMLEventReader(stream));
+    }
+
+    @Override
+    public XMLEventReader createXMLEventReader(InputStream stream, String encoding) throws XMLStreamException {
+        return validating(delegate.createXMLEventReader(stream, encoding));
+    }
+
+    @Override
+    public XMLEventReader createXMLEventReader(String systemId, InputStream stream) throws XMLStreamException {
+        return validating(delegate.createXMLEventReader(systemId, stream));
+    }
+
+    @Override
+    public XMLEventReader createFilteredReader(XMLEventReader reader, EventFilter filter) throws XMLStreamException {
+        return delegate.createFilteredReader(reader, filter);
+    }
+
+    @Override
+    public XMLStreamReader createXMLStreamReader(Reader reader) throws XMLStreamException {
+        return delegate.createXMLStreamReader(reader);
+    }
+
+    @Override
+    public XMLStreamReader createXMLStreamReader(Source source) throws XMLStreamException {
+        return delegate.createXMLStreamReader(source);
+    }
+
+    @Override
+    public XMLStreamReader createXMLStreamReader(InputStream stream) throws XMLStreamException {
+        return delegate.createXMLStreamReader(stream);
+    }
+
+    @Override
+    public XMLStreamReader createXMLStreamReader(InputStream stream, String encoding) throws XMLStreamException {
+        return delegate.createXMLStreamReader(stream, encoding);
+    }
+
+    @Override
+    public XMLStreamReader createXMLStreamReader(String systemId, InputStream stream) throws XMLStreamException {
+        return delegate.createXMLStreamReader(systemId, stream);
+    }
+
+    @Override
+    public XMLStreamReader createXMLStreamReader(String systemId, Reader reader) throws XMLStreamException {
+        return delegate.createXMLStreamReader(systemId, reader);
+    }
+
+    @Override
+    public XMLStreamReader createFilteredReader(XMLStreamReader reader, StreamFilter filter) throws XMLStreamException {
+        return delegate.createFilteredReader(reader, filter);
+    }
+
+    @Override
+    public XMLResolver getXMLResolver() {
+        return delegate.getXMLResolver();
+    }
+
+    @Override
+    public void setXMLResolver(XMLResolver resolver) {
+        delegate.setXMLResolver(resolver);
+    }
+
+    @Override
+    public XMLReporter getXMLReporter() {
+        return delegate.getXMLReporter();
+    }
+
+    @Override
+    public void setXMLReporter(XMLReporter reporter) {
+        delegate.setXMLReporter(reporter);
+    }
+
+    @Override
+    public void setProperty(String name, Object value) {
+        delegate.setProperty(name, value);
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        return delegate.getProperty(name);
+    }
+
+    @Override
+    public boolean isPropertySupported(String name) {
+        return delegate.isPropertySupported(name);
+    }
+
+    @Override
+    public void setEventAllocator(XMLEventAllocator allocator) {
+        delegate.setEventAllocator(allocator);
+    }
+
+    @Override
+    public XMLEventAllocator getEventAllocator() {
+        return delegate.getEventAllocator();
+    }
+
+    private XMLEventReader validating(XMLEventReader reader) {
+        return new ValidatingEventReader(reader, schema.newValidatorHandler(), schemaDescription);
+    }
+
+    /**
+     * Event reader that forwards each consumed event to a {@link ValidatorHandler} as SAX callbacks.
+     *
+     * <p>{@code peek()} and {@code hasNext()} do not consume and are delegated untouched; every
+     * consuming method is routed through {@link #nextEvent()} so no event bypasses validation.</p>
+     */
+    private static final class ValidatingEventReader extends EventReaderDelegate implements Locator {
+
+        private final ValidatorHandler validatorHandler;
+        private final String schemaDescription;
+        private Location location;
+        private boolean documentStarted;
+
+        private ValidatingEventReader(XMLEventReader reader, ValidatorHandler validatorHandler, String schemaDescription) {
+            super(reader);
+            this.validatorHandler = validatorHandler;
+            this.schemaDescription = schemaDescription;
+            validatorHandler.setDocumentLocator(this);
+        }
+
+        @Override
+        public XMLEvent nextEvent() throws XMLStreamException {
+            XMLEvent event = super.nextEvent();
+            location = event.getLocation();
+            try {
+                validate(event);
+            } catch (SAXException e) {
+                // Unmarshallers reading the current fragment rewrap stream exceptions by their nested
+                // cause, so the descriptive message is carried on the cause as well.
+                String message = failureMessage(e);
+                throw new XMLStreamException(message, location, new SAXException(message, e));
+            }
+            return event;
+        }
+
+        @Override
+        public Object next() {
+            try {
+                return nextEvent();
+            } catch (XMLStreamException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public String getElementText() throws XMLStreamException {
+            StringBuilder text = new StringBuilder();
+            XMLEvent event = nextEvent();
+            while (!event.isEndElement()) {
+                if (event.isCharacters()) {
+                    text.append(event.asCharacters().getData());
+                } else if (event.isStartElement() || event.getEventType() == XMLStreamConstants.END_DOCUMENT) {
+                    throw new XMLStreamException("Element text must not contain child elements", event.getLocation());
+                }
+                event = nextEvent();
+            }
+            return text.toString();
+        }
+
+        @Override
+        public XMLEvent nextTag() throws XMLStreamException {
+            XMLEvent event = nextEvent();
+            while ((event.isCharacters() && event.asCharacters().isWhiteSpace())
+                    || event.getEventType() == XMLStreamConstants.COMMENT
+                    || event.isProcessingInstruction()) {
+                event = nextEvent();
+            }
+            if (!event.isStartElement() && !event.isEndElement()) {
+                throw new XMLStreamException("Expected start or end tag", event.getLocation());
+            }
+            return event;
+        }
+
+        private void validate(XMLEvent event) throws SAXException {
+            switch (event.getEventType()) {
+                case XMLStreamConstants.START_DOCUMENT -> startDocument();
+                case XMLStreamConstants.START_ELEMENT -> {
+                    startDocument();
+                    startElement(event.asStartElement());
+                }
+                case XMLStreamConstants.END_ELEMENT -> endElement(event.asEndElement());
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+                    Characters characters = event.asCharacters();
+                    char[] data = characters.getData().toCharArray();
+                    if (characters.isIgnorableWhiteSpace()) {
+                        validatorHandler.ignorableWhitespace(data, 0, data.length);
+                    } else {
+                        validatorHandler.characters(data, 0, data.length);
+                    }
+                }
+                case XMLStreamConstants.PROCESSING_INSTRUCTION -> {
+                    ProcessingInstruction instruction = (ProcessingInstruction) event;
+                    validatorHandler.processingInstruction(instruction.getTarget(), instruction.getData());
+                }
+                case XMLStreamConstants.END_DOCUMENT -> {
+                    startDocument();
+                    validatorHandler.endDocument();
+                }
+                default -> {
+                    // Comments, DTD and entity events carry nothing the schema validator checks.
+                }
+            }
+        }
+
+        private void startDocument() throws SAXException {
+            if (!documentStarted) {
+                documentStarted = true;
+                validatorHandler.startDocument();
+            }
+        }
+
+        private void startElement(StartElement element) throws SAXException {
+            for (Iterator<Namespace> namespaces = element.getNamespaces(); namespaces.hasNext(); ) {
+                Namespace namespace = namespaces.next();
+                validatorHandler.startPrefixMapping(namespace.getPrefix(), namespace.getNamespaceURI());
+            }
+            AttributesImpl attributes = new AttributesImpl();
+            for (Iterator<Attribute> iterator = element.getAttributes(); iterator.hasNext(); ) {
+                Attribute attribute = iterator.next();
+                attributes.addAttribute(
+                        attribute.getName().getNamespaceURI(),
+                        attribute.getName().getLocalPart(),
+                        qualifiedName(attribute.getName().getPrefix(), attribute.getName().getLocalPart()),
+                        attribute.getDTDType() == null ? "CDATA" : attribute.getDTDType(),
+                        attribute.getValue()
+                );
+            }
+            validatorHandler.startElement(
+                    element.getName().getNamespaceURI(),
+                    element.getName().getLocalPart(),
+                    qualifiedName(element.getName().getPrefix(), element.getName().getLocalPart()),
+                    attributes
+            );
+        }
+
+        private void endElement(EndElement element) throws SAXException {
+            validatorHandler.endElement(
+                    element.getName().getNamespaceURI(),
+                    element.getName().getLocalPart(),
+                    qualifiedName(element.getName().getPrefix(), element.getName().getLocalPart())
+            );
+            for (Iterator<Namespace> namespaces = element.getNamespaces(); namespaces.hasNext(); ) {
+                validatorHandler.endPrefixMapping(namespaces.next().getPrefix());
+            }
+        }
+
+        private String failureMessage(SAXException e) {
+            String message = "XML schema validation failed for " + schemaDescription;
+            if (e instanceof SAXParseException parseException && parseException.getLineNumber() > 0) {
+                message += " at line " + parseException.getLineNumber();
+            }
+            return message + ": " + e.getMessage();
+        }
+
+        private static String qualifiedName(String prefix, String localPart) {
+            return prefix == null || prefix.isEmpty() ? localPart : prefix + ":" + localPart;
+        }
+
+        @Override
+        public String getPublicId() {
+            return location == null ? null : location.getPublicId();
+        }
+
+        @Override
+        public String getSystemId() {
+            return location == null ? null : location.getSystemId();
+        }
+
+        @Override
+        public int getLineNumber() {
+            return location == null ? -1 : location.getLineNumber();
+        }
+
+        @Override
+        public int getColumnNumber() {
+            return location == null ? -1 : location.getColumnNumber();
+        }
+    }
+}
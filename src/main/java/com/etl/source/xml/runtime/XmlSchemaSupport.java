@@ -0,0 +1,53 @@
+package com.etl.source.xml.runtime;
+
+import com.etl.config.source.XmlSourceConfig;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import java.nio.file.Path;
+
+/**
+ * Shared XSD loading for XML source validation and the streaming schema-validating read path.
+ *
+ * <p>Both callers compile schemas the same way: W3C XML Schema with external DTD and schema
+ * resolution disabled, so a schema that passes source validation behaves identically when it is
+ * enforced during the read.</p>
+ */
+public final class XmlSchemaSupport {
+
+    private XmlSchemaSupport() {
+    }
+
+    /**
+     * Returns the configured schema path when the source asks for schema enforcement during the
+     * read pass, or {@code null} when the reader should not validate.
+     */
+    public static Path streamingSchemaPath(XmlSourceConfig xmlSourceConfig) {
+        XmlSourceConfig.ValidationConfig validation = xmlSourceConfig.getValidation();
+        if (validation == null || !validation.isStreamingSchemaMode()
+                || validation.getSchemaPath() == null || validation.getSchemaPath().isBlank()) {
+            return null;
+        }
+        return Path.of(validation.getSchemaPath().trim());
+    }
+
+    /**
+     * Compiles the XSD at the given path.
+     */
+    public static Schema loadSchema(Path schemaPath) throws SAXException {
+        SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        setIfSupported(schemaFactory, XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        setIfSupported(schemaFactory, XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+        return schemaFactory.newSchema(schemaPath.toFile());
+    }
+
+    private static void setIfSupported(SchemaFactory schemaFactory, String propertyName, String value) {
+        try {
+            schemaFactory.setProperty(propertyName, value);
+        } catch (SAXException | IllegalArgumentException ignored) {
+            // Keep compatibility with SchemaFactory implementations that do not expose the property.
+        }
+    }
+}
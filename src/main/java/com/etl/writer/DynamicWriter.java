@@ -12,6 +12,10 @@ import org.springframework.batch.item.ItemWriter;
  * {@link ItemWriter} used for the active step. Concrete writers are responsible for
  * format-specific serialization and publication behavior, while runtime dispatch stays
  * centralized in {@link DynamicWriterFactory}.</p>
+ *
+ * <p>Writers that accept output from partitioned steps implement
+ * {@link PartitionableDynamicWriter}; writers that can stream
+ * wrapper/root documents record by record implement {@link WrapperStreamingDynamicWriter}.</p>
  */
 public interface DynamicWriter {
     /**
@@ -105,6 +105,82 @@ public class DynamicWriterFactory {
           }
     }
 
+    /**
+     * Creates the partition-aware writer for a partitioned step, failing fast when the target
+     * format cannot accept output from concurrent partition workers.
+     */
+    public PartitionedWriter createPartitionedWriter(TargetConfig config, Class<?> clazz) throws Exception {
+        if (config == null || clazz == null) {
+            throw new FactoryException("Target configuration and target class must not be null when creating a partitioned writer.");
+        }
+        ModelFormat format = config.getFormat();
+        DynamicWriter writer = writers.get(format);
+        if (writer == null) {
+            logger.error("No writer found for format: {}", format);
+            throw new NoWriterFoundException("No writer found for format: " + format);
+        }
+        if (!(writer instanceof PartitionableDynamicWriter partitionableWriter)) {
+            throw new FactoryException("Target '" + defaultName(config.getTargetName())
+                    + "' uses format '" + format + "', which does not support partitioned steps.");
+        }
+        try {
+            return partitionableWriter.getPartitionedWriter(config, clazz);
+        } catch (EtlException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new FactoryException(
+                    "Failed to create partitioned writer for target '" + defaultName(config.getTargetName())
+                            + "' using format '" + format + "'.",
+                    e
+            );
+        }
+    }
+
+    /**
+     * Whether the writer registered for the target format can stream wrapper/root documents record
+     * by record. Formats without a registered writer report {@code false}.
+     */
+    public boolean supportsWrapperStreaming(TargetConfig config) {
+        if (config == null) {
+            return false;
+        }
+        DynamicWriter writer = writers.get(config.getFormat());
+        return writer instanceof WrapperStreamingDynamicWriter;
+    }
+
+    /**
+     * Creates a writer that streams records into a wrapper/root target document, failing fast when
+     * the target format cannot stream wrapper output.
+     */
+    public ItemWriter<Object> createWrapperStreamingWriter(TargetConfig config,
+                                                           Class<?> wrapperClass,
+                                                           String wrapperFieldName) throws Exception {
+        if (config == null || wrapperClass == null || wrapperFieldName == null) {
+            throw new FactoryException("Target configuration, wrapper class, and wrapper field must not be null when creating a streaming wrapper writer.");
+        }
+        ModelFormat format = config.getFormat();
+        DynamicWriter writer = writers.get(format);
+        if (writer == null) {
+            logger.error("No writer found for format: {}", format);
+            throw new NoWriterFoundException("No writer found for format: " + format);
+        }
+        if (!(writer instanceof WrapperStreamingDynamicWriter streamingWriter)) {
+            throw new FactoryException("Target '" + defaultName(config.getTargetName())
+                    + "' uses format '" + format + "', which does not support streamed wrapper writes.");
+        }
+        try {
+            return streamingWriter.getWrapperStreamingWriter(config, wrapperClass, wrapperFieldName);
+        } catch (EtlException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new FactoryException(
+                    "Failed to create streaming wrapper writer for target '" + defaultName(config.getTargetName())
+                            + "' using format '" + format + "'.",
+                    e
+            );
+        }
+    }
+
   private String defaultName(String value) {
     return value == null || value.isBlank() ? "unnamed" : value.trim();
   }
@@ -0,0 +1,21 @@
+package com.etl.writer;
+
+import com.etl.config.target.TargetConfig;
+
+/**
+ * Writer capability for target formats that accept output from concurrent partition workers.
+ *
+ * <p>{@link DynamicWriterFactory} only builds partitioned steps for writers implementing this
+ * interface; every other format is rejected before any partition work starts.</p>
+ */
+public interface PartitionableDynamicWriter extends DynamicWriter {
+
+    /**
+     * Builds the partition-aware writer for a partitioned step.
+     *
+     * <p>If the returned object also implements
+     * {@link org.springframework.batch.core.StepExecutionListener}, the runtime registers it on
+     * the manager step so publication can wait for every partition to finish.</p>
+     */
+    PartitionedWriter getPartitionedWriter(TargetConfig config, Class<?> clazz) throws Exception;
+}
@@ -0,0 +1,20 @@
+package com.etl.writer;
+
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * Writer source for partitioned steps.
+ *
+ * <p>A partitioned step runs one worker per partition, and each worker asks for its own
+ * {@link ItemWriter}. Implementations decide how partition output is combined: relational targets
+ * hand out independent writers, while staged file targets write one part file per partition and
+ * publish the combined output once the whole step has completed.</p>
+ */
+@FunctionalInterface
+public interface PartitionedWriter {
+
+    /**
+     * Returns the writer used by the worker for the given zero-based partition index.
+     */
+    ItemWriter<Object> writerForPartition(int partitionIndex) throws Exception;
+}
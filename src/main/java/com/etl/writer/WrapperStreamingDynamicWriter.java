@@ -0,0 +1,23 @@
+package com.etl.writer;
+
+import com.etl.config.target.TargetConfig;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * Writer capability for target formats that can stream the records of a wrapper/root document one
+ * at a time instead of receiving the fully assembled wrapper object.
+ *
+ * <p>{@link DynamicWriterFactory} reports wrapper streaming as supported only for writers
+ * implementing this interface, so tasklet steps fall back to the assembled wrapper for every other
+ * format.</p>
+ */
+public interface WrapperStreamingDynamicWriter extends DynamicWriter {
+
+    /**
+     * Builds a writer that accepts individual records for a wrapper/root target document and
+     * writes the wrapper structure around them while streaming.
+     */
+    ItemWriter<Object> getWrapperStreamingWriter(TargetConfig config,
+                                                 Class<?> wrapperClass,
+                                                 String wrapperFieldName) throws Exception;
+}
@@ -4,7 +4,8 @@ import com.etl.config.FieldDefinition;
 import com.etl.config.target.CsvTargetConfig;
 import com.etl.config.target.TargetConfig;
 import com.etl.enums.ModelFormat;
-import com.etl.writer.DynamicWriter;
+import com.etl.writer.PartitionableDynamicWriter;
+import com.etl.writer.PartitionedWriter;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.file.transform.BeanWrapperFieldExtractor;
 import org.springframework.batch.item.file.transform.DelimitedLineAggregator;
@@ -22,7 +23,7 @@ import java.util.Arrays;
  * extraction order for the generated target model class.</p>
  */
 @Component("csvWriter")
-public class CsvDynamicWriter implements DynamicWriter {
+public class CsvDynamicWriter implements PartitionableDynamicWriter {
 
     @Override
     public ModelFormat getFormat() {
@@ -38,34 +39,53 @@ public class CsvDynamicWriter implements DynamicWriter {
 
         StagedFlatFileItemWriter<Object> writer = new StagedFlatFileItemWriter<>(path, csvConfig.isPackageAsZip());
 
+        writer.setLineAggregator(buildLineAggregator(csvConfig));
+        if (csvConfig.isIncludeHeader()) {
+            // Header publication is explicit so intermediate handoff CSV files can choose
+            // whether downstream steps should see a header row.
+            String header = headerLine(csvConfig);
+            writer.setHeaderCallback(headerWriter -> headerWriter.write(header));
+        }
+        writer.afterPropertiesSet();
+
+        return writer;
+    }
+
+    /**
+     * Builds the partition-aware CSV writer. Each partition writes its own staged part file and
+     * the header, when configured, is written once while the parts are merged.
+     */
+    @Override
+    public PartitionedWriter getPartitionedWriter(TargetConfig config, Class<?> clazz) {
+        CsvTargetConfig csvConfig = (CsvTargetConfig) config;
+        return new PartitionedCsvFileWriter(
+                resolveOutputPath(csvConfig),
+                csvConfig.isPackageAsZip(),
+                csvConfig.isIncludeHeader() ? headerLine(csvConfig) : null,
+                () -> buildLineAggregator(csvConfig));
+    }
+
+    private DelimitedLineAggregator<Object> buildLineAggregator(CsvTargetConfig csvConfig) {
         // Field extraction order comes from target-config.yaml so generated objects are
         // serialized according to the selected bundle contract rather than reflection order.
         BeanWrapperFieldExtractor<Object> extractor = new BeanWrapperFieldExtractor<>();
-        extractor.setNames(
-                csvConfig.getFields()
-                        .stream()
-                        .map(FieldDefinition::getName)
-                        .toArray(String[]::new)
-        );
-        String[] fieldNames = csvConfig.getFields()
-                .stream()
-                .map(FieldDefinition::getName)
-                .toArray(String[]::new);
-        String delimiter = csvConfig.getDelimiter();
+        extractor.setNames(fieldNames(csvConfig));
 
         DelimitedLineAggregator<Object> aggregator = new DelimitedLineAggregator<>();
-        aggregator.setDelimiter(delimiter);
+        aggregator.setDelimiter(csvConfig.getDelimiter());
         aggregator.setFieldExtractor(extractor);
+        return aggregator;
+    }
 
-        writer.setLineAggregator(aggregator);
-        if (csvConfig.isIncludeHeader()) {
-            // Header publication is explicit so intermediate handoff CSV files can choose
-            // whether downstream steps should see a header row.
-            writer.setHeaderCallback(headerWriter -> headerWriter.write(String.join(delimiter, Arrays.asList(fieldNames))));
-        }
-        writer.afterPropertiesSet();
+    private String headerLine(CsvTargetConfig csvConfig) {
+        return String.join(csvConfig.getDelimiter(), Arrays.asList(fieldNames(csvConfig)));
+    }
 
-        return writer;
+    private String[] fieldNames(CsvTargetConfig csvConfig) {
+        return csvConfig.getFields()
+                .stream()
+                .map(FieldDefinition::getName)
+                .toArray(String[]::new);
     }
 
     private String resolveOutputPath(CsvTargetConfig csvConfig) {
@@ -0,0 +1,200 @@
+package com.etl.writer.impl;
+
+import com.etl.exception.TargetWriteException;
+import com.etl.writer.PartitionedWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.file.FlatFileItemWriter;
+import org.springframework.batch.item.file.transform.LineAggregator;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Supplier;
+
+/**
+ * Staged CSV output for partitioned steps.
+ *
+ * <p>Each partition worker writes its rows to its own sibling part file
+ * ({@code <output>.p<index>.part}), so workers never share a stream. This object is also registered
+ * as a listener on the manager step: once every partition has finished and the manager step
+ * completed, the part files are concatenated in partition order behind the optional header into
+ * the normal {@link StagedFileLifecycle} staging file, which is then promoted atomically. A failed
+ * manager step deletes every part file and publishes nothing.</p>
+ *
+ * <p>Because partitions cover ordered source ranges, the merged output keeps the source row order
+ * of a sequential run.</p>
+ */
+public class PartitionedCsvFileWriter implements PartitionedWriter, StepExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionedCsvFileWriter.class);
+    private static final String PARTITION_FILE_MARKER = ".p";
+    private static final String PART_SUFFIX = ".part";
+
+    private final StagedFileLifecycle stagedFileLifecycle;
+    private final String header;
+    private final Supplier<LineAggregator<Object>> lineAggregatorSupplier;
+    private final Set<Integer> partitionIndexes = new ConcurrentSkipListSet<>();
+
+    /**
+     * @param header header line written once at the top of the merged output, or {@code null} for none
+     */
+    public PartitionedCsvFileWriter(String finalPath,
+                                    boolean packageAsZip,
+                                    String header,
+                                    Supplier<LineAggregator<Object>> lineAggregatorSupplier) {
+        this.stagedFileLifecycle = new StagedFileLifecycle(finalPath, packageAsZip, ".csv");
+        this.header = header;
+        this.lineAggregatorSupplier = lineAggregatorSupplier;
+    }
+
+    @Override
+    public ItemWriter<Object> writerForPartition(int partitionIndex) throws Exception {
+        partitionIndexes.add(partitionIndex);
+        PartitionPartWriter writer = new PartitionPartWriter(partitionPath(partitionIndex), stagedFileLifecycle.finalPath());
+        writer.setName("partitionedCsvWriter-" + partitionIndex);
+        writer.setLineAggregator(lineAggregatorSupplier.get());
+        writer.afterPropertiesSet();
+        return writer;
+    }
+
+    @Override
+    public void beforeStep(@NonNull StepExecution stepExecution) {
+        partitionIndexes.clear();
+        stagedFileLifecycle.cleanupOrphanedArtifactsAtStepStart();
+        try {
+            deletePartitionFiles();
+        } catch (IOException e) {
+            throw new TargetWriteException("Failed to clean stale partition output for '" + stagedFileLifecycle.finalPath() + "'.", e);
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(@NonNull StepExecution stepExecution) {
+        ExitStatus exitStatus = stepExecution.getExitStatus();
+        if (!ExitStatus.COMPLETED.getExitCode().equals(exitStatus.getExitCode())) {
+            deletePartitionFilesQuietly();
+            return stagedFileLifecycle.completeStep(exitStatus);
+        }
+        try {
+            mergePartitions();
+        } catch (IOException | RuntimeException e) {
+            deletePartitionFilesQuietly();
+            stagedFileLifecycle.completeStep(ExitStatus.FAILED);
+            throw new TargetWriteException("Failed to merge partitioned CSV output for '" + stagedFileLifecycle.finalPath() + "'.", e);
+        }
+        return stagedFileLifecycle.completeStep(exitStatus);
+    }
+
+    Path partitionPath(int partitionIndex) {
+        Path stagingPath = stagedFileLifecycle.stagingPath();
+        String stagingName = stagingPath.getFileName().toString();
+        String baseName = stagingName.substring(0, stagingName.length() - PART_SUFFIX.length());
+        return stagingPath.resolveSibling(baseName + PARTITION_FILE_MARKER + partitionIndex + PART_SUFFIX);
+    }
+
+    private void mergePartitions() throws IOException {
+        stagedFileLifecycle.prepareForWrite();
+        try (FileChannel output = FileChannel.open(stagedFileLifecycle.stagingPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            if (header != null) {
+                ByteBuffer headerBytes = ByteBuffer.wrap((header + FlatFileItemWriter.DEFAULT_LINE_SEPARATOR).getBytes(StandardCharsets.UTF_8));
+                while (headerBytes.hasRemaining()) {
+                    output.write(headerBytes);
+                }
+            }
+            for (int partitionIndex : partitionIndexes) {
+                Path partitionPath = partitionPath(partitionIndex);
+                if (!Files.exists(partitionPath)) {
+                    continue;
+                }
+                try (FileChannel input = FileChannel.open(partitionPath, StandardOpenOption.READ)) {
+                    long size = input.size();
+                    long position = 0;
+                    while (position < size) {
+                        position += input.transferTo(position, size - position, output);
+                    }
+                }
+            }
+        }
+        deletePartitionFiles();
+        logger.info("STAGED_FILE event=partitions_merged partitions={} finalPath={}",
+                partitionIndexes.size(),
+                stagedFileLifecycle.finalPath());
+        stagedFileLifecycle.streamClosed();
+    }
+
+    private void deletePartitionFiles() throws IOException {
+        Path stagingPath = stagedFileLifecycle.stagingPath();
+        Path directory = stagingPath.getParent();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return;
+        }
+        String stagingName = stagingPath.getFileName().toString();
+        String prefix = stagingName.substring(0, stagingName.length() - PART_SUFFIX.length()) + PARTITION_FILE_MARKER;
+        try (DirectoryStream<Path> candidates = Files.newDirectoryStream(directory, candidate -> isPartitionFile(candidate, prefix))) {
+            for (Path candidate : candidates) {
+                Files.deleteIfExists(candidate);
+            }
+        }
+    }
+
+    private static boolean isPartitionFile(Path candidate, String prefix) {
+        String name = candidate.getFileName().toString();
+        // The staging file itself also starts with "<base>.p", so require room for an index.
+        if (name.length() <= prefix.length() + PART_SUFFIX.length()
+                || !name.startsWith(prefix)
+                || !name.endsWith(PART_SUFFIX)) {
+            return false;
+        }
+        String index = name.substring(prefix.length(), name.length() - PART_SUFFIX.length());
+        return !index.isEmpty() && index.chars().allMatch(Character::isDigit) && Files.isRegularFile(candidate);
+    }
+
+    private void deletePartitionFilesQuietly() {
+        try {
+            deletePartitionFiles();
+        } catch (IOException e) {
+            logger.warn("Failed to clean partition output for '{}' after step did not complete successfully.", stagedFileLifecycle.finalPath(), e);
+        }
+    }
+
+    /**
+     * Per-partition flat-file writer. Write failures are categorized like the staged CSV writer so
+     * partitioned and sequential steps report target failures the same way.
+     */
+    private static final class PartitionPartWriter extends FlatFileItemWriter<Object> {
+
+        private final Path finalPath;
+
+        private PartitionPartWriter(Path partitionPath, Path finalPath) {
+            this.finalPath = finalPath;
+            setResource(new FileSystemResource(partitionPath));
+            setShouldDeleteIfExists(true);
+            setAppendAllowed(false);
+        }
+
+        @Override
+        public void write(@NonNull Chunk<?> chunk) throws Exception {
+            try {
+                super.write(chunk);
+            } catch (Exception e) {
+                throw new TargetWriteException("Failed to write partitioned CSV output for '" + finalPath + "'.", e);
+            }
+        }
+    }
+}
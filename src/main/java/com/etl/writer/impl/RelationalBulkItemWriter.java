@@ -0,0 +1,415 @@
+package com.etl.writer.impl;
+
+import com.etl.common.exception.ReflectionAccessException;
+import com.etl.common.util.FieldAccessors;
+import com.etl.config.FieldDefinition;
+import com.etl.relational.dialect.DatabaseDialect;
+import com.etl.relational.jdbc.RelationalColumnType;
+import com.microsoft.sqlserver.jdbc.ISQLServerBulkData;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopy;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopyOptions;
+import com.microsoft.sqlserver.jdbc.SQLServerConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Set-based relational writer for {@code BULK}, {@code UPSERT} and {@code MERGE} targets.
+ *
+ * <p>When the dialect supports a bulk-load API (SQL Server), the chunk is streamed through
+ * {@link SQLServerBulkCopy} on a connection borrowed from the target's pool, using the target
+ * {@code batchSize} and {@code tableLock} options. Other dialects fall back to multi-row
+ * {@code INSERT ... VALUES (...), (...)} statements sized by
+ * {@link DatabaseDialect#maxRowsPerInsert(int)} and sent as one JDBC batch.</p>
+ *
+ * <p>That connection is not bound to the Spring Batch chunk transaction: plain loads run in its
+ * auto-commit mode, so a chunk retried after a failure may find rows it already inserted.</p>
+ *
+ * <p>Keyed writes load the chunk the same way into a session temp table instead of the target, then
+ * apply it with one dialect-generated {@code MERGE}. Clearing the staging table, the load and the
+ * MERGE run in one local transaction on the borrowed connection, which is rolled back on any failure;
+ * the staging table is emptied again afterwards so a failed chunk never leaks rows into the next one
+ * on the same pooled session. Rows repeating a key within one chunk are collapsed to the last one
+ * first, since a MERGE may not touch the same target row twice.</p>
+ */
+final class RelationalBulkItemWriter implements ItemWriter<Object> {
+
+    private static final Logger log = LoggerFactory.getLogger(RelationalBulkItemWriter.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect dialect;
+    private final String qualifiedTable;
+    private final List<String> columns;
+    private final List<FieldAccessors.FieldPath> accessors;
+    private final RelationalColumnType[] types;
+    private final int batchSize;
+    private final boolean tableLock;
+    private final int[] keyIndexes;
+    private final String stagingTable;
+    private final String createStagingSql;
+    private final String mergeSql;
+
+    RelationalBulkItemWriter(DataSource dataSource,
+                             DatabaseDialect dialect,
+                             String qualifiedTable,
+                             List<? extends FieldDefinition> fields,
+                             int batchSize,
+                             boolean tableLock) {
+        this(dataSource, dialect, qualifiedTable, fields, batchSize, tableLock, List.of(), false);
+    }
+
+    /**
+     * Creates a writer that stages each chunk and merges it on {@code keyColumns}; an empty key list
+     * loads straight into the target.
+     */
+    RelationalBulkItemWriter(DataSource dataSource,
+                             DatabaseDialect dialect,
+                             String qualifiedTable,
+                             List<? extends FieldDefinition> fields,
+                             int batchSize,
+                             boolean tableLock,
+                             List<String> keyColumns,
+                             boolean updateOnlyChanged) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.dialect = dialect;
+        this.qualifiedTable = qualifiedTable;
+        this.columns = fields.stream().map(FieldDefinition::getName).toList();
+        this.accessors = this.columns.stream().map(FieldAccessors::path).toList();
+        this.types = fields.stream().map(field -> RelationalColumnType.of(field.getType())).toArray(RelationalColumnType[]::new);
+        this.batchSize = batchSize;
+        this.tableLock = tableLock;
+        this.keyIndexes = keyColumns.stream().mapToInt(this.columns::indexOf).toArray();
+        if (keyColumns.isEmpty()) {
+            this.stagingTable = null;
+            this.createStagingSql = null;
+            this.mergeSql = null;
+        } else {
+            this.stagingTable = dialect.stagingTableName(qualifiedTable, this.columns);
+            this.createStagingSql = dialect.createStagingTableSql(stagingTable, qualifiedTable, this.columns);
+            this.mergeSql = dialect.mergeSql(qualifiedTable, stagingTable, this.columns, keyColumns, updateOnlyChanged);
+        }
+    }
+
+    @Override
+    public void write(Chunk<?> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Object[][] rows = extractRows(chunk);
+        long startNanos = System.nanoTime();
+        if (mergeSql == null) {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                load(connection, qualifiedTable, rows);
+                return null;
+            });
+            if (log.isDebugEnabled()) {
+                log.debug("RELATIONAL_WRITE event=bulk_chunk_written table={} rows={} path={} elapsedMs={}",
+                        qualifiedTable, rows.length, loadPath(), (System.nanoTime() - startNanos) / 1_000_000);
+            }
+            return;
+        }
+
+        Object[][] stagedRows = lastRowPerKey(rows);
+        Integer merged = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            boolean originalAutoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(createStagingSql);
+                // Rows left behind by an earlier chunk on this pooled session must not be merged again.
+                statement.execute(dialect.clearStagingTableSql(stagingTable));
+                load(connection, stagingTable, stagedRows);
+                int affected = statement.executeUpdate(mergeSql);
+                statement.execute(dialect.clearStagingTableSql(stagingTable));
+                connection.commit();
+                return affected;
+            } catch (SQLException ex) {
+                connection.rollback();
+                throw ex;
+            } catch (RuntimeException ex) {
+                connection.rollback();
+                throw ex;
+            } finally {
+                clearStagingTable(connection);
+                connection.setAutoCommit(originalAutoCommit);
+            }
+        });
+        if (log.isDebugEnabled()) {
+            log.debug("RELATIONAL_WRITE event=merge_chunk_written table={} rows={} staged={} merged={} path={} elapsedMs={}",
+                    qualifiedTable, rows.length, stagedRows.length, merged, loadPath(),
+                    (System.nanoTime() - startNanos) / 1_000_000);
+        }
+    }
+
+    /**
+     * Empties the staging table in its own transaction once the chunk has committed or rolled back,
+     * so a failed chunk cannot leave rows for the next one on the same session. Failures are only
+     * logged because they must not mask the chunk's own outcome; the next chunk clears again first.
+     */
+    private void clearStagingTable(Connection connection) {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(createStagingSql);
+            statement.execute(dialect.clearStagingTableSql(stagingTable));
+            connection.commit();
+        } catch (SQLException ex) {
+            log.warn("RELATIONAL_WRITE event=staging_clear_failed table={} staging={} reason={}",
+                    qualifiedTable, stagingTable, ex.getMessage());
+            try {
+                connection.rollback();
+            } catch (SQLException rollbackEx) {
+                ex.addSuppressed(rollbackEx);
+            }
+        }
+    }
+
+    private void load(Connection connection, String table, Object[][] rows) throws SQLException {
+        if (dialect.supportsBulkCopy()) {
+            bulkCopy(connection, table, rows);
+        } else {
+            multiRowInsert(connection, table, rows);
+        }
+    }
+
+    private String loadPath() {
+        return dialect.supportsBulkCopy() ? "bulk_copy" : "multi_row_insert";
+    }
+
+    private Object[][] lastRowPerKey(Object[][] rows) {
+        Map<List<Object>, Object[]> byKey = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            Object[] key = new Object[keyIndexes.length];
+            for (int i = 0; i < keyIndexes.length; i++) {
+                key[i] = row[keyIndexes[i]];
+            }
+            byKey.put(Arrays.asList(key), row);
+        }
+        return byKey.size() == rows.length ? rows : byKey.values().toArray(Object[][]::new);
+    }
+
+    private Object[][] extractRows(Chunk<?> chunk) {
+        Object[][] rows = new Object[chunk.size()][];
+        int index = 0;
+        for (Object item : chunk) {
+            Object[] row = new Object[accessors.size()];
+            for (int column = 0; column < row.length; column++) {
+                try {
+                    row[column] = accessors.get(column).get(item);
+                } catch (ReflectiveOperationException e) {
+                    throw new ReflectionAccessException("Failed to get field value: " + columns.get(column), e);
+                }
+            }
+            rows[index++] = row;
+        }
+        return rows;
+    }
+
+    private void bulkCopy(Connection connection, String table, Object[][] rows) throws SQLException {
+        SQLServerBulkCopyOptions options = new SQLServerBulkCopyOptions();
+        options.setBatchSize(batchSize);
+        options.setTableLock(tableLock);
+        try (SQLServerBulkCopy bulkCopy = new SQLServerBulkCopy(connection.unwrap(SQLServerConnection.class))) {
+            bulkCopy.setBulkCopyOptions(options);
+            bulkCopy.setDestinationTableName(table);
+            for (int column = 0; column < columns.size(); column++) {
+                bulkCopy.addColumnMapping(column + 1, columns.get(column));
+            }
+            bulkCopy.writeToServer(new ChunkBulkData(columns, rows));
+        }
+    }
+
+    private void multiRowInsert(Connection connection, String table, Object[][] rows) throws SQLException {
+        int rowsPerStatement = Math.max(1, Math.min(batchSize, dialect.maxRowsPerInsert(columns.size())));
+        int fullStatements = rows.length / rowsPerStatement;
+        if (fullStatements > 0) {
+            try (PreparedStatement statement = connection.prepareStatement(insertSql(table, rowsPerStatement))) {
+                for (int group = 0; group < fullStatements; group++) {
+                    bind(statement, rows, group * rowsPerStatement, rowsPerStatement);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+        int remainder = rows.length - fullStatements * rowsPerStatement;
+        if (remainder > 0) {
+            try (PreparedStatement statement = connection.prepareStatement(insertSql(table, remainder))) {
+                bind(statement, rows, fullStatements * rowsPerStatement, remainder);
+                statement.executeUpdate();
+            }
+        }
+    }
+
+    private void bind(PreparedStatement statement, Object[][] rows, int from, int count) throws SQLException {
+        int parameter = 1;
+        for (int row = from; row < from + count; row++) {
+            Object[] values = rows[row];
+            for (int column = 0; column < values.length; column++) {
+                types[column].bind(statement, parameter++, values[column]);
+            }
+        }
+    }
+
+    private String insertSql(String table, int rowCount) {
+        String columnList = columns.stream().map(dialect::quoteIdentifier).collect(Collectors.joining(", "));
+        String rowPlaceholders = IntStream.range(0, columns.size()).mapToObj(i -> "?")
+                .collect(Collectors.joining(", ", "(", ")"));
+        return "INSERT INTO " + table + " (" + columnList + ") VALUES "
+                + IntStream.range(0, rowCount).mapToObj(i -> rowPlaceholders).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Presents one extracted chunk to {@link SQLServerBulkCopy}. Column metadata is taken from the
+     * first non-null value in each column so the driver converts to the destination column type;
+     * columns without a recognized Java type are sent as {@code NVARCHAR} text.
+     */
+    private static final class ChunkBulkData implements ISQLServerBulkData {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<String> columns;
+        private final transient Object[][] rows;
+        private final int[] types;
+        private final int[] precisions;
+        private final int[] scales;
+        private int cursor = -1;
+
+        private ChunkBulkData(List<String> columns, Object[][] rows) {
+            this.columns = columns;
+            this.rows = rows;
+            this.types = new int[columns.size()];
+            this.precisions = new int[columns.size()];
+            this.scales = new int[columns.size()];
+            for (int column = 0; column < types.length; column++) {
+                describe(column);
+            }
+        }
+
+        private void describe(int column) {
+            Object sample = null;
+            int maxLength = 1;
+            int maxScale = 0;
+            for (Object[] row : rows) {
+                Object value = row[column];
+                if (value == null) {
+                    continue;
+                }
+                if (sample == null) {
+                    sample = value;
+                }
+                if (value instanceof BigDecimal decimal) {
+                    maxScale = Math.max(maxScale, Math.max(0, decimal.scale()));
+                }
+                maxLength = Math.max(maxLength, String.valueOf(value).length());
+            }
+            types[column] = sqlType(sample);
+            switch (types[column]) {
+                case Types.DECIMAL -> {
+                    precisions[column] = 38;
+                    scales[column] = Math.min(maxScale, 38);
+                }
+                case Types.NVARCHAR -> precisions[column] = maxLength;
+                default -> precisions[column] = 0;
+            }
+        }
+
+        private static int sqlType(Object sample) {
+            if (sample instanceof Integer || sample instanceof Short || sample instanceof Byte) {
+                return Types.INTEGER;
+            }
+            if (sample instanceof Long) {
+                return Types.BIGINT;
+            }
+            if (sample instanceof Double) {
+                return Types.DOUBLE;
+            }
+            if (sample instanceof Float) {
+                return Types.REAL;
+            }
+            if (sample instanceof Boolean) {
+                return Types.BIT;
+            }
+            if (sample instanceof BigDecimal) {
+                return Types.DECIMAL;
+            }
+            if (sample instanceof LocalDate) {
+                return Types.DATE;
+            }
+            if (sample instanceof LocalDateTime) {
+                return Types.TIMESTAMP;
+            }
+            return Types.NVARCHAR;
+        }
+
+        @Override
+        public Set<Integer> getColumnOrdinals() {
+            Set<Integer> ordinals = new LinkedHashSet<>();
+            for (int column = 1; column <= columns.size(); column++) {
+                ordinals.add(column);
+            }
+            return ordinals;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return columns.get(column - 1);
+        }
+
+        @Override
+        public int getColumnType(int column) {
+            return types[column - 1];
+        }
+
+        @Override
+        public int getPrecision(int column) {
+            return precisions[column - 1];
+        }
+
+        @Override
+        public int getScale(int column) {
+            return scales[column - 1];
+        }
+
+        @Override
+        public Object[] getRowData() {
+            Object[] source = rows[cursor];
+            Object[] values = new Object[source.length];
+            for (int column = 0; column < source.length; column++) {
+                Object value = source[column];
+                if (value == null) {
+                    continue;
+                }
+                values[column] = switch (types[column]) {
+                    case Types.DATE -> java.sql.Date.valueOf((LocalDate) value);
+                    case Types.TIMESTAMP -> java.sql.Timestamp.valueOf((LocalDateTime) value);
+                    case Types.NVARCHAR -> String.valueOf(value);
+                    default -> value;
+                };
+            }
+            return values;
+        }
+
+        @Override
+        public boolean next() {
+            return ++cursor < rows.length;
+        }
+    }
+}
@@ -1,20 +1,21 @@
 package com.etl.writer.impl;
 
-import com.etl.common.util.ReflectionUtils;
 import com.etl.config.FieldDefinition;
 import com.etl.config.relational.RelationalConnectionConfig;
 import com.etl.config.relational.RelationalDataSourceFactory;
 import com.etl.config.target.RelationalTargetConfig;
 import com.etl.config.target.TargetConfig;
+import com.etl.config.target.WriteMode;
 import com.etl.exception.RelationalException;
 import com.etl.enums.ModelFormat;
 import com.etl.relational.dialect.DatabaseDialect;
 import com.etl.relational.dialect.DatabaseDialectResolver;
-import com.etl.writer.DynamicWriter;
+import com.etl.relational.jdbc.RelationalItemPreparedStatementSetter;
+import com.etl.writer.PartitionableDynamicWriter;
+import com.etl.writer.PartitionedWriter;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JdbcBatchItemWriter;
 import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.stereotype.Component;
 
 import javax.sql.DataSource;
@@ -25,10 +26,11 @@ import java.util.stream.Collectors;
  *
  * <p>This writer turns the selected relational target config into a
  * {@link JdbcBatchItemWriter}. It owns datasource creation, dialect-aware insert SQL,
- * and parameter binding from generated target model fields into named JDBC parameters.</p>
+ * and typed positional parameter binding from generated target model fields.
+ * {@code BULK}, {@code UPSERT} and {@code MERGE} targets get a {@link RelationalBulkItemWriter} instead.</p>
  */
 @Component("relationalWriter")
-public class RelationalDynamicWriter implements DynamicWriter {
+public class RelationalDynamicWriter implements PartitionableDynamicWriter {
 
     @Override
     public ModelFormat getFormat() {
@@ -47,18 +49,20 @@ public class RelationalDynamicWriter implements DynamicWriter {
             DatabaseDialect dialect = DatabaseDialectResolver.resolve(connection.getResolvedVendor());
             DataSource dataSource = RelationalDataSourceFactory.buildDataSource(connection);
 
+            WriteMode writeMode = relationalConfig.getWriteMode();
+            if (writeMode == WriteMode.BULK || writeMode.isKeyed()) {
+                return new RelationalBulkItemWriter(dataSource, dialect, dialect.qualifyTableName(relationalConfig),
+                        relationalConfig.getFields(),
+                        relationalConfig.getBatchSize(), relationalConfig.isTableLock(),
+                        relationalConfig.getKeyColumns(), writeMode == WriteMode.MERGE);
+            }
+
+            // Target field names act as both column names and generated Java property names; each
+            // one binds to its positional placeholder through a typed setter.
             JdbcBatchItemWriter<Object> writer = new JdbcBatchItemWriterBuilder<>()
                     .dataSource(dataSource)
                     .sql(buildInsertSql(relationalConfig, dialect))
-                    .itemSqlParameterSourceProvider(item -> {
-                        MapSqlParameterSource params = new MapSqlParameterSource();
-                        // Parameter names are driven by target field names, which act as both
-                        // JDBC placeholder names and generated Java property names.
-                        for (FieldDefinition field : relationalConfig.getFields()) {
-                            params.addValue(field.getName(), ReflectionUtils.getFieldValue(item, field.getName()));
-                        }
-                        return params;
-                    })
+                    .itemPreparedStatementSetter(new RelationalItemPreparedStatementSetter(relationalConfig.getFields()))
                     .assertUpdates(false)
                     .build();
             writer.afterPropertiesSet();
@@ -73,6 +77,14 @@ public class RelationalDynamicWriter implements DynamicWriter {
         }
     }
 
+    /**
+     * Each partition gets its own batch writer. Inserts commit with their partition's chunks, so
+     * relational targets need no step-level merge.
+     */
+    @Override
+    public PartitionedWriter getPartitionedWriter(TargetConfig config, Class<?> clazz) {
+        return partitionIndex -> getWriter(config, clazz);
+    }
 
     /**
      * Builds the dialect-aware INSERT statement for the relational target contract.
@@ -84,8 +96,7 @@ public class RelationalDynamicWriter implements DynamicWriter {
                 .collect(Collectors.joining(", "));
 
         String values = config.getFields().stream()
-                .map(FieldDefinition::getName)
-                .map(name -> ":" + name)
+                .map(field -> "?")
                 .collect(Collectors.joining(", "));
 
         return "INSERT INTO " + dialect.qualifyTableName(config) + " (" + columns + ") VALUES (" + values + ")";
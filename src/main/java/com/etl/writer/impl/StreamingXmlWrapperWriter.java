@@ -0,0 +1,294 @@
+package com.etl.writer.impl;
+
+import com.etl.exception.TargetWriteException;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlNsForm;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlSchema;
+import jakarta.xml.bind.annotation.XmlType;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.lang.NonNull;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.beans.Introspector;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+
+/**
+ * XML writer that produces a wrapper/root document by streaming its records.
+ *
+ * <p>{@link SingleObjectXmlWriter} needs the complete wrapper object graph in memory before it can
+ * marshal anything. This writer reads the document shape from the wrapper class instead: the root
+ * element comes from its {@link XmlRootElement} and the repeated record element from the
+ * {@link XmlElement} on its record list field. It writes the XML declaration and root start tag
+ * once, then marshals every record as a JAXB fragment through a StAX writer, so memory stays
+ * constant regardless of how many records the step produces.</p>
+ *
+ * <p>Element names and namespaces follow the JAXB defaulting rules, including a package-level
+ * {@link XmlSchema} namespace, so the document has the same elements, namespaces and content as
+ * marshalling the assembled wrapper. Without namespaces the bytes are identical too; with
+ * namespaces the prefix declarations may be placed differently.</p>
+ *
+ * <p>Records may arrive across many {@link #write(Chunk)} calls. A wrapper instance passed as an
+ * item is unrolled into its records, which keeps callers that still assemble wrappers working.
+ * Output is staged through {@link StagedFileLifecycle} and published only after the stream closes
+ * and the surrounding step completes; a step that completes without records removes stale
+ * published output, matching the single-object writer.</p>
+ */
+public class StreamingXmlWrapperWriter implements ItemWriter<Object>, ItemStream, StepExecutionListener {
+
+    private static final String JAXB_DEFAULT = "##default";
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+
+    private final Class<?> wrapperClass;
+    private final Field recordsField;
+    private final Class<?> recordClass;
+    private final QName rootName;
+    private final QName recordName;
+    private final Marshaller recordMarshaller;
+    private final StagedFileLifecycle stagedFileLifecycle;
+    private OutputStream outputStream;
+    private XMLStreamWriter xmlWriter;
+    private boolean prepared;
+    private boolean writeInvoked;
+
+    public StreamingXmlWrapperWriter(Class<?> wrapperClass, String wrapperFieldName, String filePath, boolean packageAsZip) {
+        this.wrapperClass = wrapperClass;
+        try {
+            this.recordsField = wrapperClass.getDeclaredField(wrapperFieldName);
+            this.recordsField.setAccessible(true);
+            this.recordClass = recordClass(recordsField);
+            this.recordMarshaller = JAXBContext.newInstance(recordClass).createMarshaller();
+            this.recordMarshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+            this.recordMarshaller.setProperty(Marshaller.JAXB_ENCODING, StandardCharsets.UTF_8.name());
+        } catch (NoSuchFieldException | JAXBException e) {
+            throw new TargetWriteException("Failed to initialize streaming XML writer for wrapper '"
+                    + wrapperClass.getName() + "' and record field '" + wrapperFieldName + "'.", e);
+        }
+        this.rootName = rootName(wrapperClass);
+        this.recordName = recordName(recordsField);
+        this.stagedFileLifecycle = new StagedFileLifecycle(filePath, packageAsZip, ".xml");
+    }
+
+    /**
+     * Streams every record in the chunk below the root element, starting the document on first use.
+     */
+    @Override
+    public void write(@NonNull Chunk<?> chunk) throws Exception {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            startDocumentIfNeeded();
+            writeInvoked = true;
+            for (Object item : chunk) {
+                if (wrapperClass.isInstance(item)) {
+                    Object records = recordsField.get(item);
+                    if (records instanceof Collection<?> collection) {
+                        for (Object record : collection) {
+                            writeRecord(record);
+                        }
+                    }
+                } else {
+                    writeRecord(item);
+                }
+            }
+        } catch (Exception e) {
+            TargetWriteException failure = new TargetWriteException(
+                    "Failed to write staged XML output for '" + stagedFileLifecycle.finalPath() + "'.",
+                    e);
+            closeStreamsQuietly(failure);
+            attachCleanupFailure(failure);
+            throw failure;
+        }
+    }
+
+    @Override
+    public void open(@NonNull ExecutionContext executionContext) {
+        prepareIfNeeded();
+    }
+
+    @Override
+    public void update(@NonNull ExecutionContext executionContext) {
+        // no-op
+    }
+
+    /**
+     * Ends the root element and closes the staged file, then signals the staged publish handshake.
+     */
+    @Override
+    public void close() {
+        if (xmlWriter != null) {
+            try {
+                xmlWriter.writeEndElement();
+                xmlWriter.writeEndDocument();
+                xmlWriter.flush();
+                xmlWriter.close();
+                outputStream.close();
+            } catch (XMLStreamException | IOException e) {
+                TargetWriteException failure = new TargetWriteException(
+                        "Failed to finish staged XML output for '" + stagedFileLifecycle.finalPath() + "'.",
+                        e);
+                attachCleanupFailure(failure);
+                throw failure;
+            } finally {
+                xmlWriter = null;
+                outputStream = null;
+            }
+        }
+        stagedFileLifecycle.streamClosed();
+    }
+
+    @Override
+    public void beforeStep(@NonNull StepExecution stepExecution) {
+        prepared = false;
+        writeInvoked = false;
+        stagedFileLifecycle.cleanupOrphanedArtifactsAtStepStart();
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        ExitStatus exitStatus = stepExecution.getExitStatus();
+        if (ExitStatus.COMPLETED.getExitCode().equals(exitStatus.getExitCode()) && !writeInvoked) {
+            stagedFileLifecycle.deletePublishedOutputIfPresent();
+            return exitStatus;
+        }
+        return stagedFileLifecycle.completeStep(exitStatus);
+    }
+
+    private void startDocumentIfNeeded() throws IOException, XMLStreamException {
+        if (xmlWriter != null) {
+            return;
+        }
+        prepareIfNeeded();
+        outputStream = new BufferedOutputStream(Files.newOutputStream(
+                stagedFileLifecycle.stagingPath(),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE));
+        // JAXB marshals a whole wrapper with a standalone declaration; keep the streamed output identical.
+        outputStream.write(XML_DECLARATION.getBytes(StandardCharsets.UTF_8));
+        xmlWriter = XMLOutputFactory.newInstance().createXMLStreamWriter(outputStream, StandardCharsets.UTF_8.name());
+        if (rootName.getNamespaceURI().isEmpty()) {
+            xmlWriter.writeStartElement(rootName.getLocalPart());
+        } else {
+            xmlWriter.writeStartElement("", rootName.getLocalPart(), rootName.getNamespaceURI());
+            xmlWriter.writeDefaultNamespace(rootName.getNamespaceURI());
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void writeRecord(Object record) throws JAXBException {
+        if (record == null) {
+            return;
+        }
+        recordMarshaller.marshal(new JAXBElement(recordName, recordClass, record), xmlWriter);
+    }
+
+    private void prepareIfNeeded() {
+        if (prepared) {
+            return;
+        }
+        stagedFileLifecycle.prepareForWrite();
+        prepared = true;
+    }
+
+    private void closeStreamsQuietly(TargetWriteException failure) {
+        try {
+            if (xmlWriter != null) {
+                xmlWriter.close();
+            }
+            if (outputStream != null) {
+                outputStream.close();
+            }
+        } catch (XMLStreamException | IOException closeFailure) {
+            failure.addSuppressed(closeFailure);
+        } finally {
+            xmlWriter = null;
+            outputStream = null;
+        }
+    }
+
+    private void attachCleanupFailure(TargetWriteException failure) {
+        try {
+            Files.deleteIfExists(stagedFileLifecycle.stagingPath());
+        } catch (IOException cleanupFailure) {
+            failure.addSuppressed(new TargetWriteException(
+                    "Failed to clean staged XML writer state for '" + stagedFileLifecycle.finalPath() + "'.",
+                    cleanupFailure));
+        }
+    }
+
+    private static Class<?> recordClass(Field recordsField) {
+        Type type = recordsField.getGenericType();
+        if (type instanceof ParameterizedType parameterized
+                && parameterized.getActualTypeArguments().length == 1
+                && parameterized.getActualTypeArguments()[0] instanceof Class<?> elementClass) {
+            return elementClass;
+        }
+        throw new TargetWriteException("Wrapper field '" + recordsField.getName() + "' on '"
+                + recordsField.getDeclaringClass().getName() + "' must be a typed collection of records.");
+    }
+
+    private static QName rootName(Class<?> wrapperClass) {
+        XmlRootElement rootElement = wrapperClass.getAnnotation(XmlRootElement.class);
+        String name = rootElement == null || JAXB_DEFAULT.equals(rootElement.name())
+                ? Introspector.decapitalize(wrapperClass.getSimpleName())
+                : rootElement.name();
+        String namespace = rootElement == null || JAXB_DEFAULT.equals(rootElement.namespace())
+                ? packageNamespace(wrapperClass)
+                : rootElement.namespace();
+        return new QName(namespace, name);
+    }
+
+    private static QName recordName(Field recordsField) {
+        XmlElement element = recordsField.getAnnotation(XmlElement.class);
+        String name = element == null || JAXB_DEFAULT.equals(element.name()) ? recordsField.getName() : element.name();
+        String namespace = element == null || JAXB_DEFAULT.equals(element.namespace())
+                ? defaultLocalElementNamespace(recordsField.getDeclaringClass())
+                : element.namespace();
+        return new QName(namespace, name);
+    }
+
+    /**
+     * Namespace a root element takes when its annotation leaves it defaulted.
+     */
+    private static String packageNamespace(Class<?> type) {
+        XmlSchema schema = type.getPackage() == null ? null : type.getPackage().getAnnotation(XmlSchema.class);
+        return schema == null ? "" : schema.namespace();
+    }
+
+    /**
+     * Namespace a defaulted property element takes: unqualified unless the package qualifies local
+     * elements, in which case it is the enclosing type's namespace.
+     */
+    private static String defaultLocalElementNamespace(Class<?> enclosingType) {
+        XmlSchema schema = enclosingType.getPackage() == null ? null : enclosingType.getPackage().getAnnotation(XmlSchema.class);
+        if (schema == null || schema.elementFormDefault() != XmlNsForm.QUALIFIED) {
+            return "";
+        }
+        XmlType type = enclosingType.getAnnotation(XmlType.class);
+        return type == null || JAXB_DEFAULT.equals(type.namespace()) ? schema.namespace() : type.namespace();
+    }
+}
@@ -6,7 +6,7 @@ import com.etl.config.target.TargetConfig;
 import com.etl.config.target.XmlTargetConfig;
 import com.etl.enums.ModelFormat;
 import com.etl.exception.writer.MarshallerException;
-import com.etl.writer.DynamicWriter;
+import com.etl.writer.WrapperStreamingDynamicWriter;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 import org.springframework.stereotype.Component;
@@ -17,7 +17,7 @@ import java.nio.file.Path;
 /**
  * XML writer adapter for the active runtime writer factory.
  *
- * <p>This class chooses between the two supported XML write modes used by the
+ * <p>This class chooses between the supported XML write modes used by the
  * product today:</p>
  * <ul>
  *   <li><strong>Chunk-oriented record streaming</strong> via {@link StagedStaxEventItemWriter}
@@ -25,6 +25,8 @@ import java.nio.file.Path;
  *   <li><strong>Single-object wrapper writing</strong> via {@link SingleObjectXmlWriter}
  *   when the runtime is writing a wrapper/root object that already contains the
  *   collection of XML records.</li>
+ *   <li><strong>Streamed wrapper writing</strong> via {@link StreamingXmlWrapperWriter}
+ *   when a tasklet step produces a wrapper/root document record by record.</li>
  * </ul>
  *
  * <p>The selection must remain compatible with the generated-model naming bridge.
@@ -33,7 +35,7 @@ import java.nio.file.Path;
  * bridge-era flows that provide an equivalent record type from a different package.</p>
  */
 @Component("xmlWriter")
-public class XmlDynamicWriter implements DynamicWriter {
+public class XmlDynamicWriter implements WrapperStreamingDynamicWriter {
 
 	@Override
 	public ModelFormat getFormat() {
@@ -70,6 +72,24 @@ public class XmlDynamicWriter implements DynamicWriter {
 		}
 	}
 
+	/**
+	 * Builds the record-streaming writer for wrapper/root XML output.
+	 *
+	 * <p>Tasklet steps use this instead of assembling one wrapper object in memory; the document
+	 * shape still comes from the wrapper class, so the published XML is unchanged.</p>
+	 */
+	@Override
+	public ItemWriter<Object> getWrapperStreamingWriter(TargetConfig config,
+	                                                    Class<?> wrapperClass,
+	                                                    String wrapperFieldName) {
+		XmlTargetConfig xmlConfig = (XmlTargetConfig) config;
+		return new StreamingXmlWrapperWriter(
+				wrapperClass,
+				wrapperFieldName,
+				resolveOutputPath(xmlConfig, config),
+				xmlConfig.isPackageAsZip());
+	}
+
 	/**
 	 * Builds a JAXB marshaller for the concrete runtime class that will be written.
 	 *
@@ -0,0 +1,100 @@
+package com.etl.common.util;
+
+import com.etl.common.exception.ReflectionAccessException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FieldAccessorsTest {
+
+    @Test
+    void readsAndWritesNestedPathsCreatingMissingIntermediates() {
+        Holder holder = new Holder();
+
+        ReflectionUtils.setFieldValue(holder, "address.city", "Chennai");
+        ReflectionUtils.setFieldValue(holder, "count", 7);
+
+        assertEquals("Chennai", holder.address.city);
+        assertEquals("Chennai", ReflectionUtils.getFieldValue(holder, "address.city"));
+        assertEquals(7, ReflectionUtils.getFieldValue(holder, "count"));
+    }
+
+    @Test
+    void stopsAtNullIntermediateOnRead() {
+        assertNull(ReflectionUtils.getFieldValue(new Holder(), "address.city"));
+    }
+
+    @Test
+    void resolvesFieldsAgainstEachRuntimeClassSeparately() {
+        Holder holder = new Holder();
+        holder.name = "holder";
+        Other other = new Other();
+        other.name = "other";
+
+        assertEquals("holder", ReflectionUtils.getFieldValue(holder, "name"));
+        assertEquals("other", ReflectionUtils.getFieldValue(other, "name"));
+        assertEquals("holder", ReflectionUtils.getFieldValue(holder, "name"));
+    }
+
+    @Test
+    void readsMapRecordsByDirectKeyThenNestedMaps() {
+        Map<String, Object> record = Map.of(
+                "a.b", "direct",
+                "nested", Map.of("value", "inner")
+        );
+
+        assertEquals("direct", ReflectionUtils.getFieldValue(record, "a.b"));
+        assertEquals("inner", ReflectionUtils.getFieldValue(record, "nested.value"));
+        assertNull(ReflectionUtils.getFieldValue(record, "missing.value"));
+    }
+
+    @Test
+    void reusesCompiledPathInstances() {
+        assertSame(FieldAccessors.path("address.city"), FieldAccessors.path("address.city"));
+    }
+
+    @Test
+    void wrapsMissingFieldsAndTypeMismatchesInReflectionAccessException() {
+        Holder holder = new Holder();
+
+        ReflectionAccessException missing = assertThrows(ReflectionAccessException.class,
+                () -> ReflectionUtils.getFieldValue(holder, "unknown"));
+        assertEquals("Failed to get field value: unknown", missing.getMessage());
+        assertThrows(ReflectionAccessException.class, () -> ReflectionUtils.setFieldValue(holder, "count", "seven"));
+        assertThrows(ReflectionAccessException.class, () -> ReflectionUtils.setFieldValue(holder, "count", null));
+    }
+
+    @Test
+    void createsInstancesThroughCachedConstructor() {
+        Holder first = ReflectionUtils.createInstance(Holder.class);
+        Holder second = ReflectionUtils.createInstance(Holder.class);
+
+        assertEquals(Holder.class, first.getClass());
+        assertEquals(Holder.class, second.getClass());
+        assertThrows(ReflectionAccessException.class, () -> ReflectionUtils.createInstance(NoDefaultConstructor.class));
+    }
+
+    public static class Holder {
+        private String name;
+        private int count;
+        private Address address;
+    }
+
+    public static class Address {
+        private String city;
+    }
+
+    public static class Other {
+        private String name;
+    }
+
+    public static class NoDefaultConstructor {
+        public NoDefaultConstructor(String ignored) {
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.etl.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TemporalFormatsTest {
+
+    @Test
+    void compilesEachPatternAndZoneOnce() {
+        assertSame(TemporalFormats.formatter("HH:mm:ss"), TemporalFormats.formatter("HH:mm:ss"));
+        assertSame(TemporalFormats.zone("Asia/Kolkata"), TemporalFormats.zone("Asia/Kolkata"));
+        assertEquals(ZoneId.of("UTC"), TemporalFormats.zone("UTC"));
+    }
+
+    @Test
+    void rejectsInvalidPatternsAndZones() {
+        assertThrows(IllegalArgumentException.class, () -> TemporalFormats.formatter("HH:mm:ss{"));
+        assertThrows(DateTimeException.class, () -> TemporalFormats.zone("Mars/Olympus"));
+    }
+
+    @Test
+    void parsesWithoutThrowingForMalformedPartialOrOutOfRangeText() {
+        DateTimeFormatter time = TemporalFormats.formatter("HH:mm:ss");
+
+        assertEquals(LocalTime.of(8, 30), TemporalFormats.parseOrNull("08:30:00", time, LocalTime::from));
+        assertNull(TemporalFormats.parseOrNull("8.30", time, LocalTime::from));
+        assertNull(TemporalFormats.parseOrNull("08:30:00Z", time, LocalTime::from));
+        assertNull(TemporalFormats.parseOrNull("25:00:00", time, LocalTime::from));
+        assertNull(TemporalFormats.parseOrNull("", time, LocalTime::from));
+    }
+
+    @Test
+    void returnsNullWhenParsedFieldsDoNotResolveToRequestedType() {
+        DateTimeFormatter time = TemporalFormats.formatter("HH:mm:ss");
+
+        assertNull(TemporalFormats.parseOrNull("08:30:00", time, LocalDateTime::from));
+        assertEquals(LocalDateTime.of(2026, 5, 27, 8, 30),
+                TemporalFormats.parseOrNull("2026-05-27 08:30", TemporalFormats.formatter("yyyy-MM-dd HH:mm"), LocalDateTime::from));
+    }
+}
@@ -30,13 +30,19 @@ import com.etl.runtime.job.JobRunMode;
 import com.etl.runtime.job.JobRuntimeDescriptor;
 import com.etl.runtime.job.JobRuntimeDescriptorAssembler;
 import com.etl.writer.DynamicWriterFactory;
+import com.etl.writer.impl.StagedFlatFileItemWriter;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.flow.FlowJob;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.skip.SkipPolicy;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
@@ -46,6 +52,7 @@ import org.springframework.retry.RetryListener;
 import org.springframework.retry.RetryPolicy;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -53,6 +60,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -72,6 +80,26 @@ class BatchConfigStepOrchestrationTest {
     batchConfigLogger.detachAndStopAllAppenders();
   }
 
+    @Test
+    void taskletFileWritesReachStagingFileBeforeTheTransactionCommits() throws Exception {
+        Path output = tempDir.resolve("tasklet-output.csv");
+        Path staging = tempDir.resolve("tasklet-output.csv.part");
+        StagedFlatFileItemWriter<String> writer = new StagedFlatFileItemWriter<>(output.toString());
+        writer.setLineAggregator(item -> item);
+        BatchConfig.disableTransactionalBuffering(writer);
+
+        new TransactionTemplate(new ResourcelessTransactionManager()).executeWithoutResult(status -> {
+            try {
+                writer.open(new ExecutionContext());
+                writer.write(new Chunk<>(List.of("1,Alice", "2,Bob")));
+                assertEquals(List.of("1,Alice", "2,Bob"), Files.readAllLines(staging));
+                writer.close();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
     @Test
     void buildStepsUsesExplicitStepOrderInsteadOfSourceTargetPosition() throws Exception {
         SourceWrapper sourceWrapper = new SourceWrapper();
@@ -140,6 +168,74 @@ class BatchConfigStepOrchestrationTest {
         && event.getFormattedMessage().contains("upstreamSteps=departments-step")));
     }
 
+    @Test
+    void parallelSubFlowModeRunsIndependentSubFlowsInOneSplitStage() throws Exception {
+        SourceWrapper sourceWrapper = new SourceWrapper();
+        sourceWrapper.setSources(List.of(
+                csvSource("Customers", tempCsv("customers.csv")),
+                csvSource("Department", tempCsv("departments.csv"))
+        ));
+
+        TargetWrapper targetWrapper = new TargetWrapper();
+        targetWrapper.setTargets(List.of(
+                xmlTarget("Customers", "Customer"),
+                xmlTarget("Departments", "Department")
+        ));
+
+        ProcessorConfig processorConfig = processorConfig(
+                mapping("Customers", "Customers"),
+                mapping("Department", "Departments")
+        );
+        List<JobConfig.JobStepConfig> steps = List.of(
+                step("departments-step", "Department", "Departments"),
+                step("customers-step", "Customers", "Customers")
+        );
+        JobRuntimeDescriptor jobRuntimeDescriptor = jobRuntimeDescriptor("cust-dept-load", sourceWrapper, targetWrapper, processorConfig, steps);
+        EtlJobProperties etlJobProperties = new EtlJobProperties();
+        etlJobProperties.setExecutionMode(EtlJobProperties.ExecutionMode.PARALLEL_SUBFLOWS);
+        etlJobProperties.setMaxParallelSubFlows(2);
+        ListAppender<ILoggingEvent> appender = attachAppender();
+
+        BatchConfig batchConfig = new BatchConfig(
+                sourceWrapper,
+                mockReaderFactory(),
+                mockWriterFactory(),
+                mock(JobRepository.class),
+                mock(PlatformTransactionManager.class),
+                new JobCompletionNotificationListener(),
+                mockProcessorFactory(),
+                processorConfig,
+                targetWrapper,
+                new StepLoggingContextListener(),
+                new RunConfigurationMetadata(
+                        "cust-dept-load",
+                        tempDir.resolve("job-config.yaml").toString(),
+                        false,
+                        "cust-dept-load-main-flow",
+                        "default-subflow",
+                        JobRecoveryPolicy.RERUN_FROM_START,
+                        steps
+                ),
+                jobRuntimeDescriptor,
+                new FileIngestionRuntimeSupport(),
+                new DuplicateResolverFactory(),
+                new EtlBatchProperties(),
+                etlJobProperties
+        );
+
+        Job job = batchConfig.etlJob();
+
+        assertInstanceOf(FlowJob.class, job);
+        assertTrue(appender.list.stream().anyMatch(event -> event.getFormattedMessage().contains("JOB_PLAN event=execution_mode")
+                && event.getFormattedMessage().contains("mode=parallel-subflows")
+                && event.getFormattedMessage().contains("stages=1")
+                && event.getFormattedMessage().contains("maxParallelSubFlows=2")));
+        assertTrue(appender.list.stream().anyMatch(event -> event.getFormattedMessage().contains("SUBFLOW_PLAN event=parallel_subflow_plan")
+                && event.getFormattedMessage().contains("subFlow=customers-step-subflow")
+                && event.getFormattedMessage().contains("stage=0")
+                && event.getFormattedMessage().contains("relaxedOrderOnlyDependencies=departments-step-subflow")));
+    }
+
     @Test
     void buildStepsFailsFastWhenProcessorMappingIsMissingForConfiguredStep() throws Exception {
         SourceWrapper sourceWrapper = new SourceWrapper();
@@ -507,6 +603,52 @@ class BatchConfigStepOrchestrationTest {
                 && event.getFormattedMessage().contains("resolverReason=configured_storage_mode_embeddedDb")));
     }
 
+    @Test
+    void buildStepsHonorsConfiguredExternalSortStorageModeForOrderedDuplicateSelection() throws Exception {
+        SourceWrapper sourceWrapper = new SourceWrapper();
+        sourceWrapper.setSources(List.of(csvSource("Customers", tempCsv("customers.csv"))));
+
+        TargetWrapper targetWrapper = new TargetWrapper();
+        targetWrapper.setTargets(List.of(xmlTarget("Customers", "Customer")));
+
+        ProcessorConfig processorConfig = processorConfig(mappingWithOrderedDuplicateRule("Customers", "Customers", "externalSort"));
+        ListAppender<ILoggingEvent> appender = attachAppender();
+
+        BatchConfig batchConfig = new BatchConfig(
+                sourceWrapper,
+                mockReaderFactory(),
+                mockWriterFactory(),
+                mock(JobRepository.class),
+                mock(PlatformTransactionManager.class),
+                new JobCompletionNotificationListener(),
+                mockProcessorFactory(),
+                processorConfig,
+                targetWrapper,
+                new StepLoggingContextListener(),
+                new RunConfigurationMetadata(
+                        "customers-ordered-duplicate-external-sort",
+                        tempDir.resolve("job-config.yaml").toString(),
+                        false,
+                        "customers-main-flow",
+                        "default-subflow",
+                        JobRecoveryPolicy.RERUN_FROM_START,
+                        List.of(step("customers-step", "Customers", "Customers"))
+                ),
+                new FileIngestionRuntimeSupport(),
+                new DuplicateResolverFactory()
+        );
+        ReflectionTestUtils.setField(batchConfig, "chunkThreshold", 10000);
+
+        List<Step> steps = batchConfig.buildSteps();
+
+        assertEquals(List.of("customers-step"), steps.stream().map(Step::getName).toList());
+        assertTrue(appender.list.stream().anyMatch(event -> event.getFormattedMessage().contains("STEP_READY event=duplicate_resolver_plan")
+                && event.getFormattedMessage().contains("stepName=customers-step")
+                && event.getFormattedMessage().contains("duplicateIdentityMode=flatMapped")
+                && event.getFormattedMessage().contains("resolverMode=externalSort")
+                && event.getFormattedMessage().contains("resolverReason=configured_storage_mode_externalSort")));
+    }
+
     @Test
     void configuredRetryPolicyRetriesMatchingRuntimeFailuresUntilBudgetIsExhausted() throws Exception {
         BatchConfig batchConfig = new BatchConfig(
@@ -2917,6 +2917,142 @@ class ConfigLoaderJobConfigTest {
     assertTrue(messageChain(exception).contains("pattern"));
   }
 
+  @Test
+  void linksReferenceSetsAndResolvesTheirFilePathsRelativeToScenario() throws IOException {
+    Path sourceConfig = tempDir.resolve("source-config.yaml");
+    Path targetConfig = tempDir.resolve("target-config.yaml");
+    Path processorConfig = tempDir.resolve("processor-config.yaml");
+    Path jobConfig = tempDir.resolve("job-config.yaml");
+
+    Files.writeString(sourceConfig, """
+        sources:
+          - format: csv
+            sourceName: Complaints
+            filePath: input/complaints.csv
+            delimiter: ","
+            fields:
+              - name: agency
+                type: String
+        """);
+    Files.writeString(targetConfig, """
+        targets:
+          - format: csv
+            targetName: ComplaintsCsv
+            filePath: output/complaints.csv
+            delimiter: ","
+            fields:
+              - name: agencyName
+                type: String
+        """);
+    Files.writeString(processorConfig, """
+        type: default
+        referenceSets:
+          agencyCodes:
+            sourceType: " csv "
+            filePath: reference/agencies.csv
+            keyColumn: code
+            valueColumn: name
+            storage: offHeap
+            cacheTtlSeconds: 0
+        mappings:
+          - source: Complaints
+            target: ComplaintsCsv
+            fields:
+              - from: agency
+                to: agencyName
+                rules:
+                  - type: referenceSet
+                    referenceSet: agencyCodes
+                transforms:
+                  - type: referenceLookup
+                    referenceSet: agencyCodes
+        """);
+    Files.writeString(jobConfig, """
+        name: reference-sets
+        sourceConfigPath: source-config.yaml
+        targetConfigPath: target-config.yaml
+        processorConfigPath: processor-config.yaml
+        steps:
+          - name: complaints-step
+            source: Complaints
+            target: ComplaintsCsv
+        """);
+
+    ConfigLoader loader = new ConfigLoader();
+    ReflectionTestUtils.setField(loader, "jobConfigPath", jobConfig.toString());
+    ReflectionTestUtils.setField(loader, "allowDemoFallback", false);
+
+    ensureSelectedJobFlatModels("reference-sets", List.of("Complaints"), List.of("ComplaintsCsv"));
+
+    ProcessorConfig loaded = loader.processorConfig();
+    ProcessorConfig.ReferenceSet referenceSet = loaded.getReferenceSets().get("agencyCodes");
+    ProcessorConfig.FieldMapping agency = loaded.getMappings().get(0).getFields().get(0);
+
+    assertEquals("agencyCodes", referenceSet.getName());
+    assertEquals("csv", referenceSet.getSourceType());
+    assertEquals(tempDir.resolve("reference/agencies.csv").toAbsolutePath().normalize().toString(), referenceSet.getFilePath());
+    assertTrue(referenceSet == agency.getRules().get(0).getResolvedReferenceSet());
+    assertTrue(referenceSet == agency.getTransforms().get(0).getResolvedReferenceSet());
+  }
+
+  @Test
+  void failsFastWhenRuleReferencesUndeclaredReferenceSet() throws IOException {
+    Path sourceConfig = tempDir.resolve("source-config.yaml");
+    Path targetConfig = tempDir.resolve("target-config.yaml");
+    Path processorConfig = tempDir.resolve("processor-config.yaml");
+    Path jobConfig = tempDir.resolve("job-config.yaml");
+
+    Files.writeString(sourceConfig, """
+        sources:
+          - format: csv
+            sourceName: Complaints
+            filePath: input/complaints.csv
+            delimiter: ","
+            fields:
+              - name: agency
+                type: String
+        """);
+    Files.writeString(targetConfig, """
+        targets:
+          - format: csv
+            targetName: ComplaintsCsv
+            filePath: output/complaints.csv
+            delimiter: ","
+            fields:
+              - name: agency
+                type: String
+        """);
+    Files.writeString(processorConfig, """
+        type: default
+        mappings:
+          - source: Complaints
+            target: ComplaintsCsv
+            fields:
+              - from: agency
+                to: agency
+                rules:
+                  - type: referenceSet
+                    referenceSet: agencyCodes
+        """);
+    Files.writeString(jobConfig, """
+        name: reference-set-missing
+        sourceConfigPath: source-config.yaml
+        targetConfigPath: target-config.yaml
+        processorConfigPath: processor-config.yaml
+        steps:
+          - name: complaints-step
+            source: Complaints
+            target: ComplaintsCsv
+        """);
+
+    ConfigLoader loader = new ConfigLoader();
+    ReflectionTestUtils.setField(loader, "jobConfigPath", jobConfig.toString());
+    ReflectionTestUtils.setField(loader, "allowDemoFallback", false);
+
+    ConfigException exception = assertThrows(ConfigException.class, loader::processorConfig);
+    assertTrue(messageChain(exception).contains("references unknown reference set 'agencyCodes'"));
+  }
+
   @Test
   void failsFastWhenConditionalTransformHasNoCases() throws IOException {
     Path sourceConfig = tempDir.resolve("source-config.yaml");
@@ -3043,7 +3179,7 @@ class ConfigLoaderJobConfigTest {
     ConfigException exception = assertThrows(ConfigException.class, loader::processorConfig);
     assertTrue(messageChain(exception).contains("duplicate-storage-mode-invalid"));
     assertTrue(messageChain(exception).contains("storageMode"));
-    assertTrue(messageChain(exception).contains("auto, memory, or embeddedDb"));
+    assertTrue(messageChain(exception).contains("auto, memory, winnerOnly, embeddedDb, or externalSort"));
   }
 
   @Test
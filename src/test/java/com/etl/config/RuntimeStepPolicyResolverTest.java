@@ -186,6 +186,105 @@ class RuntimeStepPolicyResolverTest {
         assertTrue(exception.getMessage().contains("configures both skipPolicy and retryPolicy"));
     }
 
+    @Test
+    void resolveExplicitStepsDefaultsPartitionGridSizeForCsvSources() {
+        JobConfig.JobStepConfig step = step("customers-step", "Customers", "CustomersOut");
+        step.setPartitioning(enabledPartitioning(null, null));
+
+        JobConfig jobConfig = new JobConfig();
+        jobConfig.setSteps(List.of(step));
+
+        JobConfig.JobStepConfig resolved = resolver.resolveExplicitSteps(
+                jobConfig,
+                sourceWrapper(csvSource("Customers")),
+                targetWrapper(csvTarget("CustomersOut")),
+                processorConfig(mapping("Customers", "CustomersOut"))
+        ).get(0);
+
+        assertNotNull(resolved.getPartitioning());
+        assertEquals(4, resolved.getPartitioning().getGridSize());
+    }
+
+    @Test
+    void resolveExplicitStepsFailsFastWhenPartitioningIsUsedOnXmlSource() {
+        JobConfig.JobStepConfig step = step("xml-step", "OrdersXml", "OrdersOut");
+        step.setPartitioning(enabledPartitioning(2, null));
+
+        JobConfig jobConfig = new JobConfig();
+        jobConfig.setSteps(List.of(step));
+
+        ConfigException exception = assertThrows(
+                ConfigException.class,
+                () -> resolver.resolveExplicitSteps(
+                        jobConfig,
+                        sourceWrapper(xmlSource("OrdersXml")),
+                        targetWrapper(csvTarget("OrdersOut")),
+                        processorConfig(mapping("OrdersXml", "OrdersOut"))
+                )
+        );
+
+        assertTrue(exception.getMessage().contains("supported only for CSV and relational sources"));
+    }
+
+    @Test
+    void resolveExplicitStepsFailsFastWhenPartitioningIsCombinedWithSkipPolicy() {
+        JobConfig.JobStepConfig step = stepWithSkipPolicy(
+                "customers-step",
+                "Customers",
+                "CustomersOut",
+                2,
+                List.of("runtime"),
+                List.of()
+        );
+        step.setPartitioning(enabledPartitioning(2, null));
+
+        JobConfig jobConfig = new JobConfig();
+        jobConfig.setSteps(List.of(step));
+
+        ConfigException exception = assertThrows(
+                ConfigException.class,
+                () -> resolver.resolveExplicitSteps(
+                        jobConfig,
+                        sourceWrapper(csvSource("Customers")),
+                        targetWrapper(csvTarget("CustomersOut")),
+                        processorConfig(mapping("Customers", "CustomersOut"))
+                )
+        );
+
+        assertTrue(exception.getMessage().contains("configures partitioning together with skipPolicy or retryPolicy"));
+    }
+
+    @Test
+    void resolveExplicitStepsCarriesCommitIntervalSettingsAndRejectsNonPositiveValues() {
+        JobConfig.JobStepConfig step = step("customers-step", "Customers", "CustomersOut");
+        step.setCommitInterval(250);
+        step.setAdaptiveCommitInterval(true);
+        JobConfig jobConfig = new JobConfig();
+        jobConfig.setSteps(List.of(step));
+
+        JobConfig.JobStepConfig resolved = resolver.resolveExplicitSteps(
+                jobConfig,
+                sourceWrapper(csvSource("Customers")),
+                targetWrapper(csvTarget("CustomersOut")),
+                processorConfig(mapping("Customers", "CustomersOut"))
+        ).get(0);
+
+        assertEquals(250, resolved.getCommitInterval());
+        assertEquals(Boolean.TRUE, resolved.getAdaptiveCommitInterval());
+
+        step.setCommitInterval(0);
+        ConfigException exception = assertThrows(
+                ConfigException.class,
+                () -> resolver.resolveExplicitSteps(
+                        jobConfig,
+                        sourceWrapper(csvSource("Customers")),
+                        targetWrapper(csvTarget("CustomersOut")),
+                        processorConfig(mapping("Customers", "CustomersOut"))
+                )
+        );
+        assertTrue(exception.getMessage().contains("commitInterval must be a positive integer"));
+    }
+
     private JobConfig.JobStepConfig step(String name, String source, String target) {
         JobConfig.JobStepConfig step = new JobConfig.JobStepConfig();
         step.setName(name);
@@ -217,6 +316,14 @@ class RuntimeStepPolicyResolverTest {
         return step;
     }
 
+    private JobConfig.PartitioningConfig enabledPartitioning(Integer gridSize, String keyColumn) {
+        JobConfig.PartitioningConfig partitioning = new JobConfig.PartitioningConfig();
+        partitioning.setEnabled(true);
+        partitioning.setGridSize(gridSize);
+        partitioning.setKeyColumn(keyColumn);
+        return partitioning;
+    }
+
     private JobConfig.SkipPolicyConfig enabledSkipPolicy(int skipLimit,
                                                          List<String> categories,
                                                          List<String> exceptions) {
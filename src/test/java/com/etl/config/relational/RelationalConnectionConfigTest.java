@@ -47,6 +47,18 @@ class RelationalConnectionConfigTest {
         );
     }
 
+    @Test
+    void validateRejectsPoolMinIdleAboveMaxSize() {
+        RelationalConnectionConfig connection = sqlServerConnection();
+        RelationalPoolConfig pool = new RelationalPoolConfig();
+        pool.setMaxSize(4);
+        pool.setMinIdle(5);
+        connection.setPool(pool);
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, connection::validate);
+        assertEquals("Relational connection pool minIdle must be between zero and maxSize when provided.", ex.getMessage());
+    }
+
     @Test
     void resolveJdbcUrlBuildsSqlServerUrlFromHostAndDatabase() {
         RelationalConnectionConfig connection = sqlServerConnection();
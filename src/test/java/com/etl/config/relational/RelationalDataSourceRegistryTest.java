@@ -0,0 +1,105 @@
+package com.etl.config.relational;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RelationalDataSourceRegistryTest {
+
+    private static final String JDBC_URL = "jdbc:h2:mem:relational_pool_registry_test;MODE=MSSQLServer;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false";
+
+    private final RelationalDataSourceRegistry registry = new RelationalDataSourceRegistry();
+
+    @AfterEach
+    void tearDown() {
+        registry.closeAll();
+    }
+
+    @Test
+    void sharesOnePoolAcrossEqualConnectionsAndSeparatesDifferentSizing() throws Exception {
+        DataSource reader = registry.dataSource(connection(null));
+        DataSource writer = registry.dataSource(connection(null));
+        DataSource sized = registry.dataSource(connection(2));
+
+        try (Connection first = reader.getConnection(); Connection second = writer.getConnection()) {
+            List<RelationalDataSourceRegistry.PoolStats> stats = registry.stats();
+            assertEquals(1, stats.size());
+            assertEquals(2, stats.get(0).activeConnections());
+            assertEquals(RelationalPoolConfig.DEFAULT_MAX_SIZE, stats.get(0).maxSize());
+        }
+        try (Connection ignored = sized.getConnection()) {
+            assertEquals(2, registry.poolCount());
+        }
+    }
+
+    @Test
+    void reusesPhysicalConnectionsAcrossBorrows() throws Exception {
+        DataSource dataSource = registry.dataSource(connection(1));
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("SET @pool_marker = 42");
+        }
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            var resultSet = statement.executeQuery("SELECT @pool_marker");
+            resultSet.next();
+            assertEquals(42, resultSet.getInt(1));
+        }
+    }
+
+    @Test
+    void closesPoolsWhenLastRunningJobFinishesAndReopensOnNextBorrow() throws Exception {
+        DataSource dataSource = registry.dataSource(connection(null));
+        registry.jobStarted();
+        registry.jobStarted();
+        try (Connection ignored = dataSource.getConnection()) {
+            assertEquals(1, registry.poolCount());
+        }
+
+        registry.jobFinished();
+        assertEquals(1, registry.poolCount());
+        registry.jobFinished();
+        assertEquals(0, registry.poolCount());
+
+        try (Connection connection = dataSource.getConnection()) {
+            assertEquals(1, registry.poolCount());
+            connection.createStatement().execute("SELECT 1");
+        }
+    }
+
+    @Test
+    void rejectsJobFinishedWithoutMatchingJobStarted() throws Exception {
+        registry.jobStarted();
+        registry.jobFinished();
+
+        assertThrows(IllegalStateException.class, registry::jobFinished);
+
+        registry.jobStarted();
+        DataSource dataSource = registry.dataSource(connection(null));
+        try (Connection ignored = dataSource.getConnection()) {
+            assertEquals(1, registry.poolCount());
+        }
+        registry.jobFinished();
+        assertEquals(0, registry.poolCount());
+    }
+
+    private static RelationalConnectionConfig connection(Integer maxSize) {
+        RelationalConnectionConfig connection = new RelationalConnectionConfig();
+        connection.setVendor("h2");
+        connection.setJdbcUrl(JDBC_URL);
+        connection.setUsername("sa");
+        connection.setPassword("");
+        if (maxSize != null) {
+            RelationalPoolConfig pool = new RelationalPoolConfig();
+            pool.setMaxSize(maxSize);
+            connection.setPool(pool);
+        }
+        return connection;
+    }
+}
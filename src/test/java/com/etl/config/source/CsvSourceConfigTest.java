@@ -10,6 +10,7 @@ import java.nio.file.Path;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -41,6 +42,32 @@ class CsvSourceConfigTest {
         assertEquals(2, config.getRecordCount());
     }
 
+    @Test
+    void recordCountTreatsCarriageReturnAndCrLfAsLineTerminators() throws IOException {
+        Path csvFile = tempDir.resolve("customers-mixed-endings.csv");
+        Files.writeString(csvFile, "id,name\r\n1,Alice\r2,Bob\n3,Carol");
+
+        CsvSourceConfig config = csvSource(csvFile);
+
+        assertEquals(3, config.getRecordCount());
+    }
+
+    @Test
+    void boundedRecordCountStopsOnceLimitIsExceeded() throws IOException {
+        Path csvFile = tempDir.resolve("customers-large.csv");
+        StringBuilder content = new StringBuilder("id,name\n");
+        for (int i = 0; i < 50; i++) {
+            content.append(i).append(",Name").append(i).append('\n');
+        }
+        Files.writeString(csvFile, content.toString());
+
+        CsvSourceConfig config = csvSource(csvFile);
+
+        assertEquals(11, config.getRecordCount(10));
+        assertEquals(50, config.getRecordCount(50));
+        assertEquals(50, config.getRecordCount());
+    }
+
   @Test
   void resolveQuoteCharacterReturnsNullWhenParserIsNotConfigured() {
     CsvSourceConfig config = csvSource(tempDir.resolve("customers.csv"));
@@ -71,6 +98,37 @@ class CsvSourceConfigTest {
     assertEquals("parser.quoteCharacter must differ from delimiter.", failure.getMessage());
   }
 
+  @Test
+  void mappedParseModeIsOptInAndUsesConfiguredParallelism() {
+    CsvSourceConfig config = csvSource(tempDir.resolve("customers.csv"));
+    assertFalse(config.isMappedParseMode());
+
+    CsvSourceConfig.ParserConfig parser = new CsvSourceConfig.ParserConfig();
+    parser.setMode("Mapped");
+    parser.setParallelism(3);
+    config.setParser(parser);
+
+    config.validateParserConfiguration();
+    assertTrue(config.isMappedParseMode());
+    assertEquals(3, config.resolveParserParallelism());
+  }
+
+  @Test
+  void validateParserConfigurationRejectsUnknownModeAndNonPositiveParallelism() {
+    CsvSourceConfig config = csvSource(tempDir.resolve("customers.csv"));
+    CsvSourceConfig.ParserConfig parser = new CsvSourceConfig.ParserConfig();
+    parser.setMode("threads");
+    config.setParser(parser);
+
+    IllegalArgumentException modeFailure = assertThrows(IllegalArgumentException.class, config::validateParserConfiguration);
+    assertEquals("parser.mode must be 'stream' or 'mapped' when configured.", modeFailure.getMessage());
+
+    parser.setMode("mapped");
+    parser.setParallelism(0);
+    IllegalArgumentException parallelismFailure = assertThrows(IllegalArgumentException.class, config::validateParserConfiguration);
+    assertEquals("parser.parallelism must be greater than zero when configured.", parallelismFailure.getMessage());
+  }
+
     private CsvSourceConfig csvSource(Path filePath) {
         CsvSourceConfig config = new CsvSourceConfig();
         config.setSourceName("Customers");
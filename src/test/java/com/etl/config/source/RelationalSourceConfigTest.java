@@ -51,6 +51,22 @@ class RelationalSourceConfigTest {
         assertEquals(3, config.getRecordCount());
     }
 
+    @Test
+    void validateRejectsPageSizeWithoutSortKeyAndQuotedSortKeys() {
+        RelationalSourceConfig config = relationalTableConfig();
+        config.setPageSize(500);
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, config::validate);
+        assertEquals("Relational source pageSize requires sortKey.", ex.getMessage());
+
+        config.setSortKey("[id]");
+        ex = assertThrows(IllegalArgumentException.class, config::validate);
+        assertEquals("Relational source sortKey must be a plain column name.", ex.getMessage());
+
+        config.setSortKey("id");
+        config.validate();
+    }
+
     @Test
     void validateRejectsMissingConnectionVendor() {
         RelationalSourceConfig config = relationalTableConfig();
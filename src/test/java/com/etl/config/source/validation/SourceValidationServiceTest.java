@@ -874,6 +874,53 @@ class SourceValidationServiceTest {
 		}
 	}
 
+	@Test
+	void streamingSchemaModeDefersDocumentValidationToTheReadPass() throws IOException {
+		Path xmlFile = tempDir.resolve("customers.xml");
+		Files.writeString(xmlFile, """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<Customers>
+				  <Customer><id>ABC</id></Customer>
+				""");
+		Path schemaFile = tempDir.resolve("customers.xsd");
+		Files.writeString(schemaFile, """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<xs:schema xmlns:xs="http://www.w3.org/2001/XMLSchema">
+				  <xs:element name="Customers">
+				    <xs:complexType>
+				      <xs:sequence>
+				        <xs:element name="Customer" maxOccurs="unbounded">
+				          <xs:complexType>
+				            <xs:sequence>
+				              <xs:element name="id" type="xs:int"/>
+				            </xs:sequence>
+				          </xs:complexType>
+				        </xs:element>
+				      </xs:sequence>
+				    </xs:complexType>
+				  </xs:element>
+				</xs:schema>
+				""");
+
+		XmlSourceConfig sourceConfig = xmlSource(xmlFile);
+		XmlSourceConfig.ValidationConfig validation = new XmlSourceConfig.ValidationConfig();
+		validation.setSchemaPath(schemaFile.toString());
+		validation.setSchemaMode("streaming");
+		sourceConfig.setValidation(validation);
+
+		SourceValidationService service = new SourceValidationService();
+		assertDoesNotThrow(() -> service.validate(sourceConfig, new SourceValidationContext("xml-validation", "tmp/source-config.yaml")));
+
+		validation.setOnFailure("rejectFile");
+		validation.setRejectPath(tempDir.resolve("rejects").toString());
+		ConfigException exception = assertThrows(
+				ConfigException.class,
+				() -> service.validate(sourceConfig, new SourceValidationContext("xml-validation", "tmp/source-config.yaml"))
+		);
+		assertTrue(exception.getMessage().contains("schemaMode=streaming"));
+		assertTrue(Files.exists(xmlFile));
+	}
+
 	@Test
 	void failsFastWhenXmlValidationSchemaPathDoesNotExist() throws IOException {
 		Path xmlFile = tempDir.resolve("customers.xml");
@@ -4,9 +4,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TargetConfigPolymorphicDeserializationTest {
@@ -79,6 +83,72 @@ class TargetConfigPolymorphicDeserializationTest {
         assertEquals("sqlserver", relationalTarget.getConnection().getVendor());
         assertEquals("dbo", relationalTarget.getEffectiveSchema());
         assertNull(relationalTarget.getPackageName());
+        assertFalse(relationalTarget.isTableLock());
+    }
+
+    @Test
+    void deserializesBulkRelationalTargetWithTableLock() throws Exception {
+        String yaml = """
+                targets:
+                  - format: relational
+                    targetName: CustomersSql
+                    table: customers
+                    writeMode: bulk
+                    batchSize: 5000
+                    tableLock: true
+                    connection:
+                      vendor: sqlserver
+                      host: 192.168.50.195
+                      database: testdb
+                      username: sa
+                      password: secret
+                    fields:
+                      - name: id
+                        type: int
+                """;
+
+        ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
+        mapper.findAndRegisterModules();
+
+        TargetWrapper wrapper = mapper.readValue(yaml, TargetWrapper.class);
+        RelationalTargetConfig relationalTarget = assertInstanceOf(RelationalTargetConfig.class, wrapper.getTargets().get(0));
+
+        assertEquals(WriteMode.BULK, relationalTarget.getWriteMode());
+        assertEquals(5000, relationalTarget.getBatchSize());
+        assertTrue(relationalTarget.isTableLock());
+        relationalTarget.validate();
+    }
+
+    @Test
+    void rejectsKeyColumnsThatAreNotTargetFields() throws Exception {
+        String yaml = """
+                targets:
+                  - format: relational
+                    targetName: CustomersSql
+                    table: customers
+                    writeMode: merge
+                    keyColumns: [customerId]
+                    connection:
+                      vendor: h2
+                      jdbcUrl: jdbc:h2:mem:keys
+                      username: sa
+                      password: ""
+                    fields:
+                      - name: id
+                        type: int
+                """;
+
+        ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
+        mapper.findAndRegisterModules();
+
+        TargetWrapper wrapper = mapper.readValue(yaml, TargetWrapper.class);
+        RelationalTargetConfig relationalTarget = assertInstanceOf(RelationalTargetConfig.class, wrapper.getTargets().get(0));
+
+        assertEquals(WriteMode.MERGE, relationalTarget.getWriteMode());
+        assertEquals(List.of("customerId"), relationalTarget.getKeyColumns());
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, relationalTarget::validate);
+        assertEquals("Relational target keyColumns entry 'customerId' must match a configured target field name.",
+                exception.getMessage());
     }
 
     @Test
@@ -0,0 +1,275 @@
+package com.etl.flow;
+
+import com.etl.config.BatchConfig;
+import com.etl.config.ColumnConfig;
+import com.etl.config.EtlBatchProperties;
+import com.etl.config.RunConfigurationMetadata;
+import com.etl.config.job.JobConfig;
+import com.etl.config.processor.ProcessorConfig;
+import com.etl.config.source.CsvSourceConfig;
+import com.etl.config.source.SourceConfig;
+import com.etl.config.source.SourceWrapper;
+import com.etl.config.target.CsvTargetConfig;
+import com.etl.config.target.TargetConfig;
+import com.etl.config.target.TargetWrapper;
+import com.etl.exception.config.ConfigException;
+import com.etl.job.listener.JobCompletionNotificationListener;
+import com.etl.job.listener.StepLoggingContextListener;
+import com.etl.processor.DynamicProcessorFactory;
+import com.etl.processor.impl.DefaultDynamicProcessor;
+import com.etl.reader.DynamicReaderFactory;
+import com.etl.reader.impl.CsvDynamicReader;
+import com.etl.runtime.DuplicateResolverFactory;
+import com.etl.runtime.AdaptiveCommitIntervalPolicy;
+import com.etl.runtime.FileIngestionRuntimeSupport;
+import com.etl.runtime.job.JobRecoveryPolicy;
+import com.etl.writer.DynamicWriterFactory;
+import com.etl.writer.impl.CsvDynamicWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PartitionedCsvStepFlowTest {
+
+    @TempDir
+    Path tempDir;
+
+    private EmbeddedDatabase batchDatabase;
+    private DataSourceTransactionManager transactionManager;
+    private JobRepository jobRepository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        batchDatabase = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("partitioned-flow-" + UUID.randomUUID())
+                .addScript("org/springframework/batch/core/schema-h2.sql")
+                .build();
+        transactionManager = new DataSourceTransactionManager(batchDatabase);
+        JobRepositoryFactoryBean factoryBean = new JobRepositoryFactoryBean();
+        factoryBean.setDataSource(batchDatabase);
+        factoryBean.setTransactionManager(transactionManager);
+        factoryBean.afterPropertiesSet();
+        jobRepository = factoryBean.getObject();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchDatabase.shutdown();
+    }
+
+    @Test
+    void partitionedCsvStepWritesEveryRowOnceInSourceOrder() throws Exception {
+        Path input = tempDir.resolve("customers.csv");
+        List<String> expectedRows = new ArrayList<>();
+        StringBuilder content = new StringBuilder("id,name,email\n");
+        for (int i = 1; i <= 257; i++) {
+            content.append(i).append(",Customer ").append(i).append(",c").append(i).append("@example.com\n");
+            expectedRows.add(i + ",Customer " + i);
+        }
+        Files.writeString(input, content.toString());
+        Path output = tempDir.resolve("out").resolve("customers-out.csv");
+
+        JobExecution execution = runJob(input, output, 4);
+
+        assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+        List<String> lines = Files.readAllLines(output);
+        assertEquals("id,name", lines.get(0));
+        assertEquals(expectedRows, lines.subList(1, lines.size()));
+
+        StepExecution manager = execution.getStepExecutions().stream()
+                .filter(stepExecution -> stepExecution.getStepName().equals("customers-step"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(257, manager.getReadCount());
+        assertEquals(257, manager.getWriteCount());
+        assertEquals(4, execution.getStepExecutions().stream()
+                .filter(stepExecution -> stepExecution.getStepName().startsWith("customers-step:worker:partition"))
+                .count());
+        try (Stream<Path> files = Files.list(output.getParent())) {
+            assertFalse(files.anyMatch(path -> path.getFileName().toString().endsWith(".part")));
+        }
+    }
+
+    @Test
+    void failedPartitionPublishesNothingAndRemovesPartFiles() throws Exception {
+        Path input = tempDir.resolve("customers.csv");
+        StringBuilder content = new StringBuilder("id,name,email\n");
+        for (int i = 1; i <= 40; i++) {
+            content.append(i).append(",Customer ").append(i).append(",c").append(i).append("@example.com\n");
+        }
+        content.append("not-a-number,Broken,broken@example.com\n");
+        Files.writeString(input, content.toString());
+        Path output = tempDir.resolve("out").resolve("customers-out.csv");
+
+        JobExecution execution = runJob(input, output, 3);
+
+        assertEquals(BatchStatus.FAILED, execution.getStatus());
+        assertFalse(Files.exists(output));
+        try (Stream<Path> files = Files.list(output.getParent())) {
+            assertTrue(files.noneMatch(path -> path.getFileName().toString().endsWith(".part")));
+        }
+    }
+
+    @Test
+    void partitionWorkersRecordAdaptiveCommitInterval() throws Exception {
+        Path input = tempDir.resolve("customers.csv");
+        StringBuilder content = new StringBuilder("id,name,email\n");
+        for (int i = 1; i <= 120; i++) {
+            content.append(i).append(",Customer ").append(i).append(",c").append(i).append("@example.com\n");
+        }
+        Files.writeString(input, content.toString());
+        Path output = tempDir.resolve("out").resolve("customers-out.csv");
+
+        JobExecution execution = runJob(input, output, 2, step -> {
+            step.setCommitInterval(100);
+            step.setAdaptiveCommitInterval(true);
+        });
+
+        assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+        assertEquals(121, Files.readAllLines(output).size());
+        List<StepExecution> workers = execution.getStepExecutions().stream()
+                .filter(stepExecution -> stepExecution.getStepName().startsWith("customers-step:worker:partition"))
+                .toList();
+        assertEquals(2, workers.size());
+        for (StepExecution worker : workers) {
+            assertTrue(worker.getExecutionContext().getInt(AdaptiveCommitIntervalPolicy.COMMIT_INTERVAL_KEY) >= 100);
+        }
+    }
+
+    @Test
+    void rejectsAdaptiveCommitIntervalBelowConfiguredMinimum() throws Exception {
+        Path input = tempDir.resolve("customers.csv");
+        Files.writeString(input, "id,name,email\n1,Customer 1,c1@example.com\n");
+        Path output = tempDir.resolve("out").resolve("customers-out.csv");
+
+        ConfigException failure = assertThrows(ConfigException.class, () -> runJob(input, output, 2, step -> {
+            step.setCommitInterval(5);
+            step.setAdaptiveCommitInterval(true);
+        }));
+
+        assertTrue(failure.getMessage().contains("Commit interval 5 is outside the adaptive commit interval bounds [100, 50000]."));
+    }
+
+    private JobExecution runJob(Path input, Path output, int gridSize) throws Exception {
+        return runJob(input, output, gridSize, step -> {
+        });
+    }
+
+    private JobExecution runJob(Path input, Path output, int gridSize,
+                                Consumer<JobConfig.JobStepConfig> stepCustomizer) throws Exception {
+        Files.createDirectories(output.getParent());
+        CsvSourceConfig source = new CsvSourceConfig();
+        source.setSourceName("Customers");
+        source.setPackageName("com.etl.model.source");
+        source.setFilePath(input.toString());
+        source.setDelimiter(",");
+        source.setFields(List.of(column("id", "int"), column("name", "String"), column("email", "String")));
+        CsvTargetConfig target = new CsvTargetConfig("CustomersCsv", "com.etl.model.target",
+                List.of(column("id", "int"), column("name", "String")), output.toString(), ",", true);
+
+        SourceWrapper sourceWrapper = new SourceWrapper();
+        sourceWrapper.setSources(List.<SourceConfig>of(source));
+        TargetWrapper targetWrapper = new TargetWrapper();
+        targetWrapper.setTargets(List.<TargetConfig>of(target));
+
+        JobConfig.JobStepConfig step = new JobConfig.JobStepConfig();
+        step.setName("customers-step");
+        step.setSource("Customers");
+        step.setTarget("CustomersCsv");
+        JobConfig.PartitioningConfig partitioning = new JobConfig.PartitioningConfig();
+        partitioning.setEnabled(true);
+        partitioning.setGridSize(gridSize);
+        step.setPartitioning(partitioning);
+        stepCustomizer.accept(step);
+
+        EtlBatchProperties batchProperties = new EtlBatchProperties();
+        batchProperties.setThreshold(10);
+
+        BatchConfig batchConfig = new BatchConfig(
+                sourceWrapper,
+                new DynamicReaderFactory(List.of(new CsvDynamicReader<>())),
+                new DynamicWriterFactory(List.of(new CsvDynamicWriter())),
+                jobRepository,
+                transactionManager,
+                new JobCompletionNotificationListener(),
+                new DynamicProcessorFactory(new DefaultDynamicProcessor()),
+                processorConfig(),
+                targetWrapper,
+                new StepLoggingContextListener(),
+                new RunConfigurationMetadata(
+                        "partitioned-customers",
+                        tempDir.resolve("job-config.yaml").toString(),
+                        false,
+                        "customers-main-flow",
+                        "default-subflow",
+                        JobRecoveryPolicy.RERUN_FROM_START,
+                        List.of(step)
+                ),
+                null,
+                new FileIngestionRuntimeSupport(),
+                new DuplicateResolverFactory(),
+                batchProperties
+        );
+
+        Job job = batchConfig.etlJob();
+        TaskExecutorJobLauncher launcher = new TaskExecutorJobLauncher();
+        launcher.setJobRepository(jobRepository);
+        launcher.afterPropertiesSet();
+        return launcher.run(job, new JobParametersBuilder()
+                .addString("run", UUID.randomUUID().toString())
+                .toJobParameters());
+    }
+
+    private static ProcessorConfig processorConfig() {
+        ProcessorConfig.FieldMapping id = new ProcessorConfig.FieldMapping();
+        id.setFrom("id");
+        id.setTo("id");
+        ProcessorConfig.FieldMapping name = new ProcessorConfig.FieldMapping();
+        name.setFrom("name");
+        name.setTo("name");
+
+        ProcessorConfig.EntityMapping mapping = new ProcessorConfig.EntityMapping();
+        mapping.setSource("Customers");
+        mapping.setTarget("CustomersCsv");
+        mapping.setFields(List.of(id, name));
+
+        ProcessorConfig processorConfig = new ProcessorConfig();
+        processorConfig.setType("default");
+        processorConfig.setMappings(List.of(mapping));
+        return processorConfig;
+    }
+
+    private static ColumnConfig column(String name, String type) {
+        ColumnConfig column = new ColumnConfig();
+        column.setName(name);
+        column.setType(type);
+        return column;
+    }
+}
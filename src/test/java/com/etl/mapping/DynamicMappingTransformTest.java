@@ -4,6 +4,8 @@ import com.etl.config.processor.ProcessorConfig;
 import com.etl.exception.EtlErrorCategory;
 import com.etl.exception.EtlExceptionDetails;
 import com.etl.processor.ProcessorExtensionDefaults;
+import com.etl.processor.transform.BoundFieldTransform;
+import com.etl.processor.transform.ProcessorFieldTransform;
 import com.etl.processor.transform.TransformEvaluator;
 import org.junit.jupiter.api.Test;
 
@@ -151,6 +153,31 @@ class DynamicMappingTransformTest {
 		assertTrue(EtlExceptionDetails.rootCauseMessage(failure).contains("fullName"));
 	}
 
+	@Test
+	void compilesTransformPlansOnceWhenTheProcessorIsBuilt() throws Exception {
+		CountingBindTransform counting = new CountingBindTransform();
+		ProcessorConfig.FieldTransform transform = new ProcessorConfig.FieldTransform();
+		transform.setType("countingBind");
+		ProcessorConfig.FieldMapping countryCode = new ProcessorConfig.FieldMapping();
+		countryCode.setFrom("countryCode");
+		countryCode.setTo("countryCode");
+		countryCode.setTransforms(List.of(transform));
+
+		ProcessorConfig.EntityMapping mapping = new ProcessorConfig.EntityMapping();
+		mapping.setSource("Customers");
+		mapping.setTarget("CustomersOut");
+		mapping.setFields(List.of(countryCode));
+
+		DynamicMapping<InputRecord, TargetRecord> processor = new DynamicMapping<>(mapping, TargetRecord.class,
+				new TransformEvaluator(List.of(counting)));
+		assertEquals(1, counting.bindCount);
+		for (int i = 0; i < 3; i++) {
+			assertEquals("B-US" + i, processor.process(new InputRecord("US" + i)).countryCode);
+		}
+
+		assertEquals(1, counting.bindCount);
+	}
+
 	private ProcessorConfig.FieldTransform valueMap(Map<String, Object> mappings, Object defaultValue, boolean caseSensitive) {
 		ProcessorConfig.FieldTransform transform = new ProcessorConfig.FieldTransform();
 		transform.setType("valueMap");
@@ -179,6 +206,27 @@ class DynamicMappingTransformTest {
 		return conditionalCase;
 	}
 
+	private static final class CountingBindTransform implements ProcessorFieldTransform {
+
+		private int bindCount;
+
+		@Override
+		public String getTransformType() {
+			return "countingBind";
+		}
+
+		@Override
+		public Object apply(Object value, ProcessorConfig.FieldTransform transform) {
+			return "B-" + value;
+		}
+
+		@Override
+		public BoundFieldTransform bind(ProcessorConfig.FieldTransform transform) {
+			bindCount++;
+			return (value, context) -> apply(value, transform);
+		}
+	}
+
 	private record InputRecord(String countryCode) {
 	}
 
@@ -1,5 +1,8 @@
 package com.etl.mapping;
 
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
 import com.etl.config.ColumnConfig;
 import com.etl.config.processor.ProcessorConfig;
 import com.etl.config.source.CsvSourceConfig;
@@ -11,6 +14,7 @@ import com.etl.processor.validation.ValidationRuleEvaluator;
 import com.etl.runtime.FileIngestionRuntimeSupport;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.scope.context.StepSynchronizationManager;
@@ -111,6 +115,87 @@ class ValidationAwareDynamicMappingTest {
         assertEquals(1, stepExecution.getExecutionContext().getInt(FileIngestionRuntimeSupport.REJECTED_COUNT_KEY));
     }
 
+    @Test
+    void samplesRejectWarnLoggingButRecordsEveryReject() throws Exception {
+        Path sourceFile = tempDir.resolve("events.csv");
+        Files.writeString(sourceFile, "id,description\n");
+
+        ProcessorConfig.FieldRule duplicate = new ProcessorConfig.FieldRule();
+        duplicate.setType("duplicate");
+
+        ProcessorConfig.FieldMapping id = new ProcessorConfig.FieldMapping();
+        id.setFrom("id");
+        id.setTo("id");
+        id.setRules(List.of(duplicate));
+
+        ProcessorConfig.FieldMapping description = new ProcessorConfig.FieldMapping();
+        description.setFrom("description");
+        description.setTo("description");
+
+        ProcessorConfig.EntityMapping mapping = new ProcessorConfig.EntityMapping();
+        mapping.setSource("Events");
+        mapping.setTarget("EventsCsv");
+        mapping.setFields(List.of(id, description));
+
+        ProcessorConfig processorConfig = new ProcessorConfig();
+        ProcessorConfig.RejectHandling rejectHandling = new ProcessorConfig.RejectHandling();
+        rejectHandling.setEnabled(true);
+        rejectHandling.setOutputPath(tempDir.resolve("rejects") + "\\");
+        processorConfig.setRejectHandling(rejectHandling);
+        processorConfig.setMappings(List.of(mapping));
+
+        CsvSourceConfig sourceConfig = new CsvSourceConfig(
+                "Events",
+                "com.etl.model.source",
+                List.of(column("id"), column("description")),
+                sourceFile.toString(),
+                ",",
+                null
+        );
+
+        FileIngestionRuntimeSupport runtimeSupport = new FileIngestionRuntimeSupport();
+        ValidationAwareDynamicMapping<EventRecord, TargetRecord> processor = new ValidationAwareDynamicMapping<>(
+                mapping,
+                TargetRecord.class,
+                new ValidationRuleEvaluator(List.of(new DuplicateProcessorValidationRule(runtimeSupport))),
+                runtimeSupport,
+                true
+        );
+
+        ch.qos.logback.classic.Logger processorLogger =
+                (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(ValidationAwareDynamicMapping.class);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        processorLogger.addAppender(appender);
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+        runtimeSupport.initializeStep(stepExecution, sourceConfig, processorConfig, mapping);
+        int rejects = ValidationAwareDynamicMapping.REJECT_WARN_SAMPLE_INTERVAL + 200;
+        StepSynchronizationManager.register(stepExecution);
+        try {
+            assertNotNull(processor.process(new EventRecord("EVT-1001", "first")));
+            for (int i = 0; i < rejects; i++) {
+                assertNull(processor.process(new EventRecord("EVT-1001", "duplicate-" + i)));
+            }
+        } finally {
+            StepSynchronizationManager.close();
+            processorLogger.detachAppender(appender);
+        }
+        stepExecution.setExitStatus(ExitStatus.COMPLETED);
+        runtimeSupport.completeStep(stepExecution, sourceConfig);
+
+        List<String> warnings = appender.list.stream()
+                .filter(event -> event.getLevel() == Level.WARN)
+                .map(ILoggingEvent::getFormattedMessage)
+                .filter(message -> message.contains("event=record_rejected"))
+                .toList();
+        assertEquals(ValidationAwareDynamicMapping.REJECT_WARN_HEAD + 1, warnings.size());
+        assertTrue(warnings.get(0).endsWith("rejectOrdinal=1"));
+        assertTrue(warnings.get(warnings.size() - 1).endsWith("rejectOrdinal=" + ValidationAwareDynamicMapping.REJECT_WARN_SAMPLE_INTERVAL));
+        assertEquals(rejects, stepExecution.getExecutionContext().getInt(FileIngestionRuntimeSupport.REJECTED_COUNT_KEY));
+        Path rejectFile = Path.of(stepExecution.getExecutionContext().getString(FileIngestionRuntimeSupport.REJECT_OUTPUT_PATH_KEY));
+        assertEquals(rejects + 1, Files.readAllLines(rejectFile).size());
+    }
+
   @Test
   void failsFastWhenConfiguredImportantFieldIsMissing() {
     ProcessorConfig.FieldRule notNull = new ProcessorConfig.FieldRule();
@@ -0,0 +1,219 @@
+package com.etl.processor.reference;
+
+import com.etl.config.processor.ProcessorConfig;
+import com.etl.config.relational.RelationalConnectionConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReferenceSetCacheTest {
+
+    private static final String JDBC_URL = "jdbc:h2:mem:reference_set_cache_test;MODE=MSSQLServer;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false";
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void heapAndOffHeapStorageAnswerCaseInsensitiveLookupsAlike() throws Exception {
+        Path file = tempDir.resolve("agencies.csv");
+        Files.writeString(file, """
+                \uFEFFcode;label
+                ag-01;Alpha
+                "AG;02";Beta
+
+                Straße;Street
+                AG-01;Shadowed
+                """);
+
+        for (String storage : new String[]{"heap", "offHeap"}) {
+            ProcessorConfig.ReferenceSet definition = csvSet("agencyCodes", file, "code", "label", storage);
+            definition.setDelimiter(";");
+            definition.setCaseSensitive(false);
+
+            ReferenceSetCache.LoadedReferenceSet loaded = cache(4).get(definition);
+
+            assertEquals(storage, loaded.storage());
+            assertEquals(3, loaded.size());
+            assertEquals("Alpha", loaded.translate("AG-01", "none"));
+            assertEquals("Beta", loaded.translate("ag;02", "none"));
+            assertEquals("Street", loaded.translate("STRAßE", "none"));
+            assertEquals("none", loaded.translate("AG-03", "none"));
+            assertFalse(loaded.contains(null));
+            assertEquals(3, loaded.hits());
+            assertEquals(2, loaded.misses());
+        }
+    }
+
+    @Test
+    void offHeapStorageHoldsLargeKeySetsWithoutValues() throws Exception {
+        Path file = tempDir.resolve("accounts.csv");
+        StringBuilder content = new StringBuilder("account\n");
+        for (int i = 0; i < 200_000; i++) {
+            content.append("ACC-").append(i).append('\n');
+        }
+        Files.writeString(file, content);
+
+        ReferenceSetCache.LoadedReferenceSet loaded = cache(4).get(csvSet("accounts", file, null, null, "offHeap"));
+
+        assertEquals(200_000, loaded.size());
+        assertTrue(loaded.contains("ACC-0"));
+        assertTrue(loaded.contains("ACC-199999"));
+        assertFalse(loaded.contains("acc-0"));
+        assertFalse(loaded.contains("ACC-200000"));
+        assertNull(loaded.translate("ACC-42", "missing"));
+    }
+
+    @Test
+    void loadsRelationalQueryWithNamedColumns() throws Exception {
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS agency");
+            statement.execute("CREATE TABLE agency (id INT, agency_code VARCHAR(20), agency_name VARCHAR(50))");
+            statement.execute("INSERT INTO agency VALUES (1, 'NYPD', 'Police'), (2, 'FDNY', 'Fire'), (3, NULL, 'Orphan')");
+        }
+        ProcessorConfig.ReferenceSet definition = new ProcessorConfig.ReferenceSet();
+        definition.setName("agencies");
+        definition.setSourceType("relationalQuery");
+        definition.setConnection(connection());
+        definition.setQuery("SELECT id, agency_code, agency_name FROM agency");
+        definition.setKeyColumn("agency_code");
+        definition.setValueColumn("agency_name");
+
+        ReferenceSetCache.LoadedReferenceSet loaded = cache(4).get(definition);
+
+        assertEquals(2, loaded.size());
+        assertEquals("Fire", loaded.translate("FDNY", null));
+        assertFalse(loaded.contains("Orphan"));
+    }
+
+    @Test
+    void reusesLoadedSetAcrossEqualDefinitionsUntilTtlExpires() throws Exception {
+        Path file = tempDir.resolve("codes.csv");
+        Files.writeString(file, "code\nA\n");
+        ReferenceSetCache cache = cache(4);
+        ProcessorConfig.ReferenceSet firstRun = csvSet("codes", file, null, null, null);
+        firstRun.setCacheTtlSeconds(60L);
+        ProcessorConfig.ReferenceSet secondRun = csvSet("codes", file, null, null, null);
+        secondRun.setCacheTtlSeconds(60L);
+
+        ReferenceSetCache.LoadedReferenceSet loaded = cache.get(firstRun);
+        assertSame(loaded, cache.get(firstRun));
+        assertSame(loaded, cache.get(secondRun));
+
+        Files.writeString(file, "code\nA\nB\n");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        ProcessorConfig.ReferenceSet thirdRun = csvSet("codes", file, null, null, null);
+        thirdRun.setCacheTtlSeconds(60L);
+        ReferenceSetCache.LoadedReferenceSet reloaded = cache.get(thirdRun);
+
+        assertNotSame(loaded, reloaded);
+        assertTrue(reloaded.contains("B"));
+        assertSame(loaded, cache.get(secondRun));
+        assertEquals(new ReferenceSetCache.Stats(1, 2, 1, 0, 1, 0), cache.stats());
+    }
+
+    @Test
+    void longRunKeepsOneSnapshotAfterTtlExpires() throws Exception {
+        Path file = tempDir.resolve("codes.csv");
+        Files.writeString(file, "code\nA\n");
+        ReferenceSetCache cache = cache(4);
+        ProcessorConfig.ReferenceSet definition = csvSet("codes", file, null, null, null);
+        definition.setCacheTtlSeconds(60L);
+
+        ReferenceSetCache.LoadedReferenceSet snapshot = cache.get(definition);
+        Files.writeString(file, "code\nB\n");
+        for (int i = 0; i < 5; i++) {
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(61));
+            ReferenceSetCache.LoadedReferenceSet current = cache.get(definition);
+            assertSame(snapshot, current);
+            assertTrue(current.contains("A"));
+            assertFalse(current.contains("B"));
+        }
+
+        assertEquals(1, cache.stats().loads());
+    }
+
+    @Test
+    void zeroTtlKeepsSetUntilEvictedAsLeastRecentlyUsed() throws Exception {
+        ReferenceSetCache cache = cache(2);
+        ProcessorConfig.ReferenceSet first = csvSetWithCode("first", "A");
+        ProcessorConfig.ReferenceSet second = csvSetWithCode("second", "B");
+        ProcessorConfig.ReferenceSet third = csvSetWithCode("third", "C");
+        first.setCacheTtlSeconds(0L);
+
+        ReferenceSetCache.LoadedReferenceSet firstLoaded = cache.get(first);
+        clock.addAndGet(TimeUnit.DAYS.toNanos(1));
+        assertSame(firstLoaded, cache.get(first));
+
+        ReferenceSetCache.LoadedReferenceSet secondLoaded = cache.get(second);
+        cache.get(third);
+
+        assertSame(secondLoaded, cache.get(second));
+        assertSame(firstLoaded, cache.get(first));
+        ReferenceSetCache.LoadedReferenceSet firstReloaded = cache.get(csvSetWithCode("first", "A"));
+        assertNotSame(firstLoaded, firstReloaded);
+        assertTrue(firstReloaded.contains("A"));
+        ReferenceSetCache.Stats stats = cache.stats();
+        assertEquals(2, stats.cachedSets());
+        assertEquals(2, stats.evictions());
+        assertEquals(4, stats.loads());
+    }
+
+    @Test
+    void failsWhenCsvLacksConfiguredColumn() throws Exception {
+        Path file = tempDir.resolve("codes.csv");
+        Files.writeString(file, "code,label\nA,Alpha\n");
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> cache(4).get(csvSet("codes", file, "code", "name", null)));
+
+        assertTrue(exception.getMessage().contains("does not declare header column 'name'"));
+    }
+
+    private ReferenceSetCache cache(int maxSets) {
+        return new ReferenceSetCache(maxSets, clock::get);
+    }
+
+    private ProcessorConfig.ReferenceSet csvSetWithCode(String name, String code) throws Exception {
+        Path file = tempDir.resolve(name + ".csv");
+        Files.writeString(file, "code\n" + code + "\n");
+        return csvSet(name, file, null, null, null);
+    }
+
+    private static ProcessorConfig.ReferenceSet csvSet(String name, Path file, String keyColumn, String valueColumn, String storage) {
+        ProcessorConfig.ReferenceSet definition = new ProcessorConfig.ReferenceSet();
+        definition.setName(name);
+        definition.setSourceType("csv");
+        definition.setFilePath(file.toString());
+        definition.setKeyColumn(keyColumn);
+        definition.setValueColumn(valueColumn);
+        definition.setStorage(storage);
+        return definition;
+    }
+
+    private static RelationalConnectionConfig connection() {
+        RelationalConnectionConfig connection = new RelationalConnectionConfig();
+        connection.setVendor("h2");
+        connection.setJdbcUrl(JDBC_URL);
+        connection.setUsername("sa");
+        connection.setPassword("");
+        return connection;
+    }
+}
@@ -65,12 +65,10 @@ class ConditionalProcessorTransformTest {
         return transform;
     }
 
-    @SuppressWarnings("unchecked")
     private int expressionCacheSize(ConditionalProcessorTransform transform) throws Exception {
         Field cacheField = ConditionalProcessorTransform.class.getDeclaredField("expressionCache");
         cacheField.setAccessible(true);
-        Map<String, ?> cache = (Map<String, ?>) cacheField.get(transform);
-        return cache.size();
+        return ((ProcessorExpressionCache) cacheField.get(transform)).size();
     }
 }
 
@@ -0,0 +1,133 @@
+package com.etl.processor.transform;
+
+import com.etl.config.processor.ProcessorConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.EvaluationException;
+import org.springframework.expression.Expression;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProcessorExpressionCacheTest {
+
+    @Test
+    void parsesExpressionOnceDuringValidationAndReusesItPerRecord() throws Exception {
+        ExpressionProcessorTransform transform = new ExpressionProcessorTransform();
+        ProcessorConfig.FieldTransform expression = expressionTransform("  #value + '-OK'  ");
+
+        transform.validateConfiguration(entityMapping(), fieldMapping("status"), expression);
+        ProcessorExpressionCache cache = expressionCache(transform);
+        Expression parsed = cache.expression("#value + '-OK'");
+
+        for (int i = 0; i < 250; i++) {
+            assertEquals("A" + i + "-OK", transform.apply("A" + i, expression, context(Map.of())));
+        }
+
+        assertEquals(1, cache.size());
+        assertSame(parsed, cache.expression("#value + '-OK'"));
+    }
+
+    @Test
+    void keepsEvaluatingAfterCompilationWhenValueTypesChange() {
+        ProcessorExpressionCache cache = new ProcessorExpressionCache("expression");
+        Expression expression = cache.expression("#value + 1");
+
+        // Enough interpreted runs for MIXED mode to compile against Integer values first.
+        for (int i = 0; i < 250; i++) {
+            assertEquals(i + 1, cache.evaluate(expression, i, context(Map.of()), Object.class));
+        }
+
+        assertEquals("x1", cache.evaluate(expression, "x", context(Map.of()), Object.class));
+        assertEquals(6L, cache.evaluate(expression, 5L, context(Map.of()), Object.class));
+    }
+
+    @Test
+    void evaluatesRootPropertiesMethodsAndResolvedValues() {
+        ProcessorExpressionCache cache = new ProcessorExpressionCache("expression");
+        Customer customer = new Customer("Ada", "US");
+        ProcessorTransformContext context = new ProcessorTransformContext(customer, null, fieldMapping("key"), Map.of("countryCode", "IN"));
+
+        assertEquals("IN:ADA", cache.evaluate(cache.expression("#resolved['countryCode'] + ':' + #input.name.toUpperCase()"),
+                null, context, String.class));
+        assertEquals(Boolean.TRUE, cache.evaluate(cache.expression("region == 'US' and #source.region == 'US'"),
+                null, context, Boolean.class));
+    }
+
+    @Test
+    void rejectsAssignmentsToTheRecordAndClearsVariablesAfterEvaluation() {
+        ProcessorExpressionCache cache = new ProcessorExpressionCache("expression");
+        Customer customer = new Customer("Ada", "US");
+        ProcessorTransformContext context = new ProcessorTransformContext(customer, null, fieldMapping("name"), Map.of());
+
+        assertThrows(EvaluationException.class,
+                () -> cache.evaluate(cache.expression("#input.name = 'Grace'"), null, context, Object.class));
+        assertEquals("Ada", customer.getName());
+        assertEquals(Boolean.TRUE, cache.evaluate(cache.expression("#input == null and #value == null"), null, null, Boolean.class));
+    }
+
+    @Test
+    void stopsCachingOnceFullWithoutEvictingConfiguredExpressions() {
+        ProcessorExpressionCache cache = new ProcessorExpressionCache("conditional");
+        Expression configured = cache.expression("#value == 'configured'");
+
+        for (int i = 0; i < ProcessorExpressionCache.MAX_CACHED_EXPRESSIONS + 50; i++) {
+            assertEquals(Boolean.TRUE, cache.evaluate(cache.expression("#value == '" + i + "'"), String.valueOf(i), null, Boolean.class));
+        }
+
+        assertTrue(cache.size() <= ProcessorExpressionCache.MAX_CACHED_EXPRESSIONS);
+        assertSame(configured, cache.expression("#value == 'configured'"));
+    }
+
+    private static ProcessorExpressionCache expressionCache(ExpressionProcessorTransform transform) throws Exception {
+        Field cacheField = ExpressionProcessorTransform.class.getDeclaredField("expressionCache");
+        cacheField.setAccessible(true);
+        return (ProcessorExpressionCache) cacheField.get(transform);
+    }
+
+    private static ProcessorTransformContext context(Map<String, Object> input) {
+        return new ProcessorTransformContext(input, null, fieldMapping("status"), Map.of());
+    }
+
+    private static ProcessorConfig.FieldTransform expressionTransform(String expression) {
+        ProcessorConfig.FieldTransform transform = new ProcessorConfig.FieldTransform();
+        transform.setType("expression");
+        transform.setExpression(expression);
+        return transform;
+    }
+
+    private static ProcessorConfig.EntityMapping entityMapping() {
+        ProcessorConfig.EntityMapping entityMapping = new ProcessorConfig.EntityMapping();
+        entityMapping.setSource("Customer");
+        entityMapping.setTarget("CustomerOut");
+        return entityMapping;
+    }
+
+    private static ProcessorConfig.FieldMapping fieldMapping(String to) {
+        ProcessorConfig.FieldMapping fieldMapping = new ProcessorConfig.FieldMapping();
+        fieldMapping.setTo(to);
+        return fieldMapping;
+    }
+
+    public static class Customer {
+        private final String name;
+        private final String region;
+
+        Customer(String name, String region) {
+            this.name = name;
+            this.region = region;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getRegion() {
+            return region;
+        }
+    }
+}
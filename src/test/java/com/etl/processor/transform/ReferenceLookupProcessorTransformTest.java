@@ -0,0 +1,89 @@
+package com.etl.processor.transform;
+
+import com.etl.config.processor.ProcessorConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReferenceLookupProcessorTransformTest {
+
+    private final ReferenceLookupProcessorTransform transform = new ReferenceLookupProcessorTransform();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void translatesThroughReferenceSetAndFallsBackToDefaultOrOriginalValue() throws Exception {
+        ProcessorConfig.ReferenceSet referenceSet = referenceSet("label");
+        ProcessorConfig.FieldTransform withDefault = referenceLookup(referenceSet, "UNKNOWN");
+        ProcessorConfig.FieldTransform withoutDefault = referenceLookup(referenceSet, null);
+
+        transform.validateConfiguration(entityMapping(), fieldMapping(), withDefault);
+        BoundFieldTransform bound = transform.bind(withDefault);
+
+        assertEquals("Police", bound.apply("nypd", null));
+        assertEquals("UNKNOWN", bound.apply("XX", null));
+        assertEquals("XX", transform.apply("XX", withoutDefault));
+    }
+
+    @Test
+    void failsValidationWhenReferenceSetHasNoValueColumn() throws Exception {
+        ProcessorConfig.FieldTransform fieldTransform = referenceLookup(referenceSet(null), null);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> transform.validateConfiguration(entityMapping(), fieldMapping(), fieldTransform));
+
+        assertTrue(exception.getMessage().contains("requires reference set 'agencyCodes' to declare a 'valueColumn'"));
+    }
+
+    @Test
+    void failsValidationWhenReferenceSetIsNotDeclared() {
+        ProcessorConfig.FieldTransform fieldTransform = referenceLookup(null, null);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> transform.validateConfiguration(entityMapping(), fieldMapping(), fieldTransform));
+
+        assertTrue(exception.getMessage().contains("references undeclared reference set 'agencyCodes'"));
+    }
+
+    private ProcessorConfig.ReferenceSet referenceSet(String valueColumn) throws Exception {
+        Path file = tempDir.resolve("agencies.csv");
+        Files.writeString(file, "code,label\nNYPD,Police\nFDNY,Fire\n");
+        ProcessorConfig.ReferenceSet referenceSet = new ProcessorConfig.ReferenceSet();
+        referenceSet.setName("agencyCodes");
+        referenceSet.setSourceType("csv");
+        referenceSet.setFilePath(file.toString());
+        referenceSet.setValueColumn(valueColumn);
+        referenceSet.setCaseSensitive(false);
+        return referenceSet;
+    }
+
+    private static ProcessorConfig.FieldTransform referenceLookup(ProcessorConfig.ReferenceSet referenceSet, Object defaultValue) {
+        ProcessorConfig.FieldTransform fieldTransform = new ProcessorConfig.FieldTransform();
+        fieldTransform.setType("referenceLookup");
+        fieldTransform.setReferenceSet("agencyCodes");
+        fieldTransform.setResolvedReferenceSet(referenceSet);
+        fieldTransform.setDefaultValue(defaultValue);
+        return fieldTransform;
+    }
+
+    private static ProcessorConfig.EntityMapping entityMapping() {
+        ProcessorConfig.EntityMapping entityMapping = new ProcessorConfig.EntityMapping();
+        entityMapping.setSource("Complaint");
+        entityMapping.setTarget("ComplaintOut");
+        return entityMapping;
+    }
+
+    private static ProcessorConfig.FieldMapping fieldMapping() {
+        ProcessorConfig.FieldMapping fieldMapping = new ProcessorConfig.FieldMapping();
+        fieldMapping.setFrom("agency");
+        fieldMapping.setTo("agencyName");
+        return fieldMapping;
+    }
+}
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -268,6 +269,55 @@ class TransformEvaluatorTest {
 		assertEquals("INVALID", evaluator.apply("bad-email", fieldMapping));
 	}
 
+	@Test
+	void compilesEachFieldTransformChainIntoAReusablePlan() {
+		CountingBindTransform counting = new CountingBindTransform();
+		TransformEvaluator evaluator = new TransformEvaluator(List.of(counting));
+		ProcessorConfig.FieldTransform transform = new ProcessorConfig.FieldTransform();
+		transform.setType("countingBind");
+		ProcessorConfig.FieldMapping fieldMapping = new ProcessorConfig.FieldMapping();
+		fieldMapping.setFrom("id");
+		fieldMapping.setTo("id");
+		fieldMapping.setTransforms(List.of(transform, transform));
+
+		FieldTransformPlan plan = evaluator.compile(fieldMapping, null);
+		for (int i = 0; i < 5; i++) {
+			assertEquals("B-B-" + i, plan.apply(String.valueOf(i), null, null, Map.of()));
+		}
+		assertEquals(2, counting.bindCount);
+		assertTrue(plan.isCurrentFor(fieldMapping));
+
+		fieldMapping.setTransforms(List.of(transform));
+		assertFalse(plan.isCurrentFor(fieldMapping));
+		assertEquals("B-7", evaluator.compile(fieldMapping, null).apply("7", null, null, Map.of()));
+		assertEquals(3, counting.bindCount);
+	}
+
+	@Test
+	void exposesResolvedValuesAsReadOnlyViewWithoutCopying() {
+		TransformEvaluator evaluator = builtInTransformEvaluator();
+		ProcessorConfig.FieldTransform expression = new ProcessorConfig.FieldTransform();
+		expression.setType("expression");
+		expression.setExpression("#resolved['countryCode'] + ':' + #value");
+		ProcessorConfig.FieldMapping fieldMapping = new ProcessorConfig.FieldMapping();
+		fieldMapping.setFrom("id");
+		fieldMapping.setTo("key");
+		fieldMapping.setTransforms(List.of(expression));
+		Map<String, Object> resolved = new LinkedHashMap<>();
+
+		resolved.put("countryCode", "US");
+		assertEquals("US:1", evaluator.apply("1", null, fieldMapping, Map.of(), resolved));
+		resolved.put("countryCode", "IN");
+		assertEquals("IN:2", evaluator.apply("2", null, fieldMapping, Map.of(), resolved));
+
+		ProcessorConfig.FieldTransform mutating = new ProcessorConfig.FieldTransform();
+		mutating.setType("expression");
+		mutating.setExpression("#resolved.put('countryCode', 'XX')");
+		fieldMapping.setTransforms(List.of(mutating));
+		assertThrows(UnsupportedOperationException.class, () -> evaluator.apply("3", null, fieldMapping, Map.of(), resolved));
+		assertEquals("IN", resolved.get("countryCode"));
+	}
+
 	private ProcessorConfig.FieldTransform valueMap(Map<String, Object> mappings, Object defaultValue, boolean caseSensitive) {
 		ProcessorConfig.FieldTransform transform = new ProcessorConfig.FieldTransform();
 		transform.setType("valueMap");
@@ -471,4 +521,25 @@ class TransformEvaluatorTest {
 			return "SECOND-OVERRIDE-" + value;
 		}
 	}
+
+	private static final class CountingBindTransform implements ProcessorFieldTransform {
+
+		private int bindCount;
+
+		@Override
+		public String getTransformType() {
+			return "countingBind";
+		}
+
+		@Override
+		public Object apply(Object value, ProcessorConfig.FieldTransform transform) {
+			return "B-" + value;
+		}
+
+		@Override
+		public BoundFieldTransform bind(ProcessorConfig.FieldTransform transform) {
+			bindCount++;
+			return (value, context) -> apply(value, transform);
+		}
+	}
 }
@@ -0,0 +1,149 @@
+package com.etl.processor.transform;
+
+import com.etl.config.processor.ProcessorConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValueMapProcessorTransformTest {
+
+    private final ValueMapProcessorTransform transform = new ValueMapProcessorTransform();
+
+    @Test
+    void caseInsensitiveLookupMatchesEqualsIgnoreCaseAndKeepsFirstDeclaredKey() {
+        Map<String, Object> mappings = new LinkedHashMap<>();
+        mappings.put("usa", "US");
+        mappings.put("USA", "SHADOWED");
+        mappings.put("Straße", "STREET");
+        mappings.put("none", null);
+        BoundFieldTransform bound = transform.bind(valueMap(mappings, "UNKNOWN", false));
+
+        assertEquals("US", bound.apply("UsA", null));
+        assertEquals("STREET", bound.apply("STRAßE", null));
+        assertNull(bound.apply("NONE", null));
+        assertEquals("UNKNOWN", bound.apply("ind", null));
+        assertEquals("UNKNOWN", bound.apply(null, null));
+    }
+
+    @Test
+    void caseSensitiveLookupKeepsOriginalValueWithoutDefault() {
+        BoundFieldTransform bound = transform.bind(valueMap(Map.of("1", "Success", "2", "Fail"), null, true));
+
+        assertEquals("Success", bound.apply(1, null));
+        assertEquals("x", bound.apply("x", null));
+    }
+
+    @Test
+    void loadsMappingsFileWithInlineEntriesTakingPrecedence(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("partner-codes.csv");
+        Files.writeString(file, """
+                \uFEFFpartnerCode;ignored;targetCode
+                P-001;x;ACTIVE
+
+                "P;002";x;INACTIVE
+                P-003;x;ACTIVE
+                P-001;x;DUPLICATE
+                """);
+        ProcessorConfig.FieldTransform fieldTransform = valueMap(Map.of("P-003", "OVERRIDDEN"), "UNMAPPED", true);
+        fieldTransform.setConfig(new HashMap<>(Map.of(
+                "mappingsFile", file.toString(),
+                "keyColumn", "partnerCode",
+                "valueColumn", "targetCode",
+                "delimiter", ";")));
+
+        transform.validateConfiguration(entityMapping(), fieldMapping(), fieldTransform);
+        BoundFieldTransform bound = transform.bind(fieldTransform);
+
+        assertEquals("ACTIVE", bound.apply("P-001", null));
+        assertEquals("INACTIVE", bound.apply("P;002", null));
+        assertEquals("OVERRIDDEN", bound.apply("P-003", null));
+        assertEquals("UNMAPPED", bound.apply("P-999", null));
+    }
+
+    @Test
+    void sharesOneCopyOfRepeatedFileValues(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("codes.csv");
+        StringBuilder content = new StringBuilder("key,value\n");
+        for (int i = 0; i < 5000; i++) {
+            content.append("K").append(i).append(',').append(i % 2 == 0 ? "EVEN" : "ODD").append('\n');
+        }
+        Files.writeString(file, content);
+        ProcessorConfig.FieldTransform fieldTransform = valueMap(null, null, true);
+        fieldTransform.setConfig(Map.of("mappingsFile", file.toString()));
+
+        BoundFieldTransform bound = transform.bind(fieldTransform);
+
+        assertEquals("ODD", bound.apply("K4999", null));
+        assertSame(bound.apply("K0", null), bound.apply("K4998", null));
+    }
+
+    @Test
+    void unboundApplyReadsMappingsFileOnceUntilDeclarationChanges(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("codes.csv");
+        Files.writeString(file, "key,value\nA,Alpha\n");
+        ProcessorConfig.FieldTransform fieldTransform = valueMap(null, "UNMAPPED", true);
+        fieldTransform.setConfig(Map.of("mappingsFile", file.toString()));
+
+        assertEquals("Alpha", transform.apply("A", fieldTransform));
+        Files.writeString(file, "key,value\nA,Changed\n");
+        assertEquals("Alpha", transform.apply("A", fieldTransform));
+
+        fieldTransform.setConfig(Map.of("mappingsFile", file.toString()));
+        assertEquals("Changed", transform.apply("A", fieldTransform));
+    }
+
+    @Test
+    void failsValidationWhenMappingsFileLacksConfiguredColumns(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("codes.csv");
+        Files.writeString(file, "code,label\nA,Alpha\n");
+        ProcessorConfig.FieldTransform fieldTransform = valueMap(null, null, true);
+        fieldTransform.setConfig(Map.of("mappingsFile", file.toString()));
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> transform.validateConfiguration(entityMapping(), fieldMapping(), fieldTransform));
+
+        assertTrue(exception.getMessage().contains("must declare header columns 'key' and 'value'"));
+    }
+
+    @Test
+    void failsValidationWithoutInlineMappingsOrMappingsFile() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> transform.validateConfiguration(entityMapping(), fieldMapping(), valueMap(null, null, true)));
+
+        assertTrue(exception.getMessage().contains("requires a non-empty 'mappings' object or transforms[].config.mappingsFile"));
+    }
+
+    private static ProcessorConfig.FieldTransform valueMap(Map<String, Object> mappings, Object defaultValue, boolean caseSensitive) {
+        ProcessorConfig.FieldTransform fieldTransform = new ProcessorConfig.FieldTransform();
+        fieldTransform.setType("valueMap");
+        fieldTransform.setMappings(mappings);
+        fieldTransform.setDefaultValue(defaultValue);
+        fieldTransform.setCaseSensitive(caseSensitive);
+        return fieldTransform;
+    }
+
+    private static ProcessorConfig.EntityMapping entityMapping() {
+        ProcessorConfig.EntityMapping entityMapping = new ProcessorConfig.EntityMapping();
+        entityMapping.setSource("Partner");
+        entityMapping.setTarget("PartnerOut");
+        return entityMapping;
+    }
+
+    private static ProcessorConfig.FieldMapping fieldMapping() {
+        ProcessorConfig.FieldMapping fieldMapping = new ProcessorConfig.FieldMapping();
+        fieldMapping.setFrom("partnerCode");
+        fieldMapping.setTo("status");
+        return fieldMapping;
+    }
+}
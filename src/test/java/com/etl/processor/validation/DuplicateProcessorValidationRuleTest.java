@@ -150,8 +150,14 @@ class DuplicateProcessorValidationRuleTest {
         duplicateRule.setStorageMode("memory");
         assertEquals(DuplicateRule.StorageMode.MEMORY, DuplicateProcessorValidationRule.configuredStorageMode(duplicateRule));
 
+        duplicateRule.setStorageMode("winnerOnly");
+        assertEquals(DuplicateRule.StorageMode.WINNER_ONLY, DuplicateProcessorValidationRule.configuredStorageMode(duplicateRule));
+
         duplicateRule.setStorageMode("embedded-db");
         assertEquals(DuplicateRule.StorageMode.EMBEDDED_DB, DuplicateProcessorValidationRule.configuredStorageMode(duplicateRule));
+
+        duplicateRule.setStorageMode("externalSort");
+        assertEquals(DuplicateRule.StorageMode.EXTERNAL_SORT, DuplicateProcessorValidationRule.configuredStorageMode(duplicateRule));
     }
 
     @Test
@@ -165,7 +171,7 @@ class DuplicateProcessorValidationRuleTest {
         );
 
         assertTrue(exception.getMessage().contains("storageMode"));
-        assertTrue(exception.getMessage().contains("auto, memory, or embeddedDb"));
+        assertTrue(exception.getMessage().contains("auto, memory, winnerOnly, embeddedDb, or externalSort"));
     }
 
   @Test
@@ -6,10 +6,13 @@ import com.etl.enums.ModelFormat;
 import com.etl.processor.ProcessorExtensionDefaults;
 import com.etl.runtime.FileIngestionRuntimeSupport;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.scope.context.StepSynchronizationManager;
 import org.springframework.batch.test.MetaDataInstanceFactory;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -130,6 +133,45 @@ class ValidationRuleEvaluatorTest {
           }
         }
 
+  @Test
+  void failsConfigurationValidationForInvalidTimeFormatPattern() {
+    ProcessorConfig.EntityMapping mapping = mapping();
+    ProcessorConfig.FieldMapping eventTime = mapping.getFields().get(1);
+    ProcessorConfig.FieldRule timeFormat = eventTime.getRules().get(0);
+    timeFormat.setPattern("HH:mm:ss{");
+
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+            () -> new TimeFormatProcessorValidationRule().validateConfiguration(mapping, eventTime, timeFormat));
+
+    assertTrue(exception.getMessage().contains("has invalid pattern 'HH:mm:ss{'"));
+  }
+
+  @Test
+  void returnsIssueForValueOutsideReferenceSet(@TempDir Path tempDir) throws Exception {
+    Path file = tempDir.resolve("descriptions.csv");
+    Files.writeString(file, "code\nok\nwarn\n");
+    ProcessorConfig.ReferenceSet referenceSet = new ProcessorConfig.ReferenceSet();
+    referenceSet.setName("descriptionCodes");
+    referenceSet.setSourceType("csv");
+    referenceSet.setFilePath(file.toString());
+    ProcessorConfig.EntityMapping mapping = mapping();
+    ProcessorConfig.FieldMapping description = mapping.getFields().get(2);
+    ProcessorConfig.FieldRule rule = new ProcessorConfig.FieldRule();
+    rule.setType("referenceSet");
+    rule.setReferenceSet("descriptionCodes");
+    rule.setResolvedReferenceSet(referenceSet);
+    description.setRules(List.of(rule));
+
+    evaluator.validateConfiguration(mapping, description, rule, null);
+    List<ValidationIssue> issues = evaluator.evaluate(new EventRecord("EVT-1", "08:30:00", "bad"), mapping);
+
+    assertTrue(evaluator.evaluate(new EventRecord("EVT-2", "08:30:00", "warn"), mapping).isEmpty());
+    assertTrue(evaluator.evaluate(new EventRecord("EVT-3", "08:30:00", " "), mapping).isEmpty());
+    assertEquals(1, issues.size());
+    assertEquals("referenceSet", issues.get(0).rule());
+    assertEquals("description must be one of reference set descriptionCodes", issues.get(0).message());
+  }
+
   @Test
   void supportsCustomProcessorRuleExtensions() {
     ValidationRuleEvaluator customEvaluator = new ValidationRuleEvaluator(List.of(
@@ -8,9 +8,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.batch.item.file.transform.DefaultFieldSet;
 import org.springframework.batch.item.file.transform.FieldSet;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -47,6 +49,17 @@ class DynamicFieldSetMapperTest {
     assertEquals(EtlErrorCategory.RUNTIME, EtlExceptionDetails.categoryOf(failure));
   }
 
+  @Test
+  void propagatesErrorsFromSettersWithoutWrappingThem() {
+    DynamicFieldSetMapper<FailingRow> mapper = new DynamicFieldSetMapper<>(
+        List.of(column("name", "string")),
+        FailingRow.class
+    );
+
+    assertThrows(StackOverflowError.class, () -> mapper.mapFieldSet(new DefaultFieldSet(new String[] {"Alice"}, new String[] {"name"})));
+    assertThrows(StackOverflowError.class, () -> mapper.mapRecord("Alice", new int[] {0}, new int[] {5}));
+  }
+
   @Test
   void failsFastWhenConfiguredFieldIsNotWritable() {
     Exception failure = assertThrows(
@@ -62,6 +75,81 @@ class DynamicFieldSetMapperTest {
     assertTrue(failure.getMessage().contains(GetterOnlyCustomerRow.class.getName()));
   }
 
+    @Test
+    void convertsTypedColumnsPerBindingAndTreatsBlankTokensAsNull() {
+        DynamicFieldSetMapper<TypedRow> mapper = new DynamicFieldSetMapper<>(
+                List.of(column("count", "long"), column("amount", "double"), column("active", "boolean"),
+                        column("score", "integer"), column("joined", "date"), column("label", "string")),
+                TypedRow.class
+        );
+
+        TypedRow row = mapper.mapFieldSet(new DefaultFieldSet(
+                new String[]{" 42 ", "3.5", "TRUE", "  ", "2024-02-29", "  padded  "},
+                new String[]{"count", "amount", "active", "score", "joined", "label"}
+        ));
+
+        assertEquals(42L, row.getCount());
+        assertEquals(3.5d, row.getAmount());
+        assertTrue(row.isActive());
+        assertNull(row.getScore());
+        assertEquals(LocalDate.of(2024, 2, 29), row.getJoined());
+        assertEquals("padded", row.getLabel());
+    }
+
+    @Test
+    void mapsBufferRangesWithSameConversionsAsFieldSets() {
+        DynamicFieldSetMapper<TypedRow> mapper = new DynamicFieldSetMapper<>(
+                List.of(column("count", "long"), column("amount", "double"), column("active", "boolean"),
+                        column("score", "integer"), column("joined", "date"), column("label", "string")),
+                TypedRow.class
+        );
+        String record = "xx 42 |3.5|TRUE|  |2024-02-29|  padded  yy";
+        int[] starts = {2, 7, 11, 16, 19, 30};
+        int[] ends = {6, 10, 15, 18, 29, 40};
+
+        TypedRow row = mapper.mapRecord(record, starts, ends);
+
+        assertEquals(42L, row.getCount());
+        assertEquals(3.5d, row.getAmount());
+        assertTrue(row.isActive());
+        assertNull(row.getScore());
+        assertEquals(LocalDate.of(2024, 2, 29), row.getJoined());
+        assertEquals("padded", row.getLabel());
+
+        Exception failure = assertThrows(Exception.class,
+                () -> mapper.mapRecord("x|1|true||2024-01-01|y", new int[]{0, 2, 4, 9, 10, 21}, new int[]{1, 3, 8, 9, 20, 22}));
+        assertTrue(failure.getCause().getMessage().contains("Failed converting 'x' to long"));
+    }
+
+    @Test
+    void bindsColumnsByFieldSetNameRatherThanConfigPosition() {
+        DynamicFieldSetMapper<CustomerRow> mapper = new DynamicFieldSetMapper<>(
+                List.of(column("id", "integer"), column("name", "string"), column("email", "string")),
+                CustomerRow.class
+        );
+
+        CustomerRow row = mapper.mapFieldSet(new DefaultFieldSet(
+                new String[]{"carol@example.com", "Carol", "103"},
+                new String[]{"email", "name", "id"}
+        ));
+
+        assertEquals(103, row.getId());
+        assertEquals("Carol", row.getName());
+        assertEquals("carol@example.com", row.getEmail());
+    }
+
+    @Test
+    void rejectsBlankTokenForPrimitiveProperty() {
+        DynamicFieldSetMapper<CustomerRow> mapper = new DynamicFieldSetMapper<>(
+                List.of(column("id", "integer"), column("name", "string"), column("email", "string")),
+                CustomerRow.class
+        );
+
+        Exception failure = assertThrows(Exception.class, () -> mapper.mapFieldSet(fieldSet(" ", "Alice", "alice@example.com")));
+
+        assertEquals(EtlErrorCategory.RUNTIME, EtlExceptionDetails.categoryOf(failure));
+    }
+
     private static ColumnConfig column(String name, String type) {
         ColumnConfig column = new ColumnConfig();
         column.setName(name);
@@ -106,6 +194,63 @@ class DynamicFieldSetMapperTest {
         }
     }
 
+    public static class TypedRow {
+        private long count;
+        private double amount;
+        private boolean active;
+        private Integer score;
+        private LocalDate joined;
+        private String label;
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+
+        public double getAmount() {
+            return amount;
+        }
+
+        public void setAmount(double amount) {
+            this.amount = amount;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public Integer getScore() {
+            return score;
+        }
+
+        public void setScore(Integer score) {
+            this.score = score;
+        }
+
+        public LocalDate getJoined() {
+            return joined;
+        }
+
+        public void setJoined(LocalDate joined) {
+            this.joined = joined;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public void setLabel(String label) {
+            this.label = label;
+        }
+    }
+
   public static class GetterOnlyCustomerRow {
     private int id;
     private String email;
@@ -122,6 +267,16 @@ class DynamicFieldSetMapperTest {
       return email;
     }
   }
-}
 
+  public static class FailingRow {
+    private String name;
+
+    public String getName() {
+      return name;
+    }
 
+    public void setName(String name) {
+      throw new StackOverflowError("simulated");
+    }
+  }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Files;
@@ -12,6 +13,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.etl.config.ColumnConfig;
+import com.etl.config.job.JobConfig;
 import com.etl.config.source.CsvSourceConfig;
 import com.etl.config.source.SourceConfig;
 import com.etl.config.source.XmlSourceConfig;
@@ -134,6 +136,43 @@ class DynamicReaderFactoryTest {
     assertEquals("obrien's@example.com", record.getEmail());
   }
 
+  @Test
+  void createsMappedParallelCsvReaderWhenParserModeIsMapped(@TempDir Path tempDir) throws Exception {
+    Path inputFile = tempDir.resolve("customers-mapped.csv");
+    Files.writeString(inputFile, "id,name,email\n1,\"Doe, John\",john@example.com\n2,Jane,jane@example.com\n");
+
+    CsvSourceConfig config = getCsvSourceConfig(inputFile);
+    CsvSourceConfig.ParserConfig parser = new CsvSourceConfig.ParserConfig();
+    parser.setMode("mapped");
+    parser.setParallelism(2);
+    config.setParser(parser);
+
+    ItemReader<Customers> reader = factory.createReader(config, Customers.class);
+    ItemStream stream = (ItemStream) reader;
+    stream.open(new ExecutionContext());
+    Customers first = reader.read();
+    Customers second = reader.read();
+    Customers end = reader.read();
+    stream.close();
+
+    assertEquals("Doe, John", first.getName());
+    assertEquals(2, second.getId());
+    assertNull(end);
+  }
+
+  @Test
+  void rejectsPartitioningForFormatsWithoutPartitionCapability(@TempDir Path tempDir) {
+    XmlSourceConfig config = getXmlSourceConfig(tempDir.resolve("customers.xml"));
+
+    FactoryException partitionerFailure = assertThrows(FactoryException.class,
+        () -> factory.createPartitioner(config, new JobConfig.PartitioningConfig()));
+    FactoryException readerFailure = assertThrows(FactoryException.class,
+        () -> factory.createPartitionReader(config, Customer.class, new ExecutionContext()));
+
+    assertTrue(partitionerFailure.getMessage().endsWith("which does not support partitioned steps."));
+    assertTrue(readerFailure.getMessage().endsWith("which does not support partitioned steps."));
+  }
+
   @Test
   void failsFastWhenMultipleReadersRegisterSameFormat() {
     FactoryException failure = assertThrows(FactoryException.class,
@@ -1,6 +1,7 @@
 package com.etl.reader;
 
 import com.etl.config.ColumnConfig;
+import com.etl.config.job.JobConfig;
 import com.etl.config.relational.RelationalConnectionConfig;
 import com.etl.config.source.RelationalSourceConfig;
 import com.etl.exception.EtlErrorCategory;
@@ -19,11 +20,13 @@ import java.sql.DriverManager;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class RelationalDynamicReaderTest {
 
@@ -90,6 +93,206 @@ class RelationalDynamicReaderTest {
     assertEquals(EtlErrorCategory.SOURCE_READ, EtlExceptionDetails.categoryOf(failure));
   }
 
+    @Test
+    void partitionsByKeyRangeAndReadsEveryRowExactlyOnce() throws Exception {
+        setupCustomersTable();
+        RelationalSourceConfig config = relationalSourceConfig(null);
+        JobConfig.PartitioningConfig partitioning = new JobConfig.PartitioningConfig();
+        partitioning.setEnabled(true);
+        partitioning.setGridSize(2);
+        partitioning.setKeyColumn("id");
+
+        Map<String, ExecutionContext> partitions = factory.createPartitioner(config, partitioning).partition(2);
+
+        assertEquals(2, partitions.size());
+        List<Integer> ids = new ArrayList<>();
+        for (ExecutionContext partition : partitions.values()) {
+            ItemReader<Customers> reader = factory.createPartitionReader(config, Customers.class, partition);
+            ((ItemStream) reader).open(new ExecutionContext());
+            Customers record;
+            while ((record = reader.read()) != null) {
+                ids.add(record.getId());
+            }
+            ((ItemStream) reader).close();
+        }
+        assertEquals(List.of(1, 2, 3), ids);
+    }
+
+    @Test
+    void readsRowsWithNullPartitionKeyInDedicatedPartition() throws Exception {
+        setupCustomersTable();
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO customers (id, name, email) VALUES (NULL, 'No Key', 'nokey@example.com')");
+        }
+        JobConfig.PartitioningConfig partitioning = new JobConfig.PartitioningConfig();
+        partitioning.setEnabled(true);
+        partitioning.setGridSize(2);
+        partitioning.setKeyColumn("id");
+
+        for (RelationalSourceConfig config : List.of(relationalSourceConfig(null), pagedSourceConfig())) {
+            Map<String, ExecutionContext> partitions = factory.createPartitioner(config, partitioning).partition(2);
+
+            assertEquals(3, partitions.size());
+            List<String> names = new ArrayList<>();
+            for (ExecutionContext partition : partitions.values()) {
+                ItemReader<Customers> reader = factory.createPartitionReader(config, Customers.class, partition);
+                ((ItemStream) reader).open(new ExecutionContext());
+                Customers record;
+                while ((record = reader.read()) != null) {
+                    names.add(record.getName());
+                }
+                ((ItemStream) reader).close();
+            }
+            assertEquals(List.of("Jane Doe", "John Doe", "No Key", "Ravi Kumar"), names.stream().sorted().toList());
+        }
+    }
+
+    @Test
+    void keysetReaderPagesInKeyOrderAndResumesAfterLastSavedKey() throws Exception {
+        setupCustomersTable();
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO customers (id, name, email) VALUES (5, 'Mei Lin', 'mei@example.com'), (4, 'Ana Silva', 'ana@example.com')");
+        }
+        RelationalSourceConfig config = relationalSourceConfig(null);
+        config.setSortKey("id");
+        config.setPageSize(2);
+
+        ItemReader<Customers> reader = factory.createReader(config, Customers.class);
+        ExecutionContext executionContext = new ExecutionContext();
+        ((ItemStream) reader).open(executionContext);
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(reader.read().getId());
+        }
+        ((ItemStream) reader).update(executionContext);
+        ((ItemStream) reader).close();
+
+        // Rows inserted below the saved key after the failure must not be re-read on restart.
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO customers (id, name, email) VALUES (0, 'Late Row', 'late@example.com')");
+        }
+        ItemReader<Customers> restarted = factory.createReader(config, Customers.class);
+        ((ItemStream) restarted).open(executionContext);
+        Customers record;
+        while ((record = restarted.read()) != null) {
+            ids.add(record.getId());
+        }
+        ((ItemStream) restarted).close();
+
+        assertEquals(List.of(1, 2, 3, 4, 5), ids);
+    }
+
+    @Test
+    void keysetReaderSelectsSortKeyThatIsNotAConfiguredField() throws Exception {
+        setupCustomersTable();
+        RelationalSourceConfig config = relationalSourceConfig(null);
+        config.setFields(config.getFields().stream()
+                .filter(field -> !field.getName().equals("id"))
+                .toList());
+        config.setSortKey("id");
+        config.setPageSize(2);
+
+        ItemReader<Customers> reader = factory.createReader(config, Customers.class);
+        ((ItemStream) reader).open(new ExecutionContext());
+        List<String> names = new ArrayList<>();
+        Customers record;
+        while ((record = reader.read()) != null) {
+            names.add(record.getName());
+        }
+        ((ItemStream) reader).close();
+
+        assertEquals(List.of("John Doe", "Jane Doe", "Ravi Kumar"), names);
+    }
+
+    @Test
+    void keysetReaderPagesWithinEachPartitionRangeOfAnExplicitQuery() throws Exception {
+        setupCustomersTable();
+        RelationalSourceConfig config = relationalSourceConfig("SELECT id, name, email FROM customers");
+        config.setSortKey("id");
+        config.setPageSize(1);
+        JobConfig.PartitioningConfig partitioning = new JobConfig.PartitioningConfig();
+        partitioning.setEnabled(true);
+        partitioning.setGridSize(2);
+        partitioning.setKeyColumn("id");
+
+        Map<String, ExecutionContext> partitions = factory.createPartitioner(config, partitioning).partition(2);
+
+        List<Integer> ids = new ArrayList<>();
+        for (ExecutionContext partition : partitions.values()) {
+            ItemReader<Customers> reader = factory.createPartitionReader(config, Customers.class, partition);
+            ((ItemStream) reader).open(new ExecutionContext());
+            Customers record;
+            while ((record = reader.read()) != null) {
+                ids.add(record.getId());
+            }
+            ((ItemStream) reader).close();
+        }
+        assertEquals(List.of(1, 2, 3), ids.stream().sorted().toList());
+    }
+
+    @Test
+    void keysetPartitionsReadEveryNullKeyRowWhenThereAreMoreThanOnePage() throws Exception {
+        setupCustomersTable();
+        insertNullKeyRows(5);
+        RelationalSourceConfig config = relationalSourceConfig(null);
+        config.setSortKey("id");
+        config.setPageSize(2);
+        JobConfig.PartitioningConfig partitioning = new JobConfig.PartitioningConfig();
+        partitioning.setEnabled(true);
+        partitioning.setGridSize(2);
+        partitioning.setKeyColumn("id");
+
+        Map<String, ExecutionContext> partitions = factory.createPartitioner(config, partitioning).partition(2);
+
+        List<String> names = new ArrayList<>();
+        for (ExecutionContext partition : partitions.values()) {
+            ItemReader<Customers> reader = factory.createPartitionReader(config, Customers.class, partition);
+            ((ItemStream) reader).open(new ExecutionContext());
+            Customers record;
+            while ((record = reader.read()) != null) {
+                names.add(record.getName());
+            }
+            ((ItemStream) reader).close();
+        }
+        assertEquals(8, names.size());
+        assertEquals(List.of("No Key 1", "No Key 2", "No Key 3", "No Key 4", "No Key 5"),
+                names.stream().filter(name -> name.startsWith("No Key")).sorted().toList());
+    }
+
+    @Test
+    void keysetReaderFailsOnNullSortKeyInsteadOfDroppingRows() throws Exception {
+        setupCustomersTable();
+        insertNullKeyRows(5);
+        RelationalSourceConfig config = relationalSourceConfig(null);
+        config.setSortKey("id");
+        config.setPageSize(2);
+
+        ItemReader<Customers> reader = factory.createReader(config, Customers.class);
+        ((ItemStream) reader).open(new ExecutionContext());
+        try {
+            Exception failure = assertThrows(Exception.class, () -> {
+                while (reader.read() != null) {
+                    // drain until the NULL-key rows are reached
+                }
+            });
+            assertTrue(failure.getMessage().contains("NULL sortKey 'id'"), failure.getMessage());
+        } finally {
+            ((ItemStream) reader).close();
+        }
+    }
+
+    private static void insertNullKeyRows(int count) throws Exception {
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            for (int i = 1; i <= count; i++) {
+                statement.execute("INSERT INTO customers (id, name, email) VALUES (NULL, 'No Key " + i + "', 'nokey" + i + "@example.com')");
+            }
+        }
+    }
+
     private static void setupCustomersTable() throws Exception {
         try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
              Statement statement = connection.createStatement()) {
@@ -101,6 +304,12 @@ class RelationalDynamicReaderTest {
         }
     }
 
+    private static RelationalSourceConfig pagedSourceConfig() {
+        RelationalSourceConfig config = relationalSourceConfig(null);
+        config.setSortKey("name");
+        return config;
+    }
+
     private static RelationalSourceConfig relationalSourceConfig(String query) {
         ColumnConfig id = new ColumnConfig();
         id.setName("id");
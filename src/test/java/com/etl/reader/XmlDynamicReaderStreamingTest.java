@@ -28,6 +28,8 @@ import java.util.Map;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class XmlDynamicReaderStreamingTest {
 
@@ -135,6 +137,72 @@ class XmlDynamicReaderStreamingTest {
     assertEquals(2, customStrategy.lastCustomerCount);
   }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamingSchemaModeValidatesDuringReadAndFailsOnInvalidFragment() throws Exception {
+        Path inputFile = tempDir.resolve("schema-customers.xml");
+        Files.writeString(inputFile, """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <Customers>
+                  <Customer><id>1</id><name>John Doe</name><email>john@example.com</email></Customer>
+                  <Customer><id>2</id><name>Jane Doe</name></Customer>
+                </Customers>
+                """);
+        Path schemaFile = tempDir.resolve("customers.xsd");
+        Files.writeString(schemaFile, """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <xs:schema xmlns:xs="http://www.w3.org/2001/XMLSchema">
+                  <xs:element name="Customers">
+                    <xs:complexType>
+                      <xs:sequence>
+                        <xs:element name="Customer" maxOccurs="unbounded">
+                          <xs:complexType>
+                            <xs:sequence>
+                              <xs:element name="id" type="xs:int"/>
+                              <xs:element name="name" type="xs:string"/>
+                              <xs:element name="email" type="xs:string"/>
+                            </xs:sequence>
+                          </xs:complexType>
+                        </xs:element>
+                      </xs:sequence>
+                    </xs:complexType>
+                  </xs:element>
+                </xs:schema>
+                """);
+
+        XmlSourceConfig config = xmlConfig(inputFile);
+        config.setFlatteningStrategy("DirectXml");
+        XmlSourceConfig.ValidationConfig validation = new XmlSourceConfig.ValidationConfig();
+        validation.setSchemaPath(schemaFile.toString());
+        validation.setSchemaMode("streaming");
+        config.setValidation(validation);
+
+        Class<Object> recordClass = (Class<Object>) (Class<?>) Customer.class;
+        ItemReader<Object> reader = new XmlDynamicReader<>().getReader(config, recordClass);
+        ItemStream itemStream = (ItemStream) reader;
+        itemStream.open(new ExecutionContext());
+        try {
+            Customer first = (Customer) reader.read();
+            assertEquals(1, first.getId());
+            Exception failure = assertThrows(Exception.class, () -> {
+                while (reader.read() != null) {
+                    // drain until the schema violation in the second fragment surfaces
+                }
+            });
+            assertTrue(causeMessages(failure).contains("XML schema validation failed"), causeMessages(failure));
+        } finally {
+            itemStream.close();
+        }
+    }
+
+    private static String causeMessages(Throwable failure) {
+        StringBuilder messages = new StringBuilder();
+        for (Throwable current = failure; current != null; current = current.getCause()) {
+            messages.append(current.getMessage()).append('\n');
+        }
+        return messages.toString();
+    }
+
     private XmlSourceConfig xmlConfig(Path inputFile) {
         XmlSourceConfig config = new XmlSourceConfig();
         config.setSourceName("Customers");
@@ -0,0 +1,153 @@
+package com.etl.reader.impl;
+
+import com.etl.config.ColumnConfig;
+import com.etl.reader.mapper.DynamicFieldSetMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvCharBufferItemReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void tokenizesQuotedFieldsEmbeddedLineBreaksAndEscapedQuotesAcrossBufferRefills() throws Exception {
+        String csv = "1,\"Smith, John\",\"said \"\"hi\"\"\"\r\n"
+                + "2,\"line one\nline two\",\n"
+                + "3,  \"padded\"  ,plain \"quote\"\n"
+                + ",,\n"
+                + "4,\"tail\"x,last";
+        // A tiny buffer forces compaction and growth in the middle of records.
+        CsvRecordTokenizer tokenizer = new CsvRecordTokenizer(new StringReader(csv), ",", '"', 4);
+
+        assertEquals(List.of("1", "Smith, John", "said \"hi\""), nextRecord(tokenizer));
+        assertEquals(1, tokenizer.lineNumber());
+        assertEquals(List.of("2", "line one\nline two", ""), nextRecord(tokenizer));
+        assertEquals(2, tokenizer.lineNumber());
+        assertEquals(List.of("3", "padded", "plain \"quote\""), nextRecord(tokenizer));
+        assertEquals(4, tokenizer.lineNumber());
+        assertEquals(List.of("", "", ""), nextRecord(tokenizer));
+        assertEquals(List.of("4", "\"tail\"x", "last"), nextRecord(tokenizer));
+        assertFalse(tokenizer.next());
+    }
+
+    @Test
+    void supportsMultiCharacterDelimitersAndCustomQuotes() throws Exception {
+        CsvRecordTokenizer tokenizer = new CsvRecordTokenizer(
+                new StringReader("a||'b||c'||d|e\n"), "||", '\'', 3);
+
+        assertEquals(List.of("a", "b||c", "d|e"), nextRecord(tokenizer));
+        assertFalse(tokenizer.next());
+    }
+
+    @Test
+    void failsOnUnterminatedQuotedField() throws Exception {
+        CsvRecordTokenizer tokenizer = new CsvRecordTokenizer(new StringReader("1,ok\n2,\"open"), ",", '"', 64);
+
+        assertEquals(List.of("1", "ok"), nextRecord(tokenizer));
+        FlatFileParseException failure = assertThrows(FlatFileParseException.class, tokenizer::next);
+        assertEquals(2, failure.getLineNumber());
+    }
+
+    @Test
+    void readsMappedRowsSkippingHeaderAndCommentsAndRestartsByCount() throws Exception {
+        Path file = tempDir.resolve("customers.csv");
+        Files.writeString(file, "id,name\n# exported nightly\n1,\"Ann\"\n2,Bob\n3,\"Cy, Jr\"\n", StandardCharsets.UTF_8);
+
+        CsvCharBufferItemReader<Customer> reader = reader(file);
+        ExecutionContext context = new ExecutionContext();
+        reader.open(context);
+        assertEquals("Ann", reader.read().getName());
+        reader.update(context);
+        reader.close();
+
+        CsvCharBufferItemReader<Customer> restarted = reader(file);
+        restarted.open(context);
+        Customer second = restarted.read();
+        assertEquals(2, second.getId());
+        assertEquals("Bob", second.getName());
+        assertEquals("Cy, Jr", restarted.read().getName());
+        assertNull(restarted.read());
+        restarted.close();
+    }
+
+    @Test
+    void reportsLineNumberAndInputForWrongColumnCount() throws Exception {
+        Path file = tempDir.resolve("broken.csv");
+        Files.writeString(file, "id,name\n1,Ann\n2,Bob,extra\n", StandardCharsets.UTF_8);
+
+        CsvCharBufferItemReader<Customer> reader = reader(file);
+        reader.open(new ExecutionContext());
+        reader.read();
+        FlatFileParseException failure = assertThrows(FlatFileParseException.class, reader::read);
+        reader.close();
+
+        assertEquals(3, failure.getLineNumber());
+        assertEquals("2,Bob,extra", failure.getInput());
+        assertTrue(failure.getMessage().startsWith("Parsing error at line: 3"));
+    }
+
+    private static CsvCharBufferItemReader<Customer> reader(Path file) {
+        return new CsvCharBufferItemReader<>(
+                new FileSystemResource(file),
+                StandardCharsets.UTF_8,
+                ",",
+                '"',
+                1,
+                2,
+                new DynamicFieldSetMapper<>(List.of(column("id", "int"), column("name", "String")), Customer.class));
+    }
+
+    private static List<String> nextRecord(CsvRecordTokenizer tokenizer) throws Exception {
+        assertTrue(tokenizer.next());
+        List<String> fields = new ArrayList<>();
+        for (int i = 0; i < tokenizer.fieldCount(); i++) {
+            fields.add(tokenizer.chars().subSequence(tokenizer.starts()[i], tokenizer.ends()[i]).toString());
+        }
+        return fields;
+    }
+
+    private static ColumnConfig column(String name, String type) {
+        ColumnConfig column = new ColumnConfig();
+        column.setName(name);
+        column.setType(type);
+        return column;
+    }
+
+    public static class Customer {
+        private int id;
+        private String name;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.etl.reader.impl;
+
+import com.etl.config.ColumnConfig;
+import com.etl.reader.mapper.DynamicFieldSetMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvLineRangePartitionerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void keepsQuotedValuesWithEmbeddedLineBreaksInsideOnePartition() throws Exception {
+        Path file = tempDir.resolve("notes.csv");
+        StringBuilder csv = new StringBuilder("id,note\n");
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            String note = "first line " + i + "\nsecond line\n\nfourth, with comma";
+            csv.append(i).append(",\"").append(note).append("\"\n");
+            expected.add(i + "=" + note);
+        }
+        Files.writeString(file, csv.toString(), StandardCharsets.UTF_8);
+
+        Map<String, ExecutionContext> partitions = new CsvLineRangePartitioner(file, true, '"').partition(7);
+
+        assertTrue(partitions.size() > 1);
+        List<String> actual = new ArrayList<>();
+        for (ExecutionContext partition : partitions.values()) {
+            CsvCharBufferItemReader<Note> reader = new CsvCharBufferItemReader<>(
+                    new FileByteRangeResource(file,
+                            partition.getLong(CsvLineRangePartitioner.START_OFFSET_KEY),
+                            partition.getLong(CsvLineRangePartitioner.END_OFFSET_KEY)),
+                    StandardCharsets.UTF_8, ",", '"', 0, 2,
+                    new DynamicFieldSetMapper<>(List.of(column("id", "int"), column("note", "String")), Note.class));
+            reader.open(new ExecutionContext());
+            for (Note note = reader.read(); note != null; note = reader.read()) {
+                actual.add(note.getId() + "=" + note.getNote());
+            }
+            reader.close();
+        }
+
+        assertEquals(expected, actual);
+    }
+
+    private static ColumnConfig column(String name, String type) {
+        ColumnConfig column = new ColumnConfig();
+        column.setName(name);
+        column.setType(type);
+        return column;
+    }
+
+    public static class Note {
+        private int id;
+        private String note;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getNote() {
+            return note;
+        }
+
+        public void setNote(String note) {
+            this.note = note;
+        }
+    }
+}
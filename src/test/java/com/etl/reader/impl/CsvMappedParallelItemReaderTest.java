@@ -0,0 +1,161 @@
+package com.etl.reader.impl;
+
+import com.etl.config.ColumnConfig;
+import com.etl.reader.mapper.DynamicFieldSetMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.core.io.FileSystemResource;
+
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvMappedParallelItemReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void splitsOnlyAtLineBreaksOutsideQuotesAndCountsPrecedingLines() throws Exception {
+        Path file = tempDir.resolve("split.csv");
+        Files.writeString(file, "1,\"a\nb\"\n2,\"c\r\nd\"\r\n3,e\n", StandardCharsets.UTF_8);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<CsvRecordBlockSplitter.Block> blocks =
+                    CsvRecordBlockSplitter.split(channel, 0L, channel.size(), (byte) '"', 3, executor);
+
+            assertEquals(List.of(
+                    new CsvRecordBlockSplitter.Block(0L, 8L, 0L),
+                    new CsvRecordBlockSplitter.Block(8L, 18L, 2L),
+                    new CsvRecordBlockSplitter.Block(18L, 22L, 4L)), blocks);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void producesTheSameRowsInOrderAsTheStreamingReaderWithTinyBlocks() throws Exception {
+        Path file = tempDir.resolve("customers.csv");
+        StringBuilder csv = new StringBuilder("id,name\n# exported nightly\n");
+        Random random = new Random(42);
+        for (int i = 0; i < 2_000; i++) {
+            csv.append(i).append(',');
+            switch (random.nextInt(5)) {
+                case 0 -> csv.append("\"Smith, ").append(i).append('"');
+                case 1 -> csv.append("\"multi\nline ").append(i).append('"');
+                case 2 -> csv.append("\"say \"\"").append(i).append("\"\"\"");
+                case 3 -> csv.append("plain").append(i);
+                default -> csv.append("  \"ünïcödé ").append(i).append("\"  ");
+            }
+            csv.append(random.nextBoolean() ? "\r\n" : "\n");
+        }
+        Files.writeString(file, csv.toString(), StandardCharsets.UTF_8);
+
+        List<String> expected = readAll(streamingReader(file));
+        List<String> actual = readAll(mappedReader(file, 4, 61));
+
+        assertEquals(2_000, expected.size());
+        assertEquals(expected, actual);
+        // A budget below one block still reads everything, one block at a time.
+        assertEquals(expected, readAll(new CsvMappedParallelItemReader<>(
+                file, StandardCharsets.UTF_8, ",", '"', 1, 2, mapper(), 4, 61, 1L)));
+        assertEquals(expected, readAll(new CsvMappedParallelItemReader<>(
+                file, StandardCharsets.UTF_8, ",", '"', 1, 2, mapper(), 4, 61, 200L)));
+    }
+
+    @Test
+    void restartsByCountAndReportsFileLineNumbersAcrossBlocks() throws Exception {
+        Path file = tempDir.resolve("broken.csv");
+        Files.writeString(file, "id,name\n1,\"Ann\nLee\"\n2,Bob\n3,Cy\n4,Dee,extra\n", StandardCharsets.UTF_8);
+
+        CsvMappedParallelItemReader<Customer> reader = mappedReader(file, 2, 5);
+        ExecutionContext context = new ExecutionContext();
+        reader.open(context);
+        assertEquals("Ann\nLee", reader.read().getName());
+        reader.update(context);
+        reader.close();
+
+        CsvMappedParallelItemReader<Customer> restarted = mappedReader(file, 2, 5);
+        restarted.open(context);
+        assertEquals("Bob", restarted.read().getName());
+        assertEquals("Cy", restarted.read().getName());
+        FlatFileParseException failure = assertThrows(FlatFileParseException.class, restarted::read);
+        assertNull(restarted.read());
+        restarted.close();
+
+        assertEquals(6, failure.getLineNumber());
+        assertEquals("4,Dee,extra", failure.getInput());
+        assertTrue(failure.getMessage().startsWith("Parsing error at line: 6"));
+    }
+
+    private List<String> readAll(ItemStreamReader<Customer> reader) throws Exception {
+        List<String> rows = new ArrayList<>();
+        reader.open(new ExecutionContext());
+        try {
+            for (Customer customer = reader.read(); customer != null; customer = reader.read()) {
+                rows.add(customer.getId() + "=" + customer.getName());
+            }
+        } finally {
+            reader.close();
+        }
+        return rows;
+    }
+
+    private static CsvCharBufferItemReader<Customer> streamingReader(Path file) {
+        return new CsvCharBufferItemReader<>(
+                new FileSystemResource(file), StandardCharsets.UTF_8, ",", '"', 1, 2, mapper());
+    }
+
+    private static CsvMappedParallelItemReader<Customer> mappedReader(Path file, int parallelism, int blockBytes) {
+        return new CsvMappedParallelItemReader<>(
+                file, StandardCharsets.UTF_8, ",", '"', 1, 2, mapper(), parallelism, blockBytes);
+    }
+
+    private static DynamicFieldSetMapper<Customer> mapper() {
+        return new DynamicFieldSetMapper<>(List.of(column("id", "int"), column("name", "String")), Customer.class);
+    }
+
+    private static ColumnConfig column(String name, String type) {
+        ColumnConfig column = new ColumnConfig();
+        column.setName(name);
+        column.setType(type);
+        return column;
+    }
+
+    public static class Customer {
+        private int id;
+        private String name;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.etl.relational.dialect;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DatabaseDialectTest {
+
+    @Test
+    void sqlServerSupportsBulkCopyAndKeepsMultiRowInsertsUnderParameterLimit() {
+        SqlServerDialect dialect = new SqlServerDialect();
+
+        assertTrue(dialect.supportsBulkCopy());
+        assertEquals(1000, dialect.maxRowsPerInsert(1));
+        assertEquals(699, dialect.maxRowsPerInsert(3));
+        assertEquals(1, dialect.maxRowsPerInsert(3000));
+    }
+
+    @Test
+    void sqlServerMergeUpdatesOnlyChangedRowsWithNullSafeExceptComparison() {
+        SqlServerDialect dialect = new SqlServerDialect();
+        List<String> columns = List.of("id", "name", "email");
+
+        String stagingTable = dialect.stagingTableName("[dbo].[customers]", columns);
+
+        assertTrue(stagingTable.startsWith("#etl_stage__dbo___customers__"));
+        assertEquals("IF OBJECT_ID('tempdb.." + stagingTable + "') IS NULL SELECT TOP 0 [id], [name], [email] INTO "
+                + stagingTable + " FROM [dbo].[customers]", dialect.createStagingTableSql(stagingTable, "[dbo].[customers]", columns));
+        assertEquals("MERGE INTO [dbo].[customers] t USING #stage s ON t.[id] = s.[id]"
+                        + " WHEN MATCHED AND EXISTS (SELECT s.[name], s.[email] EXCEPT SELECT t.[name], t.[email])"
+                        + " THEN UPDATE SET [name] = s.[name], [email] = s.[email]"
+                        + " WHEN NOT MATCHED THEN INSERT ([id], [name], [email]) VALUES (s.[id], s.[name], s.[email]);",
+                dialect.mergeSql("[dbo].[customers]", "#stage", columns, List.of("id"), true));
+    }
+
+    @Test
+    void mergeWithOnlyKeyColumnsInsertsMissingRows() {
+        H2Dialect dialect = new H2Dialect();
+
+        assertEquals("MERGE INTO codes t USING stage s ON t.code = s.code WHEN NOT MATCHED THEN INSERT (code) VALUES (s.code)",
+                dialect.mergeSql("codes", "stage", List.of("code"), List.of("code"), false));
+    }
+
+    @Test
+    void h2FallsBackToMultiRowInserts() {
+        H2Dialect dialect = new H2Dialect();
+
+        assertFalse(dialect.supportsBulkCopy());
+        assertEquals(1000, dialect.maxRowsPerInsert(3));
+    }
+}
@@ -0,0 +1,107 @@
+package com.etl.relational.jdbc;
+
+import com.etl.config.ColumnConfig;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RelationalRowMapperTest {
+
+    private static final String JDBC_URL = "jdbc:h2:mem:relational_row_mapper_test;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false";
+
+    @Test
+    void setterAndMapperRoundTripTypedValuesByPosition() throws Exception {
+        List<ColumnConfig> fields = List.of(
+                column("id", "long"),
+                column("score", "double"),
+                column("code", "String"),
+                column("active", "boolean"),
+                column("joined", "LocalDate"),
+                column("rank", "int"));
+        RelationalItemPreparedStatementSetter setter = new RelationalItemPreparedStatementSetter(fields);
+
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS members");
+            statement.execute("CREATE TABLE members (id BIGINT, score DECIMAL(10, 2), code INT, active BOOLEAN, joined DATE, rank INT)");
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO members VALUES (?, ?, ?, ?, ?, ?)")) {
+                setter.setValues(new Member(1L, 9.5, "42", true, LocalDate.of(2024, 2, 29), 3), insert);
+                insert.executeUpdate();
+                setter.setValues(new Member(2L, null, null, null, null, null), insert);
+                insert.executeUpdate();
+            }
+
+            // Columns are selected out of field order; the mapper resolves labels to indexes.
+            RelationalRowMapper<Member> mapper = new RelationalRowMapper<>(fields, Member.class);
+            List<Member> members = new ArrayList<>();
+            try (ResultSet rs = statement.executeQuery("SELECT rank, joined, active, code, score, id FROM members ORDER BY id")) {
+                while (rs.next()) {
+                    members.add(mapper.mapRow(rs, rs.getRow()));
+                }
+            }
+
+            Member first = members.get(0);
+            assertEquals(1L, first.id);
+            assertEquals(9.5, first.score);
+            assertEquals("42", first.code);
+            assertEquals(Boolean.TRUE, first.active);
+            assertEquals(LocalDate.of(2024, 2, 29), first.joined);
+            assertEquals(3, first.rank);
+
+            Member second = members.get(1);
+            assertEquals(2L, second.id);
+            assertNull(second.score);
+            assertNull(second.code);
+            assertNull(second.active);
+            assertNull(second.joined);
+            assertNull(second.rank);
+        }
+    }
+
+    @Test
+    void resolvesConfiguredTypeNames() {
+        assertEquals(RelationalColumnType.INTEGER, RelationalColumnType.of(" Integer "));
+        assertEquals(RelationalColumnType.LONG, RelationalColumnType.of("java.lang.Long"));
+        assertEquals(RelationalColumnType.LOCAL_DATE, RelationalColumnType.of("localdate"));
+        assertEquals(RelationalColumnType.OBJECT, RelationalColumnType.of("java.math.BigDecimal"));
+        assertEquals(RelationalColumnType.OBJECT, RelationalColumnType.of(null));
+    }
+
+    private static ColumnConfig column(String name, String type) {
+        ColumnConfig column = new ColumnConfig();
+        column.setName(name);
+        column.setType(type);
+        return column;
+    }
+
+    public static class Member {
+        private Long id;
+        private Double score;
+        private String code;
+        private Boolean active;
+        private LocalDate joined;
+        private Integer rank;
+
+        public Member() {
+        }
+
+        Member(Long id, Double score, String code, Boolean active, LocalDate joined, Integer rank) {
+            this.id = id;
+            this.score = score;
+            this.code = code;
+            this.active = active;
+            this.joined = joined;
+            this.rank = rank;
+        }
+    }
+}
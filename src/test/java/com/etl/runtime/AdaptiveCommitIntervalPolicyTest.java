@@ -0,0 +1,98 @@
+package com.etl.runtime;
+
+import com.etl.config.EtlBatchProperties;
+import com.etl.model.target.CustomersCsv;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveCommitIntervalPolicyTest {
+
+	@Test
+	void rejectsInitialIntervalOutsideConfiguredBounds() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new AdaptiveCommitIntervalPolicy(10000, settings(10, 500, 1000, Long.MAX_VALUE)));
+		assertThrows(IllegalArgumentException.class,
+				() -> new AdaptiveCommitIntervalPolicy(1, settings(10, 500, 1000, Long.MAX_VALUE)));
+		assertThrows(IllegalArgumentException.class,
+				() -> new AdaptiveCommitIntervalPolicy(100, settings(500, 10, 1000, Long.MAX_VALUE)));
+		assertEquals(10, new AdaptiveCommitIntervalPolicy(10, settings(10, 500, 1000, Long.MAX_VALUE)).getCurrentInterval());
+	}
+
+	@Test
+	void shrinksImmediatelyWhenWritesAreSlowerThanTarget() {
+		AdaptiveCommitIntervalPolicy policy = new AdaptiveCommitIntervalPolicy(1000, settings(10, 50000, 1000, Long.MAX_VALUE));
+
+		// 1000 items in 4s => 4ms per item => 250 items fit the 1s target.
+		assertEquals(250, policy.nextInterval(1000, TimeUnit.SECONDS.toNanos(4), 0));
+	}
+
+	@Test
+	void growsAtMostTwofoldPerChunkWhenWritesAreFast() {
+		AdaptiveCommitIntervalPolicy policy = new AdaptiveCommitIntervalPolicy(1000, settings(10, 50000, 1000, Long.MAX_VALUE));
+
+		assertEquals(2000, policy.nextInterval(1000, TimeUnit.MILLISECONDS.toNanos(10), 0));
+	}
+
+	@Test
+	void respectsByteBudgetAndBounds() {
+		AdaptiveCommitIntervalPolicy policy = new AdaptiveCommitIntervalPolicy(1000, settings(10, 50000, 1000, 100_000));
+
+		assertEquals(1000, policy.nextInterval(1000, TimeUnit.MILLISECONDS.toNanos(10), 100));
+		assertEquals(10, policy.nextInterval(1000, TimeUnit.SECONDS.toNanos(1000), 0));
+	}
+
+	@Test
+	void recordsCurrentIntervalInStepExecutionContext() {
+		AdaptiveCommitIntervalPolicy policy = new AdaptiveCommitIntervalPolicy(200, settings(10, 50000, 1000, Long.MAX_VALUE));
+		StepExecution stepExecution = new StepExecution("step", new JobExecution(new JobInstance(1L, "job"), 1L, new JobParameters()));
+
+		policy.beforeStep(stepExecution);
+
+		assertEquals(200, stepExecution.getExecutionContext().getInt(AdaptiveCommitIntervalPolicy.COMMIT_INTERVAL_KEY));
+	}
+
+	@Test
+	void estimatesItemBytesFromFieldValues() {
+		CustomersCsv item = new CustomersCsv();
+		item.setId(42);
+		item.setName("Jane Doe");
+
+		long bytes = AdaptiveCommitIntervalPolicy.estimateItemBytes(item);
+
+		assertTrue(bytes >= "42".length() + "Jane Doe".length(), "estimate was " + bytes);
+	}
+
+	@Test
+	void estimatesItemBytesIncludingInheritedFields() {
+		DerivedItem item = new DerivedItem();
+
+		assertEquals("base".length() + 1 + "derived".length() + 1, AdaptiveCommitIntervalPolicy.estimateItemBytes(item));
+	}
+
+	private static EtlBatchProperties.AdaptiveCommitInterval settings(int min, int max, long latencyMs, long maxBytes) {
+		EtlBatchProperties.AdaptiveCommitInterval settings = new EtlBatchProperties.AdaptiveCommitInterval();
+		settings.setEnabled(true);
+		settings.setMinInterval(min);
+		settings.setMaxInterval(max);
+		settings.setTargetWriteLatencyMs(latencyMs);
+		settings.setMaxChunkBytes(maxBytes);
+		return settings;
+	}
+
+	private static class BaseItem {
+		private final String base = "base";
+	}
+
+	private static final class DerivedItem extends BaseItem {
+		private final String derived = "derived";
+	}
+}
@@ -0,0 +1,101 @@
+package com.etl.runtime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class AsyncRejectWriterTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void flushMakesEverySubmittedRowVisibleThroughASmallRingBuffer() throws Exception {
+		Path rejectFile = tempDir.resolve("out").resolve("rejects.csv");
+		AsyncRejectWriter writer = new AsyncRejectWriter(rejectFile, "id,reason", 8, "reject-writer-test");
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> producers = new ArrayList<>();
+			for (int thread = 0; thread < 4; thread++) {
+				int offset = thread * 1_000;
+				producers.add(executor.submit(() -> {
+					for (int i = 0; i < 1_000; i++) {
+						writer.submit((offset + i) + ",bad");
+					}
+					return null;
+				}));
+			}
+			for (Future<?> producer : producers) {
+				producer.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		writer.flush();
+		List<String> lines = Files.readAllLines(rejectFile, StandardCharsets.UTF_8);
+		assertEquals("id,reason", lines.get(0));
+		assertEquals(4_001, lines.size());
+
+		writer.submit("4000,late");
+		writer.close();
+		assertEquals(4_002, Files.readAllLines(rejectFile, StandardCharsets.UTF_8).size());
+	}
+
+	@Test
+	void createsNoFileWhenNothingWasSubmitted() throws Exception {
+		Path rejectFile = tempDir.resolve("rejects.csv");
+		AsyncRejectWriter writer = new AsyncRejectWriter(rejectFile, "id", 8, "reject-writer-test");
+
+		writer.flush();
+		writer.close();
+
+		assertFalse(Files.exists(rejectFile));
+	}
+
+	@Test
+	void surfacesWriterThreadFailureToCaller() throws Exception {
+		Path blockedDirectory = tempDir.resolve("blocked");
+		Files.writeString(blockedDirectory, "not a directory");
+		AsyncRejectWriter writer = new AsyncRejectWriter(blockedDirectory.resolve("rejects.csv"), "id", 8, "reject-writer-test");
+
+		writer.submit("1");
+		assertThrows(IOException.class, writer::flush);
+		assertThrows(IOException.class, () -> writer.submit("2"));
+		assertThrows(IOException.class, writer::close);
+	}
+
+	@Test
+	void failsFastWhenWriterThreadDiesFromUncheckedException() {
+		// A null header makes the writer thread throw a NullPointerException on the first row.
+		AsyncRejectWriter writer = new AsyncRejectWriter(tempDir.resolve("rejects.csv"), null, 1, "reject-writer-test");
+
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+			writer.submit("1");
+			IOException failure = assertThrows(IOException.class, writer::flush);
+			assertInstanceOf(NullPointerException.class, failure.getCause());
+			assertThrows(IOException.class, () -> {
+				for (int i = 0; i < 8; i++) {
+					writer.submit(String.valueOf(i));
+				}
+			});
+			assertThrows(IOException.class, writer::close);
+		});
+	}
+}
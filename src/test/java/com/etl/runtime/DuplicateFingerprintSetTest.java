@@ -0,0 +1,73 @@
+package com.etl.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DuplicateFingerprintSetTest {
+
+	@Test
+	void tracksManyDistinctKeysCompactlyAndRecognisesRepeats() {
+		DuplicateFingerprintSet set = new DuplicateFingerprintSet(1_000_000);
+
+		for (int i = 0; i < 300_000; i++) {
+			assertEquals(DuplicateFingerprintSet.AddResult.ADDED, set.add("11:PARTNER-" + i + "|"));
+		}
+		for (int i = 0; i < 300_000; i += 997) {
+			assertEquals(DuplicateFingerprintSet.AddResult.PRESENT, set.add("11:PARTNER-" + i + "|"));
+		}
+
+		assertEquals(300_000, set.size());
+		assertTrue(set.tableBytes() / set.size() <= 64, "fingerprint tables should stay near 32 bytes per key");
+	}
+
+	@Test
+	void distinguishesKeysThatDifferOnlyInTailOrLength() {
+		DuplicateFingerprintSet set = new DuplicateFingerprintSet(100);
+
+		assertEquals(DuplicateFingerprintSet.AddResult.ADDED, set.add(""));
+		assertEquals(DuplicateFingerprintSet.AddResult.ADDED, set.add("\u0000"));
+		assertEquals(DuplicateFingerprintSet.AddResult.ADDED, set.add("ABCDEFGH"));
+		assertEquals(DuplicateFingerprintSet.AddResult.ADDED, set.add("ABCDEFGHI"));
+		assertEquals(DuplicateFingerprintSet.AddResult.ADDED, set.add("ABCDEFGI"));
+		assertEquals(DuplicateFingerprintSet.AddResult.PRESENT, set.add(new StringBuilder("ABCDEFGHI")));
+		assertNotEquals(DuplicateFingerprintSet.fingerprint("Straße")[0], DuplicateFingerprintSet.fingerprint("STRASSE")[0]);
+	}
+
+	@Test
+	void enforcesLimitExactlyUnderConcurrentAdds() throws Exception {
+		DuplicateFingerprintSet set = new DuplicateFingerprintSet(5_000);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Integer>> added = new ArrayList<>();
+			for (int thread = 0; thread < 8; thread++) {
+				int offset = thread * 10_000;
+				added.add(executor.submit(() -> {
+					int count = 0;
+					for (int i = 0; i < 10_000; i++) {
+						if (set.add("K" + (offset + i)) == DuplicateFingerprintSet.AddResult.ADDED) {
+							count++;
+						}
+					}
+					return count;
+				}));
+			}
+			int total = 0;
+			for (Future<Integer> future : added) {
+				total += future.get();
+			}
+			assertEquals(5_000, total);
+			assertEquals(5_000, set.size());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -27,6 +27,22 @@ class DuplicateResolverFactoryTest {
 		}
 	}
 
+	@Test
+	void returnsInMemoryResolverForWinnerOnlyStorageMode() {
+		DuplicateResolver resolver = factory.create(rule(), DuplicateRule.StorageMode.WINNER_ONLY);
+		assertInstanceOf(InMemoryDuplicateResolver.class, resolver);
+	}
+
+	@Test
+	void returnsExternalSortResolverForExternalSortStorageMode() {
+		DuplicateResolver resolver = factory.create(rule(), DuplicateRule.StorageMode.EXTERNAL_SORT);
+		try {
+			assertInstanceOf(ExternalSortDuplicateResolver.class, resolver);
+		} finally {
+			resolver.close();
+		}
+	}
+
 	private DuplicateRule rule() {
 		return new DuplicateRule(
 				"id",
@@ -0,0 +1,172 @@
+package com.etl.runtime;
+
+import com.etl.processor.validation.DuplicateProcessorValidationRule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Opt-in staging throughput benchmark for the embedded-database duplicate resolver.
+ *
+ * <p>Run with {@code mvn test -Dtest=EmbeddedDbDuplicateResolverBenchmarkTest -Detl.benchmark=true}
+ * and optionally {@code -Detl.benchmark.records=1000000,10000000}. For every record count it stages
+ * the same synthetic input twice: once through the previous row-at-a-time strategy (a fresh
+ * auto-committed {@code PreparedStatement} per record) and once through the resolver's batched
+ * staging, then logs {@code BENCHMARK} lines with staging time and rows per second. The batched
+ * run also reports how long streaming the SQL-ranked winners back took.</p>
+ */
+@EnabledIfSystemProperty(named = "etl.benchmark", matches = "true")
+class EmbeddedDbDuplicateResolverBenchmarkTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(EmbeddedDbDuplicateResolverBenchmarkTest.class);
+	private static final int DISTINCT_KEYS = 100_000;
+
+	@Test
+	void comparesRowAtATimeAndBatchedStagingThroughput() throws Exception {
+		for (long records : recordCounts()) {
+			double baselineRowsPerSecond = stageRowAtATime(records);
+			double batchedRowsPerSecond = stageBatched(records);
+			logger.info("BENCHMARK event=duplicate_staging_comparison records={} rowAtATimeRowsPerSecond={} batchedRowsPerSecond={} speedup={}",
+					records,
+					Math.round(baselineRowsPerSecond),
+					Math.round(batchedRowsPerSecond),
+					String.format("%.2f", batchedRowsPerSecond / baselineRowsPerSecond));
+		}
+	}
+
+	private double stageBatched(long records) {
+		long start = System.nanoTime();
+		long retained = 0;
+		double stagingSeconds;
+		double resolveSeconds;
+		try (EmbeddedDbDuplicateResolver resolver = new EmbeddedDbDuplicateResolver(rule())) {
+			for (long i = 0; i < records; i++) {
+				resolver.accept(event(i));
+			}
+			DuplicateResolution resolution = resolver.complete();
+			long staged = System.nanoTime();
+			stagingSeconds = (staged - start) / 1_000_000_000d;
+			for (Object ignored : resolution.retained()) {
+				retained++;
+			}
+			resolveSeconds = (System.nanoTime() - staged) / 1_000_000_000d;
+		}
+		assertEquals(Math.min(records, DISTINCT_KEYS), retained);
+		logger.info("BENCHMARK event=duplicate_staging mode=batched records={} elapsedSeconds={} rowsPerSecond={} winnerStreamSeconds={}",
+				records, String.format("%.2f", stagingSeconds), Math.round(records / stagingSeconds), String.format("%.2f", resolveSeconds));
+		return records / stagingSeconds;
+	}
+
+	private double stageRowAtATime(long records) throws Exception {
+		ObjectMapper objectMapper = new ObjectMapper();
+		DuplicateRule rule = rule();
+		Path directory = Files.createTempDirectory("ordered-duplicate-benchmark-");
+		long start = System.nanoTime();
+		try (Connection connection = DriverManager.getConnection("jdbc:h2:file:"
+				+ directory.resolve("baseline").toAbsolutePath() + ";DB_CLOSE_DELAY=0")) {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("CREATE TABLE staged_duplicates (arrival_sequence BIGINT PRIMARY KEY, classification VARCHAR(32) NOT NULL, "
+						+ "key_value VARCHAR(4000), payload_class VARCHAR(500) NOT NULL, payload_json VARCHAR(1000000) NOT NULL, "
+						+ "issue_message VARCHAR(2000), invalid_ordering BOOLEAN NOT NULL)");
+			}
+			for (long i = 0; i < records; i++) {
+				BenchmarkEvent event = event(i);
+				// The previous resolver normalized key and order values in Java before every insert.
+				String keyValue = DuplicateSupport.buildKey(DuplicateSupport.resolveKeyValues(event, rule.keyFields(), rule.identityMode()));
+				DuplicateSupport.normalizeSortValues(event, rule.orderSelectors());
+				try (PreparedStatement statement = connection.prepareStatement(
+						"INSERT INTO staged_duplicates (arrival_sequence, classification, key_value, payload_class, payload_json, issue_message, invalid_ordering) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+					statement.setLong(1, i + 1);
+					statement.setString(2, "RANKED");
+					statement.setString(3, keyValue);
+					statement.setString(4, BenchmarkEvent.class.getName());
+					statement.setString(5, objectMapper.writeValueAsString(event));
+					statement.setString(6, null);
+					statement.setBoolean(7, false);
+					statement.executeUpdate();
+				}
+			}
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("SHUTDOWN");
+			}
+		} finally {
+			try (Stream<Path> paths = Files.walk(directory)) {
+				paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+			}
+		}
+		double seconds = (System.nanoTime() - start) / 1_000_000_000d;
+		logger.info("BENCHMARK event=duplicate_staging mode=rowAtATime records={} elapsedSeconds={} rowsPerSecond={}",
+				records, String.format("%.2f", seconds), Math.round(records / seconds));
+		return records / seconds;
+	}
+
+	private static List<Long> recordCounts() {
+		return Arrays.stream(System.getProperty("etl.benchmark.records", "1000000,10000000").split(","))
+				.map(String::trim)
+				.filter(value -> !value.isEmpty())
+				.map(Long::parseLong)
+				.toList();
+	}
+
+	private static DuplicateRule rule() {
+		return new DuplicateRule(
+				"id",
+				List.of("id"),
+				List.of(new DuplicateProcessorValidationRule.OrderSelector("eventTime", true)),
+				DuplicateRule.StorageMode.EMBEDDED_DB
+		);
+	}
+
+	private static BenchmarkEvent event(long index) {
+		BenchmarkEvent event = new BenchmarkEvent();
+		event.setId("KEY-" + (index % DISTINCT_KEYS));
+		event.setEventTime(index);
+		event.setDescription("event-" + index);
+		return event;
+	}
+
+	public static class BenchmarkEvent {
+		private String id;
+		private long eventTime;
+		private String description;
+
+		public String getId() {
+			return id;
+		}
+
+		public void setId(String id) {
+			this.id = id;
+		}
+
+		public long getEventTime() {
+			return eventTime;
+		}
+
+		public void setEventTime(long eventTime) {
+			this.eventTime = eventTime;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+
+		public void setDescription(String description) {
+			this.description = description;
+		}
+	}
+}
@@ -207,7 +207,7 @@ class EmbeddedDbDuplicateResolverTest {
 				)
 		)) {
 			records.forEach(flatResolver::accept);
-			flatResolution = flatResolver.complete();
+			flatResolution = flatResolver.complete().materialize();
 		}
 
 		DuplicateResolution xmlNativeResolution;
@@ -222,7 +222,7 @@ class EmbeddedDbDuplicateResolverTest {
 				)
 		)) {
 			records.forEach(xmlNativeResolver::accept);
-			xmlNativeResolution = xmlNativeResolver.complete();
+			xmlNativeResolution = xmlNativeResolver.complete().materialize();
 		}
 
 		assertEquals(1, flatResolution.discardedRecords().size());
@@ -270,7 +270,7 @@ class EmbeddedDbDuplicateResolverTest {
 		DuplicateResolution embeddedResolution;
 		try (EmbeddedDbDuplicateResolver embeddedResolver = new EmbeddedDbDuplicateResolver(rule)) {
 			events.forEach(embeddedResolver::accept);
-			embeddedResolution = embeddedResolver.complete();
+			embeddedResolution = embeddedResolver.complete().materialize();
 		}
 
 		DuplicateResolution inMemoryResolution;
@@ -297,6 +297,42 @@ class EmbeddedDbDuplicateResolverTest {
 		);
 	}
 
+	@Test
+	void rankingInSqlMatchesInMemoryOrderingAcrossValueKindsAndBatches() {
+		DuplicateRule rule = new DuplicateRule(
+				"id",
+				List.of("id"),
+				List.of(
+						new DuplicateProcessorValidationRule.OrderSelector("eventTime", true),
+						new DuplicateProcessorValidationRule.OrderSelector("sequenceNo", false)
+				),
+				DuplicateRule.StorageMode.AUTO
+		);
+		List<String> eventTimes = List.of("08:30:00", "2026-01-05", "17", "-3.50", "late", "Early", "true", "09:15:00", "17.0");
+		List<EventBean> events = new java.util.ArrayList<>();
+		for (int i = 0; i < EmbeddedDbDuplicateResolver.INSERT_BATCH_SIZE * 2 + 17; i++) {
+			events.add(event("KEY-" + (i % 97), eventTimes.get(i % eventTimes.size()), "event-" + i, i % 5));
+		}
+
+		DuplicateResolution embeddedResolution;
+		try (EmbeddedDbDuplicateResolver embeddedResolver = new EmbeddedDbDuplicateResolver(rule)) {
+			events.forEach(embeddedResolver::accept);
+			embeddedResolution = embeddedResolver.complete().materialize();
+		}
+		DuplicateResolution inMemoryResolution;
+		try (InMemoryDuplicateResolver inMemoryResolver = new InMemoryDuplicateResolver(rule)) {
+			events.forEach(inMemoryResolver::accept);
+			inMemoryResolution = inMemoryResolver.complete();
+		}
+
+		assertEquals(
+				inMemoryResolution.retainedRecords().stream().map(record -> ((EventBean) record).getDescription()).toList(),
+				embeddedResolution.retainedRecords().stream().map(record -> ((EventBean) record).getDescription()).toList());
+		assertEquals(
+				inMemoryResolution.discardedRecords().stream().map(discard -> ((EventBean) discard.discardedRecord()).getDescription()).toList(),
+				embeddedResolution.discardedRecords().stream().map(discard -> ((EventBean) discard.discardedRecord()).getDescription()).toList());
+	}
+
 	@Test
 	void deletesTemporaryDatabaseFilesOnClose() throws Exception {
 		EmbeddedDbDuplicateResolver resolver = new EmbeddedDbDuplicateResolver(
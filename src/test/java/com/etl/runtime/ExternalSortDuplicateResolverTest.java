@@ -0,0 +1,219 @@
+package com.etl.runtime;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.etl.processor.validation.DuplicateProcessorValidationRule;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExternalSortDuplicateResolverTest {
+
+	@Test
+	void matchesInMemoryResolverAcrossManySpilledRuns() {
+		DuplicateRule rule = rule();
+		List<EventBean> events = new ArrayList<>();
+		for (int i = 0; i < 300; i++) {
+			String key = "EVT-" + (i % 37);
+			String time = String.format("%02d:%02d:00", (i * 7) % 24, i % 60);
+			events.add(event(i % 53 == 0 ? null : key, i % 41 == 0 ? "" : time, "event-" + i, i));
+		}
+
+		DuplicateResolution inMemoryResolution;
+		try (InMemoryDuplicateResolver inMemoryResolver = new InMemoryDuplicateResolver(rule)) {
+			events.forEach(inMemoryResolver::accept);
+			inMemoryResolution = inMemoryResolver.complete();
+		}
+
+		List<String> retained;
+		List<String> discarded;
+		List<String> invalidDiscards;
+		// A run size of 2 spills 150+ runs, which also exercises the intermediate merge passes.
+		try (ExternalSortDuplicateResolver resolver = new ExternalSortDuplicateResolver(rule, 2)) {
+			events.forEach(resolver::accept);
+			DuplicateResolution resolution = resolver.complete();
+			retained = new ArrayList<>();
+			for (Object record : resolution.retained()) {
+				retained.add(((EventBean) record).getDescription());
+			}
+			discarded = new ArrayList<>();
+			invalidDiscards = new ArrayList<>();
+			for (DuplicateDiscard discard : resolution.discarded()) {
+				discarded.add(((EventBean) discard.discardedRecord()).getDescription());
+				if (discard.invalidOrderingValue()) {
+					invalidDiscards.add(((EventBean) discard.discardedRecord()).getDescription());
+				}
+			}
+		}
+
+		assertEquals(descriptions(inMemoryResolution.retainedRecords()), retained);
+		assertEquals(
+				sorted(inMemoryResolution.discardedRecords().stream()
+						.map(discard -> ((EventBean) discard.discardedRecord()).getDescription())
+						.toList()),
+				sorted(discarded));
+		assertEquals(
+				inMemoryResolution.discardedRecords().stream()
+						.filter(DuplicateDiscard::invalidOrderingValue)
+						.map(discard -> ((EventBean) discard.discardedRecord()).getDescription())
+						.toList(),
+				invalidDiscards);
+	}
+
+	@Test
+	void keepsBestRecordPerKeyAndReportsDiscardEvidence() {
+		try (ExternalSortDuplicateResolver resolver = new ExternalSortDuplicateResolver(rule(), 1)) {
+			resolver.accept(event("EVT-1001", "08:30:00", "first", 1));
+			resolver.accept(event("EVT-1002", "07:15:00", "other-key", 5));
+			resolver.accept(event("EVT-1001", "09:45:00", "latest", 2));
+			resolver.accept(event("EVT-1001", "", "no-time", 3));
+			DuplicateResolution resolution = resolver.complete();
+
+			List<Object> retained = resolution.retainedRecords();
+			assertEquals(List.of("other-key", "latest"), descriptions(retained));
+			List<DuplicateDiscard> discards = resolution.discardedRecords();
+			assertEquals(2, discards.size());
+			assertEquals("no-time", ((EventBean) discards.get(0).discardedRecord()).getDescription());
+			assertTrue(discards.get(0).invalidOrderingValue());
+			assertTrue(discards.get(0).issue().message().contains("requires a comparable value"));
+			assertEquals("first", ((EventBean) discards.get(1).discardedRecord()).getDescription());
+			assertFalse(discards.get(1).invalidOrderingValue());
+			assertTrue(discards.get(1).issue().message().contains("was discarded because another record already wins by order"));
+		}
+	}
+
+	@Test
+	void restoresMapPayloadsFromSpillFiles() {
+		try (ExternalSortDuplicateResolver resolver = new ExternalSortDuplicateResolver(rule(), 1)) {
+			resolver.accept(mapEvent("EVT-1", "08:00:00", "loser"));
+			resolver.accept(mapEvent("EVT-1", "09:00:00", "winner"));
+			DuplicateResolution resolution = resolver.complete();
+
+			List<Object> retained = resolution.retainedRecords();
+			assertEquals(1, retained.size());
+			assertInstanceOf(Map.class, retained.get(0));
+			assertEquals("winner", ((Map<?, ?>) retained.get(0)).get("description"));
+		}
+	}
+
+	@Test
+	void deletesSpillFilesOnCloseAndEmitsLifecycleEvidence() throws Exception {
+		ch.qos.logback.classic.Logger resolverLogger =
+				(ch.qos.logback.classic.Logger) LoggerFactory.getLogger(ExternalSortDuplicateResolver.class);
+		ListAppender<ILoggingEvent> appender = new ListAppender<>();
+		appender.start();
+		resolverLogger.addAppender(appender);
+		Path spillDirectory;
+		try {
+			ExternalSortDuplicateResolver resolver = new ExternalSortDuplicateResolver(rule(), 1);
+			java.lang.reflect.Field field = ExternalSortDuplicateResolver.class.getDeclaredField("spillDirectory");
+			field.setAccessible(true);
+			spillDirectory = (Path) field.get(resolver);
+			resolver.accept(event("EVT-1", "08:00:00", "first", 1));
+			resolver.accept(event("EVT-1", "09:00:00", "winner", 2));
+			resolver.accept(event("EVT-2", "09:00:00", "other", 3));
+			DuplicateResolution resolution = resolver.complete();
+			// Leave the iterator half-consumed; close must still release it and remove the files.
+			resolution.retained().iterator().next();
+			try (var files = Files.list(spillDirectory)) {
+				assertTrue(files.findAny().isPresent());
+			}
+			resolver.close();
+
+			assertTrue(appender.list.stream().anyMatch(event -> event.getFormattedMessage().contains("DUPLICATE_RESOLVER event=resolver_summary")
+					&& event.getFormattedMessage().contains("resolverMode=externalSort")
+					&& event.getFormattedMessage().contains("stagedRankedCount=3")
+					&& event.getFormattedMessage().contains("retainedCount=2")));
+			assertTrue(appender.list.stream().anyMatch(event -> event.getFormattedMessage().contains("DUPLICATE_RESOLVER event=resolver_close")
+					&& event.getFormattedMessage().contains("directoryExistsAfterClose=false")));
+		} finally {
+			resolverLogger.detachAppender(appender);
+		}
+		assertFalse(Files.exists(spillDirectory));
+	}
+
+	private static DuplicateRule rule() {
+		return new DuplicateRule(
+				"id",
+				List.of("id"),
+				List.of(new DuplicateProcessorValidationRule.OrderSelector("eventTime", true)),
+				DuplicateRule.StorageMode.EXTERNAL_SORT
+		);
+	}
+
+	private static List<String> descriptions(List<Object> records) {
+		return records.stream().map(record -> ((EventBean) record).getDescription()).toList();
+	}
+
+	private static List<String> sorted(List<String> values) {
+		return values.stream().sorted(Comparator.naturalOrder()).toList();
+	}
+
+	private static EventBean event(String id, String eventTime, String description, Integer sequenceNo) {
+		EventBean event = new EventBean();
+		event.setId(id);
+		event.setEventTime(eventTime);
+		event.setDescription(description);
+		event.setSequenceNo(sequenceNo);
+		return event;
+	}
+
+	private static Map<String, Object> mapEvent(String id, String eventTime, String description) {
+		Map<String, Object> event = new LinkedHashMap<>();
+		event.put("id", id);
+		event.put("eventTime", eventTime);
+		event.put("description", description);
+		return event;
+	}
+
+	public static class EventBean {
+		private String id;
+		private String eventTime;
+		private String description;
+		private Integer sequenceNo;
+
+		public String getId() {
+			return id;
+		}
+
+		public void setId(String id) {
+			this.id = id;
+		}
+
+		public String getEventTime() {
+			return eventTime;
+		}
+
+		public void setEventTime(String eventTime) {
+			this.eventTime = eventTime;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+
+		public void setDescription(String description) {
+			this.description = description;
+		}
+
+		public Integer getSequenceNo() {
+			return sequenceNo;
+		}
+
+		public void setSequenceNo(Integer sequenceNo) {
+			this.sequenceNo = sequenceNo;
+		}
+	}
+}
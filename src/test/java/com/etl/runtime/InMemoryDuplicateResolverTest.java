@@ -136,6 +136,79 @@ class InMemoryDuplicateResolverTest {
 		assertTrue(issue.message().contains("comparable"));
 	}
 
+	@Test
+	void winnerOnlyModeDrainsDisplacedLosersWhileReading() {
+		InMemoryDuplicateResolver resolver = new InMemoryDuplicateResolver(
+				new DuplicateRule(
+						"id",
+						List.of("id"),
+						List.of(new DuplicateProcessorValidationRule.OrderSelector("eventTime", true)),
+						DuplicateRule.StorageMode.WINNER_ONLY
+				),
+				true
+		);
+
+		resolver.accept(new EventRecord("EVT-1001", "08:30:00", "first", 1));
+		assertTrue(resolver.drainDiscarded().isEmpty());
+		resolver.accept(new EventRecord("EVT-1002", "07:15:00", "other-key", 5));
+		resolver.accept(new EventRecord("EVT-1001", "09:45:00", "latest", 2));
+		List<DuplicateDiscard> displaced = resolver.drainDiscarded();
+		assertEquals(1, displaced.size());
+		assertEquals("first", ((EventRecord) displaced.get(0).discardedRecord()).description());
+		assertTrue(displaced.get(0).issue().message().contains("already wins by order"));
+
+		resolver.accept(new EventRecord("EVT-1001", "09:00:00", "older", 3));
+		resolver.accept(new EventRecord("EVT-1001", null, "broken", 4));
+		List<DuplicateDiscard> rejected = resolver.drainDiscarded();
+		assertEquals(2, rejected.size());
+		assertEquals("older", ((EventRecord) rejected.get(0).discardedRecord()).description());
+		assertTrue(rejected.get(1).invalidOrderingValue());
+		assertTrue(resolver.drainDiscarded().isEmpty());
+
+		DuplicateResolution resolution = resolver.complete();
+		assertTrue(resolution.discardedRecords().isEmpty());
+		List<Object> retainedRecords = resolution.retainedRecords();
+		assertEquals(2, retainedRecords.size());
+		assertEquals("other-key", ((EventRecord) retainedRecords.get(0)).description());
+		assertEquals("latest", ((EventRecord) retainedRecords.get(1)).description());
+	}
+
+	@Test
+	void winnerOnlyModeSelectsSameWinnersAsBufferedMode() {
+		DuplicateRule rule = new DuplicateRule(
+				"id",
+				List.of("id"),
+				List.of(
+						new DuplicateProcessorValidationRule.OrderSelector("eventTime", false),
+						new DuplicateProcessorValidationRule.OrderSelector("sequenceNo", true)
+				),
+				DuplicateRule.StorageMode.AUTO
+		);
+		InMemoryDuplicateResolver buffered = new InMemoryDuplicateResolver(rule);
+		InMemoryDuplicateResolver winnerOnly = new InMemoryDuplicateResolver(rule, true);
+		java.util.Random random = new java.util.Random(42);
+		List<DuplicateDiscard> drained = new java.util.ArrayList<>();
+		for (int i = 0; i < 2_000; i++) {
+			EventRecord record = new EventRecord(
+					"EVT-" + random.nextInt(150),
+					String.format("%02d:00:00", random.nextInt(6)),
+					"row-" + i,
+					random.nextInt(4));
+			buffered.accept(record);
+			winnerOnly.accept(record);
+			drained.addAll(winnerOnly.drainDiscarded());
+		}
+		DuplicateResolution expected = buffered.complete();
+		DuplicateResolution actual = winnerOnly.complete();
+
+		assertEquals(expected.retainedRecords(), actual.retainedRecords());
+		assertTrue(actual.discardedRecords().isEmpty());
+		assertEquals(
+				expected.discardedRecords().stream().map(DuplicateDiscard::discardedRecord).collect(java.util.stream.Collectors.toSet()),
+				drained.stream().map(DuplicateDiscard::discardedRecord).collect(java.util.stream.Collectors.toSet()));
+		assertEquals(expected.discardedRecords().size(), drained.size());
+	}
+
 	@Test
 	void bypassesDeduplicationWhenKeyIsIncomplete() {
 		InMemoryDuplicateResolver resolver = new InMemoryDuplicateResolver(
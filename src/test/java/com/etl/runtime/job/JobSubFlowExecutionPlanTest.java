@@ -0,0 +1,138 @@
+package com.etl.runtime.job;
+
+import com.etl.config.ColumnConfig;
+import com.etl.config.job.JobConfig;
+import com.etl.config.processor.ProcessorConfig;
+import com.etl.config.source.CsvSourceConfig;
+import com.etl.config.source.SourceConfig;
+import com.etl.config.source.SourceWrapper;
+import com.etl.config.target.CsvTargetConfig;
+import com.etl.config.target.TargetConfig;
+import com.etl.config.target.TargetWrapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobSubFlowExecutionPlanTest {
+
+	@Test
+	void relaxesOrderOnlyAdjacencyAndKeepsNonAdjacentHandoffs() {
+		JobRuntimeDescriptor descriptor = descriptor(
+				step("load-a", "AIn", "AOut"),
+				step("load-b", "BIn", "BOut"),
+				step("enrich-a", "AOut", "COut"),
+				step("load-d", "DIn", "DOut")
+		);
+
+		JobSubFlowExecutionPlan plan = JobSubFlowExecutionPlan.fromDescriptor(descriptor);
+
+		assertEquals(2, plan.stageCount());
+		assertEquals(List.of("load-a-subflow", "load-b-subflow", "load-d-subflow"), names(plan.stages().get(0)));
+		assertEquals(List.of("enrich-a-subflow"), names(plan.stages().get(1)));
+		assertEquals(List.of("load-a-subflow"), plan.effectiveDependencies("enrich-a-subflow"));
+		assertEquals(List.of("load-b-subflow"), plan.relaxedDependencies("enrich-a-subflow"));
+		assertEquals(List.of("load-a-subflow"), plan.relaxedDependencies("load-b-subflow"));
+		assertTrue(plan.hasConcurrentStage());
+		assertEquals(3, plan.widestStage());
+	}
+
+	@Test
+	void keepsAdjacentDataHandoffAsDependency() {
+		JobRuntimeDescriptor descriptor = descriptor(
+				step("normalize", "OrdersIn", "OrdersValidated"),
+				step("publish", "OrdersValidated", "OrdersFinal")
+		);
+
+		JobSubFlowExecutionPlan plan = JobSubFlowExecutionPlan.fromDescriptor(descriptor);
+
+		assertEquals(2, plan.stageCount());
+		assertEquals(List.of("normalize-subflow"), plan.effectiveDependencies("publish-subflow"));
+		assertEquals(List.of(), plan.relaxedDependencies("publish-subflow"));
+		assertFalse(plan.hasConcurrentStage());
+	}
+
+	@Test
+	void serializesSubFlowsThatWriteTheSameTarget() {
+		JobRuntimeDescriptor descriptor = descriptor(
+				step("load-east", "EastIn", "Combined"),
+				step("load-west", "WestIn", "Combined")
+		);
+
+		JobSubFlowExecutionPlan plan = JobSubFlowExecutionPlan.fromDescriptor(descriptor);
+
+		assertEquals(2, plan.stageCount());
+		assertEquals(1, plan.stageOf("load-west-subflow"));
+		assertEquals(List.of("load-east-subflow"), plan.effectiveDependencies("load-west-subflow"));
+	}
+
+	private JobRuntimeDescriptor descriptor(JobConfig.JobStepConfig... steps) {
+		Set<String> sourceNames = new LinkedHashSet<>();
+		Set<String> targetNames = new LinkedHashSet<>();
+		List<ProcessorConfig.EntityMapping> mappings = new ArrayList<>();
+		for (JobConfig.JobStepConfig step : steps) {
+			sourceNames.add(step.getSource());
+			targetNames.add(step.getTarget());
+			mappings.add(mapping(step.getSource(), step.getTarget()));
+		}
+		SourceWrapper sourceWrapper = new SourceWrapper();
+		sourceWrapper.setSources(sourceNames.stream()
+				.map(name -> (SourceConfig) new CsvSourceConfig(name, "com.etl.model.source.plan", List.of(column("id")), "input/" + name + ".csv", ","))
+				.toList());
+		TargetWrapper targetWrapper = new TargetWrapper();
+		targetWrapper.setTargets(targetNames.stream()
+				.map(name -> (TargetConfig) new CsvTargetConfig(name, "com.etl.model.target.plan", List.of(column("id")), "target/" + name + ".csv", ","))
+				.toList());
+		ProcessorConfig processorConfig = new ProcessorConfig();
+		processorConfig.setType("default");
+		processorConfig.setMappings(mappings);
+
+		return new JobRuntimeDescriptorAssembler().assemble(
+				"plan-flow",
+				"job-config.yaml",
+				JobRunMode.EXPLICIT_JOB,
+				JobRecoveryPolicy.RERUN_FROM_START,
+				new JobConfigPaths("source-config.yaml", "target-config.yaml", "processor-config.yaml"),
+				List.of(steps),
+				sourceWrapper,
+				targetWrapper,
+				processorConfig
+		);
+	}
+
+	private static List<String> names(List<JobSubFlowDescriptor> subFlows) {
+		return subFlows.stream().map(JobSubFlowDescriptor::subFlowName).toList();
+	}
+
+	private ColumnConfig column(String name) {
+		ColumnConfig column = new ColumnConfig();
+		column.setName(name);
+		column.setType("String");
+		return column;
+	}
+
+	private ProcessorConfig.EntityMapping mapping(String sourceName, String targetName) {
+		ProcessorConfig.EntityMapping mapping = new ProcessorConfig.EntityMapping();
+		mapping.setSource(sourceName);
+		mapping.setTarget(targetName);
+		ProcessorConfig.FieldMapping field = new ProcessorConfig.FieldMapping();
+		field.setFrom("id");
+		field.setTo("id");
+		mapping.setFields(List.of(field));
+		return mapping;
+	}
+
+	private JobConfig.JobStepConfig step(String name, String source, String target) {
+		JobConfig.JobStepConfig step = new JobConfig.JobStepConfig();
+		step.setName(name);
+		step.setSource(source);
+		step.setTarget(target);
+		return step;
+	}
+}
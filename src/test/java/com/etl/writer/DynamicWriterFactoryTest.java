@@ -1,6 +1,7 @@
 package com.etl.writer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -86,6 +87,25 @@ class DynamicWriterFactoryTest {
         assertEquals("john@example.com", json.get(0).get("email").asText());
     }
 
+  @Test
+  void rejectsPartitionedWritesForFormatsWithoutPartitionCapability(@TempDir Path tempDir) {
+    FactoryException failure = assertThrows(FactoryException.class,
+        () -> factory.createPartitionedWriter(getJsonTargetConfig(tempDir.resolve("out.json")), Customers.class));
+
+    assertTrue(failure.getMessage().endsWith("which does not support partitioned steps."));
+  }
+
+  @Test
+  void rejectsWrapperStreamingForFormatsWithoutStreamingCapability(@TempDir Path tempDir) {
+    JsonTargetConfig config = getJsonTargetConfig(tempDir.resolve("out.json"));
+
+    assertFalse(factory.supportsWrapperStreaming(config));
+    FactoryException failure = assertThrows(FactoryException.class,
+        () -> factory.createWrapperStreamingWriter(config, Customers.class, "customer"));
+
+    assertTrue(failure.getMessage().endsWith("which does not support streamed wrapper writes."));
+  }
+
   @Test
   void failsFastWhenMultipleWritersRegisterSameFormat() {
     FactoryException failure = assertThrows(
@@ -15,6 +15,7 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -80,6 +81,122 @@ class RelationalDynamicWriterTest {
         }
     }
 
+    @Test
+    void bulkModeFallsBackToMultiRowInsertsOnH2() throws Exception {
+        setupCustomersTable("customers");
+
+        DynamicWriterFactory factory = new DynamicWriterFactory(List.of(new RelationalDynamicWriter()));
+        RelationalTargetConfig config = relationalTargetConfig(null, "bulk", 100);
+
+        ItemWriter<Object> writer = factory.createWriter(config, CustomersSql.class);
+
+        List<CustomersSql> customers = new ArrayList<>();
+        for (int i = 1; i <= 250; i++) {
+            CustomersSql customer = new CustomersSql();
+            customer.setId(i);
+            customer.setName("Customer " + i);
+            customer.setEmail(i == 250 ? null : "c" + i + "@example.com");
+            customers.add(customer);
+        }
+        writer.write(new Chunk<>(customers));
+
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*), SUM(id), COUNT(email) FROM customers")) {
+            org.junit.jupiter.api.Assertions.assertTrue(rs.next());
+            assertEquals(250, rs.getInt(1));
+            assertEquals(250 * 251 / 2, rs.getInt(2));
+            assertEquals(249, rs.getInt(3));
+        }
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT name, email FROM customers WHERE id = 137")) {
+            org.junit.jupiter.api.Assertions.assertTrue(rs.next());
+            assertEquals("Customer 137", rs.getString("name"));
+            assertEquals("c137@example.com", rs.getString("email"));
+        }
+    }
+
+    @Test
+    void upsertModeMergesStagedChunksOnKeyColumns() throws Exception {
+        setupCustomersTable("customers");
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO customers (id, name, email) VALUES (1, 'Old One', 'one@old.example'), (2, 'Two', 'two@example.com')");
+        }
+
+        DynamicWriterFactory factory = new DynamicWriterFactory(List.of(new RelationalDynamicWriter()));
+        ItemWriter<Object> writer = factory.createWriter(relationalTargetConfig(null, "upsert", 100, List.of("id")), CustomersSql.class);
+
+        writer.write(new Chunk<>(List.of(
+                customer(1, "First One", "one@new.example"),
+                customer(3, "Three", "three@example.com"),
+                customer(1, "One", null))));
+        writer.write(new Chunk<>(List.of(customer(4, "Four", "four@example.com"))));
+
+        assertEquals(List.of(
+                "1|One|null",
+                "2|Two|two@example.com",
+                "3|Three|three@example.com",
+                "4|Four|four@example.com"), customerRows());
+    }
+
+    @Test
+    void mergeModeUpdatesChangedRowsAndInsertsNewOnes() throws Exception {
+        setupCustomersTable("customers");
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO customers (id, name, email) VALUES (1, 'One', NULL), (2, 'Two', 'two@example.com')");
+        }
+
+        DynamicWriterFactory factory = new DynamicWriterFactory(List.of(new RelationalDynamicWriter()));
+        ItemWriter<Object> writer = factory.createWriter(relationalTargetConfig(null, "merge", 100, List.of("id", "name")), CustomersSql.class);
+
+        writer.write(new Chunk<>(List.of(
+                customer(1, "One", "one@example.com"),
+                customer(2, "Two", "two@example.com"),
+                customer(2, "Second", "second@example.com"))));
+
+        assertEquals(List.of(
+                "1|One|one@example.com",
+                "2|Second|second@example.com",
+                "2|Two|two@example.com"), customerRows());
+    }
+
+    @Test
+    void failedMergeLeavesNoStagedRowsForTheNextChunk() throws Exception {
+        setupCustomersTable("customers");
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE customers ADD CONSTRAINT customers_name_check CHECK (name <> 'Rejected')");
+        }
+
+        DynamicWriterFactory factory = new DynamicWriterFactory(List.of(new RelationalDynamicWriter()));
+        ItemWriter<Object> writer = factory.createWriter(relationalTargetConfig(null, "upsert", 100, List.of("id")), CustomersSql.class);
+
+        assertThrows(Exception.class, () -> writer.write(new Chunk<>(List.of(
+                customer(1, "One", "one@example.com"),
+                customer(2, "Rejected", "rejected@example.com")))));
+        writer.write(new Chunk<>(List.of(customer(3, "Three", "three@example.com"))));
+
+        assertEquals(List.of("3|Three|three@example.com"), customerRows());
+    }
+
+    @Test
+    void rejectsUpsertTargetWithoutKeyColumns() {
+        DynamicWriterFactory factory = new DynamicWriterFactory(List.of(new RelationalDynamicWriter()));
+
+        RelationalException ex = assertThrows(
+                RelationalException.class,
+                () -> factory.createWriter(relationalTargetConfig(null, "upsert", 100, null), CustomersSql.class)
+        );
+
+        assertEquals(
+                "Invalid relational target configuration: Relational target keyColumns must be provided for UPSERT writeMode.",
+                ex.getMessage()
+        );
+    }
+
     @Test
     void rejectsSqlServerTargetWithoutJdbcUrlOrHostDatabase() {
         DynamicWriterFactory factory = new DynamicWriterFactory(List.of(new RelationalDynamicWriter()));
@@ -98,6 +215,26 @@ class RelationalDynamicWriterTest {
         );
     }
 
+    private static CustomersSql customer(int id, String name, String email) {
+        CustomersSql customer = new CustomersSql();
+        customer.setId(id);
+        customer.setName(name);
+        customer.setEmail(email);
+        return customer;
+    }
+
+    private static List<String> customerRows() throws Exception {
+        List<String> rows = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id, name, email FROM customers ORDER BY id, name")) {
+            while (rs.next()) {
+                rows.add(rs.getInt("id") + "|" + rs.getString("name") + "|" + rs.getString("email"));
+            }
+        }
+        return rows;
+    }
+
     private static void setupCustomersTable(String qualifiedTableName) throws Exception {
         try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
              Statement statement = connection.createStatement()) {
@@ -109,6 +246,17 @@ class RelationalDynamicWriterTest {
     }
 
     private static RelationalTargetConfig relationalTargetConfig(String connectionSchema) {
+        return relationalTargetConfig(connectionSchema, "insert", 100, null);
+    }
+
+    private static RelationalTargetConfig relationalTargetConfig(String connectionSchema, String writeMode, int batchSize) {
+        return relationalTargetConfig(connectionSchema, writeMode, batchSize, null);
+    }
+
+    private static RelationalTargetConfig relationalTargetConfig(String connectionSchema,
+                                                                 String writeMode,
+                                                                 int batchSize,
+                                                                 List<String> keyColumns) {
         ColumnConfig id = new ColumnConfig();
         id.setName("id");
         id.setType("int");
@@ -136,8 +284,10 @@ class RelationalDynamicWriterTest {
                 connection,
                 "customers",
                 null,
-                "insert",
-                100
+                writeMode,
+                batchSize,
+                null,
+                keyColumns
         );
     }
 }
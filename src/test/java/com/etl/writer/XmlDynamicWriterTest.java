@@ -22,6 +22,9 @@ import com.etl.exception.EtlExceptionDetails;
 import com.etl.model.target.Customer;
 import com.etl.model.target.Customers;
 import com.etl.writer.impl.SingleObjectXmlWriter;
+import com.etl.writer.impl.StreamingXmlWrapperWriter;
+import com.etl.writer.namespaced.NamespacedCustomer;
+import com.etl.writer.namespaced.NamespacedCustomers;
 import jakarta.xml.bind.annotation.XmlAccessType;
 import jakarta.xml.bind.annotation.XmlAccessorType;
 import jakarta.xml.bind.annotation.XmlRootElement;
@@ -36,6 +39,10 @@ import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.xml.StaxEventItemWriter;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
 
 class XmlDynamicWriterTest {
 
@@ -350,6 +357,95 @@ class XmlDynamicWriterTest {
     assertTrue(Files.readString(outputFile).contains("Step Wrapper Jane"));
     }
 
+  @Test
+  void streamingWrapperWriterMatchesSingleObjectWrapperOutput(@TempDir Path tempDir) throws Exception {
+    List<Customer> records = new java.util.ArrayList<>();
+    for (int i = 1; i <= 5; i++) {
+      Customer customer = new Customer();
+      customer.setId(i);
+      customer.setName("Stream " + i);
+      customer.setEmail("stream" + i + "@example.com");
+      records.add(customer);
+    }
+    Customers customers = new Customers();
+    customers.setCustomer(records);
+
+    Path wrapperOutput = tempDir.resolve("wrapper.xml");
+    ItemWriter<Object> wrapperWriter = factory.createWriter(getXmlTargetConfig(wrapperOutput), Customers.class);
+    wrapperWriter.write(new Chunk<>(List.of(customers)));
+
+    Path streamedOutput = tempDir.resolve("streamed.xml");
+    assertTrue(factory.supportsWrapperStreaming(getXmlTargetConfig(streamedOutput)));
+    ItemWriter<Object> streamingWriter = factory.createWrapperStreamingWriter(getXmlTargetConfig(streamedOutput), Customers.class, "customer");
+    assertInstanceOf(StreamingXmlWrapperWriter.class, streamingWriter);
+    StreamingXmlWrapperWriter streaming = (StreamingXmlWrapperWriter) streamingWriter;
+    streaming.open(new ExecutionContext());
+    streaming.write(new Chunk<>(records.subList(0, 2)));
+    streaming.write(new Chunk<>(records.subList(2, 5)));
+    streaming.close();
+
+    assertEquals(Files.readString(wrapperOutput), Files.readString(streamedOutput));
+  }
+
+  @Test
+  void streamingWrapperWriterKeepsPackageSchemaNamespaces(@TempDir Path tempDir) throws Exception {
+    List<NamespacedCustomer> records = new ArrayList<>();
+    for (int i = 1; i <= 3; i++) {
+      NamespacedCustomer customer = new NamespacedCustomer();
+      customer.setId(i);
+      customer.setName("Namespaced " + i);
+      records.add(customer);
+    }
+    NamespacedCustomers customers = new NamespacedCustomers();
+    customers.setCustomer(records);
+
+    Path wrapperOutput = tempDir.resolve("wrapper.xml");
+    ItemWriter<Object> wrapperWriter = factory.createWriter(getXmlTargetConfig(wrapperOutput), NamespacedCustomers.class);
+    wrapperWriter.write(new Chunk<>(List.of(customers)));
+
+    Path streamedOutput = tempDir.resolve("streamed.xml");
+    StreamingXmlWrapperWriter streaming = (StreamingXmlWrapperWriter) factory.createWrapperStreamingWriter(
+        getXmlTargetConfig(streamedOutput), NamespacedCustomers.class, "customer");
+    streaming.open(new ExecutionContext());
+    streaming.write(new Chunk<>(records.subList(0, 1)));
+    streaming.write(new Chunk<>(records.subList(1, 3)));
+    streaming.close();
+
+    List<String> expected = qualifiedElements(wrapperOutput);
+    assertEquals("{urn:etl:test:customers}Customers", expected.get(0));
+    assertTrue(expected.contains("{urn:etl:test:customers}Customer"));
+    assertEquals(expected, qualifiedElements(streamedOutput));
+  }
+
+  @Test
+  void streamingWrapperWriterPublishesOnlyAfterStepCompletes(@TempDir Path tempDir) throws Exception {
+    Path outputFile = tempDir.resolve("streamed-step.xml");
+    StreamingXmlWrapperWriter writer = (StreamingXmlWrapperWriter) factory.createWrapperStreamingWriter(
+        getXmlTargetConfig(outputFile), Customers.class, "customer");
+    Customer customer = new Customer();
+    customer.setId(7);
+    customer.setName("Step Jane");
+    customer.setEmail("step@example.com");
+
+    StepExecution stepExecution = new StepExecution("streamed-step", new JobExecution(1L));
+    StepSynchronizationManager.register(stepExecution);
+    try {
+      writer.beforeStep(stepExecution);
+      writer.open(new ExecutionContext());
+      writer.write(new Chunk<>(List.of(customer)));
+      writer.close();
+      assertFalse(Files.exists(outputFile));
+      stepExecution.setExitStatus(ExitStatus.COMPLETED);
+      writer.afterStep(stepExecution);
+    } finally {
+      StepSynchronizationManager.close();
+    }
+
+    String xml = Files.readString(outputFile);
+    assertTrue(xml.contains("<Customers><Customer>"));
+    assertTrue(xml.contains("Step Jane"));
+  }
+
   private static XmlTargetConfig getXmlTargetConfig(Path outputFile) {
 		return getXmlTargetConfig(outputFile, "Customer");
 	}
@@ -378,6 +474,19 @@ class XmlDynamicWriterTest {
         );
     }
 
+  private static List<String> qualifiedElements(Path xmlFile) throws Exception {
+    DocumentBuilderFactory builderFactory = DocumentBuilderFactory.newInstance();
+    builderFactory.setNamespaceAware(true);
+    NodeList elements = builderFactory.newDocumentBuilder().parse(xmlFile.toFile()).getElementsByTagName("*");
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < elements.getLength(); i++) {
+      Element element = (Element) elements.item(i);
+      String text = element.getChildNodes().getLength() == 1 ? "=" + element.getTextContent() : "";
+      names.add("{" + element.getNamespaceURI() + "}" + element.getLocalName() + text);
+    }
+    return names;
+  }
+
   private List<String> zipEntryNames(Path zipFile) throws Exception {
     List<String> entryNames = new ArrayList<>();
     try (ZipInputStream zipInputStream = new ZipInputStream(Files.newInputStream(zipFile))) {
@@ -0,0 +1,24 @@
+package com.etl.writer.namespaced;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+import java.util.List;
+
+@XmlRootElement(name = "Customers")
+@XmlAccessorType(XmlAccessType.FIELD)
+public class NamespacedCustomers {
+
+    @XmlElement(name = "Customer")
+    private List<NamespacedCustomer> customer;
+
+    public List<NamespacedCustomer> getCustomer() {
+        return customer;
+    }
+
+    public void setCustomer(List<NamespacedCustomer> customer) {
+        this.customer = customer;
+    }
+}
@@ -0,0 +1,5 @@
+@XmlSchema(namespace = "urn:etl:test:customers", elementFormDefault = XmlNsForm.QUALIFIED)
+package com.etl.writer.namespaced;
+
+import jakarta.xml.bind.annotation.XmlNsForm;
+import jakarta.xml.bind.annotation.XmlSchema;